@@ -30,4 +30,8 @@ public class Configuration implements Serializable {
     public Long getLong(String configKey, Long defaultValue) {
         return param.getLong(configKey, defaultValue);
     }
+
+    public Double getDouble(String configKey, Double defaultValue) {
+        return param.getDouble(configKey, defaultValue);
+    }
 }
@@ -9,6 +9,21 @@ public class Constants {
     public static final Integer SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT = 60000;
     public static final String SCHEMA_REGISTRY_STENCIL_FETCH_HEADERS_KEY = "SCHEMA_REGISTRY_STENCIL_FETCH_HEADERS";
     public static final String SCHEMA_REGISTRY_STENCIL_FETCH_HEADERS_DEFAULT = "";
+    public static final String SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY = "SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE";
+    public static final boolean SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT = false;
+    public static final String SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_KEY = "SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS";
+    public static final Long SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_DEFAULT = 86400000L;
+    public static final String SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_KEY = "SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS";
+    public static final Long SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_DEFAULT = 60000L;
+
+    public static final String ROW_SAMPLING_RATE_KEY = "ROW_SAMPLING_RATE";
+    public static final Double ROW_SAMPLING_RATE_DEFAULT = 0D;
+    public static final String ROW_SAMPLING_MAX_ROWS_PER_SECOND_KEY = "ROW_SAMPLING_MAX_ROWS_PER_SECOND";
+    public static final Long ROW_SAMPLING_MAX_ROWS_PER_SECOND_DEFAULT = 10L;
+    public static final String ROW_SAMPLING_SIDE_OUTPUT_ENABLE_KEY = "ROW_SAMPLING_SIDE_OUTPUT_ENABLE";
+    public static final boolean ROW_SAMPLING_SIDE_OUTPUT_ENABLE_DEFAULT = false;
+    public static final String FLINK_SQL_RETRACTIONS_DROP_ENABLE_KEY = "FLINK_SQL_RETRACTIONS_DROP_ENABLE";
+    public static final boolean FLINK_SQL_RETRACTIONS_DROP_ENABLE_DEFAULT = false;
 
     public static final String UDF_TELEMETRY_GROUP_KEY = "udf";
     public static final String GAUGE_ASPECT_NAME = "value";
@@ -0,0 +1,172 @@
+package io.odpf.dagger.common.core;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
+import io.odpf.stencil.client.StencilClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per stencil URLs cache of descriptors for the record hot path.
+ * Lookups read an immutable map through a single volatile load and only fall back to the stencil client
+ * on a miss. A background refresher polls the stencil client for the cached classes and swaps in new
+ * descriptor versions, so schema refreshes never block record processing. Row decoding plans compare
+ * descriptors by identity and recompile on the next record after a swap, while the shared type handlers
+ * of {@link TypeHandlerFactory} are dropped right away. Caches are shared by all stencil clients built for
+ * the same stencil URLs and are closed once the URLs they were built for are no longer in use.
+ */
+public class DescriptorCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DescriptorCache.class);
+    private static final Map<String, DescriptorCache> CACHES = new ConcurrentHashMap<>();
+    private static final Map<StencilClient, String> CLIENT_STENCIL_URLS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static ScheduledExecutorService refreshExecutor;
+
+    private volatile StencilClient stencilClient;
+    private volatile Map<String, Descriptors.Descriptor> descriptors = Collections.emptyMap();
+    private ScheduledFuture<?> refreshTask;
+
+    DescriptorCache(StencilClient stencilClient) {
+        this.stencilClient = stencilClient;
+    }
+
+    /**
+     * Gets the descriptor cache of the stencil URLs and makes the stencil client its source of descriptors.
+     *
+     * @param stencilUrls   the stencil URLs the client was built for
+     * @param stencilClient the stencil client
+     * @return the descriptor cache
+     */
+    public static DescriptorCache of(String stencilUrls, StencilClient stencilClient) {
+        DescriptorCache descriptorCache = CACHES.computeIfAbsent(stencilUrls, key -> new DescriptorCache(stencilClient));
+        descriptorCache.stencilClient = stencilClient;
+        CLIENT_STENCIL_URLS.put(stencilClient, stencilUrls);
+        return descriptorCache;
+    }
+
+    /**
+     * Gets the descriptor cache of the stencil client. Clients which were not registered through
+     * {@link #of(String, StencilClient)}, or whose cache was closed, get a cache of their own.
+     *
+     * @param stencilClient the stencil client
+     * @return the descriptor cache
+     */
+    public static DescriptorCache of(StencilClient stencilClient) {
+        String stencilUrls = CLIENT_STENCIL_URLS.get(stencilClient);
+        DescriptorCache descriptorCache = stencilUrls != null ? CACHES.get(stencilUrls) : null;
+        return descriptorCache != null ? descriptorCache : new DescriptorCache(stencilClient);
+    }
+
+    /**
+     * Closes the descriptor cache of the stencil URLs, cancelling its background refresh.
+     * Lookups through the closed cache keep working, they are just no longer refreshed.
+     *
+     * @param stencilUrls the stencil URLs
+     */
+    public static void close(String stencilUrls) {
+        DescriptorCache descriptorCache = CACHES.remove(stencilUrls);
+        if (descriptorCache != null) {
+            descriptorCache.stopRefresh();
+        }
+    }
+
+    /**
+     * Gets the descriptor of the class.
+     *
+     * @param className the class name
+     * @return the descriptor, or null if the stencil client does not know the class
+     */
+    public Descriptors.Descriptor get(String className) {
+        Descriptors.Descriptor descriptor = descriptors.get(className);
+        return descriptor != null ? descriptor : load(className);
+    }
+
+    /**
+     * Starts refreshing the cached descriptors in the background, if not already started.
+     *
+     * @param refreshIntervalMs the refresh interval in milliseconds, refreshing is disabled when not positive
+     */
+    public synchronized void startRefresh(long refreshIntervalMs) {
+        if (refreshIntervalMs <= 0 || refreshTask != null) {
+            return;
+        }
+        refreshTask = getRefreshExecutor().scheduleWithFixedDelay(this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Checks whether the cached descriptors are being refreshed in the background.
+     *
+     * @return true if the background refresh is running
+     */
+    public synchronized boolean isRefreshing() {
+        return refreshTask != null;
+    }
+
+    /**
+     * Fetches the cached classes from the stencil client and swaps in the descriptors which changed.
+     */
+    public void refresh() {
+        try {
+            Map<String, Descriptors.Descriptor> changedDescriptors = new HashMap<>();
+            for (Map.Entry<String, Descriptors.Descriptor> entry : descriptors.entrySet()) {
+                Descriptors.Descriptor latestDescriptor = stencilClient.get(entry.getKey());
+                if (latestDescriptor != null && latestDescriptor != entry.getValue()) {
+                    changedDescriptors.put(entry.getKey(), latestDescriptor);
+                }
+            }
+            if (changedDescriptors.isEmpty()) {
+                return;
+            }
+            synchronized (this) {
+                Map<String, Descriptors.Descriptor> updatedDescriptors = new HashMap<>(descriptors);
+                updatedDescriptors.putAll(changedDescriptors);
+                descriptors = updatedDescriptors;
+            }
+            TypeHandlerFactory.clearTypeHandlerMap();
+            LOGGER.info("Refreshed descriptors for {}", changedDescriptors.keySet());
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to refresh descriptors, keeping the cached versions", e);
+        }
+    }
+
+    private synchronized void stopRefresh() {
+        if (refreshTask != null) {
+            refreshTask.cancel(false);
+            refreshTask = null;
+        }
+    }
+
+    private synchronized Descriptors.Descriptor load(String className) {
+        Descriptors.Descriptor descriptor = descriptors.get(className);
+        if (descriptor != null) {
+            return descriptor;
+        }
+        descriptor = stencilClient.get(className);
+        if (descriptor != null) {
+            Map<String, Descriptors.Descriptor> updatedDescriptors = new HashMap<>(descriptors);
+            updatedDescriptors.put(className, descriptor);
+            descriptors = updatedDescriptors;
+        }
+        return descriptor;
+    }
+
+    private static synchronized ScheduledExecutorService getRefreshExecutor() {
+        if (refreshExecutor == null) {
+            refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "stencil-descriptor-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return refreshExecutor;
+    }
+}
@@ -0,0 +1,124 @@
+package io.odpf.dagger.common.core;
+
+import org.apache.flink.types.Row;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import org.slf4j.Logger;
+
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static io.odpf.dagger.common.core.Constants.*;
+
+/**
+ * Samples rows flowing through sinks and transformers for inspection.
+ * A row is picked with the configured sample rate and then has to take a token out of a bucket
+ * refilled with the configured rows per second, so sampling never floods the logs on busy streams.
+ * Each operator instance is expected to use its own sampler.
+ */
+public class RowSampler implements Serializable {
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+    private final double sampleRate;
+    private final long maxRowsPerSecond;
+    private transient double availableTokens;
+    private transient long lastRefillNanos;
+
+    /**
+     * Instantiates a new Row sampler.
+     *
+     * @param sampleRate       the fraction of rows to sample, between 0 and 1
+     * @param maxRowsPerSecond the maximum number of sampled rows per second, unlimited if not positive
+     */
+    public RowSampler(double sampleRate, long maxRowsPerSecond) {
+        this.sampleRate = sampleRate;
+        this.maxRowsPerSecond = maxRowsPerSecond;
+    }
+
+    /**
+     * Create a row sampler from the configuration.
+     *
+     * @param configuration the configuration
+     * @return the row sampler
+     */
+    public static RowSampler create(Configuration configuration) {
+        return new RowSampler(configuration.getDouble(ROW_SAMPLING_RATE_KEY, ROW_SAMPLING_RATE_DEFAULT),
+                configuration.getLong(ROW_SAMPLING_MAX_ROWS_PER_SECOND_KEY, ROW_SAMPLING_MAX_ROWS_PER_SECOND_DEFAULT));
+    }
+
+    /**
+     * Create the row sampler used by a sink to log the rows it writes.
+     * When sampled rows are sent to a side output before the sink, the sink itself does not sample.
+     *
+     * @param configuration the configuration
+     * @return the row sampler
+     */
+    public static RowSampler forSink(Configuration configuration) {
+        if (configuration.getBoolean(ROW_SAMPLING_SIDE_OUTPUT_ENABLE_KEY, ROW_SAMPLING_SIDE_OUTPUT_ENABLE_DEFAULT)) {
+            return disabled();
+        }
+        return create(configuration);
+    }
+
+    /**
+     * Create a row sampler which never samples.
+     *
+     * @return the row sampler
+     */
+    public static RowSampler disabled() {
+        return new RowSampler(0D, 0L);
+    }
+
+    /**
+     * Check if the sampler can pick any row.
+     *
+     * @return true if the sample rate is positive
+     */
+    public boolean isEnabled() {
+        return sampleRate > 0D;
+    }
+
+    /**
+     * Decide if the current row should be sampled.
+     *
+     * @return true if the row is sampled
+     */
+    public boolean sample() {
+        if (!isEnabled()) {
+            return false;
+        }
+        if (sampleRate < 1D && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        return maxRowsPerSecond <= 0 || tryAcquireToken();
+    }
+
+    /**
+     * Log the row at info level if it is sampled. The row is only turned into a string when it is sampled.
+     *
+     * @param logger  the logger
+     * @param message the message to prefix the row with
+     * @param row     the row
+     */
+    public void log(Logger logger, String message, Row row) {
+        if (sample()) {
+            logger.info(message + row);
+        }
+    }
+
+    private boolean tryAcquireToken() {
+        long now = System.nanoTime();
+        if (lastRefillNanos == 0L) {
+            availableTokens = maxRowsPerSecond;
+        } else {
+            double refilledTokens = (double) (now - lastRefillNanos) * maxRowsPerSecond / NANOS_PER_SECOND;
+            availableTokens = Math.min(maxRowsPerSecond, availableTokens + refilledTokens);
+        }
+        lastRefillNanos = now;
+        if (availableTokens < 1D) {
+            return false;
+        }
+        availableTokens -= 1D;
+        return true;
+    }
+}
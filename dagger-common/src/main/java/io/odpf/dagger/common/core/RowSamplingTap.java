@@ -0,0 +1,34 @@
+package io.odpf.dagger.common.core;
+
+import org.apache.flink.streaming.api.functions.ProcessFunction;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+import org.apache.flink.util.OutputTag;
+
+/**
+ * Forwards every row unchanged and emits the rows picked by a {@link RowSampler} to a side output.
+ */
+public class RowSamplingTap extends ProcessFunction<Row, Row> {
+    public static final String SAMPLED_ROWS_OUTPUT_NAME = "sampled-rows";
+    private final RowSampler rowSampler;
+    private final OutputTag<Row> sampledRowsTag;
+
+    /**
+     * Instantiates a new Row sampling tap.
+     *
+     * @param rowSampler     the row sampler
+     * @param sampledRowsTag the side output tag of the sampled rows
+     */
+    public RowSamplingTap(RowSampler rowSampler, OutputTag<Row> sampledRowsTag) {
+        this.rowSampler = rowSampler;
+        this.sampledRowsTag = sampledRowsTag;
+    }
+
+    @Override
+    public void processElement(Row row, Context context, Collector<Row> out) {
+        if (rowSampler.sample()) {
+            context.output(sampledRowsTag, row);
+        }
+        out.collect(row);
+    }
+}
@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -40,7 +41,14 @@ public class StencilClientOrchestrator implements Serializable {
     StencilConfig createStencilConfig() {
         Integer timeoutMS = configuration.getInteger(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_KEY, SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT);
         List<Header> headers = this.getHeaders(configuration);
-        return StencilConfig.builder().fetchTimeoutMs(timeoutMS).fetchHeaders(headers).build();
+        boolean refreshCache = configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT);
+        Long cacheTtlMs = configuration.getLong(SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_KEY, SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_DEFAULT);
+        return StencilConfig.builder()
+                .fetchTimeoutMs(timeoutMS)
+                .fetchHeaders(headers)
+                .cacheAutoRefresh(refreshCache)
+                .cacheTtlMs(cacheTtlMs)
+                .build();
     }
 
     private List<Header> getHeaders(Configuration config) {
@@ -73,7 +81,11 @@ public class StencilClientOrchestrator implements Serializable {
             return stencilClient;
         }
 
+        String previousStencilUrls = getDescriptorCacheKey(stencilUrls);
         stencilUrls.addAll(additionalStencilUrls);
+        if (!previousStencilUrls.equals(getDescriptorCacheKey(stencilUrls))) {
+            DescriptorCache.close(previousStencilUrls);
+        }
         stencilClient = initStencilClient(new ArrayList<>(stencilUrls));
         return stencilClient;
     }
@@ -81,9 +93,23 @@ public class StencilClientOrchestrator implements Serializable {
     private StencilClient initStencilClient(List<String> urls) {
         StencilConfig stencilConfig = createStencilConfig();
         boolean enableRemoteStencil = configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
-        return enableRemoteStencil
-                ? StencilClientFactory.getClient(urls, stencilConfig)
-                : StencilClientFactory.getClient();
+        if (!enableRemoteStencil) {
+            StencilClient client = StencilClientFactory.getClient();
+            DescriptorCache.of(getDescriptorCacheKey(urls), client);
+            return client;
+        }
+        StencilClient client = StencilClientFactory.getClient(urls, stencilConfig);
+        DescriptorCache descriptorCache = DescriptorCache.of(getDescriptorCacheKey(urls), client);
+        boolean refreshCache = configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT);
+        if (refreshCache) {
+            long refreshIntervalMs = configuration.getLong(SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_KEY, SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_DEFAULT);
+            descriptorCache.startRefresh(refreshIntervalMs);
+        }
+        return client;
+    }
+
+    private String getDescriptorCacheKey(Collection<String> urls) {
+        return urls.stream().sorted().collect(Collectors.joining(","));
     }
 
     private List<Header> parseHeaders(String headersString) {
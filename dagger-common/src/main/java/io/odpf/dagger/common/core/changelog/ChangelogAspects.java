@@ -0,0 +1,32 @@
+package io.odpf.dagger.common.core.changelog;
+
+import io.odpf.dagger.common.metrics.aspects.AspectType;
+import io.odpf.dagger.common.metrics.aspects.Aspects;
+
+/**
+ * The enum Changelog aspects.
+ */
+public enum ChangelogAspects implements Aspects {
+    /**
+     * Retracted rows changelog aspects.
+     */
+    RETRACTED_ROWS("retracted_rows", AspectType.Counter);
+
+    ChangelogAspects(String value, AspectType type) {
+        this.value = value;
+        this.type = type;
+    }
+
+    private String value;
+    private AspectType type;
+
+    @Override
+    public String getValue() {
+        return this.value;
+    }
+
+    @Override
+    public AspectType getAspectType() {
+        return this.type;
+    }
+}
@@ -0,0 +1,69 @@
+package io.odpf.dagger.common.core.changelog;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.table.api.Table;
+import org.apache.flink.table.api.TableException;
+import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
+import org.apache.flink.types.Row;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static io.odpf.dagger.common.core.Constants.FLINK_SQL_RETRACTIONS_DROP_ENABLE_DEFAULT;
+import static io.odpf.dagger.common.core.Constants.FLINK_SQL_RETRACTIONS_DROP_ENABLE_KEY;
+
+/**
+ * Converts the result of a query into a stream of rows typed by {@link QueryRowTypeInfo}. Insert only queries are
+ * converted straight into an append stream. The sinks only append rows, so updating queries are rejected unless
+ * dropping their retractions is enabled, in which case they go through a retract stream and the {@link RetractionHandler}.
+ */
+public class ChangelogStreamConverter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ChangelogStreamConverter.class.getName());
+    /* the planner rejects an append stream of a query producing updates while translating it, with this message */
+    private static final String UPDATING_QUERY_REJECTION = "doesn't support consuming update";
+    private final StreamTableEnvironment tableEnvironment;
+    private final Configuration configuration;
+
+    /**
+     * Instantiates a new Changelog stream converter.
+     *
+     * @param tableEnvironment the table environment the table is registered in
+     * @param configuration    the configuration
+     */
+    public ChangelogStreamConverter(StreamTableEnvironment tableEnvironment, Configuration configuration) {
+        this.tableEnvironment = tableEnvironment;
+        this.configuration = configuration;
+    }
+
+    /**
+     * Convert the table to a stream of rows.
+     *
+     * @param table the table
+     * @return the rows of the table
+     * @throws TableException if the query updates its results and dropping retractions is not enabled
+     */
+    public DataStream<Row> toRowStream(Table table) {
+        TypeInformation<Row> rowType = QueryRowTypeInfo.of(table.getResolvedSchema());
+        try {
+            return tableEnvironment.toAppendStream(table, rowType);
+        } catch (TableException e) {
+            if (e.getMessage() == null || !e.getMessage().contains(UPDATING_QUERY_REJECTION)) {
+                throw e;
+            }
+            if (!configuration.getBoolean(FLINK_SQL_RETRACTIONS_DROP_ENABLE_KEY, FLINK_SQL_RETRACTIONS_DROP_ENABLE_DEFAULT)) {
+                throw new TableException(String.format("The query updates or deletes rows it emitted before, which can not be "
+                        + "written to append only sinks. Set %s to true to drop the retractions and emit only the new and updated rows.",
+                        FLINK_SQL_RETRACTIONS_DROP_ENABLE_KEY), e);
+            }
+            LOGGER.warn("Converting an updating query through a retract stream, dropping its retractions", e);
+            return toAccumulatedRowStream(table, rowType);
+        }
+    }
+
+    private DataStream<Row> toAccumulatedRowStream(Table table, TypeInformation<Row> rowType) {
+        return tableEnvironment.toRetractStream(table, rowType)
+                .process(new RetractionHandler())
+                .returns(rowType);
+    }
+}
@@ -0,0 +1,91 @@
+package io.odpf.dagger.common.core.changelog;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.table.catalog.ResolvedSchema;
+import org.apache.flink.table.types.logical.ArrayType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.MapType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.TimestampType;
+import org.apache.flink.types.Row;
+
+import java.util.List;
+
+/**
+ * Resolves the {@link TypeInformation} of the rows a query result is converted into. The fields are typed with the
+ * classes the planner converts them to, {@code LocalDateTime} for timestamps, so that the rows are serialized field by
+ * field instead of through Kryo. Results holding a type without such a type information are kept as generic rows.
+ */
+public class QueryRowTypeInfo {
+    private static final int LEGACY_TIMESTAMP_PRECISION = 3;
+
+    /**
+     * Resolve the type information of the rows of a query result.
+     *
+     * @param resolvedSchema the schema of the query result
+     * @return the row type information, or a generic row type if some field can not be typed
+     */
+    public static TypeInformation<Row> of(ResolvedSchema resolvedSchema) {
+        List<String> columnNames = resolvedSchema.getColumnNames();
+        TypeInformation<?>[] fieldTypes = new TypeInformation[columnNames.size()];
+        for (int index = 0; index < fieldTypes.length; index++) {
+            fieldTypes[index] = toTypeInformation(resolvedSchema.getColumnDataTypes().get(index).getLogicalType());
+            if (fieldTypes[index] == null) {
+                return Types.GENERIC(Row.class);
+            }
+        }
+        return Types.ROW_NAMED(columnNames.toArray(new String[0]), fieldTypes);
+    }
+
+    private static TypeInformation<?> toTypeInformation(LogicalType logicalType) {
+        switch (logicalType.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return Types.STRING;
+            case BOOLEAN:
+                return Types.BOOLEAN;
+            case BINARY:
+            case VARBINARY:
+                return Types.PRIMITIVE_ARRAY(Types.BYTE);
+            case TINYINT:
+                return Types.BYTE;
+            case SMALLINT:
+                return Types.SHORT;
+            case INTEGER:
+                return Types.INT;
+            case BIGINT:
+                return Types.LONG;
+            case FLOAT:
+                return Types.FLOAT;
+            case DOUBLE:
+                return Types.DOUBLE;
+            case DATE:
+                return Types.LOCAL_DATE;
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+                return ((TimestampType) logicalType).getPrecision() == LEGACY_TIMESTAMP_PRECISION ? Types.LOCAL_DATE_TIME : null;
+            case ARRAY:
+                TypeInformation<?> elementType = toTypeInformation(((ArrayType) logicalType).getElementType());
+                return elementType == null ? null : Types.OBJECT_ARRAY(elementType);
+            case MAP:
+                TypeInformation<?> keyType = toTypeInformation(((MapType) logicalType).getKeyType());
+                TypeInformation<?> valueType = toTypeInformation(((MapType) logicalType).getValueType());
+                return keyType == null || valueType == null ? null : Types.MAP(keyType, valueType);
+            case ROW:
+                return toRowTypeInformation((RowType) logicalType);
+            default:
+                return null;
+        }
+    }
+
+    private static TypeInformation<?> toRowTypeInformation(RowType rowType) {
+        TypeInformation<?>[] fieldTypes = new TypeInformation[rowType.getFieldCount()];
+        for (int index = 0; index < fieldTypes.length; index++) {
+            fieldTypes[index] = toTypeInformation(rowType.getTypeAt(index));
+            if (fieldTypes[index] == null) {
+                return null;
+            }
+        }
+        return Types.ROW_NAMED(rowType.getFieldNames().toArray(new String[0]), fieldTypes);
+    }
+}
@@ -0,0 +1,37 @@
+package io.odpf.dagger.common.core.changelog;
+
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.streaming.api.functions.ProcessFunction;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+
+import io.odpf.dagger.common.metrics.managers.CounterStatsManager;
+
+import static io.odpf.dagger.common.core.changelog.ChangelogAspects.RETRACTED_ROWS;
+
+/**
+ * Turns the retract stream of an updating query into the rows of its accumulate messages, which hold every new and
+ * updated result. Retract messages can not be written to the append only sinks, so they are dropped and counted, which
+ * users opt into through {@code FLINK_SQL_RETRACTIONS_DROP_ENABLE}. The updates and deletions of a query still show up
+ * in the metrics.
+ */
+public class RetractionHandler extends ProcessFunction<Tuple2<Boolean, Row>, Row> {
+    private static final String RETRACTION_HANDLER_GROUP = "retraction_handler";
+    private transient CounterStatsManager metricsManager;
+
+    @Override
+    public void open(Configuration parameters) throws Exception {
+        metricsManager = new CounterStatsManager(getRuntimeContext().getMetricGroup());
+        metricsManager.register(RETRACTED_ROWS, RETRACTION_HANDLER_GROUP);
+    }
+
+    @Override
+    public void processElement(Tuple2<Boolean, Row> changelogMessage, Context context, Collector<Row> out) {
+        if (changelogMessage.f0) {
+            out.collect(changelogMessage.f1);
+        } else {
+            metricsManager.inc(RETRACTED_ROWS);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.odpf.dagger.common.serde;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * The top level fields of a source schema which need to be decoded.
+ * Field names are matched case-insensitively. Fields outside the projection are left null in the row,
+ * while the row type itself keeps every field of the schema.
+ */
+public class FieldProjection implements Serializable {
+    private static final FieldProjection ALL_FIELDS = new FieldProjection(null);
+    private final Set<String> fieldNames;
+
+    private FieldProjection(Set<String> fieldNames) {
+        this.fieldNames = fieldNames;
+    }
+
+    /**
+     * Projection which decodes every field.
+     *
+     * @return the field projection
+     */
+    public static FieldProjection all() {
+        return ALL_FIELDS;
+    }
+
+    /**
+     * Projection which only decodes the given fields.
+     *
+     * @param fieldNames the field names
+     * @return the field projection
+     */
+    public static FieldProjection of(Collection<String> fieldNames) {
+        Set<String> normalizedFieldNames = new HashSet<>();
+        for (String fieldName : fieldNames) {
+            normalizedFieldNames.add(normalize(fieldName));
+        }
+        return new FieldProjection(normalizedFieldNames);
+    }
+
+    /**
+     * Check if every field gets decoded.
+     *
+     * @return the boolean
+     */
+    public boolean isAllFields() {
+        return fieldNames == null;
+    }
+
+    /**
+     * Check if the field needs to be decoded.
+     *
+     * @param fieldName the field name
+     * @return the boolean
+     */
+    public boolean contains(String fieldName) {
+        return isAllFields() || fieldNames.contains(normalize(fieldName));
+    }
+
+    /**
+     * Projection which additionally decodes the given field.
+     *
+     * @param fieldName the field name
+     * @return the field projection
+     */
+    public FieldProjection withField(String fieldName) {
+        if (contains(fieldName)) {
+            return this;
+        }
+        Set<String> extendedFieldNames = new HashSet<>(fieldNames);
+        extendedFieldNames.add(normalize(fieldName));
+        return new FieldProjection(extendedFieldNames);
+    }
+
+    private static String normalize(String fieldName) {
+        return fieldName.toLowerCase(Locale.ROOT);
+    }
+}
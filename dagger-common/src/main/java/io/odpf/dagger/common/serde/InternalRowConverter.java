@@ -0,0 +1,237 @@
+package io.odpf.dagger.common.serde;
+
+import org.apache.flink.api.common.typeinfo.BasicArrayTypeInfo;
+import org.apache.flink.api.common.typeinfo.PrimitiveArrayTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.MapTypeInfo;
+import org.apache.flink.api.java.typeutils.ObjectArrayTypeInfo;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.GenericArrayData;
+import org.apache.flink.table.data.GenericMapData;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.ArrayType;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.MapType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.utils.TypeConversions;
+import org.apache.flink.types.Row;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts the values of rows produced by the deserializers into Flink's internal data structures, with converters
+ * compiled once from the row type information. Sources producing {@link RowData} let the table planner consume their
+ * records as they are, instead of converting every {@link Row} through its data structure converters.
+ * Only types with an internal counterpart are supported, see {@link #supports(TypeInformation)}.
+ */
+public class InternalRowConverter {
+    private static final int DECIMAL_PRECISION = 38;
+    private static final int DECIMAL_SCALE = 18;
+    private final FieldConverter[] fieldConverters;
+
+    /**
+     * Instantiates a new Internal row converter.
+     *
+     * @param rowTypeInfo the type information of the rows to convert
+     */
+    public InternalRowConverter(RowTypeInfo rowTypeInfo) {
+        this.fieldConverters = new FieldConverter[rowTypeInfo.getArity()];
+        for (int index = 0; index < fieldConverters.length; index++) {
+            FieldConverter fieldConverter = createConverter(rowTypeInfo.getTypeAt(index));
+            if (fieldConverter == null) {
+                throw new IllegalArgumentException("Type " + rowTypeInfo.getTypeAt(index) + " of field " + rowTypeInfo.getFieldNames()[index] + " has no internal data structure");
+            }
+            fieldConverters[index] = fieldConverter;
+        }
+    }
+
+    /**
+     * Check if the values of a type can be converted into internal data structures.
+     *
+     * @param typeInformation the type information
+     * @return true if the type is supported
+     */
+    public static boolean supports(TypeInformation<?> typeInformation) {
+        return createConverter(typeInformation) != null;
+    }
+
+    /**
+     * Gets the type information of the internal rows converted from rows of the given type.
+     *
+     * @param rowTypeInfo the row type info
+     * @return the internal type information
+     */
+    public static InternalTypeInfo<RowData> getInternalTypeInfo(RowTypeInfo rowTypeInfo) {
+        return InternalTypeInfo.of((RowType) toLogicalType(rowTypeInfo));
+    }
+
+    /* BigDecimal type information has no precision, its values are read as DECIMAL(38, 18) like the planner reads them from rows */
+    private static LogicalType toLogicalType(TypeInformation<?> typeInformation) {
+        if (Types.BIG_DEC.equals(typeInformation)) {
+            return new DecimalType(DECIMAL_PRECISION, DECIMAL_SCALE);
+        }
+        if (typeInformation instanceof RowTypeInfo) {
+            RowTypeInfo rowTypeInfo = (RowTypeInfo) typeInformation;
+            LogicalType[] fieldTypes = new LogicalType[rowTypeInfo.getArity()];
+            for (int index = 0; index < fieldTypes.length; index++) {
+                fieldTypes[index] = toLogicalType(rowTypeInfo.getTypeAt(index));
+            }
+            return RowType.of(fieldTypes, rowTypeInfo.getFieldNames());
+        }
+        if (typeInformation instanceof BasicArrayTypeInfo) {
+            return new ArrayType(toLogicalType(((BasicArrayTypeInfo<?, ?>) typeInformation).getComponentInfo()));
+        }
+        if (typeInformation instanceof ObjectArrayTypeInfo) {
+            return new ArrayType(toLogicalType(((ObjectArrayTypeInfo<?, ?>) typeInformation).getComponentInfo()));
+        }
+        if (typeInformation instanceof MapTypeInfo) {
+            MapTypeInfo<?, ?> mapTypeInfo = (MapTypeInfo<?, ?>) typeInformation;
+            return new MapType(toLogicalType(mapTypeInfo.getKeyTypeInfo()), toLogicalType(mapTypeInfo.getValueTypeInfo()));
+        }
+        return TypeConversions.fromLegacyInfoToDataType(typeInformation).getLogicalType();
+    }
+
+    /**
+     * Gets the number of fields of the converted rows.
+     *
+     * @return the arity
+     */
+    public int getArity() {
+        return fieldConverters.length;
+    }
+
+    /**
+     * Convert a field value into its internal data structure.
+     *
+     * @param index the field index
+     * @param value the field value
+     * @return the internal value
+     */
+    public Object toInternal(int index, Object value) {
+        return value == null ? null : fieldConverters[index].convert(value);
+    }
+
+    /**
+     * Convert a row into an internal row.
+     *
+     * @param row the row
+     * @return the internal row
+     */
+    public GenericRowData toInternal(Row row) {
+        GenericRowData rowData = new GenericRowData(row.getKind(), fieldConverters.length);
+        for (int index = 0; index < fieldConverters.length; index++) {
+            rowData.setField(index, toInternal(index, row.getField(index)));
+        }
+        return rowData;
+    }
+
+    private static FieldConverter createConverter(TypeInformation<?> typeInformation) {
+        if (Types.STRING.equals(typeInformation)) {
+            return value -> StringData.fromString((String) value);
+        }
+        if (Types.SQL_TIMESTAMP.equals(typeInformation)) {
+            return value -> TimestampData.fromTimestamp((Timestamp) value);
+        }
+        if (Types.LOCAL_DATE_TIME.equals(typeInformation)) {
+            return value -> TimestampData.fromLocalDateTime((LocalDateTime) value);
+        }
+        if (Types.BIG_DEC.equals(typeInformation)) {
+            return value -> DecimalData.fromBigDecimal((BigDecimal) value, DECIMAL_PRECISION, DECIMAL_SCALE);
+        }
+        if (Arrays.asList(Types.BOOLEAN, Types.BYTE, Types.SHORT, Types.INT, Types.LONG, Types.FLOAT, Types.DOUBLE).contains(typeInformation)) {
+            return value -> value;
+        }
+        if (typeInformation instanceof PrimitiveArrayTypeInfo) {
+            return Types.PRIMITIVE_ARRAY(Types.BYTE).equals(typeInformation) ? value -> value : InternalRowConverter::toPrimitiveArrayData;
+        }
+        if (typeInformation instanceof BasicArrayTypeInfo) {
+            return createArrayConverter(((BasicArrayTypeInfo<?, ?>) typeInformation).getComponentInfo());
+        }
+        if (typeInformation instanceof ObjectArrayTypeInfo) {
+            return createArrayConverter(((ObjectArrayTypeInfo<?, ?>) typeInformation).getComponentInfo());
+        }
+        if (typeInformation instanceof RowTypeInfo) {
+            RowTypeInfo rowTypeInfo = (RowTypeInfo) typeInformation;
+            for (int index = 0; index < rowTypeInfo.getArity(); index++) {
+                if (!supports(rowTypeInfo.getTypeAt(index))) {
+                    return null;
+                }
+            }
+            InternalRowConverter rowConverter = new InternalRowConverter(rowTypeInfo);
+            return value -> rowConverter.toInternal((Row) value);
+        }
+        if (typeInformation instanceof MapTypeInfo) {
+            return createMapConverter((MapTypeInfo<?, ?>) typeInformation);
+        }
+        return null;
+    }
+
+    private static FieldConverter createArrayConverter(TypeInformation<?> elementTypeInformation) {
+        FieldConverter elementConverter = createConverter(elementTypeInformation);
+        if (elementConverter == null) {
+            return null;
+        }
+        return value -> {
+            Object[] elements = value instanceof List ? ((List<?>) value).toArray() : (Object[]) value;
+            Object[] internalElements = new Object[elements.length];
+            for (int index = 0; index < elements.length; index++) {
+                internalElements[index] = elements[index] == null ? null : elementConverter.convert(elements[index]);
+            }
+            return new GenericArrayData(internalElements);
+        };
+    }
+
+    private static FieldConverter createMapConverter(MapTypeInfo<?, ?> mapTypeInfo) {
+        FieldConverter keyConverter = createConverter(mapTypeInfo.getKeyTypeInfo());
+        FieldConverter valueConverter = createConverter(mapTypeInfo.getValueTypeInfo());
+        if (keyConverter == null || valueConverter == null) {
+            return null;
+        }
+        return value -> {
+            Map<Object, Object> internalMap = new HashMap<>();
+            ((Map<?, ?>) value).forEach((mapKey, mapValue) -> internalMap.put(
+                    mapKey == null ? null : keyConverter.convert(mapKey),
+                    mapValue == null ? null : valueConverter.convert(mapValue)));
+            return new GenericMapData(internalMap);
+        };
+    }
+
+    private static Object toPrimitiveArrayData(Object value) {
+        if (value instanceof boolean[]) {
+            return new GenericArrayData((boolean[]) value);
+        }
+        if (value instanceof short[]) {
+            return new GenericArrayData((short[]) value);
+        }
+        if (value instanceof int[]) {
+            return new GenericArrayData((int[]) value);
+        }
+        if (value instanceof long[]) {
+            return new GenericArrayData((long[]) value);
+        }
+        if (value instanceof float[]) {
+            return new GenericArrayData((float[]) value);
+        }
+        if (value instanceof double[]) {
+            return new GenericArrayData((double[]) value);
+        }
+        throw new IllegalArgumentException("Value of type " + value.getClass() + " is not a primitive array");
+    }
+
+    private interface FieldConverter {
+        Object convert(Object value);
+    }
+}
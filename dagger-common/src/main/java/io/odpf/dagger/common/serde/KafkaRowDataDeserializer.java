@@ -0,0 +1,47 @@
+package io.odpf.dagger.common.serde;
+
+import org.apache.flink.api.common.serialization.DeserializationSchema;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.types.Row;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/**
+ * Kafka deserialization schema producing internal {@link RowData} through a {@link RowDataDeserializer},
+ * for sources registered as tables without converting their records from {@link Row}.
+ *
+ * @param <T> the type of the deserializer
+ */
+public class KafkaRowDataDeserializer<T extends KafkaDeserializationSchema<Row> & RowDataDeserializer> implements KafkaDeserializationSchema<RowData> {
+    private final T deserializer;
+
+    /**
+     * Instantiates a new Kafka row data deserializer.
+     *
+     * @param deserializer the deserializer of the rows
+     */
+    public KafkaRowDataDeserializer(T deserializer) {
+        this.deserializer = deserializer;
+    }
+
+    @Override
+    public void open(DeserializationSchema.InitializationContext context) throws Exception {
+        deserializer.open(context);
+    }
+
+    @Override
+    public boolean isEndOfStream(RowData nextElement) {
+        return false;
+    }
+
+    @Override
+    public RowData deserialize(ConsumerRecord<byte[], byte[]> consumerRecord) {
+        return deserializer.deserializeRowData(consumerRecord.value());
+    }
+
+    @Override
+    public TypeInformation<RowData> getProducedType() {
+        return deserializer.getRowDataProducedType();
+    }
+}
@@ -0,0 +1,35 @@
+package io.odpf.dagger.common.serde;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.table.data.RowData;
+
+import java.io.Serializable;
+
+/**
+ * A deserializer which can also deserialize records straight into internal {@link RowData}, holding the same
+ * values as its rows in their internal data structures, so that the table planner does not convert them.
+ */
+public interface RowDataDeserializer extends Serializable {
+
+    /**
+     * Check if the rows of the deserializer have an internal counterpart.
+     *
+     * @return true if the records can be deserialized into internal rows
+     */
+    boolean canDeserializeRowData();
+
+    /**
+     * Gets the type information of the rows produced by {@link #deserializeRowData(byte[])}.
+     *
+     * @return the internal row type information
+     */
+    TypeInformation<RowData> getRowDataProducedType();
+
+    /**
+     * Deserialize the record bytes into an internal row.
+     *
+     * @param message the record bytes
+     * @return the internal row
+     */
+    RowData deserializeRowData(byte[] message);
+}
@@ -1,10 +1,17 @@
 package io.odpf.dagger.common.serde.json.deserialization;
 
 import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.FieldProjection;
+import io.odpf.dagger.common.serde.InternalRowConverter;
+import io.odpf.dagger.common.serde.RowDataDeserializer;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.formats.json.JsonRowDeserializationSchema;
 import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.TimestampData;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
@@ -14,19 +21,33 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Arrays;
 
 import static io.odpf.dagger.common.core.Constants.ROWTIME;
 
-public class JsonDeserializer implements KafkaDeserializationSchema<Row>, DaggerDeserializer<Row> {
+public class JsonDeserializer implements KafkaDeserializationSchema<Row>, DaggerDeserializer<Row>, RowDataDeserializer {
     private final JsonRowDeserializationSchema jsonRowDeserializationSchema;
     private final int rowtimeIdx;
     private final TypeInformation<Row> typeInformation;
+    private final boolean[] projectedFields;
+    private transient JsonRowDecoder jsonRowDecoder;
+    private transient boolean jsonRowDecoderCompiled;
+    private transient InternalRowConverter internalRowConverter;
 
     public JsonDeserializer(String jsonSchema, String rowtimeFieldName) {
+        this(jsonSchema, rowtimeFieldName, FieldProjection.all());
+    }
+
+    public JsonDeserializer(String jsonSchema, String rowtimeFieldName, FieldProjection fieldProjection) {
         this.typeInformation = new JsonType(jsonSchema, ROWTIME).getRowType();
         this.jsonRowDeserializationSchema = new JsonRowDeserializationSchema.Builder(typeInformation).build();
         RowTypeInfo rowTypeInfo = (RowTypeInfo) typeInformation;
         this.rowtimeIdx = rowTypeInfo.getFieldIndex(rowtimeFieldName);
+        String[] fieldNames = rowTypeInfo.getFieldNames();
+        this.projectedFields = new boolean[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            projectedFields[i] = i == rowtimeIdx || fieldProjection.contains(fieldNames[i]);
+        }
     }
 
     @Override
@@ -37,8 +58,13 @@ public class JsonDeserializer implements KafkaDeserializationSchema<Row>, Dagger
     @Override
     public Row deserialize(ConsumerRecord<byte[], byte[]> consumerRecord) {
         try {
-            Row inputRow = jsonRowDeserializationSchema.deserialize(consumerRecord.value());
-            return addTimestampFieldToRow(inputRow);
+            JsonRowDecoder decoder = getJsonRowDecoder();
+            if (decoder == null) {
+                Row inputRow = jsonRowDeserializationSchema.deserialize(consumerRecord.value());
+                return addTimestampFieldToRow(inputRow);
+            }
+            Row row = decoder.decode(consumerRecord.value(), 2);
+            return addInternalFields(row, row.getField(rowtimeIdx));
         } catch (RuntimeException | IOException e) {
             throw new DaggerDeserializationException(e);
         }
@@ -49,16 +75,71 @@ public class JsonDeserializer implements KafkaDeserializationSchema<Row>, Dagger
         return jsonRowDeserializationSchema.getProducedType();
     }
 
+    /* schemas with types the streaming decoder or the internal data structures do not support stay on rows */
+    @Override
+    public boolean canDeserializeRowData() {
+        return getJsonRowDecoder() != null && InternalRowConverter.supports(typeInformation);
+    }
+
+    @Override
+    public TypeInformation<RowData> getRowDataProducedType() {
+        return InternalRowConverter.getInternalTypeInfo((RowTypeInfo) typeInformation);
+    }
+
+    @Override
+    public RowData deserializeRowData(byte[] message) {
+        try {
+            if (internalRowConverter == null) {
+                internalRowConverter = new InternalRowConverter((RowTypeInfo) typeInformation);
+            }
+            GenericRowData rowData = getJsonRowDecoder().decodeRowData(message, 2, internalRowConverter);
+            rowData.setField(rowData.getArity() - 2, true);
+            rowData.setField(rowData.getArity() - 1, getInternalRowtime(rowData.getField(rowtimeIdx)));
+            return rowData;
+        } catch (RuntimeException | IOException e) {
+            throw new DaggerDeserializationException(e);
+        }
+    }
+
+    /* schemas with types the streaming decoder can not convert keep using the Jackson tree based deserialization schema */
+    private JsonRowDecoder getJsonRowDecoder() {
+        if (!jsonRowDecoderCompiled) {
+            RowTypeInfo rowTypeInfo = (RowTypeInfo) typeInformation;
+            int fieldCount = rowTypeInfo.getArity() - 2;
+            RowTypeInfo inputTypeInfo = new RowTypeInfo(
+                    Arrays.copyOf(rowTypeInfo.getFieldTypes(), fieldCount),
+                    Arrays.copyOf(rowTypeInfo.getFieldNames(), fieldCount));
+            jsonRowDecoder = JsonRowDecoder.compile(inputTypeInfo, Arrays.copyOf(projectedFields, fieldCount));
+            jsonRowDecoderCompiled = true;
+        }
+        return jsonRowDecoder;
+    }
+
+    private TimestampData getInternalRowtime(Object rowtimeField) {
+        if (rowtimeField instanceof DecimalData) {
+            long rowtimeSeconds = ((DecimalData) rowtimeField).toBigDecimal().longValue();
+            return TimestampData.fromTimestamp(Timestamp.from(Instant.ofEpochSecond(rowtimeSeconds)));
+        } else if (rowtimeField instanceof TimestampData) {
+            return (TimestampData) rowtimeField;
+        }
+        throw new DaggerDeserializationException("Invalid Rowtime datatype for rowtimeField");
+    }
+
     private Row addTimestampFieldToRow(Row row) {
         Row finalRecord = new Row(row.getArity());
 
         for (int i = 0; i < row.getArity() - 2; i++) {
-            finalRecord.setField(i, row.getField(i));
+            if (projectedFields[i]) {
+                finalRecord.setField(i, row.getField(i));
+            }
         }
 
-        Object rowtimeField = row.getField(rowtimeIdx);
+        return addInternalFields(finalRecord, row.getField(rowtimeIdx));
+    }
+
+    private Row addInternalFields(Row finalRecord, Object rowtimeField) {
         if (rowtimeField instanceof BigDecimal) {
-            BigDecimal bigDecimalField = (BigDecimal) row.getField(rowtimeIdx);
+            BigDecimal bigDecimalField = (BigDecimal) rowtimeField;
             finalRecord.setField(finalRecord.getArity() - 1, Timestamp.from(Instant.ofEpochSecond(bigDecimalField.longValue())));
         } else if (rowtimeField instanceof Timestamp) {
             finalRecord.setField(finalRecord.getArity() - 1, rowtimeField);
@@ -0,0 +1,271 @@
+package io.odpf.dagger.common.serde.json.deserialization;
+
+import io.odpf.dagger.common.serde.InternalRowConverter;
+import org.apache.flink.api.common.typeinfo.BasicArrayTypeInfo;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.ObjectArrayTypeInfo;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonFactory;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonParser;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.core.JsonToken;
+import org.apache.flink.shaded.jackson2.com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.types.Row;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes JSON records with a streaming {@link JsonParser} straight into the final row, without building a Jackson tree.
+ * Values are converted like {@link org.apache.flink.formats.json.JsonRowDeserializationSchema} does, missing fields are
+ * left null and fields which are not projected are skipped on the parser without being materialized.
+ */
+class JsonRowDecoder {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper(JSON_FACTORY);
+    private static final DateTimeFormatter RFC3339_TIME_FORMAT = new DateTimeFormatterBuilder()
+            .appendPattern("HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .appendZoneOrOffsetId()
+            .toFormatter();
+    private static final DateTimeFormatter RFC3339_TIMESTAMP_FORMAT = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral('T')
+            .append(RFC3339_TIME_FORMAT)
+            .toFormatter();
+
+    private final RowConverter rootConverter;
+
+    private JsonRowDecoder(RowConverter rootConverter) {
+        this.rootConverter = rootConverter;
+    }
+
+    /**
+     * Compile a decoder for the row type.
+     *
+     * @param rowTypeInfo     the row type, without the trailing internal columns
+     * @param projectedFields the top level fields to decode
+     * @return the decoder, or null if the row type has fields the decoder can not convert
+     */
+    static JsonRowDecoder compile(RowTypeInfo rowTypeInfo, boolean[] projectedFields) {
+        RowConverter rootConverter = createRowConverter(rowTypeInfo, projectedFields);
+        return rootConverter == null ? null : new JsonRowDecoder(rootConverter);
+    }
+
+    /**
+     * Decode the JSON record into a row with extra columns.
+     *
+     * @param message      the JSON record
+     * @param extraColumns the extra columns
+     * @return the row
+     * @throws IOException if the record could not be parsed
+     */
+    Row decode(byte[] message, int extraColumns) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(message)) {
+            parser.nextToken();
+            return rootConverter.convertRow(parser, extraColumns);
+        }
+    }
+
+    /**
+     * Decode the JSON record into an internal row with extra columns, converting every top level value
+     * into its internal data structure as soon as it is read.
+     *
+     * @param message              the JSON record
+     * @param extraColumns         the extra columns
+     * @param internalRowConverter the converter of the row type, including the extra columns
+     * @return the internal row
+     * @throws IOException if the record could not be parsed
+     */
+    GenericRowData decodeRowData(byte[] message, int extraColumns, InternalRowConverter internalRowConverter) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(message)) {
+            parser.nextToken();
+            return rootConverter.convertRowData(parser, extraColumns, internalRowConverter);
+        }
+    }
+
+    private static RowConverter createRowConverter(RowTypeInfo rowTypeInfo, boolean[] projectedFields) {
+        String[] fieldNames = rowTypeInfo.getFieldNames();
+        ValueConverter[] fieldConverters = new ValueConverter[fieldNames.length];
+        Map<String, Integer> fieldIndexByName = new HashMap<>();
+        for (int index = 0; index < fieldNames.length; index++) {
+            if (projectedFields != null && !projectedFields[index]) {
+                continue;
+            }
+            fieldConverters[index] = createConverter(rowTypeInfo.getTypeAt(index));
+            if (fieldConverters[index] == null) {
+                return null;
+            }
+            fieldIndexByName.put(fieldNames[index], index);
+        }
+        return new RowConverter(fieldNames.length, fieldIndexByName, fieldConverters);
+    }
+
+    private static ValueConverter createConverter(TypeInformation<?> type) {
+        if (type.equals(Types.VOID)) {
+            return parser -> {
+                parser.skipChildren();
+                return null;
+            };
+        } else if (type.equals(Types.STRING)) {
+            return JsonRowDecoder::convertToString;
+        } else if (type.equals(Types.BOOLEAN)) {
+            return parser -> parser.currentToken().isBoolean() ? parser.getBooleanValue() : Boolean.parseBoolean(asText(parser).trim());
+        } else if (type.equals(Types.INT)) {
+            return parser -> parser.currentToken().isNumeric() ? parser.getIntValue() : Integer.parseInt(asText(parser).trim());
+        } else if (type.equals(Types.LONG)) {
+            return parser -> parser.currentToken().isNumeric() ? parser.getLongValue() : Long.parseLong(asText(parser).trim());
+        } else if (type.equals(Types.DOUBLE)) {
+            return parser -> parser.currentToken().isNumeric() ? parser.getDoubleValue() : Double.parseDouble(asText(parser).trim());
+        } else if (type.equals(Types.FLOAT)) {
+            return parser -> parser.currentToken().isNumeric() ? parser.getFloatValue() : Float.parseFloat(asText(parser).trim());
+        } else if (type.equals(Types.BIG_DEC)) {
+            return parser -> new BigDecimal(asText(parser));
+        } else if (type.equals(Types.BIG_INT)) {
+            return parser -> parser.currentToken() == JsonToken.VALUE_NUMBER_INT ? parser.getBigIntegerValue() : new BigInteger(asText(parser));
+        } else if (type.equals(Types.SQL_DATE)) {
+            return parser -> Date.valueOf(DateTimeFormatter.ISO_LOCAL_DATE.parse(asText(parser)).query(TemporalQueries.localDate()));
+        } else if (type.equals(Types.SQL_TIME)) {
+            return parser -> Time.valueOf(toUtcLocalTime(RFC3339_TIME_FORMAT.parse(asText(parser))));
+        } else if (type.equals(Types.SQL_TIMESTAMP)) {
+            return JsonRowDecoder::convertToTimestamp;
+        } else if (type.equals(Types.PRIMITIVE_ARRAY(Types.BYTE))) {
+            return parser -> parser.getBinaryValue();
+        } else if (type instanceof RowTypeInfo) {
+            return createRowConverter((RowTypeInfo) type, null);
+        } else if (type instanceof ObjectArrayTypeInfo) {
+            return createArrayConverter(((ObjectArrayTypeInfo<?, ?>) type).getComponentInfo());
+        } else if (type instanceof BasicArrayTypeInfo) {
+            return createArrayConverter(((BasicArrayTypeInfo<?, ?>) type).getComponentInfo());
+        }
+        return null;
+    }
+
+    private static ValueConverter createArrayConverter(TypeInformation<?> elementType) {
+        ValueConverter elementConverter = createConverter(elementType);
+        if (elementConverter == null) {
+            return null;
+        }
+        Class<?> elementClass = elementType.getTypeClass();
+        return parser -> {
+            if (parser.currentToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Expected a JSON array but found " + parser.currentToken());
+            }
+            List<Object> elements = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                elements.add(parser.currentToken() == JsonToken.VALUE_NULL ? null : elementConverter.convert(parser));
+            }
+            return elements.toArray((Object[]) Array.newInstance(elementClass, elements.size()));
+        };
+    }
+
+    private static Object convertToString(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return parser.getText();
+        }
+        if (token.isStructStart()) {
+            return OBJECT_MAPPER.readTree(parser).toString();
+        }
+        return asText(parser);
+    }
+
+    private static Object convertToTimestamp(JsonParser parser) throws IOException {
+        TemporalAccessor parsedTimestamp = RFC3339_TIMESTAMP_FORMAT.parse(asText(parser));
+        LocalTime localTime = toUtcLocalTime(parsedTimestamp);
+        LocalDate localDate = parsedTimestamp.query(TemporalQueries.localDate());
+        return Timestamp.valueOf(LocalDateTime.of(localDate, localTime));
+    }
+
+    private static LocalTime toUtcLocalTime(TemporalAccessor parsedTime) {
+        ZoneOffset zoneOffset = parsedTime.query(TemporalQueries.offset());
+        if (zoneOffset != null && zoneOffset.getTotalSeconds() != 0) {
+            throw new IllegalStateException("Invalid timestamp format. Only a timestamp in UTC timezone is supported yet.");
+        }
+        return parsedTime.query(TemporalQueries.localTime());
+    }
+
+    /* text of the current value as a Jackson tree node would return it, containers have no text */
+    private static String asText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return Double.toString(parser.getDoubleValue());
+        }
+        return parser.getText();
+    }
+
+    private interface ValueConverter {
+        Object convert(JsonParser parser) throws IOException;
+    }
+
+    private static final class RowConverter implements ValueConverter {
+        private final int arity;
+        private final Map<String, Integer> fieldIndexByName;
+        private final ValueConverter[] fieldConverters;
+
+        private RowConverter(int arity, Map<String, Integer> fieldIndexByName, ValueConverter[] fieldConverters) {
+            this.arity = arity;
+            this.fieldIndexByName = fieldIndexByName;
+            this.fieldConverters = fieldConverters;
+        }
+
+        @Override
+        public Object convert(JsonParser parser) throws IOException {
+            return convertRow(parser, 0);
+        }
+
+        private Row convertRow(JsonParser parser, int extraColumns) throws IOException {
+            Row row = new Row(arity + extraColumns);
+            readFields(parser, row::setField);
+            return row;
+        }
+
+        private GenericRowData convertRowData(JsonParser parser, int extraColumns, InternalRowConverter internalRowConverter) throws IOException {
+            GenericRowData rowData = new GenericRowData(arity + extraColumns);
+            readFields(parser, (index, value) -> rowData.setField(index, internalRowConverter.toInternal(index, value)));
+            return rowData;
+        }
+
+        private void readFields(JsonParser parser, FieldSetter fieldSetter) throws IOException {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Expected a JSON object but found " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Integer index = fieldIndexByName.get(parser.getCurrentName());
+                JsonToken valueToken = parser.nextToken();
+                if (index == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                fieldSetter.set(index, valueToken == JsonToken.VALUE_NULL ? null : fieldConverters[index].convert(parser));
+            }
+        }
+    }
+
+    private interface FieldSetter {
+        void set(int index, Object value);
+    }
+}
@@ -0,0 +1,389 @@
+package io.odpf.dagger.common.serde.parquet.deserialization;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.common.serde.typehandler.PrimitiveTypeHandler;
+import io.odpf.dagger.common.serde.typehandler.RowDecodingPlan;
+import io.odpf.dagger.common.serde.typehandler.TypeHandler;
+import io.odpf.dagger.common.serde.typehandler.complex.EnumHandler;
+import io.odpf.dagger.common.serde.typehandler.complex.TimestampHandler;
+import org.apache.flink.types.Row;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnReadStore;
+import org.apache.parquet.column.ColumnReader;
+import org.apache.parquet.column.impl.ColumnReadStoreImpl;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Decodes the rows of a parquet row group column by column, straight from the column pages into a batch of rows,
+ * without assembling a {@link org.apache.parquet.example.data.simple.SimpleGroup} for every record.
+ * Values and defaults are the same as the type handlers produce from a SimpleGroup. Only flat, non repeated
+ * primitive, enum and timestamp fields can be decoded this way; other schemas have to go through record assembly.
+ */
+public class ColumnarRowBatchDecoder {
+    private static final int SECOND_TO_MS_FACTOR = 1000;
+    private static final int MS_TO_NANOS_FACTOR = 1000_000;
+    private final MessageType parquetSchema;
+    private final int fieldCount;
+    private final int timestampRowIndex;
+    private final FieldColumn[] fieldColumns;
+    private long remainingRowCount;
+
+    private ColumnarRowBatchDecoder(MessageType parquetSchema, int fieldCount, int timestampRowIndex, FieldColumn[] fieldColumns) {
+        this.parquetSchema = parquetSchema;
+        this.fieldCount = fieldCount;
+        this.timestampRowIndex = timestampRowIndex;
+        this.fieldColumns = fieldColumns;
+    }
+
+    /**
+     * Compile a columnar decoder for the row decoding plan and the schema of the parquet file.
+     *
+     * @param rowDecodingPlan   the row decoding plan
+     * @param timestampRowIndex the row index of the event timestamp field
+     * @param parquetSchema     the schema of the parquet file
+     * @return the decoder, or null if any projected field can not be decoded column by column
+     */
+    public static ColumnarRowBatchDecoder compile(RowDecodingPlan rowDecodingPlan, int timestampRowIndex, MessageType parquetSchema) {
+        if (!(rowDecodingPlan.getTypeHandler(timestampRowIndex) instanceof TimestampHandler)) {
+            return null;
+        }
+        List<FieldColumn> fieldColumns = new ArrayList<>();
+        for (int index = 0; index < rowDecodingPlan.getFieldCount(); index++) {
+            if (!rowDecodingPlan.isProjected(index)) {
+                continue;
+            }
+            FieldColumn fieldColumn = createFieldColumn(index, rowDecodingPlan.getFieldDescriptor(index), rowDecodingPlan.getTypeHandler(index), parquetSchema);
+            if (fieldColumn == null) {
+                return null;
+            }
+            fieldColumns.add(fieldColumn);
+        }
+        return new ColumnarRowBatchDecoder(parquetSchema, rowDecodingPlan.getFieldCount(), timestampRowIndex, fieldColumns.toArray(new FieldColumn[0]));
+    }
+
+    private static FieldColumn createFieldColumn(int index, Descriptors.FieldDescriptor fieldDescriptor, TypeHandler typeHandler, MessageType parquetSchema) {
+        if (fieldDescriptor.isRepeated()) {
+            return null;
+        }
+        String fieldName = fieldDescriptor.getName();
+        Type parquetType = parquetSchema.containsField(fieldName) ? parquetSchema.getType(fieldName) : null;
+        if (parquetType != null && parquetType.isRepetition(Type.Repetition.REPEATED)) {
+            return null;
+        }
+        if (typeHandler instanceof TimestampHandler) {
+            return createTimestampColumn(index, fieldName, parquetType, parquetSchema);
+        }
+        if (typeHandler instanceof EnumHandler) {
+            String defaultEnumValue = fieldDescriptor.getEnumType().findValueByNumber(0).getName();
+            if (parquetType == null) {
+                return new ConstantColumn(index, defaultEnumValue);
+            }
+            if (!isPrimitive(parquetType, PrimitiveTypeName.BINARY)) {
+                return null;
+            }
+            return new EnumColumn(index, parquetSchema.getColumnDescription(new String[]{fieldName}), fieldDescriptor.getEnumType(), defaultEnumValue);
+        }
+        if (typeHandler instanceof PrimitiveTypeHandler) {
+            return createPrimitiveColumn(index, fieldDescriptor.getJavaType(), fieldName, parquetType, parquetSchema);
+        }
+        return null;
+    }
+
+    private static FieldColumn createPrimitiveColumn(int index, Descriptors.FieldDescriptor.JavaType javaType, String fieldName, Type parquetType, MessageType parquetSchema) {
+        PrimitiveTypeName physicalType;
+        Object defaultValue;
+        switch (javaType) {
+            case INT:
+                physicalType = PrimitiveTypeName.INT32;
+                defaultValue = 0;
+                break;
+            case LONG:
+                physicalType = PrimitiveTypeName.INT64;
+                defaultValue = 0L;
+                break;
+            case FLOAT:
+                physicalType = PrimitiveTypeName.FLOAT;
+                defaultValue = 0F;
+                break;
+            case DOUBLE:
+                physicalType = PrimitiveTypeName.DOUBLE;
+                defaultValue = 0D;
+                break;
+            case BOOLEAN:
+                physicalType = PrimitiveTypeName.BOOLEAN;
+                defaultValue = false;
+                break;
+            case STRING:
+                physicalType = PrimitiveTypeName.BINARY;
+                defaultValue = "";
+                break;
+            case BYTE_STRING:
+                physicalType = PrimitiveTypeName.BINARY;
+                defaultValue = null;
+                break;
+            default:
+                return null;
+        }
+        if (parquetType == null) {
+            return new ConstantColumn(index, defaultValue);
+        }
+        if (!isPrimitive(parquetType, physicalType)) {
+            return null;
+        }
+        return new PrimitiveColumn(index, parquetSchema.getColumnDescription(new String[]{fieldName}), javaType, defaultValue);
+    }
+
+    private static FieldColumn createTimestampColumn(int index, String fieldName, Type parquetType, MessageType parquetSchema) {
+        if (parquetType == null) {
+            return new TimestampGroupColumn(index, null, null);
+        }
+        if (parquetType.isPrimitive()) {
+            return isPrimitive(parquetType, PrimitiveTypeName.INT64)
+                    ? new TimestampMillisColumn(index, parquetSchema.getColumnDescription(new String[]{fieldName}))
+                    : null;
+        }
+        GroupType timestampGroupType = parquetType.asGroupType();
+        ColumnDescriptor secondsColumn = null;
+        ColumnDescriptor nanosColumn = null;
+        for (Type nestedType : timestampGroupType.getFields()) {
+            String nestedName = nestedType.getName();
+            if (nestedName.equals("seconds") && isPrimitive(nestedType, PrimitiveTypeName.INT64)
+                    && !nestedType.isRepetition(Type.Repetition.REPEATED)) {
+                secondsColumn = parquetSchema.getColumnDescription(new String[]{fieldName, nestedName});
+            } else if (nestedName.equals("nanos") && isPrimitive(nestedType, PrimitiveTypeName.INT32)
+                    && !nestedType.isRepetition(Type.Repetition.REPEATED)) {
+                nanosColumn = parquetSchema.getColumnDescription(new String[]{fieldName, nestedName});
+            } else if (nestedName.equals("seconds") || nestedName.equals("nanos")) {
+                return null;
+            }
+        }
+        return new TimestampGroupColumn(index, secondsColumn, nanosColumn);
+    }
+
+    private static boolean isPrimitive(Type parquetType, PrimitiveTypeName physicalType) {
+        return parquetType.isPrimitive() && parquetType.asPrimitiveType().getPrimitiveTypeName() == physicalType;
+    }
+
+    /**
+     * Start decoding the rows of the next row group.
+     *
+     * @param pageReadStore the pages of the row group
+     * @param createdBy     the writer version of the parquet file
+     */
+    public void startRowGroup(PageReadStore pageReadStore, String createdBy) {
+        ColumnReadStore columnReadStore = new ColumnReadStoreImpl(pageReadStore,
+                new GroupRecordConverter(parquetSchema).getRootConverter(), parquetSchema, createdBy);
+        for (FieldColumn fieldColumn : fieldColumns) {
+            fieldColumn.open(columnReadStore);
+        }
+        remainingRowCount = pageReadStore.getRowCount();
+    }
+
+    /**
+     * Decode the next rows of the current row group into the batch.
+     * Each row gets the internal validation and rowtime columns appended, like {@link SimpleGroupDeserializer} does.
+     *
+     * @param batch the batch to fill from the start
+     * @return the number of rows decoded, zero once the row group is exhausted
+     */
+    public int readBatch(Row[] batch) {
+        int batchSize = (int) Math.min(batch.length, remainingRowCount);
+        for (int position = 0; position < batchSize; position++) {
+            batch[position] = new Row(fieldCount + 2);
+        }
+        for (FieldColumn fieldColumn : fieldColumns) {
+            fieldColumn.read(batch, batchSize);
+        }
+        for (int position = 0; position < batchSize; position++) {
+            Row row = batch[position];
+            Row timestampRow = (Row) row.getField(timestampRowIndex);
+            long seconds = timestampRow.getFieldAs(0);
+            int nanos = timestampRow.getFieldAs(1);
+            row.setField(fieldCount, true);
+            row.setField(fieldCount + 1, Timestamp.from(Instant.ofEpochSecond(seconds, nanos)));
+        }
+        remainingRowCount -= batchSize;
+        return batchSize;
+    }
+
+    private abstract static class FieldColumn {
+        private final int rowIndex;
+
+        FieldColumn(int rowIndex) {
+            this.rowIndex = rowIndex;
+        }
+
+        void open(ColumnReadStore columnReadStore) {
+        }
+
+        void read(Row[] batch, int batchSize) {
+            for (int position = 0; position < batchSize; position++) {
+                batch[position].setField(rowIndex, readValue());
+            }
+        }
+
+        abstract Object readValue();
+
+        static boolean isDefined(ColumnReader columnReader) {
+            return columnReader.getCurrentDefinitionLevel() == columnReader.getDescriptor().getMaxDefinitionLevel();
+        }
+    }
+
+    private static final class ConstantColumn extends FieldColumn {
+        private final Object value;
+
+        ConstantColumn(int rowIndex, Object value) {
+            super(rowIndex);
+            this.value = value;
+        }
+
+        @Override
+        Object readValue() {
+            return value;
+        }
+    }
+
+    private static final class PrimitiveColumn extends FieldColumn {
+        private final ColumnDescriptor columnDescriptor;
+        private final Descriptors.FieldDescriptor.JavaType javaType;
+        private final Object defaultValue;
+        private ColumnReader columnReader;
+
+        PrimitiveColumn(int rowIndex, ColumnDescriptor columnDescriptor, Descriptors.FieldDescriptor.JavaType javaType, Object defaultValue) {
+            super(rowIndex);
+            this.columnDescriptor = columnDescriptor;
+            this.javaType = javaType;
+            this.defaultValue = defaultValue;
+        }
+
+        @Override
+        void open(ColumnReadStore columnReadStore) {
+            columnReader = columnReadStore.getColumnReader(columnDescriptor);
+        }
+
+        @Override
+        Object readValue() {
+            Object value = isDefined(columnReader) ? readDefinedValue() : defaultValue;
+            columnReader.consume();
+            return value;
+        }
+
+        private Object readDefinedValue() {
+            switch (javaType) {
+                case INT:
+                    return columnReader.getInteger();
+                case LONG:
+                    return columnReader.getLong();
+                case FLOAT:
+                    return columnReader.getFloat();
+                case DOUBLE:
+                    return columnReader.getDouble();
+                case BOOLEAN:
+                    return columnReader.getBoolean();
+                case STRING:
+                    return columnReader.getBinary().toStringUsingUTF8();
+                default:
+                    return ByteString.copyFrom(columnReader.getBinary().getBytes());
+            }
+        }
+    }
+
+    private static final class EnumColumn extends FieldColumn {
+        private final ColumnDescriptor columnDescriptor;
+        private final Descriptors.EnumDescriptor enumDescriptor;
+        private final String defaultEnumValue;
+        private ColumnReader columnReader;
+
+        EnumColumn(int rowIndex, ColumnDescriptor columnDescriptor, Descriptors.EnumDescriptor enumDescriptor, String defaultEnumValue) {
+            super(rowIndex);
+            this.columnDescriptor = columnDescriptor;
+            this.enumDescriptor = enumDescriptor;
+            this.defaultEnumValue = defaultEnumValue;
+        }
+
+        @Override
+        void open(ColumnReadStore columnReadStore) {
+            columnReader = columnReadStore.getColumnReader(columnDescriptor);
+        }
+
+        @Override
+        Object readValue() {
+            String value = defaultEnumValue;
+            if (isDefined(columnReader)) {
+                Descriptors.EnumValueDescriptor enumValueDescriptor = enumDescriptor.findValueByName(columnReader.getBinary().toStringUsingUTF8());
+                value = enumValueDescriptor == null ? defaultEnumValue : enumValueDescriptor.getName();
+            }
+            columnReader.consume();
+            return value;
+        }
+    }
+
+    private static final class TimestampMillisColumn extends FieldColumn {
+        private final ColumnDescriptor columnDescriptor;
+        private ColumnReader columnReader;
+
+        TimestampMillisColumn(int rowIndex, ColumnDescriptor columnDescriptor) {
+            super(rowIndex);
+            this.columnDescriptor = columnDescriptor;
+        }
+
+        @Override
+        void open(ColumnReadStore columnReadStore) {
+            columnReader = columnReadStore.getColumnReader(columnDescriptor);
+        }
+
+        @Override
+        Object readValue() {
+            long timeInMillis = isDefined(columnReader) ? columnReader.getLong() : 0L;
+            columnReader.consume();
+            long seconds = Math.floorDiv(timeInMillis, SECOND_TO_MS_FACTOR);
+            int nanos = (int) Math.floorMod(timeInMillis, SECOND_TO_MS_FACTOR) * MS_TO_NANOS_FACTOR;
+            return Row.of(seconds, nanos);
+        }
+    }
+
+    private static final class TimestampGroupColumn extends FieldColumn {
+        private final ColumnDescriptor secondsColumnDescriptor;
+        private final ColumnDescriptor nanosColumnDescriptor;
+        private ColumnReader secondsColumnReader;
+        private ColumnReader nanosColumnReader;
+
+        TimestampGroupColumn(int rowIndex, ColumnDescriptor secondsColumnDescriptor, ColumnDescriptor nanosColumnDescriptor) {
+            super(rowIndex);
+            this.secondsColumnDescriptor = secondsColumnDescriptor;
+            this.nanosColumnDescriptor = nanosColumnDescriptor;
+        }
+
+        @Override
+        void open(ColumnReadStore columnReadStore) {
+            secondsColumnReader = secondsColumnDescriptor == null ? null : columnReadStore.getColumnReader(secondsColumnDescriptor);
+            nanosColumnReader = nanosColumnDescriptor == null ? null : columnReadStore.getColumnReader(nanosColumnDescriptor);
+        }
+
+        @Override
+        Object readValue() {
+            long seconds = 0L;
+            int nanos = 0;
+            if (secondsColumnReader != null) {
+                seconds = isDefined(secondsColumnReader) ? secondsColumnReader.getLong() : 0L;
+                secondsColumnReader.consume();
+            }
+            if (nanosColumnReader != null) {
+                nanos = isDefined(nanosColumnReader) ? nanosColumnReader.getInteger() : 0;
+                nanosColumnReader.consume();
+            }
+            return Row.of(seconds, nanos);
+        }
+    }
+}
@@ -1,54 +1,144 @@
 package io.odpf.dagger.common.serde.parquet.deserialization;
 
 import com.google.protobuf.Descriptors;
+import io.odpf.dagger.common.core.DescriptorCache;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.FieldProjection;
 import io.odpf.dagger.common.serde.proto.deserialization.ProtoType;
-import io.odpf.dagger.common.serde.typehandler.RowFactory;
+import io.odpf.dagger.common.serde.typehandler.RowDecodingPlan;
 import io.odpf.dagger.common.serde.typehandler.complex.TimestampHandler;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.Type;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public class SimpleGroupDeserializer implements DaggerDeserializer<Row> {
     private final String protoClassName;
     private final int timestampFieldIndex;
     private final StencilClientOrchestrator stencilClientOrchestrator;
     private final TypeInformation<Row> typeInformation;
+    private final FieldProjection fieldProjection;
+    private transient RowDecodingPlan rowDecodingPlan;
+    private transient DescriptorCache descriptorCache;
+    private transient TimestampHandler timestampHandler;
+    private transient int timestampRowIndex;
 
     public SimpleGroupDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, FieldProjection.all());
+    }
+
+    public SimpleGroupDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, FieldProjection fieldProjection) {
         this.protoClassName = protoClassName;
+        this.fieldProjection = fieldProjection;
         this.timestampFieldIndex = timestampFieldIndex;
         this.stencilClientOrchestrator = stencilClientOrchestrator;
         this.typeInformation = new ProtoType(protoClassName, rowtimeAttributeName, stencilClientOrchestrator).getRowType();
     }
 
     private Descriptors.Descriptor getProtoParser() {
-        Descriptors.Descriptor dsc = stencilClientOrchestrator.getStencilClient().get(protoClassName);
+        Descriptors.Descriptor dsc = getDescriptorCache().get(protoClassName);
         if (dsc == null) {
             throw new DescriptorNotFoundException();
         }
         return dsc;
     }
 
+    private DescriptorCache getDescriptorCache() {
+        if (descriptorCache == null) {
+            descriptorCache = DescriptorCache.of(stencilClientOrchestrator.getStencilClient());
+        }
+        return descriptorCache;
+    }
+
+    /**
+     * Compiles the row decoding plan for the current descriptor, ahead of the first record.
+     */
+    public void open() {
+        getRowDecodingPlan(getProtoParser());
+    }
+
+    private RowDecodingPlan getRowDecodingPlan(Descriptors.Descriptor descriptor) {
+        if (rowDecodingPlan == null || !rowDecodingPlan.isCompiledFor(descriptor)) {
+            /* refreshed descriptors are decoded into the rows of the produced type, which does not change while the job runs */
+            rowDecodingPlan = rowDecodingPlan != null ? rowDecodingPlan.recompileFor(descriptor)
+                    : RowDecodingPlan.compile(descriptor, fieldProjection.withField(descriptor.findFieldByNumber(timestampFieldIndex).getName()),
+                    (RowTypeInfo) typeInformation, 2);
+            Descriptors.FieldDescriptor timestampField = rowDecodingPlan.getDescriptor().findFieldByNumber(timestampFieldIndex);
+            timestampHandler = new TimestampHandler(timestampField);
+            timestampRowIndex = rowDecodingPlan.getPosition(timestampField);
+        }
+        return rowDecodingPlan;
+    }
+
     public Row deserialize(SimpleGroup simpleGroup) {
         Descriptors.Descriptor descriptor = getProtoParser();
         try {
-            Row row = RowFactory.createRow(descriptor, simpleGroup, 2);
-            return addTimestampFieldToRow(row, simpleGroup, descriptor);
+            Row row = getRowDecodingPlan(descriptor).createRow(simpleGroup, 2);
+            return addTimestampFieldToRow(row, simpleGroup);
         } catch (RuntimeException e) {
             throw new DaggerDeserializationException(e);
         }
     }
 
-    private Row addTimestampFieldToRow(Row row, SimpleGroup simpleGroup, Descriptors.Descriptor descriptor) {
-        Descriptors.FieldDescriptor fieldDescriptor = descriptor.findFieldByNumber(timestampFieldIndex);
-        TimestampHandler timestampHandler = new TimestampHandler(fieldDescriptor);
+    /**
+     * Gets the field descriptor of the event timestamp field, in the current descriptor.
+     *
+     * @return the timestamp field descriptor
+     */
+    public Descriptors.FieldDescriptor getTimestampFieldDescriptor() {
+        return getProtoParser().findFieldByNumber(timestampFieldIndex);
+    }
+
+    /**
+     * Gets the schema to request from a parquet file, holding only the top level fields which get decoded into rows.
+     * Columns of the other fields are not read and the fields are left null.
+     *
+     * @param fileSchema the schema of the parquet file
+     * @return the requested schema, the file schema itself if every field gets decoded
+     */
+    public MessageType getRequestedSchema(MessageType fileSchema) {
+        RowDecodingPlan plan = getRowDecodingPlan(getProtoParser());
+        if (fieldProjection.isAllFields()) {
+            return fileSchema;
+        }
+        List<Type> projectedFields = fileSchema.getFields()
+                .stream()
+                .filter(type -> isProjected(plan, type.getName()))
+                .collect(Collectors.toList());
+        if (projectedFields.isEmpty() || projectedFields.size() == fileSchema.getFieldCount()) {
+            return fileSchema;
+        }
+        return new MessageType(fileSchema.getName(), projectedFields);
+    }
+
+    private boolean isProjected(RowDecodingPlan plan, String fieldName) {
+        Descriptors.FieldDescriptor fieldDescriptor = plan.getDescriptor().findFieldByName(fieldName);
+        int position = fieldDescriptor == null ? -1 : plan.getPosition(fieldDescriptor);
+        return position >= 0 && plan.isProjected(position);
+    }
+
+    /**
+     * Create a decoder which reads rows column by column from the row groups of a parquet file with the given schema.
+     *
+     * @param parquetSchema the schema of the parquet file
+     * @return the columnar decoder, or null if records of the schema have to be assembled into a SimpleGroup first
+     */
+    public ColumnarRowBatchDecoder createColumnarDecoder(MessageType parquetSchema) {
+        RowDecodingPlan plan = getRowDecodingPlan(getProtoParser());
+        return ColumnarRowBatchDecoder.compile(plan, timestampRowIndex, parquetSchema);
+    }
+
+    private Row addTimestampFieldToRow(Row row, SimpleGroup simpleGroup) {
         Row timestampRow = (Row) timestampHandler.transformFromParquet(simpleGroup);
         long seconds = timestampRow.getFieldAs(0);
         int nanos = timestampRow.getFieldAs(1);
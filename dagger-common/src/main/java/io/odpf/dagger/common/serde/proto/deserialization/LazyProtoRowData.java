@@ -0,0 +1,168 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
+import org.apache.flink.table.data.ArrayData;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.MapData;
+import org.apache.flink.table.data.RawValueData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.types.RowKind;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Internal row over a serialized protobuf message, which decodes each field from the message bytes the first time it
+ * is read. Rows filtered out by the operators chained to the source then never decode the fields they do not read.
+ * Operators which are not chained receive a copy of the row, in which every field is decoded.
+ */
+class LazyProtoRowData implements RowData {
+    private static final Object NOT_DECODED = new Object();
+    private final byte[] message;
+    private final StreamingRowDecoder streamingRowDecoder;
+    private final Object[] fields;
+    private RowKind rowKind = RowKind.INSERT;
+
+    /**
+     * Instantiates a new Lazy proto row data.
+     *
+     * @param message             the serialized protobuf message
+     * @param streamingRowDecoder the decoder of the fields, built with an internal row converter
+     * @param extraColumns        the extra columns after the fields of the message
+     */
+    LazyProtoRowData(byte[] message, StreamingRowDecoder streamingRowDecoder, int extraColumns) {
+        this.message = message;
+        this.streamingRowDecoder = streamingRowDecoder;
+        int fieldCount = streamingRowDecoder.getFieldCount();
+        this.fields = new Object[fieldCount + extraColumns];
+        Arrays.fill(fields, 0, fieldCount, NOT_DECODED);
+    }
+
+    /**
+     * Sets the internal value of a field, which is then not decoded from the message.
+     *
+     * @param pos   the position of the field
+     * @param value the internal value
+     */
+    void setField(int pos, Object value) {
+        fields[pos] = value;
+    }
+
+    /**
+     * Gets the internal value of a field, decoding it from the message if it was not read before.
+     *
+     * @param pos the position of the field
+     * @return the internal value
+     */
+    Object getField(int pos) {
+        Object value = fields[pos];
+        if (value != NOT_DECODED) {
+            return value;
+        }
+        try {
+            value = streamingRowDecoder.decodeInternalField(message, pos);
+        } catch (IOException e) {
+            throw new DaggerDeserializationException(e);
+        }
+        fields[pos] = value;
+        return value;
+    }
+
+    @Override
+    public int getArity() {
+        return fields.length;
+    }
+
+    @Override
+    public RowKind getRowKind() {
+        return rowKind;
+    }
+
+    @Override
+    public void setRowKind(RowKind kind) {
+        this.rowKind = kind;
+    }
+
+    @Override
+    public boolean isNullAt(int pos) {
+        return getField(pos) == null;
+    }
+
+    @Override
+    public boolean getBoolean(int pos) {
+        return (boolean) getField(pos);
+    }
+
+    @Override
+    public byte getByte(int pos) {
+        return (byte) getField(pos);
+    }
+
+    @Override
+    public short getShort(int pos) {
+        return (short) getField(pos);
+    }
+
+    @Override
+    public int getInt(int pos) {
+        return (int) getField(pos);
+    }
+
+    @Override
+    public long getLong(int pos) {
+        return (long) getField(pos);
+    }
+
+    @Override
+    public float getFloat(int pos) {
+        return (float) getField(pos);
+    }
+
+    @Override
+    public double getDouble(int pos) {
+        return (double) getField(pos);
+    }
+
+    @Override
+    public StringData getString(int pos) {
+        return (StringData) getField(pos);
+    }
+
+    @Override
+    public DecimalData getDecimal(int pos, int precision, int scale) {
+        return (DecimalData) getField(pos);
+    }
+
+    @Override
+    public TimestampData getTimestamp(int pos, int precision) {
+        return (TimestampData) getField(pos);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> RawValueData<T> getRawValue(int pos) {
+        return (RawValueData<T>) getField(pos);
+    }
+
+    @Override
+    public byte[] getBinary(int pos) {
+        return (byte[]) getField(pos);
+    }
+
+    @Override
+    public ArrayData getArray(int pos) {
+        return (ArrayData) getField(pos);
+    }
+
+    @Override
+    public MapData getMap(int pos) {
+        return (MapData) getField(pos);
+    }
+
+    @Override
+    public RowData getRow(int pos, int numFields) {
+        return (RowData) getField(pos);
+    }
+}
@@ -1,17 +1,21 @@
 package io.odpf.dagger.common.serde.proto.deserialization;
 
 import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.FieldProjection;
+import org.apache.flink.api.common.serialization.DeserializationSchema;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
 import org.apache.flink.types.Row;
 
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.core.DescriptorCache;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
-import io.odpf.dagger.common.serde.typehandler.RowFactory;
+import io.odpf.dagger.common.serde.typehandler.RowDecodingPlan;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +33,10 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row>, Dagge
     private final int timestampFieldIndex;
     private final StencilClientOrchestrator stencilClientOrchestrator;
     private final TypeInformation<Row> typeInformation;
+    private final FieldProjection fieldProjection;
+    private transient RowDecodingPlan rowDecodingPlan;
+    private transient DescriptorCache descriptorCache;
+    private transient Descriptors.FieldDescriptor timestampFieldDescriptor;
     private static final Logger LOGGER = LoggerFactory.getLogger(ProtoDeserializer.class);
 
     /**
@@ -40,12 +48,31 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row>, Dagge
      * @param stencilClientOrchestrator the stencil client orchestrator
      */
     public ProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, FieldProjection.all());
+    }
+
+    /**
+     * Instantiates a new Proto deserializer which only converts the projected fields into the row.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     * @param fieldProjection           the fields to decode
+     */
+    public ProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, FieldProjection fieldProjection) {
         this.protoClassName = protoClassName;
+        this.fieldProjection = fieldProjection;
         this.timestampFieldIndex = timestampFieldIndex;
         this.stencilClientOrchestrator = stencilClientOrchestrator;
         this.typeInformation = new ProtoType(protoClassName, rowtimeAttributeName, stencilClientOrchestrator).getRowType();
     }
 
+    @Override
+    public void open(DeserializationSchema.InitializationContext context) {
+        getRowDecodingPlan(getProtoParser());
+    }
+
     @Override
     public boolean isEndOfStream(Row nextElement) {
         return false;
@@ -54,14 +81,15 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row>, Dagge
     @Override
     public Row deserialize(ConsumerRecord<byte[], byte[]> consumerRecord) {
         Descriptors.Descriptor descriptor = getProtoParser();
+        RowDecodingPlan plan = getRowDecodingPlan(descriptor);
         try {
-            DynamicMessage proto = DynamicMessage.parseFrom(descriptor, consumerRecord.value());
-            return addTimestampFieldToRow(proto);
+            DynamicMessage proto = DynamicMessage.parseFrom(plan.getDescriptor(), consumerRecord.value());
+            return addTimestampFieldToRow(plan, proto);
         } catch (DescriptorNotFoundException e) {
             throw new DescriptorNotFoundException(e);
         } catch (InvalidProtocolBufferException e) {
             LOGGER.warn("Invalid Row encountered for proto " + protoClassName, e);
-            return createDefaultInvalidRow(DynamicMessage.getDefaultInstance(descriptor));
+            return createDefaultInvalidRow(plan, DynamicMessage.getDefaultInstance(plan.getDescriptor()));
         } catch (RuntimeException e) {
             throw new DaggerDeserializationException(e);
         }
@@ -73,24 +101,43 @@ public class ProtoDeserializer implements KafkaDeserializationSchema<Row>, Dagge
     }
 
     private Descriptors.Descriptor getProtoParser() {
-        Descriptors.Descriptor dsc = stencilClientOrchestrator.getStencilClient().get(protoClassName);
+        Descriptors.Descriptor dsc = getDescriptorCache().get(protoClassName);
         if (dsc == null) {
             throw new DescriptorNotFoundException();
         }
         return dsc;
     }
 
-    private Row createDefaultInvalidRow(DynamicMessage defaultInstance) {
-        Row row = RowFactory.createRow(defaultInstance, 2);
+    private DescriptorCache getDescriptorCache() {
+        if (descriptorCache == null) {
+            descriptorCache = DescriptorCache.of(stencilClientOrchestrator.getStencilClient());
+        }
+        return descriptorCache;
+    }
+
+    private RowDecodingPlan getRowDecodingPlan(Descriptors.Descriptor descriptor) {
+        if (rowDecodingPlan == null) {
+            String timestampFieldName = descriptor.findFieldByNumber(timestampFieldIndex).getName();
+            rowDecodingPlan = RowDecodingPlan.compile(descriptor, fieldProjection.withField(timestampFieldName), (RowTypeInfo) typeInformation, 2);
+            timestampFieldDescriptor = rowDecodingPlan.getDescriptor().findFieldByNumber(timestampFieldIndex);
+        } else if (!rowDecodingPlan.isCompiledFor(descriptor)) {
+            /* refreshed descriptors are decoded into the rows of the produced type, which does not change while the job runs */
+            rowDecodingPlan = rowDecodingPlan.recompileFor(descriptor);
+            timestampFieldDescriptor = rowDecodingPlan.getDescriptor().findFieldByNumber(timestampFieldIndex);
+        }
+        return rowDecodingPlan;
+    }
+
+    private Row createDefaultInvalidRow(RowDecodingPlan plan, DynamicMessage defaultInstance) {
+        Row row = plan.createRow(defaultInstance, 2);
         row.setField(row.getArity() - 2, false);
         row.setField(row.getArity() - 1, new Timestamp(0));
         return row;
     }
 
-    private Row addTimestampFieldToRow(DynamicMessage proto) {
-        Row finalRecord = RowFactory.createRow(proto, 2);
-        Descriptors.FieldDescriptor fieldDescriptor = proto.getDescriptorForType().findFieldByNumber(timestampFieldIndex);
-        DynamicMessage timestampProto = (DynamicMessage) proto.getField(fieldDescriptor);
+    private Row addTimestampFieldToRow(RowDecodingPlan plan, DynamicMessage proto) {
+        Row finalRecord = plan.createRow(proto, 2);
+        DynamicMessage timestampProto = (DynamicMessage) proto.getField(timestampFieldDescriptor);
         List<Descriptors.FieldDescriptor> timestampFields = timestampProto.getDescriptorForType().getFields();
 
         long timestampSeconds = (long) timestampProto.getField(timestampFields.get(0));
@@ -0,0 +1,247 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.FieldProjection;
+import io.odpf.dagger.common.serde.InternalRowConverter;
+import io.odpf.dagger.common.serde.RowDataDeserializer;
+import org.apache.flink.api.common.serialization.DeserializationSchema;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.core.DescriptorCache;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
+import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
+import io.odpf.dagger.common.serde.typehandler.RowDecodingPlan;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Deserializer for protobuf messages which reads the record bytes with a CodedInputStream
+ * and writes the decoded values straight into the row, without building a DynamicMessage first.
+ * Produces the same rows as {@link ProtoDeserializer}.
+ */
+public class StreamingProtoDeserializer implements KafkaDeserializationSchema<Row>, DaggerDeserializer<Row>, RowDataDeserializer {
+
+    private final String protoClassName;
+    private final int timestampFieldIndex;
+    private final StencilClientOrchestrator stencilClientOrchestrator;
+    private final TypeInformation<Row> typeInformation;
+    private final FieldProjection fieldProjection;
+    private final boolean decodeRowDataLazily;
+    private transient RowDecodingPlan rowDecodingPlan;
+    private transient DescriptorCache descriptorCache;
+    private transient StreamingRowDecoder streamingRowDecoder;
+    private transient InternalRowConverter internalRowConverter;
+    private transient int timestampRowIndex;
+    private static final Logger LOGGER = LoggerFactory.getLogger(StreamingProtoDeserializer.class);
+
+    /**
+     * Instantiates a new Streaming proto deserializer.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     */
+    public StreamingProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, FieldProjection.all());
+    }
+
+    /**
+     * Instantiates a new Streaming proto deserializer which only decodes the projected fields.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     * @param fieldProjection           the fields to decode
+     */
+    public StreamingProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, FieldProjection fieldProjection) {
+        this(protoClassName, timestampFieldIndex, rowtimeAttributeName, stencilClientOrchestrator, fieldProjection, false);
+    }
+
+    /**
+     * Instantiates a new Streaming proto deserializer which only decodes the projected fields, and can produce
+     * internal rows which decode each field when it is first read.
+     *
+     * @param protoClassName            the proto class name
+     * @param timestampFieldIndex       the timestamp field index
+     * @param rowtimeAttributeName      the rowtime attribute name
+     * @param stencilClientOrchestrator the stencil client orchestrator
+     * @param fieldProjection           the fields to decode
+     * @param decodeRowDataLazily       decode the fields of internal rows when they are first read
+     */
+    public StreamingProtoDeserializer(String protoClassName, int timestampFieldIndex, String rowtimeAttributeName, StencilClientOrchestrator stencilClientOrchestrator, FieldProjection fieldProjection, boolean decodeRowDataLazily) {
+        this.protoClassName = protoClassName;
+        this.fieldProjection = fieldProjection;
+        this.decodeRowDataLazily = decodeRowDataLazily;
+        this.timestampFieldIndex = timestampFieldIndex;
+        this.stencilClientOrchestrator = stencilClientOrchestrator;
+        this.typeInformation = new ProtoType(protoClassName, rowtimeAttributeName, stencilClientOrchestrator).getRowType();
+    }
+
+    @Override
+    public void open(DeserializationSchema.InitializationContext context) {
+        getStreamingRowDecoder(getProtoParser());
+    }
+
+    @Override
+    public boolean isEndOfStream(Row nextElement) {
+        return false;
+    }
+
+    @Override
+    public Row deserialize(ConsumerRecord<byte[], byte[]> consumerRecord) {
+        Descriptors.Descriptor descriptor = getProtoParser();
+        try {
+            Row row = getStreamingRowDecoder(descriptor).decode(consumerRecord.value(), 2);
+            return addTimestampFieldToRow(row);
+        } catch (DescriptorNotFoundException e) {
+            throw new DescriptorNotFoundException(e);
+        } catch (InvalidProtocolBufferException e) {
+            LOGGER.warn("Invalid Row encountered for proto " + protoClassName, e);
+            return createDefaultInvalidRow(DynamicMessage.getDefaultInstance(rowDecodingPlan.getDescriptor()));
+        } catch (IOException | RuntimeException e) {
+            throw new DaggerDeserializationException(e);
+        }
+    }
+
+    /**
+     * Check if the rows of the proto have an internal counterpart, so that records can be deserialized into
+     * {@link RowData} with {@link #deserializeRowData(byte[])}.
+     *
+     * @return true if the records can be deserialized into internal rows
+     */
+    @Override
+    public boolean canDeserializeRowData() {
+        return InternalRowConverter.supports(typeInformation);
+    }
+
+    /**
+     * Gets the type information of the rows produced by {@link #deserializeRowData(byte[])}.
+     *
+     * @return the internal row type information
+     */
+    @Override
+    public TypeInformation<RowData> getRowDataProducedType() {
+        return InternalRowConverter.getInternalTypeInfo((RowTypeInfo) typeInformation);
+    }
+
+    /**
+     * Deserialize the record bytes straight into an internal row, holding the same values as the row of
+     * {@link #deserialize(ConsumerRecord)} in their internal data structures.
+     * Lazily decoded rows only decode the event timestamp field here, the other fields are decoded when they are
+     * first read and fail with a {@link DaggerDeserializationException} if their bytes are malformed.
+     *
+     * @param message the serialized protobuf message
+     * @return the internal row
+     */
+    @Override
+    public RowData deserializeRowData(byte[] message) {
+        Descriptors.Descriptor descriptor = getProtoParser();
+        try {
+            if (decodeRowDataLazily) {
+                return deserializeLazyRowData(message, getStreamingRowDecoder(descriptor));
+            }
+            GenericRowData rowData = getStreamingRowDecoder(descriptor).decodeRowData(message, 2);
+            rowData.setField(rowData.getArity() - 2, true);
+            rowData.setField(rowData.getArity() - 1, TimestampData.fromTimestamp(getRowtime((RowData) rowData.getField(timestampRowIndex))));
+            return rowData;
+        } catch (DescriptorNotFoundException e) {
+            throw new DescriptorNotFoundException(e);
+        } catch (InvalidProtocolBufferException e) {
+            LOGGER.warn("Invalid Row encountered for proto " + protoClassName, e);
+            return internalRowConverter.toInternal(createDefaultInvalidRow(DynamicMessage.getDefaultInstance(rowDecodingPlan.getDescriptor())));
+        } catch (IOException | RuntimeException e) {
+            throw new DaggerDeserializationException(e);
+        }
+    }
+
+    private RowData deserializeLazyRowData(byte[] message, StreamingRowDecoder decoder) throws IOException {
+        LazyProtoRowData rowData = new LazyProtoRowData(message, decoder, 2);
+        RowData timestampRow = (RowData) decoder.decodeInternalField(message, timestampRowIndex);
+        rowData.setField(timestampRowIndex, timestampRow);
+        rowData.setField(rowData.getArity() - 2, true);
+        rowData.setField(rowData.getArity() - 1, TimestampData.fromTimestamp(getRowtime(timestampRow)));
+        return rowData;
+    }
+
+    @Override
+    public TypeInformation<Row> getProducedType() {
+        return this.typeInformation;
+    }
+
+    private Descriptors.Descriptor getProtoParser() {
+        Descriptors.Descriptor dsc = getDescriptorCache().get(protoClassName);
+        if (dsc == null) {
+            throw new DescriptorNotFoundException();
+        }
+        return dsc;
+    }
+
+    private DescriptorCache getDescriptorCache() {
+        if (descriptorCache == null) {
+            descriptorCache = DescriptorCache.of(stencilClientOrchestrator.getStencilClient());
+        }
+        return descriptorCache;
+    }
+
+    private StreamingRowDecoder getStreamingRowDecoder(Descriptors.Descriptor descriptor) {
+        if (rowDecodingPlan == null || !rowDecodingPlan.isCompiledFor(descriptor)) {
+            RowDecodingPlan plan = compileRowDecodingPlan(descriptor);
+            timestampRowIndex = plan.getPosition(plan.getDescriptor().findFieldByNumber(timestampFieldIndex));
+            if (internalRowConverter == null && canDeserializeRowData()) {
+                internalRowConverter = new InternalRowConverter((RowTypeInfo) typeInformation);
+            }
+            streamingRowDecoder = new StreamingRowDecoder(plan, internalRowConverter);
+            rowDecodingPlan = plan;
+        }
+        return streamingRowDecoder;
+    }
+
+    /* refreshed descriptors are decoded into the rows of the produced type, which does not change while the job runs */
+    private RowDecodingPlan compileRowDecodingPlan(Descriptors.Descriptor descriptor) {
+        if (rowDecodingPlan != null) {
+            return rowDecodingPlan.recompileFor(descriptor);
+        }
+        String timestampFieldName = descriptor.findFieldByNumber(timestampFieldIndex).getName();
+        return RowDecodingPlan.compile(descriptor, fieldProjection.withField(timestampFieldName), (RowTypeInfo) typeInformation, 2);
+    }
+
+    private Row createDefaultInvalidRow(DynamicMessage defaultInstance) {
+        Row row = rowDecodingPlan.createRow(defaultInstance, 2);
+        row.setField(row.getArity() - 2, false);
+        row.setField(row.getArity() - 1, new Timestamp(0));
+        return row;
+    }
+
+    private Row addTimestampFieldToRow(Row row) {
+        row.setField(row.getArity() - 2, true);
+        row.setField(row.getArity() - 1, getRowtime((Row) row.getField(timestampRowIndex)));
+        return row;
+    }
+
+    private Timestamp getRowtime(RowData timestampRow) {
+        return Timestamp.from(Instant.ofEpochSecond(timestampRow.getLong(0), timestampRow.getInt(1)));
+    }
+
+    private Timestamp getRowtime(Row timestampRow) {
+        long timestampSeconds = (long) timestampRow.getField(0);
+        long timestampNanos = (int) timestampRow.getField(1);
+        return Timestamp.from(Instant.ofEpochSecond(timestampSeconds, timestampNanos));
+    }
+}
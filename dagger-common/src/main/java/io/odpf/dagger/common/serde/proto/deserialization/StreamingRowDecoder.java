@@ -0,0 +1,330 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.WireFormat;
+import io.odpf.dagger.common.exceptions.serde.DataTypeNotSupportedException;
+import io.odpf.dagger.common.serde.InternalRowConverter;
+import io.odpf.dagger.common.serde.typehandler.RowDecodingPlan;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.types.Row;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Decodes serialized protobuf messages straight into {@link Row} slots, keyed by field number.
+ * Slots follow the row positions of the {@link RowDecodingPlan}, fields of the message which are not in the row are skipped.
+ * Scalar fields are read off the {@link CodedInputStream} without building an intermediate DynamicMessage,
+ * while message, map and repeated fields are collected and handed to their type handlers once the record is read.
+ * Fields outside the plan's projection are skipped on the wire and left null.
+ * Records can also be decoded into internal {@link GenericRowData}, where strings are wrapped around their UTF-8
+ * bytes on the wire without being decoded, or one internal field at a time for rows decoded lazily.
+ */
+public class StreamingRowDecoder {
+    private static final int MAX_DIRECT_LOOKUP_FIELD_NUMBER = 4096;
+    private final RowDecodingPlan plan;
+    private final int[] fieldIndexByNumber;
+    private final Object[] scalarDefaults;
+    private final DynamicMessage[] messageDefaults;
+    private final InternalRowConverter internalRowConverter;
+    private final Object[] internalScalarDefaults;
+
+    /**
+     * Instantiates a new Streaming row decoder.
+     *
+     * @param plan the row decoding plan of the descriptor to decode
+     */
+    public StreamingRowDecoder(RowDecodingPlan plan) {
+        this(plan, null);
+    }
+
+    /**
+     * Instantiates a new Streaming row decoder which can also decode into internal rows.
+     *
+     * @param plan                 the row decoding plan of the descriptor to decode
+     * @param internalRowConverter the converter of the field values into internal data structures
+     */
+    public StreamingRowDecoder(RowDecodingPlan plan, InternalRowConverter internalRowConverter) {
+        this.plan = plan;
+        this.internalRowConverter = internalRowConverter;
+        int fieldCount = plan.getFieldCount();
+        this.scalarDefaults = new Object[fieldCount];
+        this.internalScalarDefaults = new Object[fieldCount];
+        this.messageDefaults = new DynamicMessage[fieldCount];
+        int maxFieldNumber = 0;
+        for (int index = 0; index < fieldCount; index++) {
+            FieldDescriptor fieldDescriptor = plan.getFieldDescriptor(index);
+            if (fieldDescriptor == null) {
+                continue;
+            }
+            maxFieldNumber = Math.max(maxFieldNumber, fieldDescriptor.getNumber());
+            if (!plan.isProjected(index) || fieldDescriptor.isRepeated()) {
+                continue;
+            }
+            if (fieldDescriptor.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                messageDefaults[index] = DynamicMessage.getDefaultInstance(fieldDescriptor.getMessageType());
+            } else {
+                scalarDefaults[index] = plan.getTypeHandler(index).transformFromProto(fieldDescriptor.getDefaultValue());
+                internalScalarDefaults[index] = internalRowConverter == null ? null : internalRowConverter.toInternal(index, scalarDefaults[index]);
+            }
+        }
+        this.fieldIndexByNumber = maxFieldNumber <= MAX_DIRECT_LOOKUP_FIELD_NUMBER ? buildFieldIndexLookup(maxFieldNumber) : null;
+    }
+
+    /**
+     * Check if this decoder was built for the given row decoding plan.
+     *
+     * @param otherPlan the row decoding plan
+     * @return true if the decoder uses the plan
+     */
+    public boolean isBuiltFor(RowDecodingPlan otherPlan) {
+        return plan == otherPlan;
+    }
+
+    /**
+     * Decode the serialized message into a row with extra columns.
+     *
+     * @param message      the serialized protobuf message
+     * @param extraColumns the extra columns
+     * @return the row
+     * @throws IOException if the message could not be parsed
+     */
+    public Row decode(byte[] message, int extraColumns) throws IOException {
+        Object[] values = decodeValues(message, false, -1);
+        Row row = new Row(values.length + extraColumns);
+        for (int index = 0; index < values.length; index++) {
+            row.setField(index, values[index]);
+        }
+        return row;
+    }
+
+    /**
+     * Decode the serialized message into an internal row with extra columns, using the internal row converter
+     * the decoder was built with.
+     *
+     * @param message      the serialized protobuf message
+     * @param extraColumns the extra columns
+     * @return the internal row
+     * @throws IOException if the message could not be parsed
+     */
+    public GenericRowData decodeRowData(byte[] message, int extraColumns) throws IOException {
+        if (internalRowConverter == null) {
+            throw new IllegalStateException("Decoder was built without an internal row converter");
+        }
+        Object[] values = decodeValues(message, true, -1);
+        GenericRowData rowData = new GenericRowData(values.length + extraColumns);
+        for (int index = 0; index < values.length; index++) {
+            rowData.setField(index, values[index]);
+        }
+        return rowData;
+    }
+
+    /**
+     * Decode a single field of the serialized message into its internal value, skipping every other field on the wire.
+     *
+     * @param message  the serialized protobuf message
+     * @param position the row position of the field
+     * @return the internal value of the field, null if the field is outside the projection
+     * @throws IOException if the message could not be parsed
+     */
+    public Object decodeInternalField(byte[] message, int position) throws IOException {
+        if (internalRowConverter == null) {
+            throw new IllegalStateException("Decoder was built without an internal row converter");
+        }
+        return decodeValues(message, true, position)[position];
+    }
+
+    /**
+     * Gets the number of fields decoded from the message, the row positions before the extra columns.
+     *
+     * @return the field count
+     */
+    public int getFieldCount() {
+        return plan.getFieldCount();
+    }
+
+    /* a non-negative position decodes only the field at that position, the others are skipped after clearing their oneof siblings */
+    private Object[] decodeValues(byte[] message, boolean isInternal, int onlyPosition) throws IOException {
+        int fieldCount = plan.getFieldCount();
+        Object[] values = new Object[fieldCount];
+        Object[] collectedValues = null;
+        CodedInputStream input = CodedInputStream.newInstance(message);
+        while (true) {
+            int tag = input.readTag();
+            if (tag == 0) {
+                break;
+            }
+            int index = getFieldIndex(WireFormat.getTagFieldNumber(tag));
+            FieldDescriptor fieldDescriptor = index < 0 ? null : plan.getFieldDescriptor(index);
+            int wireType = WireFormat.getTagWireType(tag);
+            boolean isPacked = fieldDescriptor != null && fieldDescriptor.isRepeated() && fieldDescriptor.isPackable()
+                    && wireType == WireFormat.WIRETYPE_LENGTH_DELIMITED;
+            if (fieldDescriptor == null || (!isPacked && wireType != fieldDescriptor.getLiteType().getWireType())) {
+                if (!input.skipField(tag)) {
+                    break;
+                }
+                continue;
+            }
+            if (fieldDescriptor.getContainingOneof() != null) {
+                clearOtherOneofFields(values, collectedValues, fieldDescriptor);
+            }
+            if (onlyPosition >= 0 && index != onlyPosition) {
+                if (!input.skipField(tag)) {
+                    break;
+                }
+                continue;
+            }
+            if (fieldDescriptor.isRepeated()) {
+                collectedValues = collectedValues == null ? new Object[fieldCount] : collectedValues;
+                collectedValues[index] = readRepeated(input, fieldDescriptor, (List<Object>) collectedValues[index], isPacked);
+            } else if (fieldDescriptor.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                collectedValues = collectedValues == null ? new Object[fieldCount] : collectedValues;
+                collectedValues[index] = readMessage(input, fieldDescriptor, (DynamicMessage) collectedValues[index]);
+            } else if (isInternal && fieldDescriptor.getType() == FieldDescriptor.Type.STRING) {
+                values[index] = StringData.fromBytes(input.readByteArray());
+            } else {
+                Object value = readScalar(input, fieldDescriptor);
+                if (value != null) {
+                    values[index] = toValue(index, plan.getTypeHandler(index).transformFromProto(value), isInternal);
+                }
+            }
+        }
+        input.checkLastTagWas(0);
+        if (onlyPosition >= 0) {
+            fillRemainingFields(values, collectedValues, isInternal, onlyPosition, onlyPosition + 1);
+        } else {
+            fillRemainingFields(values, collectedValues, isInternal, 0, fieldCount);
+        }
+        return values;
+    }
+
+    private void fillRemainingFields(Object[] values, Object[] collectedValues, boolean isInternal, int fromPosition, int toPosition) {
+        for (int index = fromPosition; index < toPosition; index++) {
+            if (!plan.isProjected(index) || values[index] != null) {
+                continue;
+            }
+            if (scalarDefaults[index] != null) {
+                values[index] = isInternal ? internalScalarDefaults[index] : scalarDefaults[index];
+                continue;
+            }
+            Object rawValue = collectedValues != null ? collectedValues[index] : null;
+            if (rawValue == null) {
+                rawValue = plan.getFieldDescriptor(index).isRepeated() ? Collections.emptyList() : messageDefaults[index];
+            }
+            values[index] = toValue(index, plan.getTypeHandler(index).transformFromProto(rawValue), isInternal);
+        }
+    }
+
+    private Object toValue(int index, Object value, boolean isInternal) {
+        return isInternal ? internalRowConverter.toInternal(index, value) : value;
+    }
+
+    private void clearOtherOneofFields(Object[] values, Object[] collectedValues, FieldDescriptor fieldDescriptor) {
+        for (FieldDescriptor oneofField : fieldDescriptor.getContainingOneof().getFields()) {
+            int position = plan.getPosition(oneofField);
+            if (oneofField != fieldDescriptor && position >= 0) {
+                values[position] = null;
+                if (collectedValues != null) {
+                    collectedValues[position] = null;
+                }
+            }
+        }
+    }
+
+    private List<Object> readRepeated(CodedInputStream input, FieldDescriptor fieldDescriptor, List<Object> values, boolean isPacked) throws IOException {
+        List<Object> repeatedValues = values == null ? new ArrayList<>() : values;
+        if (fieldDescriptor.getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+            repeatedValues.add(DynamicMessage.parseFrom(fieldDescriptor.getMessageType(), input.readBytes()));
+            return repeatedValues;
+        }
+        if (!isPacked) {
+            addIfPresent(repeatedValues, readScalar(input, fieldDescriptor));
+            return repeatedValues;
+        }
+        int oldLimit = input.pushLimit(input.readRawVarint32());
+        while (input.getBytesUntilLimit() > 0) {
+            addIfPresent(repeatedValues, readScalar(input, fieldDescriptor));
+        }
+        input.popLimit(oldLimit);
+        return repeatedValues;
+    }
+
+    private void addIfPresent(List<Object> values, Object value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    private DynamicMessage readMessage(CodedInputStream input, FieldDescriptor fieldDescriptor, DynamicMessage previousValue) throws IOException {
+        if (previousValue == null) {
+            return DynamicMessage.parseFrom(fieldDescriptor.getMessageType(), input.readBytes());
+        }
+        return previousValue.toBuilder().mergeFrom(input.readBytes()).build();
+    }
+
+    private Object readScalar(CodedInputStream input, FieldDescriptor fieldDescriptor) throws IOException {
+        switch (fieldDescriptor.getType()) {
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case INT64:
+                return input.readInt64();
+            case UINT64:
+                return input.readUInt64();
+            case INT32:
+                return input.readInt32();
+            case FIXED64:
+                return input.readFixed64();
+            case FIXED32:
+                return input.readFixed32();
+            case BOOL:
+                return input.readBool();
+            case STRING:
+                return input.readString();
+            case BYTES:
+                return input.readBytes();
+            case UINT32:
+                return input.readUInt32();
+            case SFIXED32:
+                return input.readSFixed32();
+            case SFIXED64:
+                return input.readSFixed64();
+            case SINT32:
+                return input.readSInt32();
+            case SINT64:
+                return input.readSInt64();
+            case ENUM:
+                /* enum values unknown to the descriptor are dropped, the field then falls back to its default */
+                return fieldDescriptor.getEnumType().findValueByNumber(input.readEnum());
+            default:
+                throw new DataTypeNotSupportedException("Data type " + fieldDescriptor.getType() + " of field " + fieldDescriptor.getFullName() + " not supported in streaming deserialization");
+        }
+    }
+
+    private int getFieldIndex(int fieldNumber) {
+        if (fieldIndexByNumber != null) {
+            return fieldNumber < fieldIndexByNumber.length ? fieldIndexByNumber[fieldNumber] : -1;
+        }
+        FieldDescriptor fieldDescriptor = plan.getDescriptor().findFieldByNumber(fieldNumber);
+        int position = fieldDescriptor == null ? -1 : plan.getPosition(fieldDescriptor);
+        return position < 0 || !plan.isProjected(position) ? -1 : position;
+    }
+
+    private int[] buildFieldIndexLookup(int maxFieldNumber) {
+        int[] lookup = new int[maxFieldNumber + 1];
+        Arrays.fill(lookup, -1);
+        for (int index = 0; index < plan.getFieldCount(); index++) {
+            if (plan.isProjected(index)) {
+                lookup[plan.getFieldDescriptor(index).getNumber()] = index;
+            }
+        }
+        return lookup;
+    }
+}
@@ -0,0 +1,461 @@
+package io.odpf.dagger.common.serde.proto.serialization;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import com.google.protobuf.UninitializedMessageException;
+import com.google.protobuf.WireFormat;
+import io.odpf.dagger.common.exceptions.serde.DaggerSerializationException;
+import io.odpf.dagger.common.exceptions.serde.InvalidColumnMappingException;
+import io.odpf.dagger.common.serde.proto.serialization.ProtoSerializationPlan.ColumnMapping;
+import io.odpf.dagger.common.serde.proto.serialization.ProtoSerializationPlan.NestedField;
+import io.odpf.dagger.common.serde.typehandler.PrimitiveTypeHandler;
+import org.apache.flink.types.Row;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes a row straight into the protobuf wire format using a {@link ProtoSerializationPlan}.
+ * The serialized size is computed from the row first, so the fields are written once into the
+ * final byte array with a {@link CodedOutputStream} instead of building and copying a DynamicMessage.
+ * Singular scalar columns are written directly, every other column goes through its type handler
+ * into a builder of its own field which is written in place. The fields of every message are written in
+ * field number order, so the output is byte for byte the same as {@link DynamicMessage#toByteArray()}.
+ * Rows the plan can not write directly (a column replacing a nested message populated by other columns)
+ * fall back to {@link ProtoSerializationPlan#serialize(Row)}.
+ */
+class CodedRowWriter {
+    private static final int ROOT_NODE = 0;
+    private final ProtoSerializationPlan plan;
+    private final boolean directWriteSupported;
+    private final boolean requiredFieldsChecked;
+    private final int[] columnSlots;
+    private final FieldDescriptor[] slotFields;
+    private final boolean[] slotsWrittenDirectly;
+    /* the slots and child nodes of every node in field number order, child nodes encoded as ~node */
+    private final int[][] nodeEntries;
+    private final FieldDescriptor[] nodeFields;
+    private final String[] nodePaths;
+    private final FieldDescriptor[][] nodeRequiredFields;
+    private final int[][] nodeRequiredSlots;
+    private final ThreadLocal<WriteState> writeStates;
+
+    /**
+     * Instantiates a new Coded row writer.
+     *
+     * @param plan the proto serialization plan
+     */
+    CodedRowWriter(ProtoSerializationPlan plan) {
+        this.plan = plan;
+        ColumnMapping[] columnMappings = plan.getColumnMappings();
+        NestedField[] nestedFields = plan.getNestedFields();
+        int nodeCount = nestedFields.length + 1;
+        Descriptors.Descriptor[] nodeDescriptors = new Descriptors.Descriptor[nodeCount];
+        this.nodeFields = new FieldDescriptor[nodeCount];
+        this.nodePaths = new String[nodeCount];
+        nodeDescriptors[ROOT_NODE] = plan.getDescriptor();
+        nodePaths[ROOT_NODE] = "";
+        List<List<Integer>> entriesByNode = new ArrayList<>();
+        entriesByNode.add(new ArrayList<>());
+        for (int index = 0; index < nestedFields.length; index++) {
+            int parentNode = nestedFields[index].parentIndex + 1;
+            nodeFields[index + 1] = nestedFields[index].fieldDescriptor;
+            nodeDescriptors[index + 1] = nestedFields[index].fieldDescriptor.getMessageType();
+            nodePaths[index + 1] = nodePaths[parentNode] + nestedFields[index].fieldDescriptor.getName() + ".";
+            entriesByNode.add(new ArrayList<>());
+            entriesByNode.get(parentNode).add(~(index + 1));
+        }
+
+        boolean supported = true;
+        this.columnSlots = new int[columnMappings.length];
+        List<FieldDescriptor> slots = new ArrayList<>();
+        List<Boolean> slotsDirect = new ArrayList<>();
+        List<Map<Integer, Integer>> slotByFieldNumber = new ArrayList<>();
+        for (int node = 0; node < nodeCount; node++) {
+            slotByFieldNumber.add(new HashMap<>());
+        }
+        for (int column = 0; column < columnMappings.length; column++) {
+            ColumnMapping columnMapping = columnMappings[column];
+            columnSlots[column] = -1;
+            if (columnMapping == null) {
+                continue;
+            }
+            if (columnMapping.mappingError != null || columnMapping.overriddenNestedFieldIndex >= 0) {
+                supported = false;
+                continue;
+            }
+            int node = columnMapping.nestedFieldIndex + 1;
+            FieldDescriptor fieldDescriptor = columnMapping.fieldDescriptor;
+            Integer slot = slotByFieldNumber.get(node).get(fieldDescriptor.getNumber());
+            if (slot == null) {
+                slot = slots.size();
+                slots.add(fieldDescriptor);
+                slotsDirect.add(isWrittenDirectly(columnMapping));
+                entriesByNode.get(node).add(slot);
+                slotByFieldNumber.get(node).put(fieldDescriptor.getNumber(), slot);
+            }
+            columnSlots[column] = slot;
+        }
+        this.directWriteSupported = supported;
+        this.slotFields = slots.toArray(new FieldDescriptor[0]);
+        this.slotsWrittenDirectly = new boolean[slotFields.length];
+        for (int slot = 0; slot < slotFields.length; slot++) {
+            slotsWrittenDirectly[slot] = slotsDirect.get(slot);
+        }
+        this.nodeEntries = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            entriesByNode.get(node).sort(Comparator.comparingInt(this::getEntryFieldNumber));
+            nodeEntries[node] = entriesByNode.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        this.requiredFieldsChecked = hasRequiredFields(plan.getDescriptor(), new HashSet<>());
+        this.nodeRequiredFields = new FieldDescriptor[nodeCount][];
+        this.nodeRequiredSlots = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            List<FieldDescriptor> requiredFields = new ArrayList<>();
+            List<Integer> requiredSlots = new ArrayList<>();
+            for (FieldDescriptor fieldDescriptor : nodeDescriptors[node].getFields()) {
+                if (fieldDescriptor.isRequired() && !isChildNode(node, fieldDescriptor)) {
+                    requiredFields.add(fieldDescriptor);
+                    requiredSlots.add(slotByFieldNumber.get(node).getOrDefault(fieldDescriptor.getNumber(), -1));
+                }
+            }
+            nodeRequiredFields[node] = requiredFields.toArray(new FieldDescriptor[0]);
+            nodeRequiredSlots[node] = requiredSlots.stream().mapToInt(Integer::intValue).toArray();
+        }
+        this.writeStates = ThreadLocal.withInitial(() -> new WriteState(slotFields.length, nodeCount));
+    }
+
+    /**
+     * Check if this writer was built for the given serialization plan.
+     *
+     * @param otherPlan the proto serialization plan
+     * @return true if the writer uses the plan
+     */
+    boolean isBuiltFor(ProtoSerializationPlan otherPlan) {
+        return plan == otherPlan;
+    }
+
+    /**
+     * Serialize the row into the bytes of the proto message.
+     *
+     * @param row the row
+     * @return the serialized message
+     */
+    byte[] write(Row row) {
+        if (!directWriteSupported || row.getArity() != columnSlots.length) {
+            return plan.serialize(row).toByteArray();
+        }
+        WriteState state = writeStates.get();
+        state.reset();
+        ColumnMapping[] columnMappings = plan.getColumnMappings();
+        for (int column = 0; column < columnSlots.length; column++) {
+            ColumnMapping columnMapping = columnMappings[column];
+            Object data = row.getField(column);
+            int slot = columnSlots[column];
+            if (columnMapping == null || data == null) {
+                continue;
+            }
+            if (slotsWrittenDirectly[slot]) {
+                state.slotValues[slot] = toScalarValue(columnMapping, data);
+            } else {
+                ProtoSerializationPlan.populateBuilder(state.getSlotBuilder(slot, slotFields[slot]), columnMapping, data);
+            }
+        }
+        computeSizes(state);
+        if (requiredFieldsChecked) {
+            checkInitialized(state);
+        }
+        byte[] message = new byte[state.nodeSizes[ROOT_NODE]];
+        CodedOutputStream output = CodedOutputStream.newInstance(message);
+        try {
+            writeNode(output, state, ROOT_NODE);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new DaggerSerializationException(e.getMessage());
+        }
+        return message;
+    }
+
+    private int getEntryFieldNumber(int entry) {
+        return entry < 0 ? nodeFields[~entry].getNumber() : slotFields[entry].getNumber();
+    }
+
+    private boolean isChildNode(int node, FieldDescriptor fieldDescriptor) {
+        for (int entry : nodeEntries[node]) {
+            if (entry < 0 && nodeFields[~entry] == fieldDescriptor) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWrittenDirectly(ColumnMapping columnMapping) {
+        FieldDescriptor fieldDescriptor = columnMapping.fieldDescriptor;
+        return columnMapping.typeHandler instanceof PrimitiveTypeHandler
+                && !fieldDescriptor.isRepeated()
+                && fieldDescriptor.getContainingOneof() == null;
+    }
+
+    private static boolean hasRequiredFields(Descriptors.Descriptor descriptor, Set<Descriptors.Descriptor> visitedDescriptors) {
+        if (!visitedDescriptors.add(descriptor)) {
+            return false;
+        }
+        for (FieldDescriptor fieldDescriptor : descriptor.getFields()) {
+            if (fieldDescriptor.isRequired()) {
+                return true;
+            }
+            if (fieldDescriptor.getJavaType() == FieldDescriptor.JavaType.MESSAGE && hasRequiredFields(fieldDescriptor.getMessageType(), visitedDescriptors)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Object toScalarValue(ColumnMapping columnMapping, Object data) {
+        FieldDescriptor fieldDescriptor = columnMapping.fieldDescriptor;
+        Object value = columnMapping.typeHandler.transformFromPostProcessor(data);
+        if (!isOfJavaType(fieldDescriptor.getJavaType(), value)) {
+            String errMessage = String.format("column invalid: type mismatch of column %s, expecting %s type. Actual type %s", fieldDescriptor.getName(), fieldDescriptor.getType(), data.getClass());
+            throw new InvalidColumnMappingException(errMessage, new IllegalArgumentException("Wrong object type used with protocol message reflection."));
+        }
+        if (isImplicitDefault(fieldDescriptor, value)) {
+            return null;
+        }
+        return value;
+    }
+
+    private static boolean isOfJavaType(FieldDescriptor.JavaType javaType, Object value) {
+        switch (javaType) {
+            case INT:
+                return value instanceof Integer;
+            case LONG:
+                return value instanceof Long;
+            case FLOAT:
+                return value instanceof Float;
+            case DOUBLE:
+                return value instanceof Double;
+            case BOOLEAN:
+                return value instanceof Boolean;
+            case STRING:
+                return value instanceof String;
+            case BYTE_STRING:
+                return value instanceof ByteString;
+            default:
+                return false;
+        }
+    }
+
+    /* proto3 scalars without presence are not written when they hold their default value */
+    private static boolean isImplicitDefault(FieldDescriptor fieldDescriptor, Object value) {
+        return fieldDescriptor.getFile().getSyntax() == Descriptors.FileDescriptor.Syntax.PROTO3
+                && value.equals(fieldDescriptor.getDefaultValue());
+    }
+
+    private void computeSizes(WriteState state) {
+        for (int node = nodeEntries.length - 1; node >= 0; node--) {
+            int size = 0;
+            for (int entry : nodeEntries[node]) {
+                if (entry < 0) {
+                    int childSize = state.nodeSizes[~entry];
+                    size += CodedOutputStream.computeTagSize(nodeFields[~entry].getNumber())
+                            + CodedOutputStream.computeUInt32SizeNoTag(childSize)
+                            + childSize;
+                } else if (state.slotValues[entry] != null) {
+                    size += computeScalarSize(slotFields[entry], state.slotValues[entry]);
+                } else if (state.slotBuilders[entry] != null) {
+                    /* required fields are checked across the whole message, not per field */
+                    state.slotMessages[entry] = state.slotBuilders[entry].buildPartial();
+                    size += state.slotMessages[entry].getSerializedSize();
+                }
+            }
+            state.nodeSizes[node] = size;
+        }
+    }
+
+    /* the same check DynamicMessage.Builder#build() does on the messages built by the serialization plan */
+    private void checkInitialized(WriteState state) {
+        List<String> missingFields = new ArrayList<>();
+        for (int node = 0; node < nodeEntries.length; node++) {
+            for (int index = 0; index < nodeRequiredFields[node].length; index++) {
+                if (!isPresent(state, nodeRequiredSlots[node][index])) {
+                    missingFields.add(nodePaths[node] + nodeRequiredFields[node][index].getName());
+                }
+            }
+            for (int entry : nodeEntries[node]) {
+                if (entry >= 0 && state.slotMessages[entry] != null && slotFields[entry].getJavaType() == FieldDescriptor.JavaType.MESSAGE) {
+                    addInitializationErrors(missingFields, nodePaths[node], state.slotMessages[entry], slotFields[entry]);
+                }
+            }
+        }
+        if (!missingFields.isEmpty()) {
+            throw new UninitializedMessageException(missingFields);
+        }
+    }
+
+    private boolean isPresent(WriteState state, int slot) {
+        if (slot < 0) {
+            return false;
+        }
+        return state.slotValues[slot] != null
+                || (state.slotMessages[slot] != null && state.slotMessages[slot].hasField(slotFields[slot]));
+    }
+
+    private static void addInitializationErrors(List<String> missingFields, String path, DynamicMessage message, FieldDescriptor fieldDescriptor) {
+        if (fieldDescriptor.isRepeated()) {
+            for (int index = 0; index < message.getRepeatedFieldCount(fieldDescriptor); index++) {
+                String elementPath = path + fieldDescriptor.getName() + "[" + index + "].";
+                ((Message) message.getRepeatedField(fieldDescriptor, index)).findInitializationErrors()
+                        .forEach(missingField -> missingFields.add(elementPath + missingField));
+            }
+        } else if (message.hasField(fieldDescriptor)) {
+            String fieldPath = path + fieldDescriptor.getName() + ".";
+            ((Message) message.getField(fieldDescriptor)).findInitializationErrors()
+                    .forEach(missingField -> missingFields.add(fieldPath + missingField));
+        }
+    }
+
+    private void writeNode(CodedOutputStream output, WriteState state, int node) throws IOException {
+        for (int entry : nodeEntries[node]) {
+            if (entry < 0) {
+                output.writeTag(nodeFields[~entry].getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
+                output.writeUInt32NoTag(state.nodeSizes[~entry]);
+                writeNode(output, state, ~entry);
+            } else if (state.slotValues[entry] != null) {
+                writeScalar(output, slotFields[entry], state.slotValues[entry]);
+            } else if (state.slotMessages[entry] != null) {
+                state.slotMessages[entry].writeTo(output);
+            }
+        }
+    }
+
+    private static int computeScalarSize(FieldDescriptor fieldDescriptor, Object value) {
+        int number = fieldDescriptor.getNumber();
+        switch (fieldDescriptor.getType()) {
+            case DOUBLE:
+                return CodedOutputStream.computeDoubleSize(number, (Double) value);
+            case FLOAT:
+                return CodedOutputStream.computeFloatSize(number, (Float) value);
+            case INT64:
+                return CodedOutputStream.computeInt64Size(number, (Long) value);
+            case UINT64:
+                return CodedOutputStream.computeUInt64Size(number, (Long) value);
+            case INT32:
+                return CodedOutputStream.computeInt32Size(number, (Integer) value);
+            case FIXED64:
+                return CodedOutputStream.computeFixed64Size(number, (Long) value);
+            case FIXED32:
+                return CodedOutputStream.computeFixed32Size(number, (Integer) value);
+            case BOOL:
+                return CodedOutputStream.computeBoolSize(number, (Boolean) value);
+            case STRING:
+                return CodedOutputStream.computeStringSize(number, (String) value);
+            case BYTES:
+                return CodedOutputStream.computeBytesSize(number, (ByteString) value);
+            case UINT32:
+                return CodedOutputStream.computeUInt32Size(number, (Integer) value);
+            case SFIXED32:
+                return CodedOutputStream.computeSFixed32Size(number, (Integer) value);
+            case SFIXED64:
+                return CodedOutputStream.computeSFixed64Size(number, (Long) value);
+            case SINT32:
+                return CodedOutputStream.computeSInt32Size(number, (Integer) value);
+            case SINT64:
+                return CodedOutputStream.computeSInt64Size(number, (Long) value);
+            default:
+                throw new DaggerSerializationException("Data type " + fieldDescriptor.getType() + " of field " + fieldDescriptor.getFullName() + " not supported in coded serialization");
+        }
+    }
+
+    private static void writeScalar(CodedOutputStream output, FieldDescriptor fieldDescriptor, Object value) throws IOException {
+        int number = fieldDescriptor.getNumber();
+        switch (fieldDescriptor.getType()) {
+            case DOUBLE:
+                output.writeDouble(number, (Double) value);
+                break;
+            case FLOAT:
+                output.writeFloat(number, (Float) value);
+                break;
+            case INT64:
+                output.writeInt64(number, (Long) value);
+                break;
+            case UINT64:
+                output.writeUInt64(number, (Long) value);
+                break;
+            case INT32:
+                output.writeInt32(number, (Integer) value);
+                break;
+            case FIXED64:
+                output.writeFixed64(number, (Long) value);
+                break;
+            case FIXED32:
+                output.writeFixed32(number, (Integer) value);
+                break;
+            case BOOL:
+                output.writeBool(number, (Boolean) value);
+                break;
+            case STRING:
+                output.writeString(number, (String) value);
+                break;
+            case BYTES:
+                output.writeBytes(number, (ByteString) value);
+                break;
+            case UINT32:
+                output.writeUInt32(number, (Integer) value);
+                break;
+            case SFIXED32:
+                output.writeSFixed32(number, (Integer) value);
+                break;
+            case SFIXED64:
+                output.writeSFixed64(number, (Long) value);
+                break;
+            case SINT32:
+                output.writeSInt32(number, (Integer) value);
+                break;
+            case SINT64:
+                output.writeSInt64(number, (Long) value);
+                break;
+            default:
+                throw new DaggerSerializationException("Data type " + fieldDescriptor.getType() + " of field " + fieldDescriptor.getFullName() + " not supported in coded serialization");
+        }
+    }
+
+    /* scratch space reused by every row serialized on the same thread */
+    private static final class WriteState {
+        private final Object[] slotValues;
+        private final DynamicMessage.Builder[] slotBuilders;
+        private final DynamicMessage[] slotMessages;
+        private final int[] nodeSizes;
+
+        private WriteState(int slotCount, int nodeCount) {
+            this.slotValues = new Object[slotCount];
+            this.slotBuilders = new DynamicMessage.Builder[slotCount];
+            this.slotMessages = new DynamicMessage[slotCount];
+            this.nodeSizes = new int[nodeCount];
+        }
+
+        private void reset() {
+            Arrays.fill(slotValues, null);
+            Arrays.fill(slotBuilders, null);
+            Arrays.fill(slotMessages, null);
+        }
+
+        private DynamicMessage.Builder getSlotBuilder(int slot, FieldDescriptor fieldDescriptor) {
+            if (slotBuilders[slot] == null) {
+                slotBuilders[slot] = DynamicMessage.newBuilder(fieldDescriptor.getContainingType());
+            }
+            return slotBuilders[slot];
+        }
+    }
+}
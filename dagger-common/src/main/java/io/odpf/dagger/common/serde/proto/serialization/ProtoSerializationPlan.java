@@ -0,0 +1,227 @@
+package io.odpf.dagger.common.serde.proto.serialization;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import io.odpf.dagger.common.exceptions.serde.InvalidColumnMappingException;
+import io.odpf.dagger.common.serde.typehandler.TypeHandler;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
+import org.apache.flink.types.Row;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A Row to proto serialization plan compiled once for a descriptor version and the output column names.
+ * Column names are resolved into a tree of nested message fields with their field descriptors and type
+ * handlers, so that serializing a row creates every nested message builder once and builds it once.
+ */
+public class ProtoSerializationPlan {
+    private final Descriptors.Descriptor descriptor;
+    private final ColumnMapping[] columnMappings;
+    private final NestedField[] nestedFields;
+
+    private ProtoSerializationPlan(Descriptors.Descriptor descriptor, ColumnMapping[] columnMappings, NestedField[] nestedFields) {
+        this.descriptor = descriptor;
+        this.columnMappings = columnMappings;
+        this.nestedFields = nestedFields;
+    }
+
+    /**
+     * Compile a serialization plan for the column names into the descriptor.
+     *
+     * @param descriptor  the descriptor
+     * @param columnNames the column names, nested fields separated by dots
+     * @return the proto serialization plan
+     */
+    public static ProtoSerializationPlan compile(Descriptors.Descriptor descriptor, String[] columnNames) {
+        List<NestedField> nestedFields = new ArrayList<>();
+        Map<String, Integer> nestedFieldIndexByPath = new HashMap<>();
+        ColumnMapping[] columnMappings = new ColumnMapping[columnNames.length];
+        for (int index = 0; index < columnNames.length; index++) {
+            columnMappings[index] = compileColumn(descriptor, columnNames[index], nestedFields, nestedFieldIndexByPath);
+        }
+        for (int index = 0; index < columnNames.length; index++) {
+            ColumnMapping columnMapping = columnMappings[index];
+            if (columnMapping != null && columnMapping.mappingError == null) {
+                columnMapping.overriddenNestedFieldIndex = nestedFieldIndexByPath.getOrDefault(columnNames[index], -1);
+            }
+        }
+        return new ProtoSerializationPlan(descriptor, columnMappings, nestedFields.toArray(new NestedField[0]));
+    }
+
+    private static ColumnMapping compileColumn(Descriptors.Descriptor descriptor, String columnName, List<NestedField> nestedFields, Map<String, Integer> nestedFieldIndexByPath) {
+        String[] fieldNames = columnName.split("\\.");
+        if (descriptor.findFieldByName(fieldNames[0]) == null) {
+            return null;
+        }
+        Descriptors.Descriptor parentDescriptor = descriptor;
+        int parentIndex = -1;
+        StringBuilder path = new StringBuilder();
+        for (int depth = 0; depth < fieldNames.length - 1; depth++) {
+            FieldDescriptor fieldDescriptor = parentDescriptor.findFieldByName(fieldNames[depth]);
+            if (fieldDescriptor == null) {
+                return ColumnMapping.invalid(String.format("column %s doesn't exists in the proto of %s", fieldNames[depth], parentDescriptor.getFullName()));
+            }
+            if (fieldDescriptor.getJavaType() != FieldDescriptor.JavaType.MESSAGE || fieldDescriptor.isRepeated()) {
+                return ColumnMapping.invalid(String.format("column %s is not a message in the proto of %s", fieldNames[depth], parentDescriptor.getFullName()));
+            }
+            path.append(depth == 0 ? "" : ".").append(fieldNames[depth]);
+            Integer nestedFieldIndex = nestedFieldIndexByPath.get(path.toString());
+            if (nestedFieldIndex == null) {
+                nestedFieldIndex = nestedFields.size();
+                nestedFields.add(new NestedField(parentIndex, fieldDescriptor));
+                nestedFieldIndexByPath.put(path.toString(), nestedFieldIndex);
+            }
+            parentIndex = nestedFieldIndex;
+            parentDescriptor = fieldDescriptor.getMessageType();
+        }
+        FieldDescriptor fieldDescriptor = parentDescriptor.findFieldByName(fieldNames[fieldNames.length - 1]);
+        if (fieldDescriptor == null) {
+            return fieldNames.length == 1 ? null
+                    : ColumnMapping.invalid(String.format("column %s doesn't exists in the proto of %s", fieldNames[fieldNames.length - 1], parentDescriptor.getFullName()));
+        }
+        return new ColumnMapping(parentIndex, fieldDescriptor, TypeHandlerFactory.createTypeHandler(fieldDescriptor));
+    }
+
+    /**
+     * Check if this plan was compiled for the given descriptor instance.
+     *
+     * @param otherDescriptor the descriptor
+     * @return true if the plan can be used to serialize into the descriptor
+     */
+    public boolean isCompiledFor(Descriptors.Descriptor otherDescriptor) {
+        return descriptor == otherDescriptor;
+    }
+
+    /**
+     * Serialize the row into a proto message.
+     *
+     * @param row the row
+     * @return the dynamic message
+     */
+    public DynamicMessage serialize(Row row) {
+        DynamicMessage.Builder rootBuilder = DynamicMessage.newBuilder(descriptor);
+        DynamicMessage.Builder[] nestedBuilders = new DynamicMessage.Builder[nestedFields.length];
+        for (int index = 0; index < row.getArity(); index++) {
+            ColumnMapping columnMapping = columnMappings[index];
+            if (columnMapping == null) {
+                continue;
+            }
+            if (columnMapping.mappingError != null) {
+                throw new InvalidColumnMappingException(columnMapping.mappingError);
+            }
+            DynamicMessage.Builder builder = columnMapping.nestedFieldIndex < 0 ? rootBuilder : getNestedBuilder(rootBuilder, nestedBuilders, columnMapping.nestedFieldIndex);
+            Object data = row.getField(index);
+            if (data == null) {
+                continue;
+            }
+            if (columnMapping.overriddenNestedFieldIndex >= 0) {
+                discardNestedBuilder(nestedBuilders, columnMapping.overriddenNestedFieldIndex);
+            }
+            populateBuilder(builder, columnMapping, data);
+        }
+        for (int index = nestedBuilders.length - 1; index >= 0; index--) {
+            if (nestedBuilders[index] != null) {
+                NestedField nestedField = nestedFields[index];
+                DynamicMessage.Builder parentBuilder = nestedField.parentIndex < 0 ? rootBuilder : nestedBuilders[nestedField.parentIndex];
+                parentBuilder.setField(nestedField.fieldDescriptor, nestedBuilders[index].build());
+            }
+        }
+        return rootBuilder.build();
+    }
+
+    private DynamicMessage.Builder getNestedBuilder(DynamicMessage.Builder rootBuilder, DynamicMessage.Builder[] nestedBuilders, int index) {
+        if (nestedBuilders[index] != null) {
+            return nestedBuilders[index];
+        }
+        NestedField nestedField = nestedFields[index];
+        DynamicMessage.Builder parentBuilder = nestedField.parentIndex < 0 ? rootBuilder : getNestedBuilder(rootBuilder, nestedBuilders, nestedField.parentIndex);
+        DynamicMessage.Builder nestedBuilder = DynamicMessage.newBuilder(nestedField.fieldDescriptor.getMessageType());
+        if (parentBuilder.hasField(nestedField.fieldDescriptor)) {
+            nestedBuilder.mergeFrom((Message) parentBuilder.getField(nestedField.fieldDescriptor));
+        }
+        nestedBuilders[index] = nestedBuilder;
+        return nestedBuilder;
+    }
+
+    /* a column setting a whole nested message replaces whatever its nested columns populated before it */
+    private void discardNestedBuilder(DynamicMessage.Builder[] nestedBuilders, int index) {
+        nestedBuilders[index] = null;
+        for (int descendantIndex = index + 1; descendantIndex < nestedBuilders.length; descendantIndex++) {
+            if (nestedBuilders[descendantIndex] != null && isDescendant(descendantIndex, index)) {
+                nestedBuilders[descendantIndex] = null;
+            }
+        }
+    }
+
+    private boolean isDescendant(int index, int ancestorIndex) {
+        int parentIndex = nestedFields[index].parentIndex;
+        while (parentIndex > ancestorIndex) {
+            parentIndex = nestedFields[parentIndex].parentIndex;
+        }
+        return parentIndex == ancestorIndex;
+    }
+
+    static void populateBuilder(DynamicMessage.Builder builder, ColumnMapping columnMapping, Object data) {
+        FieldDescriptor fieldDescriptor = columnMapping.fieldDescriptor;
+        try {
+            columnMapping.typeHandler.transformToProtoBuilder(builder, data);
+        } catch (IllegalArgumentException e) {
+            String protoType = fieldDescriptor.getType().toString();
+            if (fieldDescriptor.isRepeated()) {
+                protoType = String.format("REPEATED %s", fieldDescriptor.getType());
+            }
+            String errMessage = String.format("column invalid: type mismatch of column %s, expecting %s type. Actual type %s", fieldDescriptor.getName(), protoType, data.getClass());
+            throw new InvalidColumnMappingException(errMessage, e);
+        }
+    }
+
+    Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    ColumnMapping[] getColumnMappings() {
+        return columnMappings;
+    }
+
+    NestedField[] getNestedFields() {
+        return nestedFields;
+    }
+
+    static final class NestedField {
+        final int parentIndex;
+        final FieldDescriptor fieldDescriptor;
+
+        private NestedField(int parentIndex, FieldDescriptor fieldDescriptor) {
+            this.parentIndex = parentIndex;
+            this.fieldDescriptor = fieldDescriptor;
+        }
+    }
+
+    static final class ColumnMapping {
+        final int nestedFieldIndex;
+        final FieldDescriptor fieldDescriptor;
+        final TypeHandler typeHandler;
+        final String mappingError;
+        int overriddenNestedFieldIndex = -1;
+
+        private ColumnMapping(int nestedFieldIndex, FieldDescriptor fieldDescriptor, TypeHandler typeHandler) {
+            this(nestedFieldIndex, fieldDescriptor, typeHandler, null);
+        }
+
+        private ColumnMapping(int nestedFieldIndex, FieldDescriptor fieldDescriptor, TypeHandler typeHandler, String mappingError) {
+            this.nestedFieldIndex = nestedFieldIndex;
+            this.fieldDescriptor = fieldDescriptor;
+            this.typeHandler = typeHandler;
+            this.mappingError = mappingError;
+        }
+
+        private static ColumnMapping invalid(String mappingError) {
+            return new ColumnMapping(-1, null, null, mappingError);
+        }
+    }
+}
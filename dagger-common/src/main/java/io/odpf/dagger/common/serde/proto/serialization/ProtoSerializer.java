@@ -5,18 +5,15 @@ import org.apache.flink.connector.kafka.sink.KafkaRecordSerializationSchema;
 import org.apache.flink.types.Row;
 
 import com.google.protobuf.Descriptors;
-import com.google.protobuf.DynamicMessage;
+import io.odpf.dagger.common.core.DescriptorCache;
+import io.odpf.dagger.common.core.RowSampler;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.common.exceptions.serde.DaggerSerializationException;
-import io.odpf.dagger.common.exceptions.serde.InvalidColumnMappingException;
-import io.odpf.dagger.common.serde.typehandler.TypeHandler;
-import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
 import java.util.Objects;
 
 public class ProtoSerializer implements KafkaRecordSerializationSchema<Row> {
@@ -25,6 +22,13 @@ public class ProtoSerializer implements KafkaRecordSerializationSchema<Row> {
     private String keyProtoClassName;
     private String messageProtoClassName;
     private String outputTopic;
+    private boolean directSerializationEnabled;
+    private RowSampler rowSampler = RowSampler.disabled();
+    private transient DescriptorCache descriptorCache;
+    private transient ProtoSerializationPlan keySerializationPlan;
+    private transient ProtoSerializationPlan messageSerializationPlan;
+    private transient CodedRowWriter keyRowWriter;
+    private transient CodedRowWriter messageRowWriter;
     private static final Logger LOGGER = LoggerFactory.getLogger("KafkaSink");
 
     /**
@@ -59,9 +63,45 @@ public class ProtoSerializer implements KafkaRecordSerializationSchema<Row> {
         this.outputTopic = outputTopic;
     }
 
+    /**
+     * Instantiates a new Proto serializer with specified output topic name, which can write the rows
+     * straight into the serialized bytes instead of building the proto messages first.
+     *
+     * @param keyProtoClassName          the key proto class name
+     * @param messageProtoClassName      the message proto class name
+     * @param columnNames                the column names
+     * @param stencilClientOrchestrator  the stencil client orchestrator
+     * @param outputTopic                the output topic
+     * @param directSerializationEnabled whether rows are written directly with a CodedOutputStream
+     */
+    public ProtoSerializer(String keyProtoClassName, String messageProtoClassName, String[] columnNames, StencilClientOrchestrator stencilClientOrchestrator, String outputTopic, boolean directSerializationEnabled) {
+        this(keyProtoClassName, messageProtoClassName, columnNames, stencilClientOrchestrator, outputTopic);
+        this.directSerializationEnabled = directSerializationEnabled;
+    }
+
+    /**
+     * Instantiates a new Proto serializer with specified output topic name, which logs the rows picked by the row sampler.
+     *
+     * @param keyProtoClassName          the key proto class name
+     * @param messageProtoClassName      the message proto class name
+     * @param columnNames                the column names
+     * @param stencilClientOrchestrator  the stencil client orchestrator
+     * @param outputTopic                the output topic
+     * @param directSerializationEnabled whether rows are written directly with a CodedOutputStream
+     * @param rowSampler                 the sampler of the rows to log
+     */
+    public ProtoSerializer(String keyProtoClassName, String messageProtoClassName, String[] columnNames, StencilClientOrchestrator stencilClientOrchestrator, String outputTopic, boolean directSerializationEnabled, RowSampler rowSampler) {
+        this(keyProtoClassName, messageProtoClassName, columnNames, stencilClientOrchestrator, outputTopic, directSerializationEnabled);
+        this.rowSampler = rowSampler;
+    }
+
     @Override
     public void open(InitializationContext context, KafkaSinkContext sinkContext) throws Exception {
         KafkaRecordSerializationSchema.super.open(context, sinkContext);
+        if (hasKey()) {
+            getKeySerializationPlan();
+        }
+        getMessageSerializationPlan();
     }
 
     @Override
@@ -69,7 +109,7 @@ public class ProtoSerializer implements KafkaRecordSerializationSchema<Row> {
         if (Objects.isNull(outputTopic) || outputTopic.equals("")) {
             throw new DaggerSerializationException("outputTopic is required");
         }
-        LOGGER.info("row to kafka: " + row);
+        rowSampler.log(LOGGER, "row to kafka: ", row);
         byte[] key = serializeKey(row);
         byte[] message = serializeValue(row);
         return new ProducerRecord<>(outputTopic, key, message);
@@ -82,8 +122,17 @@ public class ProtoSerializer implements KafkaRecordSerializationSchema<Row> {
      * @return the byte [ ]
      */
     public byte[] serializeKey(Row row) {
-        return (Objects.isNull(keyProtoClassName) || keyProtoClassName.equals("")) ? null
-                : parse(row, getDescriptor(keyProtoClassName)).toByteArray();
+        if (!hasKey()) {
+            return null;
+        }
+        ProtoSerializationPlan plan = getKeySerializationPlan();
+        if (!directSerializationEnabled) {
+            return plan.serialize(row).toByteArray();
+        }
+        if (keyRowWriter == null || !keyRowWriter.isBuiltFor(plan)) {
+            keyRowWriter = new CodedRowWriter(plan);
+        }
+        return keyRowWriter.write(row);
     }
 
     /**
@@ -93,72 +142,48 @@ public class ProtoSerializer implements KafkaRecordSerializationSchema<Row> {
      * @return the byte [ ]
      */
     public byte[] serializeValue(Row row) {
-        return parse(row, getDescriptor(messageProtoClassName)).toByteArray();
+        ProtoSerializationPlan plan = getMessageSerializationPlan();
+        if (!directSerializationEnabled) {
+            return plan.serialize(row).toByteArray();
+        }
+        if (messageRowWriter == null || !messageRowWriter.isBuiltFor(plan)) {
+            messageRowWriter = new CodedRowWriter(plan);
+        }
+        return messageRowWriter.write(row);
     }
 
-    private DynamicMessage parse(Row element, Descriptors.Descriptor descriptor) {
-        int numberOfElements = element.getArity();
-        DynamicMessage.Builder builder = DynamicMessage.newBuilder(descriptor);
-        for (int index = 0; index < numberOfElements; index++) {
-            String columnName = columnNames[index];
-            Object data = element.getField(index);
-            String[] nestedColumnNames = columnName.split("\\.");
-            if (nestedColumnNames.length > 1) {
-                Descriptors.FieldDescriptor firstField = descriptor.findFieldByName(nestedColumnNames[0]);
-                if (firstField == null) {
-                    continue;
-                }
-                builder = populateNestedBuilder(descriptor, nestedColumnNames, builder, data);
-            } else {
-                Descriptors.FieldDescriptor fieldDescriptor = descriptor.findFieldByName(columnName);
-                builder = populateBuilder(builder, fieldDescriptor, data);
-            }
-        }
-        return builder.build();
+    private boolean hasKey() {
+        return !Objects.isNull(keyProtoClassName) && !keyProtoClassName.equals("");
     }
 
-    private DynamicMessage.Builder populateNestedBuilder(Descriptors.Descriptor parentDescriptor, String[] nestedColumnNames, DynamicMessage.Builder parentBuilder, Object data) {
-        String childColumnName = nestedColumnNames[0];
-        Descriptors.FieldDescriptor childFieldDescriptor = parentDescriptor.findFieldByName(childColumnName);
-        if (childFieldDescriptor == null) {
-            throw new InvalidColumnMappingException(String.format("column %s doesn't exists in the proto of %s", childColumnName, parentDescriptor.getFullName()));
-        }
-        if (nestedColumnNames.length == 1) {
-            return populateBuilder(parentBuilder, childFieldDescriptor, data);
+    private ProtoSerializationPlan getKeySerializationPlan() {
+        Descriptors.Descriptor descriptor = getDescriptor(keyProtoClassName);
+        if (keySerializationPlan == null || !keySerializationPlan.isCompiledFor(descriptor)) {
+            keySerializationPlan = ProtoSerializationPlan.compile(descriptor, columnNames);
         }
-        Descriptors.Descriptor childDescriptor = childFieldDescriptor.getMessageType();
-        DynamicMessage.Builder childBuilder = DynamicMessage.newBuilder(childDescriptor);
-        childBuilder.mergeFrom((DynamicMessage) parentBuilder.build().getField(childFieldDescriptor));
-        parentBuilder.setField(childFieldDescriptor, populateNestedBuilder(childDescriptor, Arrays.copyOfRange(nestedColumnNames, 1, nestedColumnNames.length), childBuilder, data).build());
-        return parentBuilder;
+        return keySerializationPlan;
     }
 
-    private DynamicMessage.Builder populateBuilder(DynamicMessage.Builder builder, Descriptors.FieldDescriptor fieldDescriptor, Object data) {
-        if (fieldDescriptor == null) {
-            return builder;
+    private ProtoSerializationPlan getMessageSerializationPlan() {
+        Descriptors.Descriptor descriptor = getDescriptor(messageProtoClassName);
+        if (messageSerializationPlan == null || !messageSerializationPlan.isCompiledFor(descriptor)) {
+            messageSerializationPlan = ProtoSerializationPlan.compile(descriptor, columnNames);
         }
-        TypeHandler typeHandler = TypeHandlerFactory.getTypeHandler(fieldDescriptor);
-        if (data != null) {
-            try {
-                builder = typeHandler.transformToProtoBuilder(builder, data);
-            } catch (IllegalArgumentException e) {
-                String protoType = fieldDescriptor.getType().toString();
-                if (fieldDescriptor.isRepeated()) {
-                    protoType = String.format("REPEATED %s", fieldDescriptor.getType());
-                }
-                String errMessage = String.format("column invalid: type mismatch of column %s, expecting %s type. Actual type %s", fieldDescriptor.getName(), protoType, data.getClass());
-                throw new InvalidColumnMappingException(errMessage, e);
-            }
-        }
-
-        return builder;
+        return messageSerializationPlan;
     }
 
     private Descriptors.Descriptor getDescriptor(String className) {
-        Descriptors.Descriptor dsc = stencilClientOrchestrator.getStencilClient().get(className);
+        Descriptors.Descriptor dsc = getDescriptorCache().get(className);
         if (dsc == null) {
             throw new DescriptorNotFoundException();
         }
         return dsc;
     }
+
+    private DescriptorCache getDescriptorCache() {
+        if (descriptorCache == null) {
+            descriptorCache = DescriptorCache.of(stencilClientOrchestrator.getStencilClient());
+        }
+        return descriptorCache;
+    }
 }
@@ -0,0 +1,233 @@
+package io.odpf.dagger.common.serde.typehandler;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.DynamicMessage;
+import io.odpf.dagger.common.serde.FieldProjection;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * A row decoding plan compiled once for a specific descriptor version.
+ * Holds the field descriptors and their resolved type handlers in row position order,
+ * so that records can be converted into rows without per-field handler lookups.
+ * Fields outside the plan's {@link FieldProjection} have no type handler and are left null.
+ * <p>
+ * Row positions follow the fields of the row type the plan decodes into. A plan recompiled for a refreshed
+ * descriptor keeps that row type: fields added to the descriptor are skipped, and removed fields are left null.
+ * If the refresh changed the type of a field, the plan keeps decoding with the descriptor it was compiled for.
+ */
+public class RowDecodingPlan {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RowDecodingPlan.class);
+    private final Descriptors.Descriptor descriptor;
+    private final Descriptors.Descriptor compiledFor;
+    private final FieldProjection fieldProjection;
+    private final String[] fieldNames;
+    private final TypeInformation<?>[] fieldTypes;
+    private final FieldDescriptor[] fieldDescriptors;
+    private final TypeHandler[] typeHandlers;
+    private final int[] positionsByFieldIndex;
+
+    private RowDecodingPlan(Descriptors.Descriptor descriptor, Descriptors.Descriptor compiledFor, FieldProjection fieldProjection,
+                            String[] fieldNames, TypeInformation<?>[] fieldTypes, FieldDescriptor[] fieldDescriptors,
+                            TypeHandler[] typeHandlers, int[] positionsByFieldIndex) {
+        this.descriptor = descriptor;
+        this.compiledFor = compiledFor;
+        this.fieldProjection = fieldProjection;
+        this.fieldNames = fieldNames;
+        this.fieldTypes = fieldTypes;
+        this.fieldDescriptors = fieldDescriptors;
+        this.typeHandlers = typeHandlers;
+        this.positionsByFieldIndex = positionsByFieldIndex;
+    }
+
+    /**
+     * Compile a row decoding plan for the descriptor.
+     *
+     * @param descriptor the descriptor
+     * @return the row decoding plan
+     */
+    public static RowDecodingPlan compile(Descriptors.Descriptor descriptor) {
+        return compile(descriptor, FieldProjection.all());
+    }
+
+    /**
+     * Compile a row decoding plan for the projected fields of the descriptor.
+     *
+     * @param descriptor      the descriptor
+     * @param fieldProjection the fields to decode
+     * @return the row decoding plan
+     */
+    public static RowDecodingPlan compile(Descriptors.Descriptor descriptor, FieldProjection fieldProjection) {
+        return compile(descriptor, fieldProjection, (RowTypeInfo) TypeInformationFactory.getRowType(descriptor), 0);
+    }
+
+    /**
+     * Compile a row decoding plan for the projected fields of the descriptor, decoding into the given row type.
+     * Fields are placed by name, fields of the descriptor which are not in the row type are skipped.
+     *
+     * @param descriptor      the descriptor
+     * @param fieldProjection the fields to decode
+     * @param rowType         the row type to decode into
+     * @param extraColumns    the number of trailing columns of the row type which are not decoded from the message
+     * @return the row decoding plan
+     */
+    public static RowDecodingPlan compile(Descriptors.Descriptor descriptor, FieldProjection fieldProjection, RowTypeInfo rowType, int extraColumns) {
+        int fieldCount = rowType.getArity() - extraColumns;
+        String[] fieldNames = Arrays.copyOf(rowType.getFieldNames(), fieldCount);
+        TypeInformation<?>[] fieldTypes = new TypeInformation<?>[fieldCount];
+        for (int position = 0; position < fieldCount; position++) {
+            fieldTypes[position] = rowType.getTypeAt(position);
+        }
+        return compile(descriptor, descriptor, fieldProjection, fieldNames, fieldTypes);
+    }
+
+    private static RowDecodingPlan compile(Descriptors.Descriptor descriptor, Descriptors.Descriptor compiledFor, FieldProjection fieldProjection,
+                                           String[] fieldNames, TypeInformation<?>[] fieldTypes) {
+        FieldDescriptor[] fieldDescriptors = new FieldDescriptor[fieldNames.length];
+        TypeHandler[] typeHandlers = new TypeHandler[fieldNames.length];
+        int[] positionsByFieldIndex = new int[descriptor.getFields().size()];
+        Arrays.fill(positionsByFieldIndex, -1);
+        for (int position = 0; position < fieldNames.length; position++) {
+            FieldDescriptor fieldDescriptor = descriptor.findFieldByName(fieldNames[position]);
+            if (fieldDescriptor == null) {
+                continue;
+            }
+            fieldDescriptors[position] = fieldDescriptor;
+            positionsByFieldIndex[fieldDescriptor.getIndex()] = position;
+            if (fieldProjection.contains(fieldDescriptor.getName())) {
+                typeHandlers[position] = TypeHandlerFactory.createTypeHandler(fieldDescriptor);
+            }
+        }
+        return new RowDecodingPlan(descriptor, compiledFor, fieldProjection, fieldNames, fieldTypes, fieldDescriptors, typeHandlers, positionsByFieldIndex);
+    }
+
+    /**
+     * Compile the plan for a refreshed version of its descriptor, decoding into the same row type.
+     * If the refreshed descriptor changed the type of any field of the row, the returned plan keeps decoding
+     * records with the descriptor of this plan, which is compatible on the wire.
+     *
+     * @param refreshedDescriptor the refreshed descriptor
+     * @return the row decoding plan for the refreshed descriptor
+     */
+    public RowDecodingPlan recompileFor(Descriptors.Descriptor refreshedDescriptor) {
+        for (int position = 0; position < fieldNames.length; position++) {
+            FieldDescriptor fieldDescriptor = refreshedDescriptor.findFieldByName(fieldNames[position]);
+            if (fieldDescriptor != null && !TypeHandlerFactory.createTypeHandler(fieldDescriptor).getTypeInformation().equals(fieldTypes[position])) {
+                LOGGER.warn("Type of field {} changed in the refreshed descriptor of {}, decoding with the previous descriptor",
+                        fieldNames[position], refreshedDescriptor.getFullName());
+                return new RowDecodingPlan(descriptor, refreshedDescriptor, fieldProjection, fieldNames, fieldTypes, fieldDescriptors,
+                        typeHandlers, positionsByFieldIndex);
+            }
+        }
+        return compile(refreshedDescriptor, refreshedDescriptor, fieldProjection, fieldNames, fieldTypes);
+    }
+
+    /**
+     * Check if this plan was compiled for the given descriptor instance.
+     *
+     * @param otherDescriptor the descriptor
+     * @return true if the plan can be used to decode records of the descriptor
+     */
+    public boolean isCompiledFor(Descriptors.Descriptor otherDescriptor) {
+        return compiledFor == otherDescriptor;
+    }
+
+    /**
+     * Gets the descriptor the plan decodes records with.
+     *
+     * @return the descriptor
+     */
+    public Descriptors.Descriptor getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * Gets the row position of a field of the descriptor the plan decodes records with.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @return the row position, or -1 if the field is not in the row
+     */
+    public int getPosition(FieldDescriptor fieldDescriptor) {
+        return fieldDescriptor.getContainingType() == descriptor ? positionsByFieldIndex[fieldDescriptor.getIndex()] : -1;
+    }
+
+    /**
+     * Gets the number of fields decoded by the plan.
+     *
+     * @return the field count
+     */
+    public int getFieldCount() {
+        return fieldDescriptors.length;
+    }
+
+    /**
+     * Gets the field descriptor at the given row position.
+     *
+     * @param index the row position
+     * @return the field descriptor, or null if the descriptor has no field of that name
+     */
+    public FieldDescriptor getFieldDescriptor(int index) {
+        return fieldDescriptors[index];
+    }
+
+    /**
+     * Check if the field at the given row position gets decoded.
+     *
+     * @param index the row position
+     * @return the boolean
+     */
+    public boolean isProjected(int index) {
+        return typeHandlers[index] != null;
+    }
+
+    /**
+     * Gets the type handler at the given row position.
+     *
+     * @param index the row position
+     * @return the type handler, or null if the field is not projected
+     */
+    public TypeHandler getTypeHandler(int index) {
+        return typeHandlers[index];
+    }
+
+    /**
+     * Create row from the proto and extra columns.
+     *
+     * @param proto        the proto
+     * @param extraColumns the extra columns
+     * @return the row
+     */
+    public Row createRow(DynamicMessage proto, int extraColumns) {
+        Row row = new Row(fieldDescriptors.length + extraColumns);
+        for (int index = 0; index < fieldDescriptors.length; index++) {
+            if (typeHandlers[index] != null) {
+                row.setField(index, typeHandlers[index].transformFromProto(proto.getField(fieldDescriptors[index])));
+            }
+        }
+        return row;
+    }
+
+    /**
+     * Create row from the SimpleGroup and extra columns.
+     *
+     * @param simpleGroup  the simple group
+     * @param extraColumns the extra columns
+     * @return the row
+     */
+    public Row createRow(SimpleGroup simpleGroup, int extraColumns) {
+        Row row = new Row(fieldDescriptors.length + extraColumns);
+        for (int index = 0; index < fieldDescriptors.length; index++) {
+            if (typeHandlers[index] != null) {
+                row.setField(index, typeHandlers[index].transformFromParquet(simpleGroup));
+            }
+        }
+        return row;
+    }
+}
@@ -15,12 +15,24 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * The factory class for Type handler.
  */
 public class TypeHandlerFactory {
     private static Map<String, TypeHandler> typeHandlerMap = new ConcurrentHashMap<>();
+    private static final List<Function<Descriptors.FieldDescriptor, TypeHandler>> SPECIFIC_HANDLERS = Arrays.asList(
+            MapHandler::new,
+            TimestampHandler::new,
+            EnumHandler::new,
+            StructMessageHandler::new,
+            RepeatedStructMessageHandler::new,
+            RepeatedPrimitiveHandler::new,
+            RepeatedMessageHandler::new,
+            RepeatedEnumHandler::new,
+            MessageHandler::new
+    );
 
     /**
      * Gets type handler.
@@ -29,29 +41,28 @@ public class TypeHandlerFactory {
      * @return the type handler
      */
     public static TypeHandler getTypeHandler(final Descriptors.FieldDescriptor fieldDescriptor) {
-        return typeHandlerMap.computeIfAbsent(fieldDescriptor.getFullName(),
-                k -> getSpecificHandlers(fieldDescriptor).stream().filter(TypeHandler::canHandle)
-                        .findFirst().orElseGet(() -> new PrimitiveTypeHandler(fieldDescriptor)));
+        return typeHandlerMap.computeIfAbsent(fieldDescriptor.getFullName(), k -> createTypeHandler(fieldDescriptor));
     }
 
     /**
-     * Clear type handler map.
+     * Creates a new type handler bound to the given field descriptor, bypassing the shared cache.
+     * Candidate handlers are instantiated lazily, so only the handlers up to the first match are built.
+     *
+     * @param fieldDescriptor the field descriptor
+     * @return the type handler
      */
-    protected static void clearTypeHandlerMap() {
-        typeHandlerMap.clear();
+    public static TypeHandler createTypeHandler(final Descriptors.FieldDescriptor fieldDescriptor) {
+        return SPECIFIC_HANDLERS.stream()
+                .map(handlerConstructor -> handlerConstructor.apply(fieldDescriptor))
+                .filter(TypeHandler::canHandle)
+                .findFirst()
+                .orElseGet(() -> new PrimitiveTypeHandler(fieldDescriptor));
     }
 
-    private static List<TypeHandler> getSpecificHandlers(Descriptors.FieldDescriptor fieldDescriptor) {
-        return Arrays.asList(
-                new MapHandler(fieldDescriptor),
-                new TimestampHandler(fieldDescriptor),
-                new EnumHandler(fieldDescriptor),
-                new StructMessageHandler(fieldDescriptor),
-                new RepeatedStructMessageHandler(fieldDescriptor),
-                new RepeatedPrimitiveHandler(fieldDescriptor),
-                new RepeatedMessageHandler(fieldDescriptor),
-                new RepeatedEnumHandler(fieldDescriptor),
-                new MessageHandler(fieldDescriptor)
-        );
+    /**
+     * Clear type handler map, e.g. once new descriptor versions are loaded.
+     */
+    public static void clearTypeHandlerMap() {
+        typeHandlerMap.clear();
     }
 }
@@ -0,0 +1,25 @@
+package io.odpf.dagger.common.watermark;
+
+import org.apache.flink.api.common.eventtime.SerializableTimestampAssigner;
+import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.table.data.RowData;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Watermark strategy on the last column of internal rows, the counterpart of {@link LastColumnWatermark}
+ * for sources producing {@link RowData}.
+ */
+public class LastColumnRowDataWatermark implements Serializable {
+    private static final int ROWTIME_PRECISION = 3;
+
+    public WatermarkStrategy<RowData> getWatermarkStrategy(long waterMarkDelayInMs) {
+        return WatermarkStrategy.
+                <RowData>forBoundedOutOfOrderness(Duration.ofMillis(waterMarkDelayInMs))
+                .withTimestampAssigner((SerializableTimestampAssigner<RowData>) (element, recordTimestamp) -> {
+                    int index = element.getArity() - 1;
+                    return element.getTimestamp(index, ROWTIME_PRECISION).getMillisecond();
+                });
+    }
+}
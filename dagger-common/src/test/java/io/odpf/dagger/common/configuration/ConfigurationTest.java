@@ -50,4 +50,11 @@ public class ConfigurationTest {
 
         assertEquals(Long.valueOf(2), configuration.getLong("test_config", 1L));
     }
+
+    @Test
+    public void shouldGetDoubleFromParamTool() {
+        when(parameterTool.getDouble("test_config", 1D)).thenReturn(0.5D);
+
+        assertEquals(Double.valueOf(0.5D), configuration.getDouble("test_config", 1D));
+    }
 }
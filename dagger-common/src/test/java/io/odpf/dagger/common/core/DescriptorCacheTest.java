@@ -0,0 +1,126 @@
+package io.odpf.dagger.common.core;
+
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestReason;
+import io.odpf.stencil.client.StencilClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class DescriptorCacheTest {
+    private static final String PROTO_CLASS_NAME = TestBookingLogMessage.class.getName();
+    private static final String STENCIL_URLS = "http://localhost/events/latest,http://localhost/latest";
+
+    @Mock
+    private StencilClient stencilClient;
+
+    @Mock
+    private StencilClient otherStencilClient;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+    }
+
+    @After
+    public void tearDown() {
+        DescriptorCache.close(STENCIL_URLS);
+    }
+
+    @Test
+    public void shouldReturnSameCacheForSameStencilUrls() {
+        DescriptorCache descriptorCache = DescriptorCache.of(STENCIL_URLS, stencilClient);
+
+        assertSame(descriptorCache, DescriptorCache.of(STENCIL_URLS, otherStencilClient));
+        assertSame(descriptorCache, DescriptorCache.of(stencilClient));
+        assertSame(descriptorCache, DescriptorCache.of(otherStencilClient));
+    }
+
+    @Test
+    public void shouldFetchDescriptorsFromLatestStencilClientOfTheStencilUrls() {
+        when(otherStencilClient.get(PROTO_CLASS_NAME)).thenReturn(TestBookingLogMessage.getDescriptor());
+        DescriptorCache.of(STENCIL_URLS, stencilClient);
+
+        assertSame(TestBookingLogMessage.getDescriptor(), DescriptorCache.of(STENCIL_URLS, otherStencilClient).get(PROTO_CLASS_NAME));
+        verify(stencilClient, never()).get(PROTO_CLASS_NAME);
+    }
+
+    @Test
+    public void shouldNotShareCachesOfUnregisteredStencilClients() {
+        assertNotSame(DescriptorCache.of(stencilClient), DescriptorCache.of(stencilClient));
+    }
+
+    @Test
+    public void shouldStopRefreshingAndDropCacheOnClose() {
+        DescriptorCache descriptorCache = DescriptorCache.of(STENCIL_URLS, stencilClient);
+        descriptorCache.startRefresh(60000L);
+        assertTrue(descriptorCache.isRefreshing());
+
+        DescriptorCache.close(STENCIL_URLS);
+
+        assertFalse(descriptorCache.isRefreshing());
+        assertNotSame(descriptorCache, DescriptorCache.of(stencilClient));
+        assertNotSame(descriptorCache, DescriptorCache.of(STENCIL_URLS, stencilClient));
+    }
+
+    @Test
+    public void shouldNotStartRefreshIfIntervalIsNotPositive() {
+        DescriptorCache descriptorCache = new DescriptorCache(stencilClient);
+        descriptorCache.startRefresh(0L);
+
+        assertFalse(descriptorCache.isRefreshing());
+    }
+
+    @Test
+    public void shouldOnlyFetchDescriptorFromStencilClientOnFirstLookup() {
+        when(stencilClient.get(PROTO_CLASS_NAME)).thenReturn(TestBookingLogMessage.getDescriptor());
+        DescriptorCache descriptorCache = new DescriptorCache(stencilClient);
+
+        assertSame(TestBookingLogMessage.getDescriptor(), descriptorCache.get(PROTO_CLASS_NAME));
+        assertSame(TestBookingLogMessage.getDescriptor(), descriptorCache.get(PROTO_CLASS_NAME));
+        verify(stencilClient, times(1)).get(PROTO_CLASS_NAME);
+    }
+
+    @Test
+    public void shouldNotCacheMissingDescriptors() {
+        DescriptorCache descriptorCache = new DescriptorCache(stencilClient);
+
+        assertNull(descriptorCache.get(PROTO_CLASS_NAME));
+        when(stencilClient.get(PROTO_CLASS_NAME)).thenReturn(TestBookingLogMessage.getDescriptor());
+
+        assertSame(TestBookingLogMessage.getDescriptor(), descriptorCache.get(PROTO_CLASS_NAME));
+    }
+
+    @Test
+    public void shouldSwapInNewDescriptorVersionsOnRefresh() {
+        when(stencilClient.get(PROTO_CLASS_NAME)).thenReturn(TestBookingLogMessage.getDescriptor());
+        DescriptorCache descriptorCache = new DescriptorCache(stencilClient);
+        descriptorCache.get(PROTO_CLASS_NAME);
+
+        when(stencilClient.get(PROTO_CLASS_NAME)).thenReturn(TestReason.getDescriptor());
+        assertSame(TestBookingLogMessage.getDescriptor(), descriptorCache.get(PROTO_CLASS_NAME));
+        descriptorCache.refresh();
+
+        assertSame(TestReason.getDescriptor(), descriptorCache.get(PROTO_CLASS_NAME));
+    }
+
+    @Test
+    public void shouldKeepCachedDescriptorsIfRefreshFails() {
+        when(stencilClient.get(PROTO_CLASS_NAME)).thenReturn(TestBookingLogMessage.getDescriptor());
+        DescriptorCache descriptorCache = new DescriptorCache(stencilClient);
+        descriptorCache.get(PROTO_CLASS_NAME);
+
+        when(stencilClient.get(PROTO_CLASS_NAME)).thenThrow(new RuntimeException("stencil unavailable"));
+        descriptorCache.refresh();
+
+        assertSame(TestBookingLogMessage.getDescriptor(), descriptorCache.get(PROTO_CLASS_NAME));
+    }
+}
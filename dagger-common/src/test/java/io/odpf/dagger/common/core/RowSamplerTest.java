@@ -0,0 +1,80 @@
+package io.odpf.dagger.common.core;
+
+import org.apache.flink.types.Row;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.slf4j.Logger;
+
+import static io.odpf.dagger.common.core.Constants.*;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class RowSamplerTest {
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private Logger logger;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(configuration.getDouble(ROW_SAMPLING_RATE_KEY, ROW_SAMPLING_RATE_DEFAULT)).thenReturn(1D);
+        when(configuration.getLong(ROW_SAMPLING_MAX_ROWS_PER_SECOND_KEY, ROW_SAMPLING_MAX_ROWS_PER_SECOND_DEFAULT)).thenReturn(0L);
+    }
+
+    @Test
+    public void shouldNeverSampleWhenDisabled() {
+        RowSampler rowSampler = RowSampler.disabled();
+
+        assertFalse(rowSampler.isEnabled());
+        assertFalse(rowSampler.sample());
+    }
+
+    @Test
+    public void shouldSampleEveryRowWithFullSampleRateAndNoRateLimit() {
+        RowSampler rowSampler = RowSampler.create(configuration);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(rowSampler.sample());
+        }
+    }
+
+    @Test
+    public void shouldLimitSampledRowsWithTokenBucket() {
+        RowSampler rowSampler = new RowSampler(1D, 3L);
+
+        int sampledRows = 0;
+        for (int i = 0; i < 100; i++) {
+            sampledRows += rowSampler.sample() ? 1 : 0;
+        }
+
+        assertTrue(sampledRows >= 3);
+        assertTrue(sampledRows < 100);
+    }
+
+    @Test
+    public void shouldOnlyLogSampledRows() {
+        Row row = Row.of("order_number");
+
+        RowSampler.disabled().log(logger, "row to kafka: ", row);
+        verify(logger, never()).info(anyString());
+
+        RowSampler.create(configuration).log(logger, "row to kafka: ", row);
+        verify(logger, times(1)).info("row to kafka: " + row);
+    }
+
+    @Test
+    public void shouldNotSampleInSinkWhenSideOutputIsEnabled() {
+        when(configuration.getBoolean(ROW_SAMPLING_SIDE_OUTPUT_ENABLE_KEY, ROW_SAMPLING_SIDE_OUTPUT_ENABLE_DEFAULT)).thenReturn(true);
+
+        assertFalse(RowSampler.forSink(configuration).isEnabled());
+        assertTrue(RowSampler.create(configuration).isEnabled());
+    }
+}
@@ -0,0 +1,36 @@
+package io.odpf.dagger.common.core;
+
+import org.apache.flink.types.Row;
+
+import org.slf4j.Logger;
+
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+/**
+ * Builds row samplers which log the rows they sample to a given logger instead of the logger they are passed,
+ * so tests can verify which rows the users of a sampler log.
+ */
+public class RowSamplers {
+
+    /**
+     * Create a row sampler logging to the given logger.
+     *
+     * @param logger           the logger of the sampled rows
+     * @param sampleRate       the fraction of rows to sample, between 0 and 1
+     * @param maxRowsPerSecond the maximum number of sampled rows per second, unlimited if not positive
+     * @return the row sampler
+     */
+    public static RowSampler loggingTo(Logger logger, double sampleRate, long maxRowsPerSecond) {
+        RowSampler rowSampler = new RowSampler(sampleRate, maxRowsPerSecond);
+        RowSampler loggingRowSampler = spy(rowSampler);
+        doAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            rowSampler.log(logger, (String) arguments[1], (Row) arguments[2]);
+            return null;
+        }).when(loggingRowSampler).log(any(Logger.class), anyString(), any(Row.class));
+        return loggingRowSampler;
+    }
+}
@@ -152,6 +152,74 @@ public class StencilClientOrchestratorTest {
         assertEquals(Integer.valueOf(8000), stencilConfig.getFetchTimeoutMs());
     }
 
+    @Test
+    public void shouldNotRefreshStencilCacheByDefault() {
+        Map<String, String> configMap = new HashMap<>();
+        Configuration config = getConfig(configMap);
+        StencilClientOrchestrator stencilClientOrchestrator = new StencilClientOrchestrator(config);
+        StencilConfig stencilConfig = stencilClientOrchestrator.createStencilConfig();
+        assertFalse(stencilConfig.getCacheAutoRefresh());
+        assertEquals(SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_DEFAULT, stencilConfig.getCacheTtlMs());
+    }
+
+    @Test
+    public void shouldReturnConfiguredStencilCacheRefreshIfSet() {
+        Map<String, String> configMap = new HashMap<String, String>() {{
+            put(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, "true");
+            put(SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_KEY, "900000");
+        }};
+        Configuration config = getConfig(configMap);
+        StencilClientOrchestrator stencilClientOrchestrator = new StencilClientOrchestrator(config);
+        StencilConfig stencilConfig = stencilClientOrchestrator.createStencilConfig();
+        assertTrue(stencilConfig.getCacheAutoRefresh());
+        assertEquals(Long.valueOf(900000), stencilConfig.getCacheTtlMs());
+    }
+
+    @Test
+    public void shouldRefreshDescriptorsOnlyIfStencilCacheIsRefreshed() throws NoSuchFieldException, IllegalAccessException {
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn("http://localhost/latest");
+        when(configuration.getInteger(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_KEY, SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT);
+        when(configuration.getLong(SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_KEY, SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_DEFAULT);
+        when(configuration.getLong(SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_KEY, SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_DEFAULT);
+        StencilClientOrchestrator stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+
+        assertFalse(DescriptorCache.of(stencilClientOrchestrator.getStencilClient()).isRefreshing());
+
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT)).thenReturn(true);
+        StencilClient enrichedStencilClient = stencilClientOrchestrator.enrichStencilClient(Collections.singletonList("http://localhost/latest"));
+
+        assertTrue(DescriptorCache.of(enrichedStencilClient).isRefreshing());
+        DescriptorCache.close("http://localhost/latest");
+        Field stencilClientField = StencilClientOrchestrator.class.getDeclaredField("stencilClient");
+        stencilClientField.setAccessible(true);
+        stencilClientField.set(null, null);
+    }
+
+    @Test
+    public void shouldCloseDescriptorCacheOfPreviousStencilUrlsOnEnrichment() throws NoSuchFieldException, IllegalAccessException {
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_KEY, SCHEMA_REGISTRY_STENCIL_REFRESH_CACHE_DEFAULT)).thenReturn(true);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn("http://localhost/latest");
+        when(configuration.getInteger(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_KEY, SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_TIMEOUT_MS_DEFAULT);
+        when(configuration.getLong(SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_KEY, SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_CACHE_TTL_MS_DEFAULT);
+        when(configuration.getLong(SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_KEY, SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_DESCRIPTOR_REFRESH_INTERVAL_MS_DEFAULT);
+        StencilClientOrchestrator stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+        DescriptorCache previousDescriptorCache = DescriptorCache.of(stencilClientOrchestrator.getStencilClient());
+        assertTrue(previousDescriptorCache.isRefreshing());
+
+        StencilClient enrichedStencilClient = stencilClientOrchestrator.enrichStencilClient(Collections.singletonList("http://localhost/events/latest"));
+
+        assertFalse(previousDescriptorCache.isRefreshing());
+        DescriptorCache enrichedDescriptorCache = DescriptorCache.of(enrichedStencilClient);
+        assertNotSame(previousDescriptorCache, enrichedDescriptorCache);
+        assertTrue(enrichedDescriptorCache.isRefreshing());
+        DescriptorCache.close("http://localhost/events/latest,http://localhost/latest");
+        Field stencilClientField = StencilClientOrchestrator.class.getDeclaredField("stencilClient");
+        stencilClientField.setAccessible(true);
+        stencilClientField.set(null, null);
+    }
+
     @Test
     public void shouldReturnEmptyHeadersIfHeadersConfigIsNotSet() {
         Map<String, String> configMap = new HashMap<>();
@@ -0,0 +1,109 @@
+package io.odpf.dagger.common.core.changelog;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.api.Table;
+import org.apache.flink.table.api.TableException;
+import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
+import org.apache.flink.table.catalog.Column;
+import org.apache.flink.table.catalog.ResolvedSchema;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static io.odpf.dagger.common.core.Constants.FLINK_SQL_RETRACTIONS_DROP_ENABLE_DEFAULT;
+import static io.odpf.dagger.common.core.Constants.FLINK_SQL_RETRACTIONS_DROP_ENABLE_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ChangelogStreamConverterTest {
+    @Mock
+    private StreamTableEnvironment tableEnvironment;
+
+    @Mock
+    private Table table;
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private DataStream<Row> appendStream;
+
+    @Mock
+    private DataStream<Tuple2<Boolean, Row>> retractStream;
+
+    @Mock
+    private SingleOutputStreamOperator<Row> handledRetractStream;
+
+    private final TypeInformation<Row> rowType = Types.ROW_NAMED(new String[]{"order_number", "count"}, Types.STRING, Types.LONG);
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(table.getResolvedSchema()).thenReturn(ResolvedSchema.of(
+                Column.physical("order_number", DataTypes.STRING()),
+                Column.physical("count", DataTypes.BIGINT())));
+    }
+
+    @Test
+    public void shouldConvertInsertOnlyTablesToTypedAppendStreams() {
+        when(tableEnvironment.toAppendStream(table, rowType)).thenReturn(appendStream);
+
+        DataStream<Row> rowStream = new ChangelogStreamConverter(tableEnvironment, configuration).toRowStream(table);
+
+        assertEquals(appendStream, rowStream);
+        verify(tableEnvironment, never()).toRetractStream(table, rowType);
+    }
+
+    @Test
+    public void shouldDropTheRetractionsOfUpdatingTablesIfEnabled() {
+        when(configuration.getBoolean(FLINK_SQL_RETRACTIONS_DROP_ENABLE_KEY, FLINK_SQL_RETRACTIONS_DROP_ENABLE_DEFAULT)).thenReturn(true);
+        when(tableEnvironment.toAppendStream(table, rowType)).thenThrow(new TableException("toAppendStream doesn't support consuming update changes"));
+        when(tableEnvironment.toRetractStream(table, rowType)).thenReturn(retractStream);
+        when(retractStream.process(any(RetractionHandler.class))).thenReturn(handledRetractStream);
+        when(handledRetractStream.returns(rowType)).thenReturn(handledRetractStream);
+
+        DataStream<Row> rowStream = new ChangelogStreamConverter(tableEnvironment, configuration).toRowStream(table);
+
+        assertEquals(handledRetractStream, rowStream);
+        verify(handledRetractStream).returns(rowType);
+    }
+
+    @Test
+    public void shouldRejectUpdatingTablesIfDroppingRetractionsIsNotEnabled() {
+        when(configuration.getBoolean(FLINK_SQL_RETRACTIONS_DROP_ENABLE_KEY, FLINK_SQL_RETRACTIONS_DROP_ENABLE_DEFAULT)).thenReturn(false);
+        TableException updatingQueryException = new TableException("toAppendStream doesn't support consuming update changes");
+        when(tableEnvironment.toAppendStream(table, rowType)).thenThrow(updatingQueryException);
+
+        TableException exception = assertThrows(TableException.class, () -> new ChangelogStreamConverter(tableEnvironment, configuration).toRowStream(table));
+
+        assertEquals("The query updates or deletes rows it emitted before, which can not be written to append only sinks. "
+                + "Set FLINK_SQL_RETRACTIONS_DROP_ENABLE to true to drop the retractions and emit only the new and updated rows.", exception.getMessage());
+        assertSame(updatingQueryException, exception.getCause());
+        verify(tableEnvironment, never()).toRetractStream(table, rowType);
+    }
+
+    @Test
+    public void shouldNotConvertTablesThroughRetractStreamsOnOtherPlannerErrors() {
+        when(configuration.getBoolean(FLINK_SQL_RETRACTIONS_DROP_ENABLE_KEY, FLINK_SQL_RETRACTIONS_DROP_ENABLE_DEFAULT)).thenReturn(true);
+        TableException plannerException = new TableException("Unsupported conversion from data type 'RAW' to class 'Row'");
+        when(tableEnvironment.toAppendStream(table, rowType)).thenThrow(plannerException);
+
+        TableException exception = assertThrows(TableException.class, () -> new ChangelogStreamConverter(tableEnvironment, configuration).toRowStream(table));
+
+        assertSame(plannerException, exception);
+        verify(tableEnvironment, never()).toRetractStream(table, rowType);
+    }
+}
@@ -0,0 +1,60 @@
+package io.odpf.dagger.common.core.changelog;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.table.api.DataTypes;
+import org.apache.flink.table.catalog.Column;
+import org.apache.flink.table.catalog.ResolvedSchema;
+import org.apache.flink.types.Row;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class QueryRowTypeInfoTest {
+
+    @Test
+    public void shouldTypeTheFieldsWithTheClassesTheyAreConvertedTo() {
+        ResolvedSchema resolvedSchema = ResolvedSchema.of(
+                Column.physical("order_number", DataTypes.STRING()),
+                Column.physical("service_type", DataTypes.INT()),
+                Column.physical("amount", DataTypes.DOUBLE()),
+                Column.physical("is_valid", DataTypes.BOOLEAN()),
+                Column.physical("window_timestamp", DataTypes.TIMESTAMP(3)));
+
+        TypeInformation<Row> rowType = QueryRowTypeInfo.of(resolvedSchema);
+
+        assertEquals(Types.ROW_NAMED(new String[]{"order_number", "service_type", "amount", "is_valid", "window_timestamp"},
+                Types.STRING, Types.INT, Types.DOUBLE, Types.BOOLEAN, Types.LOCAL_DATE_TIME), rowType);
+    }
+
+    @Test
+    public void shouldTypeNestedRowsArraysAndMaps() {
+        ResolvedSchema resolvedSchema = ResolvedSchema.of(
+                Column.physical("driver", DataTypes.ROW(DataTypes.FIELD("id", DataTypes.BIGINT()), DataTypes.FIELD("name", DataTypes.STRING()))),
+                Column.physical("routes", DataTypes.ARRAY(DataTypes.STRING())),
+                Column.physical("metadata", DataTypes.MAP(DataTypes.STRING(), DataTypes.STRING())));
+
+        TypeInformation<Row> rowType = QueryRowTypeInfo.of(resolvedSchema);
+
+        assertEquals(Types.ROW_NAMED(new String[]{"driver", "routes", "metadata"},
+                Types.ROW_NAMED(new String[]{"id", "name"}, Types.LONG, Types.STRING),
+                Types.OBJECT_ARRAY(Types.STRING),
+                Types.MAP(Types.STRING, Types.STRING)), rowType);
+    }
+
+    @Test
+    public void shouldKeepGenericRowsIfSomeFieldCanNotBeTyped() {
+        ResolvedSchema resolvedSchema = ResolvedSchema.of(
+                Column.physical("order_number", DataTypes.STRING()),
+                Column.physical("price", DataTypes.DECIMAL(10, 2)));
+
+        assertEquals(Types.GENERIC(Row.class), QueryRowTypeInfo.of(resolvedSchema));
+    }
+
+    @Test
+    public void shouldKeepGenericRowsForTimestampsOfOtherPrecisions() {
+        ResolvedSchema resolvedSchema = ResolvedSchema.of(Column.physical("event_timestamp", DataTypes.TIMESTAMP(6)));
+
+        assertEquals(Types.GENERIC(Row.class), QueryRowTypeInfo.of(resolvedSchema));
+    }
+}
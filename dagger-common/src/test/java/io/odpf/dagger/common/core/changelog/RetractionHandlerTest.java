@@ -0,0 +1,65 @@
+package io.odpf.dagger.common.core.changelog;
+
+import org.apache.flink.api.common.functions.RuntimeContext;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.groups.OperatorMetricGroup;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.Collector;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static io.odpf.dagger.common.core.changelog.ChangelogAspects.RETRACTED_ROWS;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class RetractionHandlerTest {
+    @Mock
+    private RuntimeContext runtimeContext;
+
+    @Mock
+    private OperatorMetricGroup metricGroup;
+
+    @Mock
+    private Counter counter;
+
+    @Mock
+    private Collector<Row> collector;
+
+    private RetractionHandler retractionHandler;
+
+    @Before
+    public void setup() throws Exception {
+        initMocks(this);
+        when(runtimeContext.getMetricGroup()).thenReturn(metricGroup);
+        when(metricGroup.addGroup("retraction_handler")).thenReturn(metricGroup);
+        when(metricGroup.counter(RETRACTED_ROWS.getValue())).thenReturn(counter);
+        retractionHandler = new RetractionHandler();
+        retractionHandler.setRuntimeContext(runtimeContext);
+        retractionHandler.open(new Configuration());
+    }
+
+    @Test
+    public void shouldEmitTheRowsOfAccumulateMessages() {
+        Row row = Row.of("order-1", 2L);
+
+        retractionHandler.processElement(Tuple2.of(true, row), null, collector);
+
+        verify(collector).collect(row);
+        verify(counter, never()).inc();
+    }
+
+    @Test
+    public void shouldCountRetractMessagesWithoutEmittingTheirRows() {
+        Row row = Row.of("order-1", 1L);
+
+        retractionHandler.processElement(Tuple2.of(false, row), null, collector);
+
+        verify(collector, never()).collect(row);
+        verify(counter).inc();
+    }
+}
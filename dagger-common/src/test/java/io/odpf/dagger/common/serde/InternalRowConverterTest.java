@@ -0,0 +1,143 @@
+package io.odpf.dagger.common.serde;
+
+import com.google.protobuf.ByteString;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.table.data.ArrayData;
+import org.apache.flink.table.data.DecimalData;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.MapData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.types.logical.ArrayType;
+import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.DecimalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.TimestampType;
+import org.apache.flink.table.types.logical.VarCharType;
+import org.apache.flink.types.Row;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class InternalRowConverterTest {
+
+    @Test
+    public void shouldConvertScalarFieldsIntoInternalDataStructures() {
+        RowTypeInfo rowTypeInfo = (RowTypeInfo) Types.ROW_NAMED(new String[]{"order_number", "amount", "is_valid", "event_timestamp", "payload"},
+                Types.STRING, Types.DOUBLE, Types.BOOLEAN, Types.SQL_TIMESTAMP, Types.PRIMITIVE_ARRAY(Types.BYTE));
+        Timestamp timestamp = new Timestamp(1595548800000L);
+        byte[] payload = "payload".getBytes();
+
+        GenericRowData rowData = new InternalRowConverter(rowTypeInfo).toInternal(Row.of("EXAMPLE_ORDER_1", 10.5D, true, timestamp, payload));
+
+        assertEquals(StringData.fromString("EXAMPLE_ORDER_1"), rowData.getString(0));
+        assertEquals(10.5D, rowData.getDouble(1), 0D);
+        assertTrue(rowData.getBoolean(2));
+        assertEquals(TimestampData.fromTimestamp(timestamp), rowData.getTimestamp(3, 3));
+        assertArrayEquals(payload, rowData.getBinary(4));
+    }
+
+    @Test
+    public void shouldKeepNullFieldsNull() {
+        RowTypeInfo rowTypeInfo = (RowTypeInfo) Types.ROW(Types.STRING, Types.ROW(Types.LONG));
+
+        GenericRowData rowData = new InternalRowConverter(rowTypeInfo).toInternal(Row.of(null, null));
+
+        assertTrue(rowData.isNullAt(0));
+        assertTrue(rowData.isNullAt(1));
+    }
+
+    @Test
+    public void shouldConvertNestedRowsArraysAndMaps() {
+        RowTypeInfo rowTypeInfo = (RowTypeInfo) Types.ROW(
+                Types.ROW(Types.STRING, Types.INT),
+                Types.OBJECT_ARRAY(Types.STRING),
+                Types.PRIMITIVE_ARRAY(Types.INT),
+                Types.MAP(Types.STRING, Types.LONG));
+
+        GenericRowData rowData = new InternalRowConverter(rowTypeInfo).toInternal(Row.of(
+                Row.of("nested", 1),
+                new String[]{"first", null},
+                new int[]{4, 5},
+                Collections.singletonMap("key", 10L)));
+
+        RowData nestedRow = rowData.getRow(0, 2);
+        assertEquals(StringData.fromString("nested"), nestedRow.getString(0));
+        assertEquals(1, nestedRow.getInt(1));
+        ArrayData stringArray = rowData.getArray(1);
+        assertEquals(StringData.fromString("first"), stringArray.getString(0));
+        assertTrue(stringArray.isNullAt(1));
+        assertArrayEquals(new int[]{4, 5}, rowData.getArray(2).toIntArray());
+        MapData map = rowData.getMap(3);
+        assertEquals(StringData.fromString("key"), map.keyArray().getString(0));
+        assertEquals(10L, map.valueArray().getLong(0));
+    }
+
+    @Test
+    public void shouldConvertArraysHeldInLists() {
+        RowTypeInfo rowTypeInfo = (RowTypeInfo) Types.ROW(Types.OBJECT_ARRAY(Types.LONG));
+
+        GenericRowData rowData = new InternalRowConverter(rowTypeInfo).toInternal(Row.of(Arrays.asList(1L, 2L)));
+
+        assertEquals(2, rowData.getArray(0).size());
+        assertEquals(1L, rowData.getArray(0).getLong(0));
+        assertEquals(2L, rowData.getArray(0).getLong(1));
+    }
+
+    @Test
+    public void shouldConvertBigDecimalsIntoDecimalsOfTheDefaultPrecision() {
+        RowTypeInfo rowTypeInfo = (RowTypeInfo) Types.ROW_NAMED(new String[]{"amount", "amounts"}, Types.BIG_DEC, Types.OBJECT_ARRAY(Types.BIG_DEC));
+
+        GenericRowData rowData = new InternalRowConverter(rowTypeInfo).toInternal(Row.of(new BigDecimal("10.25"), new BigDecimal[]{BigDecimal.ONE}));
+
+        assertEquals(DecimalData.fromBigDecimal(new BigDecimal("10.25"), 38, 18), rowData.getDecimal(0, 38, 18));
+        assertEquals(DecimalData.fromBigDecimal(BigDecimal.ONE, 38, 18), rowData.getArray(1).getDecimal(0, 38, 18));
+        RowType rowType = InternalRowConverter.getInternalTypeInfo(rowTypeInfo).toRowType();
+        assertEquals(new DecimalType(38, 18), rowType.getTypeAt(0));
+        assertEquals(new ArrayType(new DecimalType(38, 18)), rowType.getTypeAt(1));
+    }
+
+    @Test
+    public void shouldConvertSingleValuesByFieldIndex() {
+        InternalRowConverter internalRowConverter = new InternalRowConverter((RowTypeInfo) Types.ROW(Types.INT, Types.STRING));
+
+        assertEquals(2, internalRowConverter.getArity());
+        assertEquals(StringData.fromString("value"), internalRowConverter.toInternal(1, "value"));
+        assertNull(internalRowConverter.toInternal(1, null));
+    }
+
+    @Test
+    public void shouldNotSupportTypesWithoutInternalDataStructures() {
+        assertTrue(InternalRowConverter.supports(Types.ROW(Types.STRING, Types.OBJECT_ARRAY(Types.ROW(Types.LONG)))));
+        assertFalse(InternalRowConverter.supports(Types.ROW(Types.STRING, Types.GENERIC(ByteString.class))));
+        assertFalse(InternalRowConverter.supports(Types.OBJECT_ARRAY(Types.GENERIC(ByteString.class))));
+        assertFalse(InternalRowConverter.supports(Types.MAP(Types.STRING, Types.GENERIC(ByteString.class))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldThrowExceptionForRowsWithUnsupportedFields() {
+        new InternalRowConverter((RowTypeInfo) Types.ROW(Types.STRING, Types.GENERIC(ByteString.class)));
+    }
+
+    @Test
+    public void shouldReturnTheInternalTypeInformationOfTheRowType() {
+        RowTypeInfo rowTypeInfo = (RowTypeInfo) Types.ROW_NAMED(new String[]{"order_number", "is_valid", "rowtime"},
+                Types.STRING, Types.BOOLEAN, Types.SQL_TIMESTAMP);
+
+        assertEquals(new VarCharType(VarCharType.MAX_LENGTH), InternalRowConverter.getInternalTypeInfo(rowTypeInfo).toRowType().getTypeAt(0));
+        assertEquals(new BooleanType(), InternalRowConverter.getInternalTypeInfo(rowTypeInfo).toRowType().getTypeAt(1));
+        assertEquals(new TimestampType(3), InternalRowConverter.getInternalTypeInfo(rowTypeInfo).toRowType().getTypeAt(2));
+        assertArrayEquals(rowTypeInfo.getFieldNames(), InternalRowConverter.getInternalTypeInfo(rowTypeInfo).toRowType().getFieldNames().toArray());
+    }
+}
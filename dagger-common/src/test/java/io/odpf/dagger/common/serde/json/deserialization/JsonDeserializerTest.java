@@ -2,16 +2,25 @@ package io.odpf.dagger.common.serde.json.deserialization;
 
 import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.DecimalType;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
+import io.odpf.dagger.common.serde.FieldProjection;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
 
 import static org.apache.flink.api.common.typeinfo.Types.BIG_DEC;
 import static org.apache.flink.api.common.typeinfo.Types.BOOLEAN;
@@ -20,7 +29,9 @@ import static org.apache.flink.api.common.typeinfo.Types.STRING;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class JsonDeserializerTest {
@@ -70,6 +81,21 @@ public class JsonDeserializerTest {
         assertEquals(new BigDecimal("1"), row.getField(2));
     }
 
+    @Test
+    public void shouldLeaveFieldsOutsideTheProjectionAsNull() {
+        String jsonSchema = "{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"$id\": \"https://example.com/product.schema.json\", \"title\": \"Product\", \"description\": \"A product from Acme's catalog\", \"type\": \"object\", \"properties\": { \"id\": { \"description\": \"The unique identifier for a product\", \"type\": \"string\" }, \"time\": { \"description\": \"event timestamp of the event\", \"type\": \"integer\" }, \"random\": { \"description\": \"one random field\", \"type\": \"integer\" } }, \"required\": [ \"id\", \"time\", \"random\" ] }";
+        JsonDeserializer jsonDeserializer = new JsonDeserializer(jsonSchema, "time", FieldProjection.of(Collections.singletonList("id")));
+
+        byte[] data = "{ \"time\": 1637829201, \"id\": \"001\", \"random\": 1, \"name\": \"Cake\" }".getBytes();
+
+        Row row = jsonDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, data));
+
+        assertEquals(5, row.getArity());
+        assertEquals("001", row.getField(0));
+        assertEquals(new BigDecimal("1637829201"), row.getField(1));
+        assertNull(row.getField(2));
+    }
+
     @Test
     public void shouldAddExtraFieldsToRow() {
         String jsonSchema = "{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"$id\": \"https://example.com/product.schema.json\", \"title\": \"Product\", \"description\": \"A product from Acme's catalog\", \"type\": \"object\", \"properties\": { \"id\": { \"description\": \"The unique identifier for a product\", \"type\": \"string\" }, \"time\": { \"description\": \"event timestamp of the event\", \"type\": \"integer\" }, \"random\": { \"description\": \"one random field\", \"type\": \"integer\" } }, \"required\": [ \"id\", \"time\", \"random\" ] }";
@@ -111,6 +137,45 @@ public class JsonDeserializerTest {
     }
 
 
+    @Test
+    public void shouldDeserializeRowDataWithTheValuesOfTheRows() {
+        String jsonSchema = "{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"$id\": \"https://example.com/product.schema.json\", \"title\": \"Product\", \"description\": \"A product from Acme's catalog\", \"type\": \"object\", \"properties\": { \"id\": { \"description\": \"The unique identifier for a product\", \"type\": \"string\" }, \"time\": { \"description\": \"event timestamp of the event\", \"type\": \"integer\" }, \"random\": { \"description\": \"one random field\", \"type\": \"integer\" } }, \"required\": [ \"id\", \"time\", \"random\" ] }";
+        JsonDeserializer jsonDeserializer = new JsonDeserializer(jsonSchema, "time");
+        byte[] data = "{ \"time\": 1637829201, \"id\": \"001\", \"random\": 1, \"name\": \"Cake\" }".getBytes();
+
+        assertTrue(jsonDeserializer.canDeserializeRowData());
+        RowData rowData = jsonDeserializer.deserializeRowData(data);
+
+        assertEquals(5, rowData.getArity());
+        assertEquals(StringData.fromString("001"), rowData.getString(0));
+        assertEquals(0, new BigDecimal("1637829201").compareTo(rowData.getDecimal(1, 38, 18).toBigDecimal()));
+        assertEquals(0, BigDecimal.ONE.compareTo(rowData.getDecimal(2, 38, 18).toBigDecimal()));
+        assertTrue(rowData.getBoolean(3));
+        assertEquals(TimestampData.fromTimestamp(Timestamp.from(Instant.ofEpochSecond(1637829201L))), rowData.getTimestamp(4, 3));
+        assertEquals(new DecimalType(38, 18), ((InternalTypeInfo<RowData>) jsonDeserializer.getRowDataProducedType()).toRowType().getTypeAt(1));
+    }
+
+    @Test
+    public void shouldDeserializeRowDataOfSubRowsAndArrays() {
+        String jsonSchema = "{ \"$id\": \"https://example.com/schemas/customer\", \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"type\": \"object\", \"properties\": { \"first_names\": { \"type\": \"array\", \"items\": { \"type\": \"string\" } }, \"last_name\": { \"type\": \"string\" }, \"time\": { \"type\": \"integer\" }, \"billing_address\": { \"$id\": \"/schemas/address\", \"$schema\": \"http://json-schema.org/draft-07/schema#\", \"type\": \"object\", \"properties\": { \"street_address\": { \"type\": \"string\" }, \"city\": { \"type\": \"string\" } }, \"required\": [ \"street_address\", \"city\" ] } }, \"required\": [ \"first_names\", \"last_name\", \"time\", \"billing_address\" ] }";
+        JsonDeserializer jsonDeserializer = new JsonDeserializer(jsonSchema, "time");
+        byte[] data = "{ \"first_names\": [\"Cake\", \"Pie\"], \"last_name\": \"Dessert\", \"time\": 1637829201, \"billing_address\": { \"street_address\": \"Kitchen\", \"city\": \"Bakery\" } }".getBytes();
+
+        RowData rowData = jsonDeserializer.deserializeRowData(data);
+
+        assertEquals(2, rowData.getArray(0).size());
+        assertEquals(StringData.fromString("Pie"), rowData.getArray(0).getString(1));
+        assertEquals(StringData.fromString("Dessert"), rowData.getString(1));
+        assertEquals(StringData.fromString("Bakery"), rowData.getRow(3, 2).getString(1));
+    }
+
+    @Test
+    public void shouldNotDeserializeRowDataForFieldsWithoutInternalDataStructures() {
+        String jsonSchema = "{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"type\": \"object\", \"properties\": { \"id\": { \"type\": \"string\" }, \"day\": { \"type\": \"string\", \"format\": \"date\" }, \"time\": { \"type\": \"integer\" } }, \"required\": [ \"id\", \"day\", \"time\" ] }";
+
+        assertFalse(new JsonDeserializer(jsonSchema, "time").canDeserializeRowData());
+    }
+
     @Test
     public void shouldThrowExceptionForNullData() {
         String jsonSchema = "{ \"$id\": \"https://example.com/schemas/customer\", \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"type\": \"object\", \"properties\": { \"first_names\": { \"type\": \"array\", \"items\": { \"type\": \"string\" } }, \"last_name\": { \"type\": \"string\" }, \"time\": { \"type\": \"integer\" }, \"billing_address\": { \"$id\": \"/schemas/address\", \"$schema\": \"http://json-schema.org/draft-07/schema#\", \"type\": \"object\", \"properties\": { \"street_address\": { \"type\": \"string\" }, \"city\": { \"type\": \"string\" } }, \"required\": [ \"street_address\", \"city\" ] } }, \"required\": [ \"first_names\", \"last_name\", \"time\", \"billing_address\" ] }";
@@ -163,4 +228,44 @@ public class JsonDeserializerTest {
         assertThrows(DaggerDeserializationException.class,
                 () -> jsonDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, data)));
     }
+
+    @Test
+    public void shouldSkipFieldsWhichAreNotInTheSchema() {
+        String jsonSchema = "{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"$id\": \"https://example.com/product.schema.json\", \"title\": \"Product\", \"description\": \"A product from Acme's catalog\", \"type\": \"object\", \"properties\": { \"id\": { \"description\": \"The unique identifier for a product\", \"type\": \"string\" }, \"time\": { \"description\": \"event timestamp of the event\", \"type\": \"integer\" }, \"random\": { \"description\": \"one random field\", \"type\": \"integer\" } }, \"required\": [ \"id\", \"time\", \"random\" ] }";
+        JsonDeserializer jsonDeserializer = new JsonDeserializer(jsonSchema, "time");
+
+        byte[] data = "{ \"tags\": [ { \"id\": \"ignored\" }, [ 1, 2 ] ], \"time\": 1637829201, \"address\": { \"id\": \"ignored\", \"random\": 2 }, \"id\": \"001\", \"random\": 1 }".getBytes();
+
+        Row row = jsonDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, data));
+
+        assertEquals("001", row.getField(0));
+        assertEquals(new BigDecimal("1637829201"), row.getField(1));
+        assertEquals(new BigDecimal("1"), row.getField(2));
+    }
+
+    @Test
+    public void shouldParseDateTimeRowtimeFieldWhileDeserializing() {
+        String jsonSchema = "{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"$id\": \"https://example.com/product.schema.json\", \"title\": \"booking\", \"description\": \"a booking\", \"type\": \"object\", \"properties\": { \"order_number\": { \"type\": \"string\" }, \"event_timestamp\": { \"type\": \"string\", \"format\" : \"date-time\" } }, \"required\": [ \"order_number\", \"event_timestamp\" ]}";
+        JsonDeserializer jsonDeserializer = new JsonDeserializer(jsonSchema, "event_timestamp");
+
+        byte[] data = "{ \"order_number\": \"test_order_3\", \"event_timestamp\": \"2021-12-16T14:57:00Z\" }".getBytes();
+
+        Row row = jsonDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, data));
+
+        assertEquals(java.sql.Timestamp.valueOf("2021-12-16 14:57:00"), row.getField(1));
+        assertEquals(java.sql.Timestamp.valueOf("2021-12-16 14:57:00"), row.getField(row.getArity() - 1));
+        assertEquals(true, row.getField(row.getArity() - 2));
+    }
+
+    @Test
+    public void shouldKeepJsonTextOfNonTextualValuesOfStringFields() {
+        String jsonSchema = "{ \"$schema\": \"https://json-schema.org/draft/2020-12/schema\", \"$id\": \"https://example.com/product.schema.json\", \"title\": \"Product\", \"description\": \"A product from Acme's catalog\", \"type\": \"object\", \"properties\": { \"id\": { \"description\": \"The unique identifier for a product\", \"type\": \"string\" }, \"time\": { \"description\": \"event timestamp of the event\", \"type\": \"integer\" }, \"random\": { \"description\": \"one random field\", \"type\": \"integer\" } }, \"required\": [ \"id\", \"time\", \"random\" ] }";
+        JsonDeserializer jsonDeserializer = new JsonDeserializer(jsonSchema, "time");
+
+        byte[] data = "{ \"time\": 1637829201, \"id\": { \"value\": 1 }, \"random\": 1 }".getBytes();
+
+        Row row = jsonDeserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, data));
+
+        assertEquals("{\"value\":1}", row.getField(0));
+    }
 }
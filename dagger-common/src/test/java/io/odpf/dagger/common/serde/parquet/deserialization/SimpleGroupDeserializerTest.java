@@ -4,6 +4,7 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
+import io.odpf.dagger.common.serde.FieldProjection;
 import io.odpf.dagger.consumer.TestBookingLogKey;
 import io.odpf.dagger.consumer.TestPrimitiveMessage;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
@@ -12,6 +13,7 @@ import org.apache.flink.types.Row;
 import org.apache.parquet.example.data.simple.SimpleGroup;
 import org.apache.parquet.io.api.Binary;
 import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
 import org.apache.parquet.schema.PrimitiveType;
 import org.junit.Assert;
 import org.junit.Before;
@@ -20,6 +22,7 @@ import org.mockito.Mock;
 
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.Collections;
 
 import static io.odpf.dagger.common.core.Constants.*;
 import static io.odpf.dagger.common.core.Constants.SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT;
@@ -172,6 +175,35 @@ public class SimpleGroupDeserializerTest {
                 () -> new SimpleGroupDeserializer(String.class.getTypeName(), 6, "rowtime", stencilClientOrchestrator));
     }
 
+    @Test
+    public void shouldRequestOnlyProjectedFieldsAndTimestampFieldFromParquetSchema() {
+        MessageType fileSchema = org.apache.parquet.schema.Types.buildMessage()
+                .optional(PrimitiveType.PrimitiveTypeName.BINARY).named("service_type")
+                .optional(PrimitiveType.PrimitiveTypeName.BINARY).named("order_number")
+                .optional(PrimitiveType.PrimitiveTypeName.BINARY).named("order_url")
+                .optional(PrimitiveType.PrimitiveTypeName.INT64).named("event_timestamp")
+                .named("TestBookingLogKey");
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getTypeName(), 5, "rowtime",
+                stencilClientOrchestrator, FieldProjection.of(Collections.singletonList("order_number")));
+
+        MessageType requestedSchema = simpleGroupDeserializer.getRequestedSchema(fileSchema);
+
+        assertEquals(2, requestedSchema.getFieldCount());
+        assertTrue(requestedSchema.containsField("order_number"));
+        assertTrue(requestedSchema.containsField("event_timestamp"));
+    }
+
+    @Test
+    public void shouldRequestWholeParquetSchemaIfAllFieldsAreProjected() {
+        MessageType fileSchema = org.apache.parquet.schema.Types.buildMessage()
+                .optional(PrimitiveType.PrimitiveTypeName.BINARY).named("order_number")
+                .optional(PrimitiveType.PrimitiveTypeName.INT64).named("event_timestamp")
+                .named("TestBookingLogKey");
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+
+        assertSame(fileSchema, simpleGroupDeserializer.getRequestedSchema(fileSchema));
+    }
+
     private int getProtoIndex(String propertyName) {
         return TestPrimitiveMessage.getDescriptor().findFieldByName(propertyName).getIndex();
     }
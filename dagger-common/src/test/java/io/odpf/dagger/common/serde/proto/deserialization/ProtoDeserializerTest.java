@@ -4,12 +4,16 @@ import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
 import com.google.protobuf.Struct;
 import com.google.protobuf.Timestamp;
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.DescriptorCache;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
+import io.odpf.dagger.common.serde.typehandler.RefreshedDescriptors;
 import io.odpf.dagger.consumer.TestBookingLogKey;
 import io.odpf.dagger.consumer.TestBookingLogMessage;
 import io.odpf.dagger.consumer.TestBookingStatus;
@@ -17,6 +21,7 @@ import io.odpf.dagger.consumer.TestLocation;
 import io.odpf.dagger.consumer.TestNestedRepeatedMessage;
 import io.odpf.dagger.consumer.TestRoute;
 import io.odpf.dagger.consumer.TestServiceType;
+import io.odpf.stencil.client.StencilClient;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.Before;
 import org.junit.Test;
@@ -40,6 +45,12 @@ public class ProtoDeserializerTest {
     @Mock
     private Configuration configuration;
 
+    @Mock
+    private StencilClientOrchestrator refreshedStencilClientOrchestrator;
+
+    @Mock
+    private StencilClient refreshedStencilClient;
+
     @Before
     public void setUp() {
         initMocks(this);
@@ -269,6 +280,34 @@ public class ProtoDeserializerTest {
                 () -> new ProtoDeserializer(String.class.getTypeName(), 6, "rowtime", stencilClientOrchestrator));
     }
 
+    @Test
+    public void shouldKeepTheRowArityWhenARefreshedDescriptorHasAnExtraField() {
+        String stencilUrls = "http://localhost/refreshed-descriptors";
+        when(refreshedStencilClientOrchestrator.getStencilClient()).thenReturn(refreshedStencilClient);
+        when(refreshedStencilClient.get(TestBookingLogKey.class.getTypeName())).thenReturn(TestBookingLogKey.getDescriptor());
+        DescriptorCache descriptorCache = DescriptorCache.of(stencilUrls, refreshedStencilClient);
+        try {
+            ProtoDeserializer deserializer = new ProtoDeserializer(TestBookingLogKey.class.getTypeName(), 5, "rowtime", refreshedStencilClientOrchestrator);
+            deserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, TestBookingLogKey.newBuilder().setOrderNumber("EXAMPLE_ORDER_1").build().toByteArray()));
+            Descriptors.Descriptor refreshedDescriptor = RefreshedDescriptors.withStringFieldFirst(TestBookingLogKey.getDescriptor(), "order_details", 100);
+            when(refreshedStencilClient.get(TestBookingLogKey.class.getTypeName())).thenReturn(refreshedDescriptor);
+            descriptorCache.refresh();
+            byte[] refreshedProtoBytes = DynamicMessage.newBuilder(refreshedDescriptor)
+                    .setField(refreshedDescriptor.findFieldByName("order_details"), "some details")
+                    .setField(refreshedDescriptor.findFieldByName("order_number"), "EXAMPLE_ORDER_2")
+                    .build()
+                    .toByteArray();
+
+            Row row = deserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, refreshedProtoBytes));
+
+            assertEquals(deserializer.getProducedType().getArity(), row.getArity());
+            assertEquals("EXAMPLE_ORDER_2", row.getField(1));
+            assertEquals(true, row.getField(row.getArity() - 2));
+        } finally {
+            DescriptorCache.close(stencilUrls);
+        }
+    }
+
     private int bookingLogFieldIndex(String propertyName) {
         return TestBookingLogMessage.getDescriptor().findFieldByName(propertyName).getIndex();
     }
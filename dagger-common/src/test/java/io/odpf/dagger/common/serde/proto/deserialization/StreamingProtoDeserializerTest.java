@@ -0,0 +1,327 @@
+package io.odpf.dagger.common.serde.proto.deserialization;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.types.Row;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Struct;
+import com.google.protobuf.Timestamp;
+import com.google.protobuf.WireFormat;
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.DescriptorCache;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
+import io.odpf.dagger.common.serde.FieldProjection;
+import io.odpf.dagger.common.serde.InternalRowConverter;
+import io.odpf.dagger.common.serde.typehandler.RefreshedDescriptors;
+import io.odpf.dagger.consumer.TestBookingLogKey;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestBookingStatus;
+import io.odpf.dagger.consumer.TestLocation;
+import io.odpf.dagger.consumer.TestNestedRepeatedMessage;
+import io.odpf.dagger.consumer.TestRoute;
+import io.odpf.dagger.consumer.TestServiceType;
+import io.odpf.stencil.client.StencilClient;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.odpf.dagger.common.core.Constants.*;
+import static org.apache.flink.api.common.typeinfo.Types.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class StreamingProtoDeserializerTest {
+
+    private StencilClientOrchestrator stencilClientOrchestrator;
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private StencilClientOrchestrator refreshedStencilClientOrchestrator;
+
+    @Mock
+    private StencilClient refreshedStencilClient;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        stencilClientOrchestrator = new StencilClientOrchestrator(configuration);
+    }
+
+    @Test
+    public void shouldReturnProducedType() {
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogKey.class.getTypeName(), 3, "rowtime", stencilClientOrchestrator);
+        TypeInformation<Row> producedType = deserializer.getProducedType();
+        assertArrayEquals(
+                new String[]{"service_type", "order_number", "order_url", "status", "event_timestamp", INTERNAL_VALIDATION_FIELD_KEY, "rowtime"},
+                ((RowTypeInfo) producedType).getFieldNames());
+        assertArrayEquals(
+                new TypeInformation[]{STRING, STRING, STRING, STRING, ROW_NAMED(new String[]{"seconds", "nanos"}, LONG, INT), BOOLEAN, SQL_TIMESTAMP},
+                ((RowTypeInfo) producedType).getFieldTypes());
+    }
+
+    @Test
+    public void shouldProduceSameRowAsProtoDeserializer() {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("force_close", "true");
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("EXAMPLE_ORDER_1")
+                .setCancelReasonId(10)
+                .setServiceType(TestServiceType.Enum.GO_RIDE)
+                .setStatus(TestBookingStatus.Enum.COMPLETED)
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1595548800L).setNanos(10).build())
+                .setDriverPickupLocation(TestLocation.newBuilder().setAccuracyMeter(111).setLatitude(222).build())
+                .addRoutes(TestRoute.newBuilder().setDistanceInKms(1.0f).setRouteOrder(4).build())
+                .addRoutes(TestRoute.newBuilder().setDistanceInKms(2.0f).setRouteOrder(5).build())
+                .addMetaArray("EXAMPLE-REGISTERED-DEVICE-01")
+                .addMetaArray("EXAMPLE-REGISTERED-DEVICE-02")
+                .putAllMetadata(metadata)
+                .build().toByteArray();
+        ConsumerRecord<byte[], byte[]> consumerRecord = new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes);
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        StreamingProtoDeserializer streamingProtoDeserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+
+        Row expectedRow = protoDeserializer.deserialize(consumerRecord);
+        Row actualRow = streamingProtoDeserializer.deserialize(consumerRecord);
+
+        assertEquals(expectedRow, actualRow);
+    }
+
+    @Test
+    public void shouldFillDefaultValuesForFieldsNotPresentInTheMessage() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder().setOrderNumber("111").build().toByteArray();
+        ConsumerRecord<byte[], byte[]> consumerRecord = new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes);
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        StreamingProtoDeserializer streamingProtoDeserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+
+        Row row = streamingProtoDeserializer.deserialize(consumerRecord);
+
+        assertEquals(protoDeserializer.deserialize(consumerRecord), row);
+        assertEquals("111", row.getField(bookingLogFieldIndex("order_number")));
+        assertEquals("", row.getField(bookingLogFieldIndex("customer_id")));
+        assertEquals(0, ((String[]) row.getField(bookingLogFieldIndex("meta_array"))).length);
+    }
+
+    @Test
+    public void shouldOnlyDecodeProjectedFieldsAndTheTimestampField() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("EXAMPLE_ORDER_1")
+                .setCustomerId("customer-1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1595548800L).build())
+                .addMetaArray("EXAMPLE-REGISTERED-DEVICE-01")
+                .build().toByteArray();
+        ConsumerRecord<byte[], byte[]> consumerRecord = new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes);
+        FieldProjection fieldProjection = FieldProjection.of(Arrays.asList("ORDER_NUMBER", "meta_array"));
+        StreamingProtoDeserializer streamingProtoDeserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, fieldProjection);
+        ProtoDeserializer protoDeserializer = new ProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, fieldProjection);
+
+        Row row = streamingProtoDeserializer.deserialize(consumerRecord);
+
+        assertEquals(protoDeserializer.deserialize(consumerRecord), row);
+        assertEquals("EXAMPLE_ORDER_1", row.getField(bookingLogFieldIndex("order_number")));
+        assertArrayEquals(new String[]{"EXAMPLE-REGISTERED-DEVICE-01"}, (String[]) row.getField(bookingLogFieldIndex("meta_array")));
+        assertNull(row.getField(bookingLogFieldIndex("customer_id")));
+        assertNull(row.getField(bookingLogFieldIndex("driver_pickup_location")));
+        assertNotNull(row.getField(bookingLogFieldIndex("event_timestamp")));
+        assertEquals(new java.sql.Timestamp(1595548800000L), row.getField(row.getArity() - 1));
+    }
+
+    @Test
+    public void shouldIgnoreStructWhileDeserialising() {
+        byte[] protoBytes = TestNestedRepeatedMessage.newBuilder()
+                .addMetadata(Struct.getDefaultInstance())
+                .addMetadata(Struct.getDefaultInstance())
+                .setNumberField(5)
+                .build().toByteArray();
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestNestedRepeatedMessage.class.getTypeName(), 6, "rowtime", stencilClientOrchestrator);
+        Row row = deserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes));
+        assertNull(row.getField(4));
+        assertEquals(row.getField(2), 5);
+    }
+
+    @Test
+    public void shouldThrowExceptionIfNotAbleToDeserialise() {
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestNestedRepeatedMessage.class.getTypeName(), 6, "rowtime", stencilClientOrchestrator);
+        assertThrows(DaggerDeserializationException.class,
+                () -> deserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, null)));
+    }
+
+    @Test
+    public void shouldReturnInvalidRow() {
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        Row row = deserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, "test".getBytes()));
+        assertFalse((boolean) row.getField(row.getArity() - 2));
+        assertEquals(new java.sql.Timestamp(0), row.getField(row.getArity() - 1));
+    }
+
+    @Test
+    public void shouldDeserializeIntoTheInternalRowOfTheDeserializedRow() {
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("force_close", "true");
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("EXAMPLE_ORDER_1")
+                .setCancelReasonId(10)
+                .setServiceType(TestServiceType.Enum.GO_RIDE)
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1595548800L).setNanos(10).build())
+                .setDriverPickupLocation(TestLocation.newBuilder().setAccuracyMeter(111).setLatitude(222).build())
+                .addRoutes(TestRoute.newBuilder().setDistanceInKms(1.0f).setRouteOrder(4).build())
+                .addMetaArray("EXAMPLE-REGISTERED-DEVICE-01")
+                .putAllMetadata(metadata)
+                .build().toByteArray();
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        InternalRowConverter internalRowConverter = new InternalRowConverter((RowTypeInfo) deserializer.getProducedType());
+
+        RowData rowData = deserializer.deserializeRowData(protoBytes);
+
+        assertTrue(deserializer.canDeserializeRowData());
+        assertEquals(internalRowConverter.toInternal(deserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, protoBytes))), rowData);
+        assertEquals(StringData.fromString("EXAMPLE_ORDER_1"), rowData.getString(bookingLogFieldIndex("order_number")));
+        assertEquals(StringData.fromString(""), rowData.getString(bookingLogFieldIndex("customer_id")));
+        assertTrue(rowData.getBoolean(rowData.getArity() - 2));
+        assertEquals(TimestampData.fromTimestamp(new java.sql.Timestamp(1595548800000L)), rowData.getTimestamp(rowData.getArity() - 1, 3));
+    }
+
+    @Test
+    public void shouldLeaveFieldsOutsideTheProjectionNullInTheInternalRow() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("EXAMPLE_ORDER_1")
+                .setCustomerId("customer-1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1595548800L).build())
+                .build().toByteArray();
+        FieldProjection fieldProjection = FieldProjection.of(Arrays.asList("order_number"));
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, fieldProjection);
+
+        RowData rowData = deserializer.deserializeRowData(protoBytes);
+
+        assertEquals(StringData.fromString("EXAMPLE_ORDER_1"), rowData.getString(bookingLogFieldIndex("order_number")));
+        assertTrue(rowData.isNullAt(bookingLogFieldIndex("customer_id")));
+        assertFalse(rowData.isNullAt(bookingLogFieldIndex("event_timestamp")));
+    }
+
+    @Test
+    public void shouldReturnInvalidInternalRow() {
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+
+        RowData rowData = deserializer.deserializeRowData("test".getBytes());
+
+        assertFalse(rowData.getBoolean(rowData.getArity() - 2));
+        assertEquals(TimestampData.fromTimestamp(new java.sql.Timestamp(0)), rowData.getTimestamp(rowData.getArity() - 1, 3));
+    }
+
+    @Test
+    public void shouldDeserializeIntoALazilyDecodedRowWithTheValuesOfTheInternalRow() {
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("EXAMPLE_ORDER_1")
+                .setCancelReasonId(10)
+                .setServiceType(TestServiceType.Enum.GO_RIDE)
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1595548800L).setNanos(10).build())
+                .setDriverPickupLocation(TestLocation.newBuilder().setAccuracyMeter(111).setLatitude(222).build())
+                .addRoutes(TestRoute.newBuilder().setDistanceInKms(1.0f).setRouteOrder(4).build())
+                .addMetaArray("EXAMPLE-REGISTERED-DEVICE-01")
+                .build().toByteArray();
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, FieldProjection.all(), true);
+        StreamingProtoDeserializer eagerDeserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator);
+        List<LogicalType> fieldTypes = InternalRowConverter.getInternalTypeInfo((RowTypeInfo) deserializer.getProducedType()).toRowType().getChildren();
+
+        RowData rowData = deserializer.deserializeRowData(protoBytes);
+        RowData eagerRowData = eagerDeserializer.deserializeRowData(protoBytes);
+
+        assertEquals(eagerRowData.getArity(), rowData.getArity());
+        for (int index = 0; index < rowData.getArity(); index++) {
+            RowData.FieldGetter fieldGetter = RowData.createFieldGetter(fieldTypes.get(index), index);
+            assertEquals(fieldGetter.getFieldOrNull(eagerRowData), fieldGetter.getFieldOrNull(rowData));
+        }
+    }
+
+    @Test
+    public void shouldOnlyDecodeTheFieldsOfALazilyDecodedRowWhichAreRead() throws IOException {
+        byte[] validBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("EXAMPLE_ORDER_1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1595548800L).build())
+                .build().toByteArray();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        CodedOutputStream codedOutput = CodedOutputStream.newInstance(output);
+        codedOutput.writeRawBytes(validBytes);
+        codedOutput.writeTag(TestBookingLogMessage.DRIVER_PICKUP_LOCATION_FIELD_NUMBER, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+        codedOutput.writeByteArrayNoTag(new byte[]{0x0A, 0x05});
+        codedOutput.flush();
+        byte[] protoBytes = output.toByteArray();
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, FieldProjection.all(), true);
+
+        RowData rowData = deserializer.deserializeRowData(protoBytes);
+
+        assertTrue(rowData.getBoolean(rowData.getArity() - 2));
+        assertEquals(TimestampData.fromTimestamp(new java.sql.Timestamp(1595548800000L)), rowData.getTimestamp(rowData.getArity() - 1, 3));
+        assertEquals(StringData.fromString("EXAMPLE_ORDER_1"), rowData.getString(bookingLogFieldIndex("order_number")));
+        assertThrows(DaggerDeserializationException.class, () -> rowData.isNullAt(bookingLogFieldIndex("driver_pickup_location")));
+    }
+
+    @Test
+    public void shouldReturnInvalidInternalRowIfTheLazilyDecodedMessageIsMalformed() {
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getTypeName(), 5, "rowtime", stencilClientOrchestrator, FieldProjection.all(), true);
+
+        RowData rowData = deserializer.deserializeRowData("test".getBytes());
+
+        assertFalse(rowData.getBoolean(rowData.getArity() - 2));
+        assertEquals(TimestampData.fromTimestamp(new java.sql.Timestamp(0)), rowData.getTimestamp(rowData.getArity() - 1, 3));
+    }
+
+    @Test
+    public void shouldReturnTheInternalTypeOfTheProducedType() {
+        StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogKey.class.getTypeName(), 3, "rowtime", stencilClientOrchestrator);
+
+        assertEquals(InternalRowConverter.getInternalTypeInfo((RowTypeInfo) deserializer.getProducedType()), deserializer.getRowDataProducedType());
+    }
+
+    @Test
+    public void shouldKeepTheRowArityWhenARefreshedDescriptorHasAnExtraField() {
+        String stencilUrls = "http://localhost/refreshed-descriptors";
+        when(refreshedStencilClientOrchestrator.getStencilClient()).thenReturn(refreshedStencilClient);
+        when(refreshedStencilClient.get(TestBookingLogKey.class.getTypeName())).thenReturn(TestBookingLogKey.getDescriptor());
+        DescriptorCache descriptorCache = DescriptorCache.of(stencilUrls, refreshedStencilClient);
+        try {
+            StreamingProtoDeserializer deserializer = new StreamingProtoDeserializer(TestBookingLogKey.class.getTypeName(), 5, "rowtime", refreshedStencilClientOrchestrator);
+            deserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, TestBookingLogKey.newBuilder().setOrderNumber("EXAMPLE_ORDER_1").build().toByteArray()));
+            Descriptors.Descriptor refreshedDescriptor = RefreshedDescriptors.withStringFieldFirst(TestBookingLogKey.getDescriptor(), "order_details", 100);
+            when(refreshedStencilClient.get(TestBookingLogKey.class.getTypeName())).thenReturn(refreshedDescriptor);
+            descriptorCache.refresh();
+            byte[] refreshedProtoBytes = DynamicMessage.newBuilder(refreshedDescriptor)
+                    .setField(refreshedDescriptor.findFieldByName("order_details"), "some details")
+                    .setField(refreshedDescriptor.findFieldByName("order_number"), "EXAMPLE_ORDER_2")
+                    .build()
+                    .toByteArray();
+
+            Row row = deserializer.deserialize(new ConsumerRecord<>("test-topic", 0, 0, null, refreshedProtoBytes));
+
+            assertEquals(deserializer.getProducedType().getArity(), row.getArity());
+            assertEquals("EXAMPLE_ORDER_2", row.getField(1));
+            assertEquals(true, row.getField(row.getArity() - 2));
+        } finally {
+            DescriptorCache.close(stencilUrls);
+        }
+    }
+
+    private int bookingLogFieldIndex(String propertyName) {
+        return TestBookingLogMessage.getDescriptor().findFieldByName(propertyName).getIndex();
+    }
+}
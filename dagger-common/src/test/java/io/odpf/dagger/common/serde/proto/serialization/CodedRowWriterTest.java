@@ -0,0 +1,126 @@
+package io.odpf.dagger.common.serde.proto.serialization;
+
+import com.google.protobuf.DescriptorProtos;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.UninitializedMessageException;
+import io.odpf.dagger.common.exceptions.serde.InvalidDataTypeException;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestLocation;
+import io.odpf.dagger.consumer.TestServiceType;
+import org.apache.flink.types.Row;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.*;
+
+public class CodedRowWriterTest {
+
+    @Test
+    public void shouldWriteSameMessageAsSerializationPlan() throws InvalidProtocolBufferException {
+        String[] columnNames = {"order_number", "service_type", "event_timestamp", "driver_pickup_location.name",
+                "driver_pickup_location.latitude", "customer_total_fare_without_surge", "customer_dynamic_surge_enabled",
+                "meta_array", "cancel_reason_id", "amount_paid_by_cash"};
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), columnNames);
+        Row row = Row.of("order_number", "GO_RIDE", Row.of(1595548800L, 10), "driver_name", 876D, 1000L, true,
+                new String[]{"meta-1", "meta-2"}, 12, 1.5F);
+
+        byte[] message = new CodedRowWriter(plan).write(row);
+
+        TestBookingLogMessage actualMessage = TestBookingLogMessage.parseFrom(message);
+        assertEquals(TestBookingLogMessage.parseFrom(plan.serialize(row).toByteArray()), actualMessage);
+        assertEquals(TestServiceType.Enum.GO_RIDE, actualMessage.getServiceType());
+        assertEquals(1595548800L, actualMessage.getEventTimestamp().getSeconds());
+        assertEquals(876D, actualMessage.getDriverPickupLocation().getLatitude(), 0D);
+        assertEquals(1000L, actualMessage.getCustomerTotalFareWithoutSurge());
+        assertEquals(2, actualMessage.getMetaArrayCount());
+    }
+
+    @Test
+    public void shouldWriteSameBytesAsDynamicMessageWhateverTheColumnOrder() {
+        String[] columnNames = {"order_number", "meta_array", "driver_pickup_location.latitude", "service_type", "amount_paid_by_cash",
+                "driver_pickup_location.name", "event_timestamp", "customer_total_fare_without_surge", "cancel_reason_id"};
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), columnNames);
+        Row row = Row.of("order_number", new String[]{"meta-1", "meta-2"}, 876D, "GO_RIDE", 1.5F, "driver_name",
+                Row.of(1595548800L, 10), 1000L, 12);
+
+        assertArrayEquals(plan.serialize(row).toByteArray(), new CodedRowWriter(plan).write(row));
+    }
+
+    @Test
+    public void shouldThrowExceptionIfRequiredFieldIsMissing() throws Descriptors.DescriptorValidationException {
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(getRequiredFieldsDescriptor(), new String[]{"id", "note"});
+        CodedRowWriter writer = new CodedRowWriter(plan);
+
+        assertArrayEquals(plan.serialize(Row.of("id", "note")).toByteArray(), writer.write(Row.of("id", "note")));
+        UninitializedMessageException exception = assertThrows(UninitializedMessageException.class, () -> writer.write(Row.of(null, "note")));
+        assertEquals(singletonList("id"), exception.getMissingFields());
+    }
+
+    @Test
+    public void shouldWriteNestedMessageEvenIfAllItsColumnsAreNull() throws InvalidProtocolBufferException {
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), new String[]{"driver_pickup_location.name"});
+
+        byte[] message = new CodedRowWriter(plan).write(Row.of((Object) null));
+
+        assertTrue(TestBookingLogMessage.parseFrom(message).hasDriverPickupLocation());
+    }
+
+    @Test
+    public void shouldNotWriteProto3ScalarsHoldingTheirDefaultValue() {
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), new String[]{"order_number", "cancel_reason_id"});
+
+        byte[] message = new CodedRowWriter(plan).write(Row.of("", 0));
+
+        assertEquals(0, message.length);
+    }
+
+    @Test
+    public void shouldReuseWriteStateAcrossRows() throws InvalidProtocolBufferException {
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), new String[]{"order_number", "customer_id"});
+        CodedRowWriter writer = new CodedRowWriter(plan);
+
+        writer.write(Row.of("order_1", "customer_1"));
+        TestBookingLogMessage actualMessage = TestBookingLogMessage.parseFrom(writer.write(Row.of("order_2", null)));
+
+        assertEquals("order_2", actualMessage.getOrderNumber());
+        assertEquals("", actualMessage.getCustomerId());
+    }
+
+    @Test
+    public void shouldFallBackToSerializationPlanWhenMessageColumnOverridesNestedColumns() throws InvalidProtocolBufferException {
+        String[] columnNames = {"driver_pickup_location.latitude", "driver_pickup_location"};
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), columnNames);
+
+        byte[] message = new CodedRowWriter(plan).write(Row.of(876D, Row.of("driver_name")));
+
+        TestLocation expectedLocation = TestLocation.newBuilder().setName("driver_name").build();
+        assertEquals(expectedLocation, TestBookingLogMessage.parseFrom(message).getDriverPickupLocation());
+    }
+
+    @Test
+    public void shouldThrowExceptionIfScalarColumnCanNotBeParsed() {
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), new String[]{"customer_total_fare_without_surge"});
+
+        InvalidDataTypeException exception = assertThrows(InvalidDataTypeException.class, () -> new CodedRowWriter(plan).write(Row.of("abc")));
+        assertEquals("type mismatch of field: customer_total_fare_without_surge, expecting INT64 type, actual type class java.lang.String", exception.getMessage());
+    }
+
+    private Descriptors.Descriptor getRequiredFieldsDescriptor() throws Descriptors.DescriptorValidationException {
+        DescriptorProtos.DescriptorProto messageProto = DescriptorProtos.DescriptorProto.newBuilder()
+                .setName("TestRequiredFieldsMessage")
+                .addField(DescriptorProtos.FieldDescriptorProto.newBuilder().setName("id").setNumber(1)
+                        .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_REQUIRED)
+                        .setType(DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING))
+                .addField(DescriptorProtos.FieldDescriptorProto.newBuilder().setName("note").setNumber(2)
+                        .setLabel(DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                        .setType(DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING))
+                .build();
+        DescriptorProtos.FileDescriptorProto fileProto = DescriptorProtos.FileDescriptorProto.newBuilder()
+                .setName("test_required_fields.proto")
+                .setSyntax("proto2")
+                .addMessageType(messageProto)
+                .build();
+        return Descriptors.FileDescriptor.buildFrom(fileProto, new Descriptors.FileDescriptor[0]).findMessageTypeByName("TestRequiredFieldsMessage");
+    }
+}
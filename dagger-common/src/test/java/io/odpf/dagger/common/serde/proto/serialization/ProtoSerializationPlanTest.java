@@ -0,0 +1,75 @@
+package io.odpf.dagger.common.serde.proto.serialization;
+
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.exceptions.serde.InvalidColumnMappingException;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestLocation;
+import io.odpf.dagger.consumer.TestReason;
+import org.apache.flink.types.Row;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ProtoSerializationPlanTest {
+
+    @Test
+    public void shouldSerializeColumnsIntoTopLevelAndNestedFields() throws InvalidProtocolBufferException {
+        String[] columnNames = {"order_number", "driver_pickup_location.name", "unknown_column", "driver_pickup_location.latitude"};
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), columnNames);
+
+        DynamicMessage message = plan.serialize(Row.of("order_number", "driver_name", "ignored", 876D));
+
+        TestBookingLogMessage actualMessage = TestBookingLogMessage.parseFrom(message.toByteArray());
+        assertEquals("order_number", actualMessage.getOrderNumber());
+        assertEquals("driver_name", actualMessage.getDriverPickupLocation().getName());
+        assertEquals(876D, actualMessage.getDriverPickupLocation().getLatitude(), 0D);
+    }
+
+    @Test
+    public void shouldSetNestedMessageEvenIfAllItsColumnsAreNull() throws InvalidProtocolBufferException {
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), new String[]{"driver_pickup_location.name"});
+
+        DynamicMessage message = plan.serialize(Row.of((Object) null));
+
+        assertTrue(TestBookingLogMessage.parseFrom(message.toByteArray()).hasDriverPickupLocation());
+    }
+
+    @Test
+    public void shouldMergeNestedColumnsIntoMessageSetBeforeThem() throws InvalidProtocolBufferException {
+        String[] columnNames = {"driver_pickup_location", "driver_pickup_location.latitude"};
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), columnNames);
+
+        DynamicMessage message = plan.serialize(Row.of(Row.of("driver_name"), 876D));
+
+        TestLocation expectedLocation = TestLocation.newBuilder().setName("driver_name").setLatitude(876D).build();
+        assertEquals(expectedLocation, TestBookingLogMessage.parseFrom(message.toByteArray()).getDriverPickupLocation());
+    }
+
+    @Test
+    public void shouldOverrideNestedColumnsWithMessageSetAfterThem() throws InvalidProtocolBufferException {
+        String[] columnNames = {"driver_pickup_location.latitude", "driver_pickup_location"};
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), columnNames);
+
+        DynamicMessage message = plan.serialize(Row.of(876D, Row.of("driver_name")));
+
+        TestLocation expectedLocation = TestLocation.newBuilder().setName("driver_name").build();
+        assertEquals(expectedLocation, TestBookingLogMessage.parseFrom(message.toByteArray()).getDriverPickupLocation());
+    }
+
+    @Test
+    public void shouldThrowExceptionOnSerializationForNestedColumnWhichDoesNotExist() {
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), new String[]{"driver_pickup_location.invalid"});
+
+        InvalidColumnMappingException exception = assertThrows(InvalidColumnMappingException.class, () -> plan.serialize(Row.of(876D)));
+        assertEquals("column invalid doesn't exists in the proto of io.odpf.dagger.consumer.TestLocation", exception.getMessage());
+    }
+
+    @Test
+    public void shouldOnlyBeCompiledForTheDescriptorItWasBuiltWith() {
+        ProtoSerializationPlan plan = ProtoSerializationPlan.compile(TestBookingLogMessage.getDescriptor(), new String[]{"order_number"});
+
+        assertTrue(plan.isCompiledFor(TestBookingLogMessage.getDescriptor()));
+        assertFalse(plan.isCompiledFor(TestReason.getDescriptor()));
+    }
+}
@@ -6,6 +6,7 @@ import org.apache.flink.types.Row;
 import io.odpf.stencil.StencilClientFactory;
 import io.odpf.stencil.client.StencilClient;
 import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.core.RowSamplers;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.dagger.common.exceptions.serde.DaggerSerializationException;
@@ -20,12 +21,17 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.slf4j.Logger;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.HashMap;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -34,6 +40,9 @@ public class ProtoSerializerTest {
     @Mock
     private StencilClientOrchestrator stencilClientOrchestrator;
 
+    @Mock
+    private Logger logger;
+
     private final String outputTopic = "test-topic";
 
     @Before
@@ -43,6 +52,19 @@ public class ProtoSerializerTest {
         when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
     }
 
+    @Test
+    public void shouldSerializeKeyDirectlyIntoSameBytesAsDynamicMessage() {
+        String[] columnNames = {"s2_id", "window_end_time", "service_type", "s2_id_level", "window_start_time"};
+        String outputProtoKey = "io.odpf.dagger.consumer.TestSerDeLogKey";
+        String outputProtoMessage = "io.odpf.dagger.consumer.TestSerDeLogMessage";
+        ProtoSerializer protoSerializer = new ProtoSerializer(outputProtoKey, outputProtoMessage, columnNames, stencilClientOrchestrator, outputTopic);
+        ProtoSerializer directProtoSerializer = new ProtoSerializer(outputProtoKey, outputProtoMessage, columnNames, stencilClientOrchestrator, outputTopic, true);
+        Row element = Row.of(3456789L, new Timestamp(1595548860000L), "GO_RIDE", 13, new Timestamp(1595548800000L));
+
+        assertArrayEquals(protoSerializer.serializeKey(element), directProtoSerializer.serializeKey(element));
+        assertArrayEquals(protoSerializer.serializeValue(element), directProtoSerializer.serializeValue(element));
+    }
+
     @Test
     public void shouldSerializeKeyForProto() throws InvalidProtocolBufferException {
         String[] columnNames = {"window_start_time", "window_end_time", "s2_id_level", "s2_id", "service_type"};
@@ -408,4 +430,43 @@ public class ProtoSerializerTest {
                 () -> protoSerializer.serialize(element, null, System.currentTimeMillis() / 1000));
         assertEquals("outputTopic is required", exception.getMessage());
     }
+
+    @Test
+    public void shouldLogTheRowsPickedByTheRowSampler() {
+        String[] columnNames = {"order_number"};
+        String outputProtoMessage = "io.odpf.dagger.consumer.TestBookingLogMessage";
+        ProtoSerializer protoSerializer = new ProtoSerializer(null, outputProtoMessage, columnNames, stencilClientOrchestrator, outputTopic, false, RowSamplers.loggingTo(logger, 1D, 0L));
+        Row element = Row.of("order-1");
+
+        protoSerializer.serialize(element, null, null);
+        protoSerializer.serialize(element, null, null);
+
+        verify(logger, times(2)).info("row to kafka: " + element);
+    }
+
+    @Test
+    public void shouldLimitTheRowsLoggedPerSecond() {
+        String[] columnNames = {"order_number"};
+        String outputProtoMessage = "io.odpf.dagger.consumer.TestBookingLogMessage";
+        ProtoSerializer protoSerializer = new ProtoSerializer(null, outputProtoMessage, columnNames, stencilClientOrchestrator, outputTopic, false, RowSamplers.loggingTo(logger, 1D, 1L));
+        Row element = Row.of("order-1");
+
+        protoSerializer.serialize(element, null, null);
+        protoSerializer.serialize(element, null, null);
+        protoSerializer.serialize(element, null, null);
+
+        verify(logger, times(1)).info("row to kafka: " + element);
+    }
+
+    @Test
+    public void shouldNotLogRowsIfTheRowSamplerIsDisabled() {
+        String[] columnNames = {"order_number"};
+        String outputProtoMessage = "io.odpf.dagger.consumer.TestBookingLogMessage";
+        ProtoSerializer protoSerializer = new ProtoSerializer(null, outputProtoMessage, columnNames, stencilClientOrchestrator, outputTopic, false, RowSamplers.loggingTo(logger, 0D, 0L));
+
+        ProducerRecord<byte[], byte[]> producerRecord = protoSerializer.serialize(Row.of("order-1"), null, null);
+
+        assertNotNull(producerRecord.value());
+        verify(logger, never()).info(anyString());
+    }
 }
@@ -0,0 +1,61 @@
+package io.odpf.dagger.common.serde.typehandler;
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto;
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto;
+import com.google.protobuf.Descriptors;
+
+import java.util.function.Consumer;
+
+/**
+ * Builds new versions of test descriptors, as a stencil refresh would swap them in.
+ */
+public class RefreshedDescriptors {
+
+    /**
+     * Rebuild the descriptor with a string field added before its first field.
+     *
+     * @param descriptor  the descriptor
+     * @param fieldName   the name of the added field
+     * @param fieldNumber the number of the added field
+     * @return the refreshed descriptor
+     */
+    public static Descriptors.Descriptor withStringFieldFirst(Descriptors.Descriptor descriptor, String fieldName, int fieldNumber) {
+        return refresh(descriptor, messageType -> messageType.addField(0, FieldDescriptorProto.newBuilder()
+                .setName(fieldName)
+                .setNumber(fieldNumber)
+                .setType(FieldDescriptorProto.Type.TYPE_STRING)
+                .setLabel(FieldDescriptorProto.Label.LABEL_OPTIONAL)
+                .build()));
+    }
+
+    /**
+     * Rebuild the descriptor with the type of a scalar field changed.
+     *
+     * @param descriptor the descriptor
+     * @param fieldName  the name of the field
+     * @param type       the new type of the field
+     * @return the refreshed descriptor
+     */
+    public static Descriptors.Descriptor withFieldType(Descriptors.Descriptor descriptor, String fieldName, FieldDescriptorProto.Type type) {
+        return refresh(descriptor, messageType -> messageType.getFieldBuilderList()
+                .stream()
+                .filter(field -> field.getName().equals(fieldName))
+                .forEach(field -> field.setType(type)));
+    }
+
+    private static Descriptors.Descriptor refresh(Descriptors.Descriptor descriptor, Consumer<DescriptorProto.Builder> change) {
+        FileDescriptorProto.Builder fileProto = descriptor.getFile().toProto().toBuilder();
+        fileProto.getMessageTypeBuilderList()
+                .stream()
+                .filter(messageType -> messageType.getName().equals(descriptor.getName()))
+                .forEach(change);
+        try {
+            Descriptors.FileDescriptor file = Descriptors.FileDescriptor.buildFrom(fileProto.build(),
+                    descriptor.getFile().getDependencies().toArray(new Descriptors.FileDescriptor[0]));
+            return file.findMessageTypeByName(descriptor.getName());
+        } catch (Descriptors.DescriptorValidationException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.odpf.dagger.common.serde.typehandler;
+
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto;
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.serde.FieldProjection;
+import io.odpf.dagger.common.serde.typehandler.complex.EnumHandler;
+import io.odpf.dagger.common.serde.typehandler.complex.TimestampHandler;
+import io.odpf.dagger.consumer.TestBookingLogKey;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.consumer.TestReason;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.schema.GroupType;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.junit.Assert.*;
+
+public class RowDecodingPlanTest {
+
+    @Test
+    public void shouldResolveTypeHandlersInFieldIndexOrder() {
+        Descriptors.Descriptor descriptor = TestBookingLogMessage.getDescriptor();
+        RowDecodingPlan plan = RowDecodingPlan.compile(descriptor);
+
+        assertEquals(49, plan.getFieldCount());
+        assertEquals(descriptor.findFieldByName("service_type"), plan.getFieldDescriptor(0));
+        assertEquals(EnumHandler.class, plan.getTypeHandler(0).getClass());
+        assertEquals(TimestampHandler.class, plan.getTypeHandler(descriptor.findFieldByName("event_timestamp").getIndex()).getClass());
+    }
+
+    @Test
+    public void shouldOnlyBeCompiledForTheDescriptorItWasBuiltWith() {
+        RowDecodingPlan plan = RowDecodingPlan.compile(TestBookingLogMessage.getDescriptor());
+
+        assertTrue(plan.isCompiledFor(TestBookingLogMessage.getDescriptor()));
+        assertFalse(plan.isCompiledFor(TestReason.getDescriptor()));
+    }
+
+    @Test
+    public void shouldCreateSameRowAsRowFactoryForDynamicMessage() throws InvalidProtocolBufferException {
+        TestBookingLogMessage bookingLogMessage = TestBookingLogMessage
+                .newBuilder()
+                .setCustomerId("144614")
+                .setCustomerUrl("https://www.abcd.com/1234")
+                .build();
+        DynamicMessage dynamicMessage = DynamicMessage.parseFrom(TestBookingLogMessage.getDescriptor(), bookingLogMessage.toByteArray());
+        RowDecodingPlan plan = RowDecodingPlan.compile(TestBookingLogMessage.getDescriptor());
+
+        Row row = plan.createRow(dynamicMessage, 2);
+
+        assertEquals(51, row.getArity());
+        assertEquals("144614", row.getField(5));
+        assertEquals("https://www.abcd.com/1234", row.getField(6));
+        assertEquals(RowFactory.createRow(dynamicMessage, 2), row);
+    }
+
+    @Test
+    public void shouldLeaveFieldsOutsideTheProjectionAsNull() throws InvalidProtocolBufferException {
+        TestBookingLogMessage bookingLogMessage = TestBookingLogMessage
+                .newBuilder()
+                .setCustomerId("144614")
+                .setCustomerUrl("https://www.abcd.com/1234")
+                .build();
+        DynamicMessage dynamicMessage = DynamicMessage.parseFrom(TestBookingLogMessage.getDescriptor(), bookingLogMessage.toByteArray());
+        RowDecodingPlan plan = RowDecodingPlan.compile(TestBookingLogMessage.getDescriptor(), FieldProjection.of(Collections.singletonList("customer_id")));
+
+        Row row = plan.createRow(dynamicMessage, 2);
+
+        assertEquals(51, row.getArity());
+        assertTrue(plan.isProjected(5));
+        assertFalse(plan.isProjected(6));
+        assertNull(plan.getTypeHandler(6));
+        assertEquals("144614", row.getField(5));
+        assertNull(row.getField(6));
+    }
+
+    @Test
+    public void shouldCreateRowFromSimpleGroupWithExtraFieldsSetToNull() {
+        GroupType parquetSchema = org.apache.parquet.schema.Types.requiredGroup()
+                .required(BINARY).named("reason_id")
+                .required(BINARY).named("group_id")
+                .named("TestGroupType");
+        SimpleGroup simpleGroup = new SimpleGroup(parquetSchema);
+        simpleGroup.add("reason_id", "some reason id");
+        simpleGroup.add("group_id", "some group id");
+        RowDecodingPlan plan = RowDecodingPlan.compile(TestReason.getDescriptor());
+
+        Row actualRow = plan.createRow(simpleGroup, 2);
+
+        assertEquals(4, actualRow.getArity());
+        assertEquals("some reason id", actualRow.getField(0));
+        assertEquals("some group id", actualRow.getField(1));
+        assertNull(actualRow.getField(2));
+        assertNull(actualRow.getField(3));
+    }
+
+    @Test
+    public void shouldKeepTheRowFieldsWhenRecompiledForADescriptorWithAnExtraField() throws InvalidProtocolBufferException {
+        RowDecodingPlan plan = RowDecodingPlan.compile(TestBookingLogKey.getDescriptor());
+        Descriptors.Descriptor refreshedDescriptor = RefreshedDescriptors.withStringFieldFirst(TestBookingLogKey.getDescriptor(), "order_details", 100);
+        DynamicMessage dynamicMessage = DynamicMessage.newBuilder(refreshedDescriptor)
+                .setField(refreshedDescriptor.findFieldByName("order_details"), "some details")
+                .setField(refreshedDescriptor.findFieldByName("order_number"), "EXAMPLE_ORDER_1")
+                .build();
+
+        RowDecodingPlan refreshedPlan = plan.recompileFor(refreshedDescriptor);
+        Row row = refreshedPlan.createRow(dynamicMessage, 2);
+
+        assertTrue(refreshedPlan.isCompiledFor(refreshedDescriptor));
+        assertSame(refreshedDescriptor, refreshedPlan.getDescriptor());
+        assertEquals(5, refreshedPlan.getFieldCount());
+        assertEquals(-1, refreshedPlan.getPosition(refreshedDescriptor.findFieldByName("order_details")));
+        assertEquals(1, refreshedPlan.getPosition(refreshedDescriptor.findFieldByName("order_number")));
+        assertEquals(7, row.getArity());
+        assertEquals("EXAMPLE_ORDER_1", row.getField(1));
+    }
+
+    @Test
+    public void shouldKeepDecodingWithThePreviousDescriptorIfARefreshChangedTheTypeOfAField() {
+        RowDecodingPlan plan = RowDecodingPlan.compile(TestBookingLogKey.getDescriptor());
+        Descriptors.Descriptor refreshedDescriptor = RefreshedDescriptors.withFieldType(TestBookingLogKey.getDescriptor(), "order_url", FieldDescriptorProto.Type.TYPE_INT64);
+
+        RowDecodingPlan refreshedPlan = plan.recompileFor(refreshedDescriptor);
+
+        assertTrue(refreshedPlan.isCompiledFor(refreshedDescriptor));
+        assertSame(TestBookingLogKey.getDescriptor(), refreshedPlan.getDescriptor());
+        assertEquals(5, refreshedPlan.getFieldCount());
+    }
+
+    @Test
+    public void shouldPlaceFieldsAtTheirPositionInTheRowType() {
+        RowTypeInfo rowType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.STRING, Types.BOOLEAN},
+                new String[]{"order_url", "order_number", "is_valid"});
+
+        RowDecodingPlan plan = RowDecodingPlan.compile(TestBookingLogKey.getDescriptor(), FieldProjection.all(), rowType, 1);
+
+        assertEquals(2, plan.getFieldCount());
+        assertEquals("order_url", plan.getFieldDescriptor(0).getName());
+        assertEquals("order_number", plan.getFieldDescriptor(1).getName());
+        assertEquals(-1, plan.getPosition(TestBookingLogKey.getDescriptor().findFieldByName("service_type")));
+    }
+}
@@ -0,0 +1,23 @@
+package io.odpf.dagger.common.watermark;
+
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LastColumnRowDataWatermarkTest {
+
+    @Test
+    public void shouldAssignTheTimestampOfTheLastColumn() {
+        GenericRowData rowData = GenericRowData.of(StringData.fromString("EXAMPLE_ORDER_1"), true, TimestampData.fromEpochMillis(1595548800000L));
+
+        long timestamp = new LastColumnRowDataWatermark()
+                .getWatermarkStrategy(10L)
+                .createTimestampAssigner(null)
+                .extractTimestamp(rowData, 0L);
+
+        assertEquals(1595548800000L, timestamp);
+    }
+}
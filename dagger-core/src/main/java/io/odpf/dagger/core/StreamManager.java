@@ -2,19 +2,33 @@ package io.odpf.dagger.core;
 
 import io.odpf.dagger.core.metrics.reporters.statsd.DaggerStatsDReporter;
 import io.odpf.dagger.core.source.Stream;
+import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.contrib.streaming.state.EmbeddedRocksDBStateBackend;
+import org.apache.flink.contrib.streaming.state.PredefinedOptions;
+import org.apache.flink.runtime.state.hashmap.HashMapStateBackend;
 import org.apache.flink.streaming.api.CheckpointingMode;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.table.api.ApiExpression;
+import org.apache.flink.table.api.Schema;
 import org.apache.flink.table.api.Table;
 import org.apache.flink.table.api.TableSchema;
 import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.types.Row;
+import org.apache.flink.util.OutputTag;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.RowSampler;
+import io.odpf.dagger.common.core.RowSamplingTap;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.common.core.changelog.ChangelogStreamConverter;
 import io.odpf.dagger.common.udfs.UdfFactory;
+import io.odpf.dagger.common.watermark.LastColumnRowDataWatermark;
 import io.odpf.dagger.common.watermark.LastColumnWatermark;
 import io.odpf.dagger.common.watermark.NoWatermark;
 import io.odpf.dagger.common.watermark.StreamWatermarkAssigner;
@@ -23,12 +37,18 @@ import io.odpf.dagger.core.exception.UDFFactoryClassNotDefinedException;
 import io.odpf.dagger.core.processors.PostProcessorFactory;
 import io.odpf.dagger.core.processors.PreProcessorConfig;
 import io.odpf.dagger.core.processors.PreProcessorFactory;
+import io.odpf.dagger.core.processors.common.ValidRowDataRecordsFilter;
 import io.odpf.dagger.core.processors.telemetry.processor.MetricsTelemetryExporter;
+import io.odpf.dagger.core.processors.transformers.TableTransformConfig;
 import io.odpf.dagger.core.processors.types.PostProcessor;
 import io.odpf.dagger.core.processors.types.Preprocessor;
 import io.odpf.dagger.core.sink.SinkOrchestrator;
+import io.odpf.dagger.core.sink.log.LogSink;
 import io.odpf.dagger.core.source.StreamsFactory;
+import io.odpf.dagger.core.source.projection.SqlFieldProjectionAnalyzer;
 import io.odpf.dagger.core.utils.Constants;
+import io.odpf.dagger.core.utils.KryoSerializedTypesCheck;
+import io.odpf.dagger.core.utils.OperatorResources;
 import io.odpf.dagger.functions.udfs.python.PythonUdfConfig;
 import io.odpf.dagger.functions.udfs.python.PythonUdfManager;
 
@@ -36,8 +56,11 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
+import static io.odpf.dagger.common.core.Constants.ROW_SAMPLING_SIDE_OUTPUT_ENABLE_DEFAULT;
+import static io.odpf.dagger.common.core.Constants.ROW_SAMPLING_SIDE_OUTPUT_ENABLE_KEY;
 import static io.odpf.dagger.core.utils.Constants.*;
 import static io.odpf.dagger.functions.common.Constants.PYTHON_UDF_ENABLE_DEFAULT;
 import static io.odpf.dagger.functions.common.Constants.PYTHON_UDF_ENABLE_KEY;
@@ -80,17 +103,48 @@ public class StreamManager {
         executionEnvironment.getConfig().setAutoWatermarkInterval(configuration.getInteger(FLINK_WATERMARK_INTERVAL_MS_KEY, FLINK_WATERMARK_INTERVAL_MS_DEFAULT));
         executionEnvironment.getCheckpointConfig().setTolerableCheckpointFailureNumber(Integer.MAX_VALUE);
         executionEnvironment.enableCheckpointing(configuration.getLong(FLINK_CHECKPOINT_INTERVAL_MS_KEY, FLINK_CHECKPOINT_INTERVAL_MS_DEFAULT));
-        executionEnvironment.getCheckpointConfig().setCheckpointingMode(CheckpointingMode.EXACTLY_ONCE);
+        executionEnvironment.getCheckpointConfig().setCheckpointingMode(CheckpointingMode.valueOf(configuration.getString(FLINK_CHECKPOINT_MODE_KEY, FLINK_CHECKPOINT_MODE_DEFAULT)));
         executionEnvironment.getCheckpointConfig().setCheckpointTimeout(configuration.getLong(FLINK_CHECKPOINT_TIMEOUT_MS_KEY, FLINK_CHECKPOINT_TIMEOUT_MS_DEFAULT));
         executionEnvironment.getCheckpointConfig().setMinPauseBetweenCheckpoints(configuration.getLong(FLINK_CHECKPOINT_MIN_PAUSE_MS_KEY, FLINK_CHECKPOINT_MIN_PAUSE_MS_DEFAULT));
         executionEnvironment.getCheckpointConfig().setMaxConcurrentCheckpoints(configuration.getInteger(FLINK_CHECKPOINT_MAX_CONCURRENT_KEY, FLINK_CHECKPOINT_MAX_CONCURRENT_DEFAULT));
+        if (configuration.getBoolean(FLINK_CHECKPOINT_UNALIGNED_ENABLE_KEY, FLINK_CHECKPOINT_UNALIGNED_ENABLE_DEFAULT)) {
+            executionEnvironment.getCheckpointConfig().enableUnalignedCheckpoints();
+            executionEnvironment.getCheckpointConfig().setAlignedCheckpointTimeout(Duration.ofMillis(configuration.getLong(FLINK_CHECKPOINT_ALIGNMENT_TIMEOUT_MS_KEY, FLINK_CHECKPOINT_ALIGNMENT_TIMEOUT_MS_DEFAULT)));
+        }
+        registerStateBackend();
         executionEnvironment.getConfig().setGlobalJobParameters(configuration.getParam());
+        if (configuration.getBoolean(FLINK_GENERIC_TYPES_DISABLE_KEY, FLINK_GENERIC_TYPES_DISABLE_DEFAULT)) {
+            executionEnvironment.getConfig().disableGenericTypes();
+        }
+        if (configuration.getBoolean(SOURCE_KAFKA_ROW_DATA_ENABLE_KEY, SOURCE_KAFKA_ROW_DATA_ENABLE_DEFAULT)
+                && configuration.getBoolean(SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_KEY, SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_DEFAULT)) {
+            /* chained operators otherwise receive a copy of each lazily decoded row, with every field decoded */
+            executionEnvironment.getConfig().enableObjectReuse();
+        }
 
 
         tableEnvironment.getConfig().setIdleStateRetention(Duration.ofMinutes(configuration.getInteger(FLINK_RETENTION_IDLE_STATE_MINUTE_KEY, FLINK_RETENTION_IDLE_STATE_MINUTE_DEFAULT)));
         return this;
     }
 
+    private void registerStateBackend() {
+        String stateBackend = configuration.getString(FLINK_STATE_BACKEND_KEY, FLINK_STATE_BACKEND_DEFAULT);
+        if (stateBackend.isEmpty()) {
+            return;
+        }
+        if (FLINK_STATE_BACKEND_HASHMAP.equals(stateBackend)) {
+            executionEnvironment.setStateBackend(new HashMapStateBackend());
+        } else if (FLINK_STATE_BACKEND_ROCKSDB.equals(stateBackend)) {
+            EmbeddedRocksDBStateBackend rocksDBStateBackend = new EmbeddedRocksDBStateBackend(configuration.getBoolean(FLINK_CHECKPOINT_INCREMENTAL_ENABLE_KEY, FLINK_CHECKPOINT_INCREMENTAL_ENABLE_DEFAULT));
+            rocksDBStateBackend.setPredefinedOptions(PredefinedOptions.valueOf(configuration.getString(FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_KEY, FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_DEFAULT)));
+            rocksDBStateBackend.getMemoryConfiguration().setWriteBufferRatio(configuration.getDouble(FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_RATIO_KEY, FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_RATIO_DEFAULT));
+            rocksDBStateBackend.getMemoryConfiguration().setHighPriorityPoolRatio(configuration.getDouble(FLINK_STATE_BACKEND_ROCKSDB_HIGH_PRIORITY_POOL_RATIO_KEY, FLINK_STATE_BACKEND_ROCKSDB_HIGH_PRIORITY_POOL_RATIO_DEFAULT));
+            executionEnvironment.setStateBackend(rocksDBStateBackend);
+        } else {
+            throw new IllegalArgumentException("Invalid state backend " + stateBackend + ", supported values are " + FLINK_STATE_BACKEND_HASHMAP + " and " + FLINK_STATE_BACKEND_ROCKSDB);
+        }
+    }
+
     /**
      * Register source with pre processors stream manager.
      *
@@ -102,6 +156,10 @@ public class StreamManager {
         PreProcessorConfig preProcessorConfig = PreProcessorFactory.parseConfig(configuration);
         getStreams().forEach(stream -> {
             String tableName = stream.getStreamName();
+            if (stream.canRegisterRowDataSource() && !hasTransformers(preProcessorConfig, tableName)) {
+                registerRowDataSource(stream, watermarkDelay, enablePerPartitionWatermark);
+                return;
+            }
             WatermarkStrategyDefinition watermarkStrategyDefinition = getSourceWatermarkDefinition(enablePerPartitionWatermark);
             DataStream<Row> dataStream = stream.registerSource(executionEnvironment, watermarkStrategyDefinition.getWatermarkStrategy(watermarkDelay));
             StreamWatermarkAssigner streamWatermarkAssigner = new StreamWatermarkAssigner(new LastColumnWatermark());
@@ -119,6 +177,44 @@ public class StreamManager {
         return this;
     }
 
+    private void registerRowDataSource(Stream stream, long watermarkDelay, boolean enablePerPartitionWatermark) {
+        String tableName = stream.getStreamName();
+        WatermarkStrategy<RowData> watermarkStrategy = new LastColumnRowDataWatermark().getWatermarkStrategy(watermarkDelay);
+        DataStream<RowData> dataStream = stream.registerRowDataSource(executionEnvironment, enablePerPartitionWatermark ? watermarkStrategy : WatermarkStrategy.noWatermarks());
+        if (!enablePerPartitionWatermark) {
+            dataStream = dataStream.assignTimestampsAndWatermarks(watermarkStrategy);
+        }
+        RowType rowType = ((InternalTypeInfo<RowData>) dataStream.getType()).toRowType();
+        String[] columnNames = rowType.getFieldNames().toArray(new String[0]);
+        String rowTimeAttributeName = configuration.getString(FLINK_ROWTIME_ATTRIBUTE_NAME_KEY, FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT);
+        dataStream = dataStream
+                .filter(new ValidRowDataRecordsFilter(tableName, columnNames, configuration))
+                .returns(InternalTypeInfo.of(renameRowTimeColumn(rowType, rowTimeAttributeName)));
+
+        Schema schema = Schema.newBuilder()
+                .watermark(rowTimeAttributeName, "SOURCE_WATERMARK()")
+                .build();
+        tableEnvironment.createTemporaryView(tableName, tableEnvironment.fromDataStream(dataStream, schema));
+    }
+
+    /* the rows hold their fields by position, so the last column is renamed like the Row path does with $(rowTimeAttributeName).rowtime() */
+    private RowType renameRowTimeColumn(RowType rowType, String rowTimeAttributeName) {
+        List<RowType.RowField> fields = new ArrayList<>(rowType.getFields());
+        RowType.RowField rowTimeField = fields.get(fields.size() - 1);
+        fields.set(fields.size() - 1, new RowType.RowField(rowTimeAttributeName, rowTimeField.getType(), rowTimeField.getDescription().orElse(null)));
+        return new RowType(rowType.isNullable(), fields);
+    }
+
+    private boolean hasTransformers(PreProcessorConfig preProcessorConfig, String tableName) {
+        if (preProcessorConfig == null || !preProcessorConfig.hasTransformConfigs()) {
+            return false;
+        }
+        return preProcessorConfig.getTableTransformers()
+                .stream()
+                .map(TableTransformConfig::getTableName)
+                .anyMatch(tableName::equals);
+    }
+
     private WatermarkStrategyDefinition getSourceWatermarkDefinition(Boolean enablePerPartitionWatermark) {
         return enablePerPartitionWatermark ? new LastColumnWatermark() : new NoWatermark();
     }
@@ -202,10 +298,7 @@ public class StreamManager {
      * @return the stream info
      */
     protected StreamInfo createStreamInfo(Table table) {
-        DataStream<Row> stream = tableEnvironment
-                .toRetractStream(table, Row.class)
-                .filter(value -> value.f0)
-                .map(value -> value.f1);
+        DataStream<Row> stream = new ChangelogStreamConverter(tableEnvironment, configuration).toRowStream(table);
         return new StreamInfo(stream, table.getSchema().getFieldNames());
     }
 
@@ -228,12 +321,30 @@ public class StreamManager {
     private void addSink(StreamInfo streamInfo) {
         SinkOrchestrator sinkOrchestrator = new SinkOrchestrator(telemetryExporter);
         sinkOrchestrator.addSubscriber(telemetryExporter);
-        streamInfo.getDataStream().sinkTo(sinkOrchestrator.getSink(configuration, streamInfo.getColumnNames(), stencilClientOrchestrator));
+        DataStream<Row> stream = streamInfo.getDataStream();
+        if (configuration.getBoolean(ROW_SAMPLING_SIDE_OUTPUT_ENABLE_KEY, ROW_SAMPLING_SIDE_OUTPUT_ENABLE_DEFAULT)) {
+            stream = addRowSamplingTap(stream, streamInfo.getColumnNames());
+        }
+        KryoSerializedTypesCheck.warnKryoSerializedOperators(stream);
+        OperatorResources.configure(
+                stream.sinkTo(sinkOrchestrator.getSink(configuration, streamInfo.getColumnNames(), stencilClientOrchestrator)),
+                configuration.getInteger(SINK_PARALLELISM_KEY, SINK_PARALLELISM_DEFAULT),
+                configuration.getString(SINK_SLOT_SHARING_GROUP_KEY, SINK_SLOT_SHARING_GROUP_DEFAULT));
+    }
+
+    private DataStream<Row> addRowSamplingTap(DataStream<Row> stream, String[] columnNames) {
+        OutputTag<Row> sampledRowsTag = new OutputTag<>(RowSamplingTap.SAMPLED_ROWS_OUTPUT_NAME, stream.getType());
+        SingleOutputStreamOperator<Row> tappedStream = stream
+                .process(new RowSamplingTap(RowSampler.create(configuration), sampledRowsTag))
+                .returns(stream.getType());
+        tappedStream.getSideOutput(sampledRowsTag).sinkTo(new LogSink(columnNames)).name(RowSamplingTap.SAMPLED_ROWS_OUTPUT_NAME);
+        return tappedStream;
     }
 
     List<Stream> getStreams() {
         org.apache.flink.configuration.Configuration flinkConfiguration = (org.apache.flink.configuration.Configuration) this.executionEnvironment.getConfiguration();
         DaggerStatsDReporter daggerStatsDReporter = DaggerStatsDReporter.Provider.provide(flinkConfiguration, configuration);
-        return StreamsFactory.getStreams(configuration, stencilClientOrchestrator, daggerStatsDReporter);
+        SqlFieldProjectionAnalyzer fieldProjectionAnalyzer = new SqlFieldProjectionAnalyzer(configuration, PreProcessorFactory.parseConfig(configuration));
+        return StreamsFactory.getStreams(configuration, stencilClientOrchestrator, daggerStatsDReporter, fieldProjectionAnalyzer);
     }
 }
@@ -3,6 +3,7 @@ package io.odpf.dagger.core.deserializer;
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.FieldProjection;
 import io.odpf.dagger.core.exception.DaggerConfigurationException;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.core.metrics.reporters.statsd.StatsDErrorReporter;
@@ -15,7 +16,11 @@ import java.util.stream.Stream;
 
 public class DaggerDeserializerFactory {
     public static DaggerDeserializer<Row> create(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, SerializedStatsDReporterSupplier statsDReporterSupplier) {
-        return getDaggerDeserializerProviders(streamConfig, configuration, stencilClientOrchestrator)
+        return create(streamConfig, configuration, stencilClientOrchestrator, statsDReporterSupplier, FieldProjection.all());
+    }
+
+    public static DaggerDeserializer<Row> create(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, SerializedStatsDReporterSupplier statsDReporterSupplier, FieldProjection fieldProjection) {
+        return getDaggerDeserializerProviders(streamConfig, configuration, stencilClientOrchestrator, fieldProjection)
                 .stream()
                 .filter(DaggerDeserializerProvider::canProvide)
                 .findFirst()
@@ -28,11 +33,12 @@ public class DaggerDeserializerFactory {
                 .getDaggerDeserializer();
     }
 
-    private static List<DaggerDeserializerProvider<Row>> getDaggerDeserializerProviders(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator) {
+    private static List<DaggerDeserializerProvider<Row>> getDaggerDeserializerProviders(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, FieldProjection fieldProjection) {
         return Stream.of(
-                        new JsonDeserializerProvider(streamConfig),
-                        new ProtoDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator),
-                        new SimpleGroupDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator))
+                        new JsonDeserializerProvider(streamConfig, fieldProjection),
+                        new ProtoDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator, fieldProjection),
+                        new SimpleGroupDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator, fieldProjection),
+                        new HybridDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator, fieldProjection))
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,28 @@
+package io.odpf.dagger.core.deserializer;
+
+import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
+import lombok.Getter;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.types.Row;
+
+/**
+ * The deserializers of a stream which reads Parquet files first and Kafka afterwards. Both deserialize the same
+ * proto class with the same field projection, so the rows of both sources have the same type.
+ */
+public class HybridDeserializer implements DaggerDeserializer<Row> {
+    @Getter
+    private final SimpleGroupDeserializer parquetDeserializer;
+    @Getter
+    private final DaggerDeserializer<Row> kafkaDeserializer;
+
+    public HybridDeserializer(SimpleGroupDeserializer parquetDeserializer, DaggerDeserializer<Row> kafkaDeserializer) {
+        this.parquetDeserializer = parquetDeserializer;
+        this.kafkaDeserializer = kafkaDeserializer;
+    }
+
+    @Override
+    public TypeInformation<Row> getProducedType() {
+        return kafkaDeserializer.getProducedType();
+    }
+}
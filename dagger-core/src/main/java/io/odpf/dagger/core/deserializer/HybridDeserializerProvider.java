@@ -0,0 +1,51 @@
+package io.odpf.dagger.core.deserializer;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.DataTypes;
+import io.odpf.dagger.common.serde.FieldProjection;
+import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
+import io.odpf.dagger.core.exception.DaggerConfigurationException;
+import io.odpf.dagger.core.source.config.StreamConfig;
+import io.odpf.dagger.core.source.config.StreamConfigValidator;
+import org.apache.flink.types.Row;
+
+import static io.odpf.dagger.common.serde.DataTypes.PROTO;
+
+public class HybridDeserializerProvider implements DaggerDeserializerProvider<Row> {
+    protected final StreamConfig streamConfig;
+    protected final Configuration configuration;
+    protected final StencilClientOrchestrator stencilClientOrchestrator;
+    protected final FieldProjection fieldProjection;
+    private static final DataTypes COMPATIBLE_INPUT_SCHEMA_TYPE = PROTO;
+
+    public HybridDeserializerProvider(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(streamConfig, configuration, stencilClientOrchestrator, FieldProjection.all());
+    }
+
+    public HybridDeserializerProvider(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, FieldProjection fieldProjection) {
+        this.streamConfig = streamConfig;
+        this.configuration = configuration;
+        this.stencilClientOrchestrator = stencilClientOrchestrator;
+        this.fieldProjection = fieldProjection;
+    }
+
+    @Override
+    public DaggerDeserializer<Row> getDaggerDeserializer() {
+        SimpleGroupDeserializer parquetDeserializer = (SimpleGroupDeserializer) new SimpleGroupDeserializerProvider(streamConfig, configuration,
+                stencilClientOrchestrator, fieldProjection).getDaggerDeserializer();
+        DaggerDeserializer<Row> kafkaDeserializer = new ProtoDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator, fieldProjection)
+                .getDaggerDeserializer();
+        if (!parquetDeserializer.getProducedType().equals(kafkaDeserializer.getProducedType())) {
+            throw new DaggerConfigurationException("Error: the Parquet and Kafka sources of the stream deserialize into different row types.");
+        }
+        return new HybridDeserializer(parquetDeserializer, kafkaDeserializer);
+    }
+
+    @Override
+    public boolean canProvide() {
+        DataTypes inputSchemaType = DataTypes.valueOf(streamConfig.getDataType());
+        return StreamConfigValidator.isHybridSource(streamConfig.getSourceDetails()) && inputSchemaType.equals(COMPATIBLE_INPUT_SCHEMA_TYPE);
+    }
+}
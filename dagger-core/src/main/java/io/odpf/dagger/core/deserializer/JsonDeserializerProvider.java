@@ -2,6 +2,7 @@ package io.odpf.dagger.core.deserializer;
 
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.DataTypes;
+import io.odpf.dagger.common.serde.FieldProjection;
 import io.odpf.dagger.common.serde.json.deserialization.JsonDeserializer;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
@@ -17,16 +18,22 @@ import static io.odpf.dagger.core.source.config.models.SourceName.KAFKA_CONSUMER
 
 public class JsonDeserializerProvider implements DaggerDeserializerProvider<Row> {
     private final StreamConfig streamConfig;
+    private final FieldProjection fieldProjection;
     private static final HashSet<SourceName> COMPATIBLE_SOURCES = new HashSet<>(Arrays.asList(KAFKA_SOURCE, KAFKA_CONSUMER));
     private static final DataTypes COMPATIBLE_INPUT_SCHEMA_TYPE = JSON;
 
     public JsonDeserializerProvider(StreamConfig streamConfig) {
+        this(streamConfig, FieldProjection.all());
+    }
+
+    public JsonDeserializerProvider(StreamConfig streamConfig, FieldProjection fieldProjection) {
         this.streamConfig = streamConfig;
+        this.fieldProjection = fieldProjection;
     }
 
     @Override
     public DaggerDeserializer<Row> getDaggerDeserializer() {
-        return new JsonDeserializer(streamConfig.getJsonSchema(), streamConfig.getJsonEventTimestampFieldName());
+        return new JsonDeserializer(streamConfig.getJsonSchema(), streamConfig.getJsonEventTimestampFieldName(), fieldProjection);
     }
 
     @Override
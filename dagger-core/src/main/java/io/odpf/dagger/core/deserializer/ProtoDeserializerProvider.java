@@ -4,7 +4,9 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.DataTypes;
+import io.odpf.dagger.common.serde.FieldProjection;
 import io.odpf.dagger.common.serde.proto.deserialization.ProtoDeserializer;
+import io.odpf.dagger.common.serde.proto.deserialization.StreamingProtoDeserializer;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.StreamConfig;
@@ -18,18 +20,28 @@ import static io.odpf.dagger.core.source.config.models.SourceName.KAFKA_SOURCE;
 import static io.odpf.dagger.core.source.config.models.SourceName.KAFKA_CONSUMER;
 import static io.odpf.dagger.core.utils.Constants.FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT;
 import static io.odpf.dagger.core.utils.Constants.FLINK_ROWTIME_ATTRIBUTE_NAME_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_KEY;
 
 public class ProtoDeserializerProvider implements DaggerDeserializerProvider<Row> {
     protected final StreamConfig streamConfig;
     protected final Configuration configuration;
     protected final StencilClientOrchestrator stencilClientOrchestrator;
+    protected final FieldProjection fieldProjection;
     private static final HashSet<SourceName> COMPATIBLE_SOURCES = new HashSet<>(Arrays.asList(KAFKA_SOURCE, KAFKA_CONSUMER));
     private static final DataTypes COMPATIBLE_INPUT_SCHEMA_TYPE = PROTO;
 
     public ProtoDeserializerProvider(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(streamConfig, configuration, stencilClientOrchestrator, FieldProjection.all());
+    }
+
+    public ProtoDeserializerProvider(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, FieldProjection fieldProjection) {
         this.streamConfig = streamConfig;
         this.configuration = configuration;
         this.stencilClientOrchestrator = stencilClientOrchestrator;
+        this.fieldProjection = fieldProjection;
     }
 
     @Override
@@ -37,7 +49,11 @@ public class ProtoDeserializerProvider implements DaggerDeserializerProvider<Row
         int timestampFieldIndex = Integer.parseInt(streamConfig.getEventTimestampFieldIndex());
         String protoClassName = streamConfig.getProtoClass();
         String rowTimeAttributeName = configuration.getString(FLINK_ROWTIME_ATTRIBUTE_NAME_KEY, FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT);
-        return new ProtoDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator);
+        if (configuration.getBoolean(SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_KEY, SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_DEFAULT)) {
+            boolean decodeRowDataLazily = configuration.getBoolean(SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_KEY, SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_DEFAULT);
+            return new StreamingProtoDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator, fieldProjection, decodeRowDataLazily);
+        }
+        return new ProtoDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator, fieldProjection);
     }
 
     @Override
@@ -4,6 +4,7 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.DataTypes;
+import io.odpf.dagger.common.serde.FieldProjection;
 import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
@@ -19,13 +20,19 @@ public class SimpleGroupDeserializerProvider implements DaggerDeserializerProvid
     protected final StreamConfig streamConfig;
     protected final Configuration configuration;
     protected final StencilClientOrchestrator stencilClientOrchestrator;
+    protected final FieldProjection fieldProjection;
     private static final SourceName COMPATIBLE_SOURCE = PARQUET_SOURCE;
     private static final DataTypes COMPATIBLE_INPUT_SCHEMA_TYPE = PROTO;
 
     public SimpleGroupDeserializerProvider(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator) {
+        this(streamConfig, configuration, stencilClientOrchestrator, FieldProjection.all());
+    }
+
+    public SimpleGroupDeserializerProvider(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, FieldProjection fieldProjection) {
         this.streamConfig = streamConfig;
         this.configuration = configuration;
         this.stencilClientOrchestrator = stencilClientOrchestrator;
+        this.fieldProjection = fieldProjection;
     }
 
     @Override
@@ -33,7 +40,7 @@ public class SimpleGroupDeserializerProvider implements DaggerDeserializerProvid
         int timestampFieldIndex = Integer.parseInt(streamConfig.getEventTimestampFieldIndex());
         String protoClassName = streamConfig.getProtoClass();
         String rowTimeAttributeName = configuration.getString(FLINK_ROWTIME_ATTRIBUTE_NAME_KEY, FLINK_ROWTIME_ATTRIBUTE_NAME_DEFAULT);
-        return new SimpleGroupDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator);
+        return new SimpleGroupDeserializer(protoClassName, timestampFieldIndex, rowTimeAttributeName, stencilClientOrchestrator, fieldProjection);
     }
 
     @Override
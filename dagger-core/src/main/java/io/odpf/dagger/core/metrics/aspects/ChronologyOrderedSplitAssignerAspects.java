@@ -6,7 +6,8 @@ import io.odpf.dagger.common.metrics.aspects.Aspects;
 public enum ChronologyOrderedSplitAssignerAspects implements Aspects {
     TOTAL_SPLITS_DISCOVERED("total_splits_discovered", AspectType.Gauge),
     TOTAL_SPLITS_RECORDED("total_splits_recorded", AspectType.Gauge),
-    SPLITS_AWAITING_ASSIGNMENT("splits_awaiting_assignment", AspectType.Counter);
+    SPLITS_AWAITING_ASSIGNMENT("splits_awaiting_assignment", AspectType.Counter),
+    READERS_AWAITING_ALIGNMENT("readers_awaiting_alignment", AspectType.Gauge);
 
     ChronologyOrderedSplitAssignerAspects(String value, AspectType aspectType) {
         this.value = value;
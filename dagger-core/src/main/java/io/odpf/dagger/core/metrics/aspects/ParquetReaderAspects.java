@@ -7,8 +7,12 @@ public enum ParquetReaderAspects implements Aspects {
     READER_CREATED("reader_created", AspectType.Counter),
     READER_CLOSED("reader_closed", AspectType.Counter),
     READER_ROWS_EMITTED("reader_rows_emitted", AspectType.Counter),
+    READER_ROW_GROUPS_PRUNED("reader_row_groups_pruned", AspectType.Counter),
+    READER_PREFETCH_HITS("reader_prefetch_hits", AspectType.Counter),
+    READER_PREFETCH_STALL_TIME("reader_prefetch_stall_time", AspectType.Histogram),
     READER_ROW_DESERIALIZATION_TIME("reader_row_deserialization_time", AspectType.Histogram),
-    READER_ROW_READ_TIME("reader_row_read_time", AspectType.Histogram);
+    READER_ROW_READ_TIME("reader_row_read_time", AspectType.Histogram),
+    READER_BATCH_DECODE_TIME("reader_batch_decode_time", AspectType.Histogram);
 
     private final String value;
     private final AspectType aspectType;
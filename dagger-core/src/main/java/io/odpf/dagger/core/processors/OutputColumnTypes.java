@@ -0,0 +1,186 @@
+package io.odpf.dagger.core.processors;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.common.serde.typehandler.TypeHandlerFactory;
+import io.odpf.dagger.core.exception.InvalidConfigurationException;
+import io.odpf.dagger.core.processors.common.SchemaConfig;
+import io.odpf.dagger.core.processors.external.ExternalSourceConfig;
+import io.odpf.dagger.core.processors.internal.InternalSourceConfig;
+import io.odpf.dagger.core.processors.types.SourceConfig;
+import io.odpf.dagger.core.utils.Constants;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.odpf.dagger.core.processors.internal.processor.constant.ConstantInternalConfigProcessor.CONSTANT_CONFIG_HANDLER_TYPE;
+import static io.odpf.dagger.core.processors.internal.processor.function.FunctionInternalConfigProcessor.FUNCTION_CONFIG_HANDLER_TYPE;
+import static io.odpf.dagger.core.processors.internal.processor.function.functions.CurrentTimestampFunction.CURRENT_TIMESTAMP_FUNCTION_KEY;
+import static io.odpf.dagger.core.processors.internal.processor.function.functions.JsonPayloadFunction.JSON_PAYLOAD_FUNCTION_KEY;
+import static io.odpf.dagger.core.processors.internal.processor.sql.fields.SqlInternalConfigProcessor.SQL_CONFIG_HANDLER_TYPE;
+
+/**
+ * Resolves the types of the values the post processors set in the output columns.
+ * A column is only typed when every value set in it is known to be of that type: external source columns
+ * converted to a primitive or enum field of the output proto, internal sql columns copied from typed input columns
+ * and the constant and function columns. Values of any other column could only be serialized through Kryo, so
+ * configurations holding such columns are rejected.
+ */
+public class OutputColumnTypes {
+    private static final TypeInformation<Object> UNKNOWN_TYPE = TypeInformation.of(Object.class);
+
+    private final PostProcessorConfig postProcessorConfig;
+    private final SchemaConfig schemaConfig;
+    private final ColumnNameManager columnNameManager;
+
+    /**
+     * Instantiates a new Output column types.
+     *
+     * @param postProcessorConfig the post processor config
+     * @param schemaConfig        the schema config
+     */
+    public OutputColumnTypes(PostProcessorConfig postProcessorConfig, SchemaConfig schemaConfig) {
+        this.postProcessorConfig = postProcessorConfig;
+        this.schemaConfig = schemaConfig;
+        this.columnNameManager = schemaConfig.getColumnNameManager();
+    }
+
+    /**
+     * Resolves the types of the output columns.
+     *
+     * @param inputRowType the type of the input rows
+     * @return the types of the output columns, in output column order
+     * @throws InvalidConfigurationException if the type of some output column can not be resolved
+     */
+    public TypeInformation<?>[] resolve(TypeInformation<?> inputRowType) {
+        TypeInformation<?>[] outputColumnTypes = new TypeInformation<?>[columnNameManager.getOutputSize()];
+        ExternalSourceConfig externalSource = postProcessorConfig.getExternalSource();
+        if (externalSource != null) {
+            getSourceConfigs(externalSource).forEach(sourceConfig -> resolveExternalSource(sourceConfig, outputColumnTypes));
+        }
+        List<InternalSourceConfig> internalSource = postProcessorConfig.getInternalSource();
+        if (internalSource != null) {
+            internalSource.forEach(internalSourceConfig -> resolveInternalSource(internalSourceConfig, inputRowType, outputColumnTypes));
+        }
+        List<String> untypedColumnNames = new ArrayList<>();
+        for (int index = 0; index < outputColumnTypes.length; index++) {
+            if (outputColumnTypes[index] == null || outputColumnTypes[index] instanceof GenericTypeInfo) {
+                untypedColumnNames.add(columnNameManager.getOutputColumnNames()[index]);
+            }
+        }
+        if (!untypedColumnNames.isEmpty()) {
+            throw new InvalidConfigurationException(String.format("Could not resolve the types of the post processor output columns %s. "
+                    + "Map external source columns to primitive or enum fields of the output proto, or of the proto declared as the type "
+                    + "of the external source, and set internal source columns to typed input columns, constants or functions, "
+                    + "with every source of a column setting values of the same type.", untypedColumnNames));
+        }
+        return outputColumnTypes;
+    }
+
+    private List<SourceConfig> getSourceConfigs(ExternalSourceConfig externalSource) {
+        List<SourceConfig> sourceConfigs = new ArrayList<>();
+        addSourceConfigs(sourceConfigs, externalSource.getHttpConfig());
+        addSourceConfigs(sourceConfigs, externalSource.getEsConfig());
+        addSourceConfigs(sourceConfigs, externalSource.getPgConfig());
+        addSourceConfigs(sourceConfigs, externalSource.getGrpcConfig());
+        return sourceConfigs;
+    }
+
+    private void addSourceConfigs(List<SourceConfig> sourceConfigs, List<? extends SourceConfig> configs) {
+        if (configs != null) {
+            sourceConfigs.addAll(configs);
+        }
+    }
+
+    private void resolveExternalSource(SourceConfig sourceConfig, TypeInformation<?>[] outputColumnTypes) {
+        boolean convertsResponse = !sourceConfig.isRetainResponseType() || sourceConfig.hasType();
+        Descriptors.Descriptor descriptor = convertsResponse ? getOutputDescriptor(sourceConfig) : null;
+        for (String outputColumn : sourceConfig.getOutputColumns()) {
+            Descriptors.FieldDescriptor fieldDescriptor = descriptor != null ? descriptor.findFieldByName(outputColumn) : null;
+            setType(outputColumnTypes, outputColumn, getConvertedType(fieldDescriptor));
+        }
+    }
+
+    private Descriptors.Descriptor getOutputDescriptor(SourceConfig sourceConfig) {
+        String descriptorClassName = sourceConfig.getType() != null ? sourceConfig.getType() : schemaConfig.getOutputProtoClassName();
+        if (StringUtils.isEmpty(descriptorClassName)) {
+            return null;
+        }
+        return schemaConfig.getStencilClientOrchestrator().getStencilClient().get(descriptorClassName);
+    }
+
+    /* only primitive and enum fields are converted into values of the type information of their type handler */
+    private TypeInformation<?> getConvertedType(Descriptors.FieldDescriptor fieldDescriptor) {
+        if (fieldDescriptor == null || fieldDescriptor.isRepeated()) {
+            return UNKNOWN_TYPE;
+        }
+        switch (fieldDescriptor.getJavaType()) {
+            case INT:
+            case LONG:
+            case FLOAT:
+            case DOUBLE:
+            case BOOLEAN:
+            case STRING:
+            case ENUM:
+                return TypeHandlerFactory.getTypeHandler(fieldDescriptor).getTypeInformation();
+            default:
+                return UNKNOWN_TYPE;
+        }
+    }
+
+    private void resolveInternalSource(InternalSourceConfig internalSourceConfig, TypeInformation<?> inputRowType, TypeInformation<?>[] outputColumnTypes) {
+        String outputField = internalSourceConfig.getOutputField();
+        String value = internalSourceConfig.getValue();
+        String type = internalSourceConfig.getType() == null ? "" : internalSourceConfig.getType();
+        switch (type) {
+            case SQL_CONFIG_HANDLER_TYPE:
+                if (Constants.SQL_PATH_SELECT_ALL_CONFIG_VALUE.equals(outputField)) {
+                    for (String inputColumnName : columnNameManager.getInputColumnNames()) {
+                        setType(outputColumnTypes, inputColumnName, getInputColumnType(inputRowType, inputColumnName));
+                    }
+                } else if (Constants.SQL_PATH_SELECT_ALL_CONFIG_VALUE.equals(value)) {
+                    setType(outputColumnTypes, outputField, inputRowType);
+                } else {
+                    setType(outputColumnTypes, outputField, getInputColumnType(inputRowType, value));
+                }
+                break;
+            case CONSTANT_CONFIG_HANDLER_TYPE:
+                setType(outputColumnTypes, outputField, Types.STRING);
+                break;
+            case FUNCTION_CONFIG_HANDLER_TYPE:
+                if (CURRENT_TIMESTAMP_FUNCTION_KEY.equals(value)) {
+                    setType(outputColumnTypes, outputField, Types.SQL_TIMESTAMP);
+                } else if (JSON_PAYLOAD_FUNCTION_KEY.equals(value)) {
+                    setType(outputColumnTypes, outputField, Types.STRING);
+                } else {
+                    setType(outputColumnTypes, outputField, UNKNOWN_TYPE);
+                }
+                break;
+            default:
+                setType(outputColumnTypes, outputField, UNKNOWN_TYPE);
+        }
+    }
+
+    private TypeInformation<?> getInputColumnType(TypeInformation<?> inputRowType, String inputColumnName) {
+        int inputIndex = columnNameManager.getInputIndex(inputColumnName);
+        if (!(inputRowType instanceof RowTypeInfo) || inputIndex < 0 || inputIndex >= inputRowType.getArity()) {
+            return UNKNOWN_TYPE;
+        }
+        return ((RowTypeInfo) inputRowType).getTypeAt(inputIndex);
+    }
+
+    /* a column set by several post processors is only typed if all of them set values of the same type */
+    private void setType(TypeInformation<?>[] outputColumnTypes, String outputColumnName, TypeInformation<?> type) {
+        int outputIndex = columnNameManager.getOutputIndex(outputColumnName);
+        if (outputIndex < 0) {
+            return;
+        }
+        TypeInformation<?> resolvedType = type == null ? UNKNOWN_TYPE : type;
+        TypeInformation<?> currentType = outputColumnTypes[outputIndex];
+        outputColumnTypes[outputIndex] = currentType == null || currentType.equals(resolvedType) ? resolvedType : UNKNOWN_TYPE;
+    }
+}
@@ -1,5 +1,6 @@
 package io.odpf.dagger.core.processors;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
@@ -53,10 +54,11 @@ public class ParentPostProcessor implements PostProcessor {
         DataStream<Row> resultStream = streamInfo.getDataStream();
         ColumnNameManager columnNameManager = new ColumnNameManager(streamInfo.getColumnNames(), postProcessorConfig.getOutputColumnNames());
 
-        InitializationDecorator initializationDecorator = new InitializationDecorator(columnNameManager);
+        SchemaConfig schemaConfig = new SchemaConfig(configuration, stencilClientOrchestrator, columnNameManager);
+        TypeInformation<?>[] outputColumnTypes = new OutputColumnTypes(postProcessorConfig, schemaConfig).resolve(resultStream.getType());
+        InitializationDecorator initializationDecorator = new InitializationDecorator(columnNameManager, outputColumnTypes);
         resultStream = initializationDecorator.decorate(resultStream);
         streamInfo = new StreamInfo(resultStream, streamInfo.getColumnNames());
-        SchemaConfig schemaConfig = new SchemaConfig(configuration, stencilClientOrchestrator, columnNameManager);
 
         List<PostProcessor> enabledPostProcessors = getEnabledPostProcessors(telemetrySubscriber, schemaConfig);
         for (PostProcessor postProcessor : enabledPostProcessors) {
@@ -1,5 +1,6 @@
 package io.odpf.dagger.core.processors.common;
 
+import io.odpf.dagger.common.core.DescriptorCache;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.DescriptorNotFoundException;
 import io.odpf.stencil.client.StencilClient;
@@ -13,6 +14,7 @@ import java.util.List;
  */
 public class DescriptorManager implements Serializable {
     private StencilClient stencilClient;
+    private transient DescriptorCache descriptorCache;
 
     /**
      * Instantiates a new Descriptor manager.
@@ -40,7 +42,10 @@ public class DescriptorManager implements Serializable {
      * @return the descriptor
      */
     public Descriptors.Descriptor getDescriptor(String protoClassName) {
-        Descriptors.Descriptor descriptor = stencilClient.get(protoClassName);
+        if (descriptorCache == null) {
+            descriptorCache = DescriptorCache.of(stencilClient);
+        }
+        Descriptors.Descriptor descriptor = descriptorCache.get(protoClassName);
         if (descriptor == null) {
             throw new DescriptorNotFoundException("No Descriptor found for class "
                     + protoClassName);
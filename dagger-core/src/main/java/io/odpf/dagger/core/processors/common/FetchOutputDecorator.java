@@ -54,7 +54,18 @@ public class FetchOutputDecorator implements MapDecorator {
 
     @Override
     public DataStream<Row> decorate(DataStream<Row> inputStream) {
-        return hasSQLTransformer ? inputStream.map(this).returns(getTypeInformation()) : inputStream.map(this);
+        return hasSQLTransformer ? inputStream.map(this).returns(getTypeInformation()) : inputStream.map(this).returns(getOutputRowTypeInformation(inputStream.getType()));
+    }
+
+    /* without a sql transformer the output row keeps the column types declared by the initialization decorator */
+    private TypeInformation<Row> getOutputRowTypeInformation(TypeInformation<Row> inputOutputRowType) {
+        TypeInformation<?> outputRowType = RowManager.getOutputRowType(inputOutputRowType);
+        if (outputRowType instanceof RowTypeInfo && outputRowType.getArity() == outputColumnNames.length) {
+            return new RowTypeInfo(((RowTypeInfo) outputRowType).getFieldTypes());
+        }
+        TypeInformation[] typeInformations = new TypeInformation[outputColumnNames.length];
+        Arrays.fill(typeInformations, TypeInformation.of(Object.class));
+        return new RowTypeInfo(typeInformations);
     }
 
     private TypeInformation<Row> getTypeInformation() {
@@ -3,6 +3,8 @@ package io.odpf.dagger.core.processors.common;
 import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.types.MapDecorator;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
 /**
@@ -11,6 +13,7 @@ import org.apache.flink.types.Row;
 public class InitializationDecorator implements MapDecorator {
 
     private ColumnNameManager columnNameManager;
+    private TypeInformation<?>[] outputColumnTypes;
 
     /**
      * Instantiates a new Initialization decorator.
@@ -21,6 +24,17 @@ public class InitializationDecorator implements MapDecorator {
         this.columnNameManager = columnNameManager;
     }
 
+    /**
+     * Instantiates a new Initialization decorator with the types of the output columns.
+     *
+     * @param columnNameManager the column name manager
+     * @param outputColumnTypes the output column types
+     */
+    public InitializationDecorator(ColumnNameManager columnNameManager, TypeInformation<?>[] outputColumnTypes) {
+        this.columnNameManager = columnNameManager;
+        this.outputColumnTypes = outputColumnTypes;
+    }
+
     @Override
     public Boolean canDecorate() {
         return false;
@@ -32,5 +46,11 @@ public class InitializationDecorator implements MapDecorator {
         return rowManager.getAll();
     }
 
-
+    @Override
+    public DataStream<Row> decorate(DataStream<Row> inputStream) {
+        TypeInformation<Row> typeInformation = outputColumnTypes != null
+                ? RowManager.getTypeInformation(inputStream.getType(), outputColumnTypes)
+                : RowManager.getTypeInformation(inputStream.getType(), columnNameManager.getOutputSize());
+        return inputStream.map(this).returns(typeInformation);
+    }
 }
@@ -2,8 +2,12 @@ package io.odpf.dagger.core.processors.common;
 
 import io.odpf.dagger.core.exception.InputOutputMappingException;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -37,6 +41,58 @@ public class RowManager {
         this.parentRow = inputOutputRow;
     }
 
+    /**
+     * Gets the type information of the input output rows built for input rows of the given type.
+     * The output row is unnamed, since output columns can repeat, and its values are typed as objects.
+     *
+     * @param inputRowType  the input row type
+     * @param outputRowSize the output row size
+     * @return the type information
+     */
+    public static TypeInformation<Row> getTypeInformation(TypeInformation<?> inputRowType, int outputRowSize) {
+        TypeInformation<?>[] outputFieldTypes = new TypeInformation<?>[outputRowSize];
+        Arrays.fill(outputFieldTypes, TypeInformation.of(Object.class));
+        return getTypeInformation(inputRowType, outputFieldTypes);
+    }
+
+    /**
+     * Gets the type information of the input output rows built for input rows of the given type.
+     * The output row is unnamed, since output columns can repeat, and its values have the given types.
+     *
+     * @param inputRowType     the input row type
+     * @param outputFieldTypes the types of the output row values
+     * @return the type information
+     */
+    public static TypeInformation<Row> getTypeInformation(TypeInformation<?> inputRowType, TypeInformation<?>[] outputFieldTypes) {
+        return new RowTypeInfo(inputRowType, new RowTypeInfo(outputFieldTypes));
+    }
+
+    /**
+     * Gets the type information of the input row held by input output rows of the given type.
+     *
+     * @param inputOutputRowType the input output row type
+     * @return the input row type
+     */
+    public static TypeInformation<?> getInputRowType(TypeInformation<Row> inputOutputRowType) {
+        if (inputOutputRowType instanceof RowTypeInfo && inputOutputRowType.getArity() == 2) {
+            return ((RowTypeInfo) inputOutputRowType).getTypeAt(INPUT_ROW_INDEX);
+        }
+        return Types.GENERIC(Row.class);
+    }
+
+    /**
+     * Gets the type information of the output row held by input output rows of the given type.
+     *
+     * @param inputOutputRowType the input output row type
+     * @return the output row type
+     */
+    public static TypeInformation<?> getOutputRowType(TypeInformation<Row> inputOutputRowType) {
+        if (inputOutputRowType instanceof RowTypeInfo && inputOutputRowType.getArity() == 2) {
+            return ((RowTypeInfo) inputOutputRowType).getTypeAt(OUTPUT_ROW_INDEX);
+        }
+        return Types.GENERIC(Row.class);
+    }
+
     /**
      * Set value in output row.
      *
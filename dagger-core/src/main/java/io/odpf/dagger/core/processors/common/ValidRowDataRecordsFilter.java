@@ -0,0 +1,54 @@
+package io.odpf.dagger.core.processors.common;
+
+import org.apache.flink.api.common.functions.RichFilterFunction;
+import org.apache.flink.table.data.RowData;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.Constants;
+import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
+import io.odpf.dagger.core.metrics.reporters.ErrorReporterFactory;
+
+import java.util.Arrays;
+
+/**
+ * The Valid records filter for internal rows, failing on bad records like {@link ValidRecordsDecorator}.
+ */
+public class ValidRowDataRecordsFilter extends RichFilterFunction<RowData> {
+
+    private final String tableName;
+    private final int validationIndex;
+    private final Configuration configuration;
+    /**
+     * The Error reporter.
+     */
+    protected ErrorReporter errorReporter;
+
+    /**
+     * Instantiates a new Valid row data records filter.
+     *
+     * @param tableName     the table name
+     * @param columns       the columns
+     * @param configuration the configuration
+     */
+    public ValidRowDataRecordsFilter(String tableName, String[] columns, Configuration configuration) {
+        this.tableName = tableName;
+        validationIndex = Arrays.asList(columns).indexOf(Constants.INTERNAL_VALIDATION_FIELD_KEY);
+        this.configuration = configuration;
+    }
+
+    @Override
+    public void open(org.apache.flink.configuration.Configuration internalFlinkConfig) throws Exception {
+        errorReporter = ErrorReporterFactory.getErrorReporter(getRuntimeContext().getMetricGroup(), this.configuration);
+    }
+
+    @Override
+    public boolean filter(RowData value) throws Exception {
+        if (!value.getBoolean(validationIndex)) {
+            Exception ex = new InvalidProtocolBufferException("Bad Record Encountered for table `" + this.tableName + "`");
+            errorReporter.reportFatalException(ex);
+            throw ex;
+        }
+        return true;
+    }
+}
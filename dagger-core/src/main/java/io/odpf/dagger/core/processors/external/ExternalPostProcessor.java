@@ -6,7 +6,6 @@ import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.types.PostProcessor;
 import io.odpf.dagger.core.processors.types.SourceConfig;
 import io.odpf.dagger.core.processors.types.StreamDecorator;
-import io.odpf.dagger.core.processors.types.Validator;
 import io.odpf.dagger.core.processors.external.es.EsSourceConfig;
 import io.odpf.dagger.core.processors.external.es.EsStreamDecorator;
 import io.odpf.dagger.core.processors.external.grpc.GrpcSourceConfig;
@@ -15,6 +14,7 @@ import io.odpf.dagger.core.processors.external.http.HttpSourceConfig;
 import io.odpf.dagger.core.processors.external.http.HttpStreamDecorator;
 import io.odpf.dagger.core.processors.external.pg.PgSourceConfig;
 import io.odpf.dagger.core.processors.external.pg.PgStreamDecorator;
+import io.odpf.dagger.core.utils.OperatorResources;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
@@ -52,36 +52,41 @@ public class ExternalPostProcessor implements PostProcessor {
     @Override
     public StreamInfo process(StreamInfo streamInfo) {
         DataStream<Row> resultStream = streamInfo.getDataStream();
+        String slotSharingGroup = null;
 
         List<HttpSourceConfig> httpSourceConfigs = externalSourceConfig.getHttpConfig();
         for (int index = 0; index < httpSourceConfigs.size(); index++) {
             HttpSourceConfig httpSourceConfig = httpSourceConfigs.get(index);
             externalMetricConfig.setMetricId(getMetricId(index, httpSourceConfig));
-            resultStream = enrichStream(resultStream, httpSourceConfig, getHttpDecorator(httpSourceConfig));
+            resultStream = enrichStream(resultStream, slotSharingGroup, httpSourceConfig, getHttpDecorator(httpSourceConfig));
+            slotSharingGroup = httpSourceConfig.getSlotSharingGroup();
         }
 
         List<EsSourceConfig> esSourceConfigs = externalSourceConfig.getEsConfig();
         for (int index = 0; index < esSourceConfigs.size(); index++) {
             EsSourceConfig esSourceConfig = esSourceConfigs.get(index);
             externalMetricConfig.setMetricId(getMetricId(index, esSourceConfig));
-            resultStream = enrichStream(resultStream, esSourceConfig, getEsDecorator(esSourceConfig));
+            resultStream = enrichStream(resultStream, slotSharingGroup, esSourceConfig, getEsDecorator(esSourceConfig));
+            slotSharingGroup = esSourceConfig.getSlotSharingGroup();
         }
 
         List<PgSourceConfig> pgSourceConfigs = externalSourceConfig.getPgConfig();
         for (int index = 0; index < pgSourceConfigs.size(); index++) {
             PgSourceConfig pgSourceConfig = pgSourceConfigs.get(index);
             externalMetricConfig.setMetricId(getMetricId(index, pgSourceConfig));
-            resultStream = enrichStream(resultStream, pgSourceConfig, getPgDecorator(pgSourceConfig));
+            resultStream = enrichStream(resultStream, slotSharingGroup, pgSourceConfig, getPgDecorator(pgSourceConfig));
+            slotSharingGroup = pgSourceConfig.getSlotSharingGroup();
         }
 
         List<GrpcSourceConfig> grpcSourceConfigs = externalSourceConfig.getGrpcConfig();
         for (int index = 0; index < grpcSourceConfigs.size(); index++) {
             GrpcSourceConfig grpcSourceConfig = grpcSourceConfigs.get(index);
             externalMetricConfig.setMetricId(getMetricId(index, grpcSourceConfig));
-            resultStream = enrichStream(resultStream, grpcSourceConfig, getGrpcDecorator(grpcSourceConfig));
+            resultStream = enrichStream(resultStream, slotSharingGroup, grpcSourceConfig, getGrpcDecorator(grpcSourceConfig));
+            slotSharingGroup = grpcSourceConfig.getSlotSharingGroup();
         }
 
-        return new StreamInfo(resultStream, streamInfo.getColumnNames());
+        return new StreamInfo(OperatorResources.endSlotSharingGroup(resultStream, slotSharingGroup), streamInfo.getColumnNames());
     }
 
     private String getMetricId(int index, SourceConfig sourceConfig) {
@@ -89,8 +94,12 @@ public class ExternalPostProcessor implements PostProcessor {
         return (StringUtils.isEmpty(metricId)) ? String.valueOf(index) : metricId;
     }
 
-    private DataStream<Row> enrichStream(DataStream<Row> resultStream, Validator configs, StreamDecorator decorator) {
+    /* a source without a slot sharing group would otherwise run in the group of the source before it */
+    private DataStream<Row> enrichStream(DataStream<Row> resultStream, String previousSlotSharingGroup, SourceConfig configs, StreamDecorator decorator) {
         configs.validateFields();
+        if (StringUtils.isEmpty(configs.getSlotSharingGroup())) {
+            resultStream = OperatorResources.endSlotSharingGroup(resultStream, previousSlotSharingGroup);
+        }
         return decorator.decorate(resultStream);
     }
 
@@ -25,6 +25,8 @@ public class EsSourceConfig implements Serializable, SourceConfig {
     @SerializedName(value = "type", alternate = {"Type", "TYPE"})
     private final String type;
     private final String capacity;
+    private Integer parallelism;
+    private String slotSharingGroup;
     private final String retryTimeout;
     private final String socketTimeout;
     private final String streamTimeout;
@@ -157,6 +159,16 @@ public class EsSourceConfig implements Serializable, SourceConfig {
         return Integer.valueOf(capacity);
     }
 
+    @Override
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public String getSlotSharingGroup() {
+        return slotSharingGroup;
+    }
+
     /**
      * Gets retry timeout.
      *
@@ -243,11 +255,11 @@ public class EsSourceConfig implements Serializable, SourceConfig {
             return false;
         }
         EsSourceConfig that = (EsSourceConfig) o;
-        return failOnErrors == that.failOnErrors && retainResponseType == that.retainResponseType && Objects.equals(host, that.host) && Objects.equals(port, that.port) && Objects.equals(user, that.user) && Objects.equals(password, that.password) && Objects.equals(endpointPattern, that.endpointPattern) && Objects.equals(endpointVariables, that.endpointVariables) && Objects.equals(type, that.type) && Objects.equals(capacity, that.capacity) && Objects.equals(retryTimeout, that.retryTimeout) && Objects.equals(socketTimeout, that.socketTimeout) && Objects.equals(streamTimeout, that.streamTimeout) && Objects.equals(connectTimeout, that.connectTimeout) && Objects.equals(outputMapping, that.outputMapping) && Objects.equals(metricId, that.metricId);
+        return failOnErrors == that.failOnErrors && retainResponseType == that.retainResponseType && Objects.equals(host, that.host) && Objects.equals(port, that.port) && Objects.equals(user, that.user) && Objects.equals(password, that.password) && Objects.equals(endpointPattern, that.endpointPattern) && Objects.equals(endpointVariables, that.endpointVariables) && Objects.equals(type, that.type) && Objects.equals(capacity, that.capacity) && Objects.equals(retryTimeout, that.retryTimeout) && Objects.equals(socketTimeout, that.socketTimeout) && Objects.equals(streamTimeout, that.streamTimeout) && Objects.equals(connectTimeout, that.connectTimeout) && Objects.equals(outputMapping, that.outputMapping) && Objects.equals(metricId, that.metricId) && Objects.equals(parallelism, that.parallelism) && Objects.equals(slotSharingGroup, that.slotSharingGroup);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(host, port, user, password, endpointPattern, endpointVariables, type, capacity, retryTimeout, socketTimeout, streamTimeout, connectTimeout, failOnErrors, outputMapping, metricId, retainResponseType);
+        return Objects.hash(host, port, user, password, endpointPattern, endpointVariables, type, capacity, retryTimeout, socketTimeout, streamTimeout, connectTimeout, failOnErrors, outputMapping, metricId, retainResponseType, parallelism, slotSharingGroup);
     }
 }
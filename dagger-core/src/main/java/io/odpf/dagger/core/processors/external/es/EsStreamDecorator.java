@@ -3,9 +3,11 @@ package io.odpf.dagger.core.processors.external.es;
 import io.odpf.dagger.core.processors.external.ExternalMetricConfig;
 import io.odpf.dagger.core.processors.common.SchemaConfig;
 import io.odpf.dagger.core.processors.types.StreamDecorator;
+import io.odpf.dagger.core.utils.OperatorResources;
 
 import org.apache.flink.streaming.api.datastream.AsyncDataStream;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 
 import java.util.concurrent.TimeUnit;
@@ -41,6 +43,8 @@ public class EsStreamDecorator implements StreamDecorator {
     public DataStream<Row> decorate(DataStream<Row> inputStream) {
         EsAsyncConnector esAsyncConnector = new EsAsyncConnector(esSourceConfig, externalMetricConfig, schemaConfig);
         esAsyncConnector.notifySubscriber(externalMetricConfig.getTelemetrySubscriber());
-        return AsyncDataStream.orderedWait(inputStream, esAsyncConnector, esSourceConfig.getStreamTimeout(), TimeUnit.MILLISECONDS, esSourceConfig.getCapacity());
+        SingleOutputStreamOperator<Row> outputStream = AsyncDataStream.orderedWait(inputStream, esAsyncConnector, esSourceConfig.getStreamTimeout(), TimeUnit.MILLISECONDS, esSourceConfig.getCapacity())
+                .returns(inputStream.getType());
+        return OperatorResources.configure(outputStream, esSourceConfig.getParallelism(), esSourceConfig.getSlotSharingGroup());
     }
 }
@@ -36,6 +36,8 @@ public class GrpcSourceConfig implements Serializable, SourceConfig {
     @SerializedName(value = "metricId", alternate = {"MetricId", "METRICID"})
     private String metricId;
     private int capacity;
+    private Integer parallelism;
+    private String slotSharingGroup;
 
     /**
      * Instantiates a new Grpc source config.
@@ -290,6 +292,16 @@ public class GrpcSourceConfig implements Serializable, SourceConfig {
         return capacity;
     }
 
+    @Override
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public String getSlotSharingGroup() {
+        return slotSharingGroup;
+    }
+
     /**
      * Gets grpc stencil url.
      *
@@ -28,6 +28,8 @@ public class HttpSourceConfig implements Serializable, SourceConfig {
     @SerializedName(value = "type", alternate = {"Type", "TYPE"})
     private String type;
     private String capacity;
+    private Integer parallelism;
+    private String slotSharingGroup;
     @SerializedName(value = "headers", alternate = {"Headers", "HEADERS"})
     private Map<String, String> headers;
     private Map<String, OutputMapping> outputMapping;
@@ -214,6 +216,16 @@ public class HttpSourceConfig implements Serializable, SourceConfig {
         return Integer.parseInt(capacity);
     }
 
+    @Override
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public String getSlotSharingGroup() {
+        return slotSharingGroup;
+    }
+
     /**
      * Check if it is retain response type.
      *
@@ -232,11 +244,11 @@ public class HttpSourceConfig implements Serializable, SourceConfig {
             return false;
         }
         HttpSourceConfig that = (HttpSourceConfig) o;
-        return failOnErrors == that.failOnErrors && retainResponseType == that.retainResponseType && Objects.equals(endpoint, that.endpoint) && Objects.equals(verb, that.verb) && Objects.equals(requestPattern, that.requestPattern) && Objects.equals(requestVariables, that.requestVariables) && Objects.equals(headerPattern, that.headerPattern) && Objects.equals(headerVariables, that.headerVariables) && Objects.equals(streamTimeout, that.streamTimeout) && Objects.equals(connectTimeout, that.connectTimeout) && Objects.equals(type, that.type) && Objects.equals(capacity, that.capacity) && Objects.equals(headers, that.headers) && Objects.equals(outputMapping, that.outputMapping) && Objects.equals(metricId, that.metricId);
+        return failOnErrors == that.failOnErrors && retainResponseType == that.retainResponseType && Objects.equals(endpoint, that.endpoint) && Objects.equals(verb, that.verb) && Objects.equals(requestPattern, that.requestPattern) && Objects.equals(requestVariables, that.requestVariables) && Objects.equals(headerPattern, that.headerPattern) && Objects.equals(headerVariables, that.headerVariables) && Objects.equals(streamTimeout, that.streamTimeout) && Objects.equals(connectTimeout, that.connectTimeout) && Objects.equals(type, that.type) && Objects.equals(capacity, that.capacity) && Objects.equals(headers, that.headers) && Objects.equals(outputMapping, that.outputMapping) && Objects.equals(metricId, that.metricId) && Objects.equals(parallelism, that.parallelism) && Objects.equals(slotSharingGroup, that.slotSharingGroup);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(endpoint, verb, requestPattern, requestVariables, headerPattern, headerVariables, streamTimeout, connectTimeout, failOnErrors, type, capacity, headers, outputMapping, metricId, retainResponseType);
+        return Objects.hash(endpoint, verb, requestPattern, requestVariables, headerPattern, headerVariables, streamTimeout, connectTimeout, failOnErrors, type, capacity, headers, outputMapping, metricId, retainResponseType, parallelism, slotSharingGroup);
     }
 }
@@ -22,6 +22,8 @@ public class PgSourceConfig implements Serializable, SourceConfig {
     private final String database;
     private final String type;
     private final String capacity;
+    private Integer parallelism;
+    private String slotSharingGroup;
     private final String streamTimeout;
     private final Map<String, String> outputMapping;
     private final String connectTimeout;
@@ -115,6 +117,16 @@ public class PgSourceConfig implements Serializable, SourceConfig {
         return Integer.valueOf(capacity);
     }
 
+    @Override
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public String getSlotSharingGroup() {
+        return slotSharingGroup;
+    }
+
     /**
      * Gets port.
      *
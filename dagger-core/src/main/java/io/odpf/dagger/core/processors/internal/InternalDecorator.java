@@ -5,6 +5,9 @@ import io.odpf.dagger.core.processors.common.RowManager;
 import io.odpf.dagger.core.processors.types.MapDecorator;
 import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.types.Row;
 
 /**
@@ -47,6 +50,20 @@ public class InternalDecorator implements MapDecorator {
         return rowManager.getAll();
     }
 
+    @Override
+    public DataStream<Row> decorate(DataStream<Row> inputStream) {
+        return inputStream.map(this).returns(getTypeInformation(inputStream.getType()));
+    }
+
+    /* the output row keeps the column types declared by the initialization decorator */
+    private TypeInformation<Row> getTypeInformation(TypeInformation<Row> inputOutputRowType) {
+        TypeInformation<?> outputRowType = RowManager.getOutputRowType(inputOutputRowType);
+        if (outputRowType instanceof RowTypeInfo && outputRowType.getArity() == columnNameManager.getOutputSize()) {
+            return inputOutputRowType;
+        }
+        return RowManager.getTypeInformation(RowManager.getInputRowType(inputOutputRowType), columnNameManager.getOutputSize());
+    }
+
     private boolean outputColumnSizeIsDifferent(Row outputRow) {
         return outputRow != null && outputRow.getArity() != columnNameManager.getOutputSize();
     }
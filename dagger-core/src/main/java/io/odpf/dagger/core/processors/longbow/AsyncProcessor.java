@@ -2,6 +2,7 @@ package io.odpf.dagger.core.processors.longbow;
 
 import org.apache.flink.streaming.api.datastream.AsyncDataStream;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.functions.async.AsyncFunction;
 import org.apache.flink.types.Row;
 
@@ -21,7 +22,7 @@ public class AsyncProcessor {
      * @param capacity    the capacity
      * @return the data stream
      */
-    public DataStream<Row> orderedWait(DataStream<Row> inputStream, AsyncFunction<Row, Row> function, long timeout, TimeUnit timeunit, Integer capacity) {
+    public SingleOutputStreamOperator<Row> orderedWait(DataStream<Row> inputStream, AsyncFunction<Row, Row> function, long timeout, TimeUnit timeunit, Integer capacity) {
         return AsyncDataStream.orderedWait(inputStream, function, timeout, timeunit, capacity);
     }
 }
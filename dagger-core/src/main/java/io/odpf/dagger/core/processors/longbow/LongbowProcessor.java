@@ -1,6 +1,9 @@
 package io.odpf.dagger.core.processors.longbow;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
 
@@ -8,8 +11,10 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.core.processors.PostProcessorConfig;
 import io.odpf.dagger.core.processors.longbow.columnmodifier.ColumnModifier;
+import io.odpf.dagger.core.processors.longbow.outputRow.OutputRowType;
 import io.odpf.dagger.core.processors.types.PostProcessor;
 import io.odpf.dagger.core.utils.Constants;
+import io.odpf.dagger.core.utils.OperatorResources;
 
 import java.util.ArrayList;
 import java.util.concurrent.TimeUnit;
@@ -44,13 +49,29 @@ public class LongbowProcessor implements PostProcessor {
         DataStream<Row> inputStream = streamInfo.getDataStream();
         long longbowAsyncTimeout = configuration.getLong(Constants.PROCESSOR_LONGBOW_ASYNC_TIMEOUT_KEY, Constants.PROCESSOR_LONGBOW_ASYNC_TIMEOUT_DEFAULT);
         Integer longbowThreadCapacity = configuration.getInteger(Constants.PROCESSOR_LONGBOW_THREAD_CAPACITY_KEY, Constants.PROCESSOR_LONGBOW_THREAD_CAPACITY_DEFAULT);
+        Integer longbowParallelism = configuration.getInteger(Constants.PROCESSOR_LONGBOW_PARALLELISM_KEY, Constants.PROCESSOR_LONGBOW_PARALLELISM_DEFAULT);
+        String longbowSlotSharingGroup = configuration.getString(Constants.PROCESSOR_LONGBOW_SLOT_SHARING_GROUP_KEY, Constants.PROCESSOR_LONGBOW_SLOT_SHARING_GROUP_DEFAULT);
         DataStream<Row> outputStream = inputStream;
         for (RichAsyncFunction<Row, Row> longbowRichFunction : longbowRichFunctions) {
-            outputStream = asyncProcessor.orderedWait(outputStream, longbowRichFunction, longbowAsyncTimeout, TimeUnit.MILLISECONDS, longbowThreadCapacity);
+            TypeInformation<Row> outputRowType = getOutputRowType(longbowRichFunction, outputStream);
+            SingleOutputStreamOperator<Row> asyncOperator = asyncProcessor.orderedWait(outputStream, longbowRichFunction, longbowAsyncTimeout, TimeUnit.MILLISECONDS, longbowThreadCapacity);
+            if (outputRowType != null) {
+                asyncOperator.returns(outputRowType);
+            }
+            outputStream = OperatorResources.configure(asyncOperator, longbowParallelism, longbowSlotSharingGroup);
         }
+        outputStream = OperatorResources.endSlotSharingGroup(outputStream, longbowSlotSharingGroup);
         return new StreamInfo(outputStream, modifier.modifyColumnNames(streamInfo.getColumnNames()));
     }
 
+    /* the rows are only typed when the input rows are, otherwise the async operator keeps the generic row type */
+    private TypeInformation<Row> getOutputRowType(RichAsyncFunction<Row, Row> longbowRichFunction, DataStream<Row> inputStream) {
+        if (!(longbowRichFunction instanceof OutputRowType) || !(inputStream.getType() instanceof RowTypeInfo)) {
+            return null;
+        }
+        return ((OutputRowType) longbowRichFunction).getOutputRowType((RowTypeInfo) inputStream.getType());
+    }
+
     @Override
     public boolean canProcess(PostProcessorConfig postProcessorConfig) {
         return false;
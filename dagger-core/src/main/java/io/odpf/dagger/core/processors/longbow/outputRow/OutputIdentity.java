@@ -1,5 +1,7 @@
 package io.odpf.dagger.core.processors.longbow.outputRow;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 
 /**
@@ -10,4 +12,9 @@ public class OutputIdentity implements WriterOutputRow {
     public Row get(Row input) {
         return input;
     }
+
+    @Override
+    public TypeInformation<Row> getOutputRowType(RowTypeInfo inputRowType) {
+        return inputRowType;
+    }
 }
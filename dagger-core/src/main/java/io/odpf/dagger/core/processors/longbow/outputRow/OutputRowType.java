@@ -0,0 +1,18 @@
+package io.odpf.dagger.core.processors.longbow.outputRow;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.types.Row;
+
+/**
+ * The interface for the longbow parts which know the type of the rows they output.
+ */
+public interface OutputRowType {
+    /**
+     * Gets the type of the rows output for input rows of the given type.
+     *
+     * @param inputRowType the input row type
+     * @return the output row type
+     */
+    TypeInformation<Row> getOutputRowType(RowTypeInfo inputRowType);
+}
@@ -3,11 +3,18 @@ package io.odpf.dagger.core.processors.longbow.outputRow;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
 import io.odpf.dagger.core.processors.longbow.validator.LongbowType;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 
+import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import static io.odpf.dagger.core.utils.Constants.LONGBOW_OUTPUT_ADDITIONAL_ARITY;
+import static io.odpf.dagger.core.utils.Constants.SYNCHRONIZER_BIGTABLE_TABLE_ID_KEY;
+import static io.odpf.dagger.core.utils.Constants.SYNCHRONIZER_INPUT_CLASSNAME_KEY;
+import static io.odpf.dagger.core.utils.Constants.SYNCHRONIZER_LONGBOW_READ_KEY;
 
 /**
  * The Output synchronizer.
@@ -41,4 +48,18 @@ public class OutputSynchronizer implements WriterOutputRow {
         output.setField(inputArity + 2, longbowSchema.getValue(input, LongbowType.LongbowWrite.getKeyName()));
         return output;
     }
+
+    @Override
+    public TypeInformation<Row> getOutputRowType(RowTypeInfo inputRowType) {
+        int inputArity = inputRowType.getArity();
+        TypeInformation<?>[] fieldTypes = Arrays.copyOf(inputRowType.getFieldTypes(), inputArity + LONGBOW_OUTPUT_ADDITIONAL_ARITY);
+        String[] fieldNames = Arrays.copyOf(inputRowType.getFieldNames(), inputArity + LONGBOW_OUTPUT_ADDITIONAL_ARITY);
+        fieldTypes[inputArity] = Types.STRING;
+        fieldNames[inputArity] = SYNCHRONIZER_BIGTABLE_TABLE_ID_KEY;
+        fieldTypes[inputArity + 1] = Types.STRING;
+        fieldNames[inputArity + 1] = SYNCHRONIZER_INPUT_CLASSNAME_KEY;
+        fieldTypes[inputArity + 2] = inputRowType.getTypeAt(longbowSchema.getIndex(LongbowType.LongbowWrite.getKeyName()));
+        fieldNames[inputArity + 2] = SYNCHRONIZER_LONGBOW_READ_KEY;
+        return new RowTypeInfo(fieldTypes, fieldNames);
+    }
 }
@@ -3,8 +3,12 @@ package io.odpf.dagger.core.processors.longbow.outputRow;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
 import io.odpf.dagger.core.utils.Constants;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -37,6 +41,17 @@ public class ReaderOutputLongbowData implements ReaderOutputRow {
         return output;
     }
 
+    @Override
+    public TypeInformation<Row> getOutputRowType(RowTypeInfo inputRowType) {
+        if (longbowSchema.getColumnSize() != inputRowType.getArity()) {
+            return Types.GENERIC(Row.class);
+        }
+        TypeInformation<?>[] fieldTypes = Arrays.copyOf(inputRowType.getFieldTypes(), inputRowType.getArity());
+        longbowSchema.getColumnNames(this::isLongbowData)
+                .forEach(name -> fieldTypes[longbowSchema.getIndex(name)] = Types.LIST(Types.STRING));
+        return new RowTypeInfo(fieldTypes, inputRowType.getFieldNames());
+    }
+
     private boolean isLongbowData(Map.Entry<String, Integer> c) {
         return c.getKey().contains(Constants.LONGBOW_DATA_KEY);
     }
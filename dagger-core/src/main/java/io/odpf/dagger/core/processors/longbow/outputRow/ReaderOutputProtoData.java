@@ -3,9 +3,14 @@ package io.odpf.dagger.core.processors.longbow.outputRow;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
 import io.odpf.dagger.core.utils.Constants;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -37,6 +42,20 @@ public class ReaderOutputProtoData implements ReaderOutputRow {
         return output;
     }
 
+    @Override
+    public TypeInformation<Row> getOutputRowType(RowTypeInfo inputRowType) {
+        List<String> columnNames = longbowSchema.getColumnNames(c -> !isLongbowProtoData(c));
+        int inputArity = inputRowType.getArity();
+        if (columnNames.size() != inputArity || longbowSchema.getColumnSize() != inputArity) {
+            return Types.GENERIC(Row.class);
+        }
+        TypeInformation<?>[] fieldTypes = Arrays.copyOf(inputRowType.getFieldTypes(), inputArity + 1);
+        String[] fieldNames = Arrays.copyOf(inputRowType.getFieldNames(), inputArity + 1);
+        fieldTypes[inputArity] = Types.LIST(Types.PRIMITIVE_ARRAY(Types.BYTE));
+        fieldNames[inputArity] = Constants.LONGBOW_PROTO_DATA_KEY;
+        return new RowTypeInfo(fieldTypes, fieldNames);
+    }
+
     private boolean isLongbowProtoData(Map.Entry<String, Integer> c) {
         return c.getKey().contains(Constants.LONGBOW_PROTO_DATA_KEY);
     }
@@ -8,7 +8,7 @@ import java.util.Map;
 /**
  * The interface Reader output row.
  */
-public interface ReaderOutputRow extends Serializable {
+public interface ReaderOutputRow extends Serializable, OutputRowType {
     /**
      * Get row.
      *
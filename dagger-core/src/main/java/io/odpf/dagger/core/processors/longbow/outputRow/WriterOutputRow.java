@@ -7,7 +7,7 @@ import java.io.Serializable;
 /**
  * The interface Writer output row.
  */
-public interface WriterOutputRow extends Serializable {
+public interface WriterOutputRow extends Serializable, OutputRowType {
     /**
      * Get row.
      *
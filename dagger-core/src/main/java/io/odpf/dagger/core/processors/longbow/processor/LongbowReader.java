@@ -1,5 +1,7 @@
 package io.odpf.dagger.core.processors.longbow.processor;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
 import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
@@ -14,6 +16,7 @@ import io.odpf.dagger.core.metrics.telemetry.TelemetryTypes;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
 import io.odpf.dagger.core.processors.longbow.data.LongbowData;
 import io.odpf.dagger.core.processors.longbow.exceptions.LongbowReaderException;
+import io.odpf.dagger.core.processors.longbow.outputRow.OutputRowType;
 import io.odpf.dagger.core.processors.longbow.outputRow.ReaderOutputRow;
 import io.odpf.dagger.core.processors.longbow.range.LongbowRange;
 import io.odpf.dagger.core.processors.longbow.request.ScanRequestFactory;
@@ -38,7 +41,7 @@ import static java.time.Duration.between;
 /**
  * The Longbow reader.
  */
-public class LongbowReader extends RichAsyncFunction<Row, Row> implements TelemetryPublisher {
+public class LongbowReader extends RichAsyncFunction<Row, Row> implements TelemetryPublisher, OutputRowType {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LongbowReader.class.getName());
     private Configuration configuration;
@@ -144,6 +147,11 @@ public class LongbowReader extends RichAsyncFunction<Row, Row> implements Teleme
         return longbowRange;
     }
 
+    @Override
+    public TypeInformation<Row> getOutputRowType(RowTypeInfo inputRowType) {
+        return readerOutputRow.getOutputRowType(inputRowType);
+    }
+
     private void instrumentation(List<Result> scanResult, Instant startTime, Row input) {
         meterStatsManager.markEvent(LongbowReaderAspects.SUCCESS_ON_READ_DOCUMENT);
         meterStatsManager.updateHistogram(LongbowReaderAspects.SUCCESS_ON_READ_DOCUMENT_RESPONSE_TIME, between(startTime, Instant.now()).toMillis());
@@ -1,5 +1,7 @@
 package io.odpf.dagger.core.processors.longbow.processor;
 
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.functions.async.ResultFuture;
 import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
@@ -13,6 +15,7 @@ import io.odpf.dagger.core.metrics.telemetry.TelemetryPublisher;
 import io.odpf.dagger.core.metrics.telemetry.TelemetryTypes;
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
 import io.odpf.dagger.core.processors.longbow.exceptions.LongbowWriterException;
+import io.odpf.dagger.core.processors.longbow.outputRow.OutputRowType;
 import io.odpf.dagger.core.processors.longbow.outputRow.WriterOutputRow;
 import io.odpf.dagger.core.processors.longbow.request.PutRequestFactory;
 import io.odpf.dagger.core.processors.longbow.storage.LongbowStore;
@@ -37,7 +40,7 @@ import static java.time.Duration.between;
 /**
  * The Longbow writer.
  */
-public class LongbowWriter extends RichAsyncFunction<Row, Row> implements TelemetryPublisher {
+public class LongbowWriter extends RichAsyncFunction<Row, Row> implements TelemetryPublisher, OutputRowType {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(LongbowWriter.class.getName());
     private static final byte[] COLUMN_FAMILY_NAME = Bytes.toBytes(Constants.LONGBOW_COLUMN_FAMILY_DEFAULT);
@@ -182,6 +185,11 @@ public class LongbowWriter extends RichAsyncFunction<Row, Row> implements Teleme
         return metrics;
     }
 
+    @Override
+    public TypeInformation<Row> getOutputRowType(RowTypeInfo inputRowType) {
+        return writerOutputRow.getOutputRowType(inputRowType);
+    }
+
     private void addMetric(String key, String value) {
         metrics.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
     }
@@ -25,7 +25,8 @@ public class TelemetryProcessor implements PostProcessor {
 
     @Override
     public StreamInfo process(StreamInfo inputStreamInfo) {
-        DataStream<Row> resultStream = inputStreamInfo.getDataStream().map(metricsTelemetryExporter);
+        DataStream<Row> inputStream = inputStreamInfo.getDataStream();
+        DataStream<Row> resultStream = inputStream.map(metricsTelemetryExporter).returns(inputStream.getType());
         return new StreamInfo(resultStream, inputStreamInfo.getColumnNames());
     }
 
@@ -47,4 +47,32 @@ public interface SourceConfig extends Validator {
      * @return the type
      */
     String getType();
+
+    /**
+     * Check if type config is not empty.
+     *
+     * @return the boolean
+     */
+    boolean hasType();
+
+    /**
+     * Check if it is retain response type.
+     *
+     * @return the boolean
+     */
+    boolean isRetainResponseType();
+
+    /**
+     * Gets the parallelism of the post processor operator.
+     *
+     * @return the parallelism, null to keep the job parallelism
+     */
+    Integer getParallelism();
+
+    /**
+     * Gets the slot sharing group of the post processor operator.
+     *
+     * @return the slot sharing group, null to keep the default group
+     */
+    String getSlotSharingGroup();
 }
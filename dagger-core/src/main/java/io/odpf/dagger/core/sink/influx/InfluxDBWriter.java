@@ -5,6 +5,7 @@ import org.apache.flink.types.Row;
 
 import com.google.common.base.Strings;
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.RowSampler;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import org.influxdb.InfluxDB;
 import org.influxdb.dto.Point;
@@ -33,8 +34,13 @@ public class InfluxDBWriter implements SinkWriter<Row, Void, Void> {
     private String[] columnNames;
     private ErrorHandler errorHandler;
     private ErrorReporter errorReporter;
+    private RowSampler rowSampler;
 
     public InfluxDBWriter(Configuration configuration, InfluxDB influxDB, String[] columnNames, ErrorHandler errorHandler, ErrorReporter errorReporter) {
+        this(configuration, influxDB, columnNames, errorHandler, errorReporter, RowSampler.forSink(configuration));
+    }
+
+    public InfluxDBWriter(Configuration configuration, InfluxDB influxDB, String[] columnNames, ErrorHandler errorHandler, ErrorReporter errorReporter, RowSampler rowSampler) {
         databaseName = configuration.getString(SINK_INFLUX_DB_NAME_KEY, SINK_INFLUX_DB_NAME_DEFAULT);
         retentionPolicy = configuration.getString(SINK_INFLUX_RETENTION_POLICY_KEY, SINK_INFLUX_RETENTION_POLICY_DEFAULT);
         measurementName = configuration.getString(SINK_INFLUX_MEASUREMENT_NAME_KEY, SINK_INFLUX_MEASUREMENT_NAME_DEFAULT);
@@ -42,11 +48,12 @@ public class InfluxDBWriter implements SinkWriter<Row, Void, Void> {
         this.columnNames = columnNames;
         this.errorHandler = errorHandler;
         this.errorReporter = errorReporter;
+        this.rowSampler = rowSampler;
     }
 
     @Override
     public void write(Row row, Context context) throws IOException, InterruptedException {
-        LOGGER.info("row to influx: " + row);
+        rowSampler.log(LOGGER, "row to influx: ", row);
 
         Builder pointBuilder = Point.measurement(measurementName);
         Map<String, Object> fields = new HashMap<>();
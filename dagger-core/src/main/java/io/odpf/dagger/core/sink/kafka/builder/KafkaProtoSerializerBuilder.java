@@ -3,6 +3,7 @@ package io.odpf.dagger.core.sink.kafka.builder;
 import org.apache.flink.connector.kafka.sink.KafkaRecordSerializationSchema;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.RowSampler;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.serde.proto.serialization.ProtoSerializer;
 import io.odpf.dagger.core.metrics.telemetry.TelemetryPublisher;
@@ -34,12 +35,13 @@ public class KafkaProtoSerializerBuilder implements KafkaSerializerBuilder, Tele
         String outputProtoKey = configuration.getString(Constants.SINK_KAFKA_PROTO_KEY, null);
         String outputProtoMessage = configuration.getString(Constants.SINK_KAFKA_PROTO_MESSAGE_KEY, "");
         String outputStream = configuration.getString(Constants.SINK_KAFKA_STREAM_KEY, "");
+        boolean directSerializationEnabled = configuration.getBoolean(Constants.SINK_KAFKA_PROTO_DIRECT_SERIALIZATION_ENABLE_KEY, Constants.SINK_KAFKA_PROTO_DIRECT_SERIALIZATION_ENABLE_DEFAULT);
         addMetric(TelemetryTypes.OUTPUT_TOPIC.getValue(), outputTopic);
         addMetric(TelemetryTypes.OUTPUT_PROTO.getValue(), outputProtoMessage);
         addMetric(TelemetryTypes.OUTPUT_STREAM.getValue(), outputStream);
         notifySubscriber();
 
-        return new ProtoSerializer(outputProtoKey, outputProtoMessage, columnNames, stencilClientOrchestrator, outputTopic);
+        return new ProtoSerializer(outputProtoKey, outputProtoMessage, columnNames, stencilClientOrchestrator, outputTopic, directSerializationEnabled, RowSampler.forSink(configuration));
     }
 
     @Override
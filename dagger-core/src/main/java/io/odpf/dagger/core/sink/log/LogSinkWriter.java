@@ -6,9 +6,7 @@ import org.apache.flink.types.Row;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class LogSinkWriter implements SinkWriter<Row, Void, Void> {
     private static final Logger LOGGER = LoggerFactory.getLogger(LogSinkWriter.class.getName());
@@ -20,14 +18,17 @@ public class LogSinkWriter implements SinkWriter<Row, Void, Void> {
 
     @Override
     public void write(Row row, Context context) {
-        Map<String, String> map = new HashMap<>();
+        if (!LOGGER.isInfoEnabled()) {
+            return;
+        }
+        StringBuilder logMessage = new StringBuilder("{");
         for (int i = 0; i < columnNames.length; i++) {
             Object field = row.getField(i);
             if (field != null) {
-                map.put(columnNames[i], field.toString());
+                logMessage.append(logMessage.length() > 1 ? ", " : "").append(columnNames[i]).append('=').append(field);
             }
         }
-        LOGGER.info(map.toString());
+        LOGGER.info(logMessage.append('}').toString());
     }
 
     @Override
@@ -7,6 +7,7 @@ import io.odpf.dagger.core.exception.InvalidDaggerSourceException;
 import io.odpf.dagger.core.metrics.reporters.statsd.StatsDErrorReporter;
 import io.odpf.dagger.core.source.config.StreamConfig;
 import io.odpf.dagger.core.source.flinkkafkaconsumer.FlinkKafkaConsumerDaggerSource;
+import io.odpf.dagger.core.source.hybrid.HybridDaggerSource;
 import io.odpf.dagger.core.source.kafka.KafkaDaggerSource;
 import io.odpf.dagger.core.source.parquet.ParquetDaggerSource;
 import org.apache.flink.types.Row;
@@ -36,7 +37,8 @@ public class DaggerSourceFactory {
         KafkaDaggerSource kafkaDaggerSource = new KafkaDaggerSource(streamConfig, configuration, deserializer);
         FlinkKafkaConsumerDaggerSource flinkKafkaConsumerDaggerSource = new FlinkKafkaConsumerDaggerSource(streamConfig, configuration, deserializer);
         ParquetDaggerSource parquetDaggerSource = new ParquetDaggerSource(streamConfig, configuration, deserializer, statsDReporterSupplier);
-        return Stream.of(kafkaDaggerSource, flinkKafkaConsumerDaggerSource, parquetDaggerSource)
+        HybridDaggerSource hybridDaggerSource = new HybridDaggerSource(streamConfig, configuration, deserializer, statsDReporterSupplier);
+        return Stream.of(kafkaDaggerSource, flinkKafkaConsumerDaggerSource, parquetDaggerSource, hybridDaggerSource)
                 .collect(Collectors.toList());
     }
 }
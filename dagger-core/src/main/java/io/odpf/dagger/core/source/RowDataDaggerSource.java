@@ -0,0 +1,15 @@
+package io.odpf.dagger.core.source;
+
+import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.streaming.api.datastream.DataStreamSource;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.data.RowData;
+
+/**
+ * A source which can also produce Flink's internal {@link RowData}, registered as a table without being converted.
+ */
+public interface RowDataDaggerSource {
+    DataStreamSource<RowData> registerRowData(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<RowData> watermarkStrategy);
+
+    boolean canBuildRowData();
+}
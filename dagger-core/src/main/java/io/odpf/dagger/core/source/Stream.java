@@ -4,12 +4,15 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.FieldProjection;
 import io.odpf.dagger.core.deserializer.DaggerDeserializerFactory;
 import io.odpf.dagger.core.source.config.StreamConfig;
+import io.odpf.dagger.core.utils.OperatorResources;
 import lombok.Getter;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.data.RowData;
 import org.apache.flink.types.Row;
 
 import java.io.Serializable;
@@ -19,14 +22,28 @@ public class Stream implements Serializable {
     private final DaggerSource<Row> daggerSource;
     @Getter
     private final String streamName;
+    private final Integer sourceParallelism;
 
     Stream(DaggerSource<Row> daggerSource, String streamName) {
+        this(daggerSource, streamName, null);
+    }
+
+    Stream(DaggerSource<Row> daggerSource, String streamName, Integer sourceParallelism) {
         this.daggerSource = daggerSource;
         this.streamName = streamName;
+        this.sourceParallelism = sourceParallelism;
     }
 
     public DataStream<Row> registerSource(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<Row> watermarkStrategy) {
-        return daggerSource.register(executionEnvironment, watermarkStrategy);
+        return OperatorResources.configure(daggerSource.register(executionEnvironment, watermarkStrategy), sourceParallelism, null);
+    }
+
+    public boolean canRegisterRowDataSource() {
+        return daggerSource instanceof RowDataDaggerSource && ((RowDataDaggerSource) daggerSource).canBuildRowData();
+    }
+
+    public DataStream<RowData> registerRowDataSource(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<RowData> watermarkStrategy) {
+        return OperatorResources.configure(((RowDataDaggerSource) daggerSource).registerRowData(executionEnvironment, watermarkStrategy), sourceParallelism, null);
     }
 
     public static class Builder {
@@ -34,6 +51,7 @@ public class Stream implements Serializable {
         private final Configuration configuration;
         private final StencilClientOrchestrator stencilClientOrchestrator;
         private final SerializedStatsDReporterSupplier statsDReporterSupplier;
+        private FieldProjection fieldProjection = FieldProjection.all();
 
         public Builder(StreamConfig streamConfig, Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, SerializedStatsDReporterSupplier statsDReporterSupplier) {
             this.streamConfig = streamConfig;
@@ -42,10 +60,15 @@ public class Stream implements Serializable {
             this.statsDReporterSupplier = statsDReporterSupplier;
         }
 
+        public Builder withFieldProjection(FieldProjection projection) {
+            this.fieldProjection = projection;
+            return this;
+        }
+
         public Stream build() {
-            DaggerDeserializer<Row> daggerDeserializer = DaggerDeserializerFactory.create(streamConfig, configuration, stencilClientOrchestrator, statsDReporterSupplier);
+            DaggerDeserializer<Row> daggerDeserializer = DaggerDeserializerFactory.create(streamConfig, configuration, stencilClientOrchestrator, statsDReporterSupplier, fieldProjection);
             DaggerSource<Row> daggerSource = DaggerSourceFactory.create(streamConfig, configuration, daggerDeserializer, statsDReporterSupplier);
-            return new Stream(daggerSource, streamConfig.getSchemaTable());
+            return new Stream(daggerSource, streamConfig.getSchemaTable(), streamConfig.getSourceParallelism());
         }
     }
 }
@@ -4,17 +4,19 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.core.source.config.StreamConfig;
+import io.odpf.dagger.core.source.projection.SqlFieldProjectionAnalyzer;
 
 import java.util.ArrayList;
 import java.util.List;
 
 public class StreamsFactory {
-    public static List<Stream> getStreams(Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+    public static List<Stream> getStreams(Configuration configuration, StencilClientOrchestrator stencilClientOrchestrator, SerializedStatsDReporterSupplier statsDReporterSupplier, SqlFieldProjectionAnalyzer fieldProjectionAnalyzer) {
         StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
         ArrayList<Stream> streams = new ArrayList<>();
 
         for (StreamConfig streamConfig : streamConfigs) {
-            Stream.Builder builder = new Stream.Builder(streamConfig, configuration, stencilClientOrchestrator, statsDReporterSupplier);
+            Stream.Builder builder = new Stream.Builder(streamConfig, configuration, stencilClientOrchestrator, statsDReporterSupplier)
+                    .withFieldProjection(fieldProjectionAnalyzer.getFieldProjection(streamConfig.getSchemaTable()));
             streams.add(builder.build());
         }
         return streams;
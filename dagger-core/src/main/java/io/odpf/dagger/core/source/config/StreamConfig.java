@@ -20,6 +20,7 @@ import lombok.Getter;
 import org.apache.kafka.clients.consumer.OffsetResetStrategy;
 
 import java.io.StringReader;
+import java.time.Instant;
 import java.util.Map;
 import java.util.Properties;
 import java.util.regex.Pattern;
@@ -105,6 +106,13 @@ public class StreamConfig {
     @Getter
     private TimeRangePool parquetFileDateRange;
 
+    @SerializedName(STREAM_SOURCE_HYBRID_SWITCH_TIME_KEY)
+    private String hybridSwitchTime;
+
+    @SerializedName(STREAM_SOURCE_PARALLELISM_KEY)
+    @Getter
+    private Integer sourceParallelism;
+
     public String getDataType() {
         if (dataType == null) {
             dataType = "PROTO";
@@ -128,6 +136,13 @@ public class StreamConfig {
         }
     }
 
+    public Instant getHybridSwitchTime() {
+        if (hybridSwitchTime == null) {
+            return null;
+        }
+        return Instant.parse(hybridSwitchTime);
+    }
+
     public String getAutoOffsetReset() {
         if (autoOffsetReset == null) {
             autoOffsetReset = "latest";
@@ -143,6 +158,7 @@ public class StreamConfig {
         return Stream.of(GSON.fromJson(jsonArrayString, StreamConfig[].class))
                 .map(StreamConfigValidator::validateSourceDetails)
                 .map(StreamConfigValidator::validateParquetDataSourceStreamConfigs)
+                .map(StreamConfigValidator::validateHybridSourceStreamConfigs)
                 .toArray(StreamConfig[]::new);
     }
 
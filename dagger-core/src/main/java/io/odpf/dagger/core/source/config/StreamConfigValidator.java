@@ -3,11 +3,16 @@ package io.odpf.dagger.core.source.config;
 import com.google.common.base.Preconditions;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
+import io.odpf.dagger.core.source.config.models.SourceType;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
 import static io.odpf.dagger.core.utils.Constants.STREAM_SOURCE_DETAILS_KEY;
+import static io.odpf.dagger.core.utils.Constants.STREAM_SOURCE_HYBRID_SWITCH_TIME_KEY;
 import static io.odpf.dagger.core.utils.Constants.STREAM_SOURCE_PARQUET_FILE_PATHS_KEY;
 
 public class StreamConfigValidator {
@@ -42,6 +47,33 @@ public class StreamConfigValidator {
         return streamConfig;
     }
 
+    public static StreamConfig validateHybridSourceStreamConfigs(StreamConfig streamConfig) {
+        if (!isHybridSource(streamConfig.getSourceDetails())) {
+            return streamConfig;
+        }
+        Instant hybridSwitchTime;
+        try {
+            hybridSwitchTime = streamConfig.getHybridSwitchTime();
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(String.format("%s is not a valid ISO format timestamp.", STREAM_SOURCE_HYBRID_SWITCH_TIME_KEY), e);
+        }
+        Preconditions.checkArgument(hybridSwitchTime != null, "%s is required for configuring a "
+                + "Hybrid Parquet and Kafka Data Source Stream, but is set to null.", STREAM_SOURCE_HYBRID_SWITCH_TIME_KEY);
+        /* files are read by their hour partitions, the rows after a switch within an hour would be read from both sources */
+        Preconditions.checkArgument(hybridSwitchTime.equals(hybridSwitchTime.truncatedTo(ChronoUnit.HOURS)), "%s is set to %s, "
+                + "but has to be at the start of an hour, as the Parquet files are read by their hour partitions.",
+                STREAM_SOURCE_HYBRID_SWITCH_TIME_KEY, hybridSwitchTime);
+        return streamConfig;
+    }
+
+    public static boolean isHybridSource(SourceDetails[] sourceDetailsArray) {
+        return sourceDetailsArray.length == 2
+                && sourceDetailsArray[0].getSourceName().equals(SourceName.PARQUET_SOURCE)
+                && sourceDetailsArray[0].getSourceType().equals(SourceType.BOUNDED)
+                && sourceDetailsArray[1].getSourceName().equals(SourceName.KAFKA_SOURCE)
+                && sourceDetailsArray[1].getSourceType().equals(SourceType.UNBOUNDED);
+    }
+
     private static StreamConfig validateParquetFilePaths(StreamConfig streamConfig) {
         String[] parquetFilePaths = streamConfig.getParquetFilePaths();
         Preconditions.checkArgument(parquetFilePaths != null, "%s is required for configuring a "
@@ -8,7 +8,7 @@ import io.odpf.dagger.core.source.config.models.SourceType;
 import io.odpf.dagger.core.source.config.StreamConfig;
 import io.odpf.dagger.core.source.DaggerSource;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
-import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
 import org.apache.flink.types.Row;
@@ -37,7 +37,7 @@ public class FlinkKafkaConsumerDaggerSource implements DaggerSource<Row> {
     }
 
     @Override
-    public DataStream<Row> register(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<Row> watermarkStrategy) {
+    public DataStreamSource<Row> register(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<Row> watermarkStrategy) {
         FlinkKafkaConsumerCustom source = buildSource();
         return executionEnvironment.addSource(source.assignTimestampsAndWatermarks(watermarkStrategy));
     }
@@ -0,0 +1,56 @@
+package io.odpf.dagger.core.source.hybrid;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.core.deserializer.HybridDeserializer;
+import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
+import io.odpf.dagger.core.source.DaggerSource;
+import io.odpf.dagger.core.source.config.StreamConfig;
+import io.odpf.dagger.core.source.config.StreamConfigValidator;
+import io.odpf.dagger.core.source.kafka.KafkaDaggerSource;
+import io.odpf.dagger.core.source.parquet.ParquetDaggerSource;
+import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.connector.base.source.hybrid.HybridSource;
+import org.apache.flink.connector.kafka.source.enumerator.initializer.OffsetsInitializer;
+import org.apache.flink.streaming.api.datastream.DataStreamSource;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.types.Row;
+
+/**
+ * Reads the Parquet files of a stream up to the hybrid switch time and then switches over to Kafka, starting from the
+ * offsets of the first messages at or after the switch time. Backfills read the archive at file read speed and catch
+ * up with the live topic in the same job.
+ */
+public class HybridDaggerSource implements DaggerSource<Row> {
+    private final StreamConfig streamConfig;
+    private final Configuration configuration;
+    private final DaggerDeserializer<Row> deserializer;
+    private final SerializedStatsDReporterSupplier statsDReporterSupplier;
+
+    public HybridDaggerSource(StreamConfig streamConfig, Configuration configuration, DaggerDeserializer<Row> deserializer, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+        this.streamConfig = streamConfig;
+        this.configuration = configuration;
+        this.deserializer = deserializer;
+        this.statsDReporterSupplier = statsDReporterSupplier;
+    }
+
+    HybridSource<Row> buildSource() {
+        HybridDeserializer hybridDeserializer = (HybridDeserializer) deserializer;
+        ParquetDaggerSource parquetDaggerSource = new ParquetDaggerSource(streamConfig, configuration, hybridDeserializer.getParquetDeserializer(), statsDReporterSupplier);
+        KafkaDaggerSource kafkaDaggerSource = new KafkaDaggerSource(streamConfig, configuration, hybridDeserializer.getKafkaDeserializer());
+        OffsetsInitializer switchTimeOffsets = OffsetsInitializer.timestamp(streamConfig.getHybridSwitchTime().toEpochMilli());
+        return HybridSource.builder(parquetDaggerSource.buildFileSource())
+                .addSource(kafkaDaggerSource.buildSource(switchTimeOffsets))
+                .build();
+    }
+
+    @Override
+    public DataStreamSource<Row> register(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<Row> watermarkStrategy) {
+        return executionEnvironment.fromSource(buildSource(), watermarkStrategy, streamConfig.getSchemaTable());
+    }
+
+    @Override
+    public boolean canBuild() {
+        return StreamConfigValidator.isHybridSource(streamConfig.getSourceDetails()) && deserializer instanceof HybridDeserializer;
+    }
+}
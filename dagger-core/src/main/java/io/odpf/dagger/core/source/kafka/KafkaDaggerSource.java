@@ -2,23 +2,30 @@ package io.odpf.dagger.core.source.kafka;
 
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.KafkaRowDataDeserializer;
+import io.odpf.dagger.common.serde.RowDataDeserializer;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
 import io.odpf.dagger.core.source.config.StreamConfig;
 import io.odpf.dagger.core.source.DaggerSource;
+import io.odpf.dagger.core.source.RowDataDaggerSource;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.connector.kafka.source.KafkaSource;
+import org.apache.flink.connector.kafka.source.enumerator.initializer.OffsetsInitializer;
 import org.apache.flink.connector.kafka.source.reader.deserializer.KafkaRecordDeserializationSchema;
-import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.streaming.connectors.kafka.KafkaDeserializationSchema;
+import org.apache.flink.table.data.RowData;
 import org.apache.flink.types.Row;
 
 import static io.odpf.dagger.core.source.config.models.SourceName.KAFKA_SOURCE;
 import static io.odpf.dagger.core.source.config.models.SourceType.UNBOUNDED;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_ROW_DATA_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_ROW_DATA_ENABLE_KEY;
 
-public class KafkaDaggerSource implements DaggerSource<Row> {
+public class KafkaDaggerSource implements DaggerSource<Row>, RowDataDaggerSource {
     private final DaggerDeserializer<Row> deserializer;
     private final StreamConfig streamConfig;
     private final Configuration configuration;
@@ -32,9 +39,24 @@ public class KafkaDaggerSource implements DaggerSource<Row> {
     }
 
     KafkaSource<Row> buildSource() {
+        return buildSource(streamConfig.getStartingOffset());
+    }
+
+    public KafkaSource<Row> buildSource(OffsetsInitializer startingOffsets) {
         KafkaRecordDeserializationSchema<Row> kafkaRecordDeserializationSchema = KafkaRecordDeserializationSchema
                 .of((KafkaDeserializationSchema<Row>) deserializer);
         return KafkaSource.<Row>builder()
+                .setTopicPattern(streamConfig.getTopicPattern())
+                .setStartingOffsets(startingOffsets)
+                .setProperties(streamConfig.getKafkaProps(configuration))
+                .setDeserializer(kafkaRecordDeserializationSchema)
+                .build();
+    }
+
+    KafkaSource<RowData> buildRowDataSource() {
+        KafkaRecordDeserializationSchema<RowData> kafkaRecordDeserializationSchema = KafkaRecordDeserializationSchema
+                .of(createKafkaRowDataDeserializer());
+        return KafkaSource.<RowData>builder()
                 .setTopicPattern(streamConfig.getTopicPattern())
                 .setStartingOffsets(streamConfig.getStartingOffset())
                 .setProperties(streamConfig.getKafkaProps(configuration))
@@ -42,8 +64,13 @@ public class KafkaDaggerSource implements DaggerSource<Row> {
                 .build();
     }
 
+    @SuppressWarnings("unchecked")
+    private <T extends KafkaDeserializationSchema<Row> & RowDataDeserializer> KafkaRowDataDeserializer<T> createKafkaRowDataDeserializer() {
+        return new KafkaRowDataDeserializer<>((T) deserializer);
+    }
+
     @Override
-    public DataStream<Row> register(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<Row> watermarkStrategy) {
+    public DataStreamSource<Row> register(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<Row> watermarkStrategy) {
         return executionEnvironment.fromSource(buildSource(), watermarkStrategy, streamConfig.getSchemaTable());
     }
 
@@ -59,4 +86,17 @@ public class KafkaDaggerSource implements DaggerSource<Row> {
                     && deserializer instanceof KafkaDeserializationSchema;
         }
     }
+
+    @Override
+    public DataStreamSource<RowData> registerRowData(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<RowData> watermarkStrategy) {
+        return executionEnvironment.fromSource(buildRowDataSource(), watermarkStrategy, streamConfig.getSchemaTable());
+    }
+
+    @Override
+    public boolean canBuildRowData() {
+        return canBuild()
+                && configuration.getBoolean(SOURCE_KAFKA_ROW_DATA_ENABLE_KEY, SOURCE_KAFKA_ROW_DATA_ENABLE_DEFAULT)
+                && deserializer instanceof RowDataDeserializer
+                && ((RowDataDeserializer) deserializer).canDeserializeRowData();
+    }
 }
@@ -0,0 +1,103 @@
+package io.odpf.dagger.core.source.parquet;
+
+import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
+import io.odpf.dagger.core.source.parquet.splitassigner.ChronologyOrderedSplitAssigner;
+import io.odpf.dagger.core.source.parquet.splitassigner.EventTimeAlignedSplitEnumerator;
+import io.odpf.dagger.core.source.parquet.splitassigner.EventTimeAlignedSplitsCheckpoint;
+import io.odpf.dagger.core.source.parquet.splitassigner.EventTimeAlignedSplitsCheckpointSerializer;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.connector.source.Boundedness;
+import org.apache.flink.api.connector.source.Source;
+import org.apache.flink.api.connector.source.SourceReader;
+import org.apache.flink.api.connector.source.SourceReaderContext;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.api.java.typeutils.ResultTypeQueryable;
+import org.apache.flink.connector.file.src.FileSource;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.enumerate.FileEnumerator;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.types.Row;
+import org.apache.flink.util.FlinkRuntimeException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * A bounded file source which reads splits like the wrapped {@link FileSource}, but assigns them through an
+ * {@link EventTimeAlignedSplitEnumerator}, which keeps the parallel readers within a maximum event time lag of each other.
+ */
+public class EventTimeAlignedFileSource implements Source<Row, FileSourceSplit, EventTimeAlignedSplitsCheckpoint>, ResultTypeQueryable<Row> {
+    private final FileSource<Row> fileSource;
+    private final Path[] filePaths;
+    private final FileEnumerator.Provider fileEnumerator;
+    private final ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder splitAssignerBuilder;
+    private final Duration maxLag;
+    private final SerializedStatsDReporterSupplier statsDReporterSupplier;
+
+    /**
+     * Instantiates a new Event time aligned file source.
+     *
+     * @param fileSource             the file source reading the splits
+     * @param filePaths              the file paths to read
+     * @param fileEnumerator         the enumerator of the splits of the file paths
+     * @param splitAssignerBuilder   the builder of the assigner ordering the splits
+     * @param maxLag                 the maximum lag between the splits being read
+     * @param statsDReporterSupplier the statsD reporter supplier
+     */
+    public EventTimeAlignedFileSource(FileSource<Row> fileSource, Path[] filePaths, FileEnumerator.Provider fileEnumerator,
+                                      ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder splitAssignerBuilder,
+                                      Duration maxLag, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+        this.fileSource = fileSource;
+        this.filePaths = filePaths;
+        this.fileEnumerator = fileEnumerator;
+        this.splitAssignerBuilder = splitAssignerBuilder;
+        this.maxLag = maxLag;
+        this.statsDReporterSupplier = statsDReporterSupplier;
+    }
+
+    @Override
+    public Boundedness getBoundedness() {
+        return fileSource.getBoundedness();
+    }
+
+    @Override
+    public SourceReader<Row, FileSourceSplit> createReader(SourceReaderContext readerContext) {
+        return fileSource.createReader(readerContext);
+    }
+
+    @Override
+    public SplitEnumerator<FileSourceSplit, EventTimeAlignedSplitsCheckpoint> createEnumerator(SplitEnumeratorContext<FileSourceSplit> enumContext) {
+        Collection<FileSourceSplit> splits;
+        try {
+            splits = fileEnumerator.create().enumerateSplits(filePaths, enumContext.currentParallelism());
+        } catch (IOException e) {
+            throw new FlinkRuntimeException("Could not enumerate file splits", e);
+        }
+        return new EventTimeAlignedSplitEnumerator(enumContext, splitAssignerBuilder.build(splits), maxLag, statsDReporterSupplier);
+    }
+
+    @Override
+    public SplitEnumerator<FileSourceSplit, EventTimeAlignedSplitsCheckpoint> restoreEnumerator(SplitEnumeratorContext<FileSourceSplit> enumContext,
+                                                                                                EventTimeAlignedSplitsCheckpoint checkpoint) {
+        return new EventTimeAlignedSplitEnumerator(enumContext, splitAssignerBuilder.build(checkpoint.getPendingSplits().getSplits()), maxLag,
+                statsDReporterSupplier, checkpoint.getInProgressSplitInstants());
+    }
+
+    @Override
+    public SimpleVersionedSerializer<FileSourceSplit> getSplitSerializer() {
+        return fileSource.getSplitSerializer();
+    }
+
+    @Override
+    public SimpleVersionedSerializer<EventTimeAlignedSplitsCheckpoint> getEnumeratorCheckpointSerializer() {
+        return new EventTimeAlignedSplitsCheckpointSerializer(fileSource.getEnumeratorCheckpointSerializer());
+    }
+
+    @Override
+    public TypeInformation<Row> getProducedType() {
+        return fileSource.getProducedType();
+    }
+}
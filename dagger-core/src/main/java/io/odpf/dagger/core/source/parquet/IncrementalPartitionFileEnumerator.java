@@ -0,0 +1,124 @@
+package io.odpf.dagger.core.source.parquet;
+
+import io.odpf.dagger.core.source.parquet.path.PathParser;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.enumerate.DefaultFileFilter;
+import org.apache.flink.connector.file.src.enumerate.FileEnumerator;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.flink.core.fs.Path;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Enumerates the files under date or hour partitioned source paths into a split per file, for sources which keep
+ * discovering new partitions while running. Only the files not enumerated before are returned on every call, and
+ * partition directories which are complete are not listed again, so that a discovery does not list months of
+ * partitions every time.
+ * <p>
+ * A {@code dt=} or {@code hr=} partition directory is complete once a later partition had already been seen, more than
+ * the grace period after its end, before it was last listed. Archives are written partition after partition, and the
+ * grace period keeps the recently ended partitions listed for files which land late. The time of a partition is parsed
+ * from its path by the path parser. Directories which are not partitions are listed on every call.
+ */
+public class IncrementalPartitionFileEnumerator implements FileEnumerator {
+    private static final String DATE_PARTITION_PREFIX = "dt=";
+    private static final String HOUR_PARTITION_PREFIX = "hr=";
+    private static final String PARTITION_FILE_PROBE = "part";
+    private final PathParser pathParser;
+    private final Duration completedPartitionGracePeriod;
+    private final Predicate<Path> fileFilter;
+    private final Set<Path> completedDirectories;
+    private final Set<Path> enumeratedFiles;
+    private Instant latestPartitionInstant;
+    private long splitCount;
+
+    /**
+     * Instantiates a new Incremental partition file enumerator.
+     *
+     * @param pathParser                    the parser of the partition times
+     * @param completedPartitionGracePeriod the time after its end for which a partition is still listed
+     */
+    public IncrementalPartitionFileEnumerator(PathParser pathParser, Duration completedPartitionGracePeriod) {
+        this.pathParser = pathParser;
+        this.completedPartitionGracePeriod = completedPartitionGracePeriod;
+        this.fileFilter = new DefaultFileFilter();
+        this.completedDirectories = new HashSet<>();
+        this.enumeratedFiles = new HashSet<>();
+        this.latestPartitionInstant = Instant.MIN;
+    }
+
+    @Override
+    public Collection<FileSourceSplit> enumerateSplits(Path[] paths, int minDesiredSplits) throws IOException {
+        Instant previousLatestPartitionInstant = latestPartitionInstant;
+        Map<Path, Instant> listedPartitionEnds = new LinkedHashMap<>();
+        List<FileSourceSplit> splits = new ArrayList<>();
+        for (Path path : paths) {
+            FileSystem fileSystem = path.getFileSystem();
+            addSplitsForPath(fileSystem.getFileStatus(path), fileSystem, listedPartitionEnds, splits);
+        }
+        listedPartitionEnds.forEach((partition, partitionEnd) -> {
+            if (!partitionEnd.plus(completedPartitionGracePeriod).isAfter(previousLatestPartitionInstant)) {
+                completedDirectories.add(partition);
+            }
+        });
+        return splits;
+    }
+
+    private void addSplitsForPath(FileStatus fileStatus, FileSystem fileSystem, Map<Path, Instant> listedPartitionEnds,
+                                  List<FileSourceSplit> splits) throws IOException {
+        Path path = fileStatus.getPath();
+        if (!fileFilter.test(path)) {
+            return;
+        }
+        if (!fileStatus.isDir()) {
+            if (enumeratedFiles.add(path)) {
+                splits.add(new FileSourceSplit(Long.toString(++splitCount), path, 0, fileStatus.getLen()));
+            }
+            return;
+        }
+        if (completedDirectories.contains(path)) {
+            return;
+        }
+        Optional<Instant> partitionInstant = getPartitionInstant(path);
+        if (partitionInstant.isPresent()) {
+            Duration partitionLength = path.getName().startsWith(HOUR_PARTITION_PREFIX) ? Duration.ofHours(1) : Duration.ofDays(1);
+            listedPartitionEnds.put(path, partitionInstant.get().plus(partitionLength));
+            if (partitionInstant.get().isAfter(latestPartitionInstant)) {
+                latestPartitionInstant = partitionInstant.get();
+            }
+        }
+        FileStatus[] children = fileSystem.listStatus(path);
+        if (children == null) {
+            return;
+        }
+        for (FileStatus child : children) {
+            addSplitsForPath(child, fileSystem, listedPartitionEnds, splits);
+        }
+    }
+
+    /* the path parser reads the partitions a file is in, so the instant of a directory is the one of a file inside it */
+    private Optional<Instant> getPartitionInstant(Path directory) {
+        String name = directory.getName();
+        if (!name.startsWith(HOUR_PARTITION_PREFIX) && !name.startsWith(DATE_PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(pathParser.instantFromFilePath(new Path(directory, PARTITION_FILE_PROBE)));
+        } catch (ParseException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -6,37 +6,60 @@ import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
 import io.odpf.dagger.core.exception.DaggerConfigurationException;
 import io.odpf.dagger.core.metrics.reporters.statsd.StatsDErrorReporter;
+import io.odpf.dagger.core.processors.PreProcessorFactory;
 import io.odpf.dagger.core.source.DaggerSource;
 import io.odpf.dagger.core.source.config.StreamConfig;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
+import io.odpf.dagger.core.source.config.models.TimeRange;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
 import io.odpf.dagger.core.source.parquet.path.HourDatePathParser;
+import io.odpf.dagger.core.source.parquet.pruning.RowGroupFilterFactory;
+import io.odpf.dagger.core.source.parquet.pruning.SqlPredicateAnalyzer;
 import io.odpf.dagger.core.source.parquet.reader.ParquetReader;
 import io.odpf.dagger.core.source.parquet.reader.ReaderProvider;
 import io.odpf.dagger.core.source.parquet.splitassigner.ChronologyOrderedSplitAssigner;
+import io.odpf.dagger.core.source.parquet.splitassigner.IndexOrderedSplitAssigner;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.connector.source.Source;
 import org.apache.flink.connector.file.src.FileSource;
+import org.apache.flink.connector.file.src.FileSourceSplit;
 import org.apache.flink.connector.file.src.assigners.FileSplitAssigner;
+import org.apache.flink.connector.file.src.enumerate.FileEnumerator;
+import org.apache.flink.connector.file.src.enumerate.NonSplittingRecursiveEnumerator;
 import org.apache.flink.core.fs.Path;
-import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.types.Row;
 
 import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.function.Supplier;
 
 import static io.odpf.dagger.core.source.config.models.SourceName.PARQUET_SOURCE;
 import static io.odpf.dagger.core.source.config.models.SourceType.BOUNDED;
+import static io.odpf.dagger.core.source.config.models.SourceType.UNBOUNDED;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_DISCOVERY_GRACE_PERIOD_SECONDS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_DISCOVERY_GRACE_PERIOD_SECONDS_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_ROW_GROUP_PRUNING_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_ROW_GROUP_PRUNING_ENABLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_SPLIT_ALIGNMENT_MAX_LAG_SECONDS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_SPLIT_ALIGNMENT_MAX_LAG_SECONDS_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_SPLIT_TARGET_SIZE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_SPLIT_TARGET_SIZE_KEY;
 
 public class ParquetDaggerSource implements DaggerSource<Row> {
     private final DaggerDeserializer<Row> deserializer;
     private final StreamConfig streamConfig;
     private final Configuration configuration;
     private final SerializedStatsDReporterSupplier statsDReporterSupplier;
-    private static final SourceType SUPPORTED_SOURCE_TYPE = BOUNDED;
+    private static final SourceType[] SUPPORTED_SOURCE_TYPES = new SourceType[]{BOUNDED, UNBOUNDED};
     private static final SourceName SUPPORTED_SOURCE_NAME = PARQUET_SOURCE;
     private final StatsDErrorReporter statsDErrorReporter;
 
@@ -49,7 +72,7 @@ public class ParquetDaggerSource implements DaggerSource<Row> {
     }
 
     @Override
-    public DataStream<Row> register(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<Row> watermarkStrategy) {
+    public DataStreamSource<Row> register(StreamExecutionEnvironment executionEnvironment, WatermarkStrategy<Row> watermarkStrategy) {
         return executionEnvironment.fromSource(buildFileSource(), watermarkStrategy, streamConfig.getSchemaTable());
     }
 
@@ -61,25 +84,36 @@ public class ParquetDaggerSource implements DaggerSource<Row> {
         } else {
             SourceName sourceName = sourceDetailsArray[0].getSourceName();
             SourceType sourceType = sourceDetailsArray[0].getSourceType();
-            return sourceName.equals(SUPPORTED_SOURCE_NAME) && sourceType.equals(SUPPORTED_SOURCE_TYPE)
+            return sourceName.equals(SUPPORTED_SOURCE_NAME) && Arrays.asList(SUPPORTED_SOURCE_TYPES).contains(sourceType)
                     && deserializer instanceof SimpleGroupDeserializer;
         }
     }
 
-    FileSource<Row> buildFileSource() {
+    public Source<Row, FileSourceSplit, ?> buildFileSource() {
         ParquetFileSource.Builder parquetFileSourceBuilder = ParquetFileSource.Builder.getInstance();
         ParquetFileRecordFormat parquetFileRecordFormat = buildParquetFileRecordFormat();
         FileSplitAssigner.Provider splitAssignerProvider = buildParquetFileSplitAssignerProvider();
+        SourceType sourceType = streamConfig.getSourceDetails()[0].getSourceType();
+        FileEnumerator.Provider fileEnumeratorProvider = buildFileEnumeratorProvider(sourceType);
         Path[] filePaths = buildFlinkFilePaths();
 
         ParquetFileSource parquetFileSource = parquetFileSourceBuilder.setFilePaths(filePaths)
                 .setConfiguration(configuration)
                 .setFileRecordFormat(parquetFileRecordFormat)
-                .setSourceType(SUPPORTED_SOURCE_TYPE)
+                .setSourceType(sourceType)
                 .setFileSplitAssigner(splitAssignerProvider)
+                .setFileEnumerator(fileEnumeratorProvider)
+                .setDiscoveryInterval(Duration.ofSeconds(configuration.getLong(SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_KEY, SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_DEFAULT)))
                 .setStatsDReporterSupplier(statsDReporterSupplier)
                 .build();
-        return parquetFileSource.buildFileSource();
+        FileSource<Row> fileSource = parquetFileSource.buildFileSource();
+        long maxLagSeconds = configuration.getLong(SOURCE_PARQUET_SPLIT_ALIGNMENT_MAX_LAG_SECONDS_KEY, SOURCE_PARQUET_SPLIT_ALIGNMENT_MAX_LAG_SECONDS_DEFAULT);
+        if (maxLagSeconds <= 0 || sourceType == UNBOUNDED || streamConfig.getParquetFilesReadOrderStrategy() != SourceParquetReadOrderStrategy.EARLIEST_TIME_URL_FIRST) {
+            return fileSource;
+        }
+        return new EventTimeAlignedFileSource(fileSource, filePaths,
+                fileEnumeratorProvider == null ? NonSplittingRecursiveEnumerator::new : fileEnumeratorProvider,
+                buildChronologyOrderedSplitAssignerBuilder(), Duration.ofSeconds(maxLagSeconds), statsDReporterSupplier);
     }
 
     private Path[] buildFlinkFilePaths() {
@@ -93,13 +127,14 @@ public class ParquetDaggerSource implements DaggerSource<Row> {
         SourceParquetReadOrderStrategy readOrderStrategy = streamConfig.getParquetFilesReadOrderStrategy();
         switch (readOrderStrategy) {
             case EARLIEST_TIME_URL_FIRST:
-                ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder chronologyOrderedSplitAssignerBuilder =
-                        new ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder()
-                                .addTimeRanges(streamConfig.getParquetFileDateRange())
+                return buildChronologyOrderedSplitAssignerBuilder()::build;
+            case EARLIEST_INDEX_FIRST:
+                IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder indexOrderedSplitAssignerBuilder =
+                        new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                                .addTimeRanges(buildFileDateRange())
                                 .addStatsDReporterSupplier(statsDReporterSupplier)
                                 .addPathParser(new HourDatePathParser());
-                return chronologyOrderedSplitAssignerBuilder::build;
-            case EARLIEST_INDEX_FIRST:
+                return indexOrderedSplitAssignerBuilder::build;
             default:
                 DaggerConfigurationException daggerConfigurationException = new DaggerConfigurationException("Error: file split assignment strategy not configured or not supported yet.");
                 statsDErrorReporter.reportFatalException(daggerConfigurationException);
@@ -107,9 +142,60 @@ public class ParquetDaggerSource implements DaggerSource<Row> {
         }
     }
 
+    private ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder buildChronologyOrderedSplitAssignerBuilder() {
+        return new ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder()
+                .addTimeRanges(buildFileDateRange())
+                .addStatsDReporterSupplier(statsDReporterSupplier)
+                .addPathParser(new HourDatePathParser());
+    }
+
+    /* files from the hybrid switch time onwards are left to the Kafka source the stream switches to */
+    private TimeRangePool buildFileDateRange() {
+        TimeRangePool fileDateRange = streamConfig.getParquetFileDateRange();
+        Instant hybridSwitchTime = streamConfig.getHybridSwitchTime();
+        if (hybridSwitchTime == null) {
+            return fileDateRange;
+        }
+        Instant lastFileInstant = hybridSwitchTime.minusSeconds(1);
+        TimeRangePool fileDateRangeBeforeSwitch = new TimeRangePool();
+        if (fileDateRange == null) {
+            fileDateRangeBeforeSwitch.add(new TimeRange(Instant.EPOCH, lastFileInstant));
+            return fileDateRangeBeforeSwitch;
+        }
+        for (TimeRange timeRange : fileDateRange.getTimeRanges()) {
+            if (!timeRange.getStartInstant().isAfter(lastFileInstant)) {
+                Instant endInstant = timeRange.getEndInstant().isAfter(lastFileInstant) ? lastFileInstant : timeRange.getEndInstant();
+                fileDateRangeBeforeSwitch.add(new TimeRange(timeRange.getStartInstant(), endInstant));
+            }
+        }
+        return fileDateRangeBeforeSwitch;
+    }
+
+    /* continuous discovery drops every split of a file but the first, so unbounded sources keep a split per file */
+    private FileEnumerator.Provider buildFileEnumeratorProvider(SourceType sourceType) {
+        if (sourceType == UNBOUNDED) {
+            Duration gracePeriod = Duration.ofSeconds(configuration.getLong(SOURCE_PARQUET_DISCOVERY_GRACE_PERIOD_SECONDS_KEY, SOURCE_PARQUET_DISCOVERY_GRACE_PERIOD_SECONDS_DEFAULT));
+            return () -> new IncrementalPartitionFileEnumerator(new HourDatePathParser(), gracePeriod);
+        }
+        long targetSplitSize = configuration.getLong(SOURCE_PARQUET_SPLIT_TARGET_SIZE_KEY, SOURCE_PARQUET_SPLIT_TARGET_SIZE_DEFAULT);
+        if (targetSplitSize <= 0) {
+            return null;
+        }
+        return () -> new ParquetRowGroupFileEnumerator(targetSplitSize);
+    }
+
+    private RowGroupFilterFactory buildRowGroupFilterFactory() {
+        if (!configuration.getBoolean(SOURCE_PARQUET_ROW_GROUP_PRUNING_ENABLE_KEY, SOURCE_PARQUET_ROW_GROUP_PRUNING_ENABLE_DEFAULT)) {
+            return null;
+        }
+        SqlPredicateAnalyzer sqlPredicateAnalyzer = new SqlPredicateAnalyzer(configuration, PreProcessorFactory.parseConfig(configuration));
+        return new RowGroupFilterFactory(buildFileDateRange(), sqlPredicateAnalyzer.getPredicates(streamConfig.getSchemaTable()));
+    }
+
     private ParquetFileRecordFormat buildParquetFileRecordFormat() {
         SimpleGroupDeserializer simpleGroupDeserializer = (SimpleGroupDeserializer) deserializer;
-        ReaderProvider parquetFileReaderProvider = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplier);
+        ReaderProvider parquetFileReaderProvider = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplier, configuration,
+                buildRowGroupFilterFactory());
         ParquetFileRecordFormat.Builder parquetFileRecordFormatBuilder = ParquetFileRecordFormat.Builder.getInstance();
         Supplier<TypeInformation<Row>> typeInformationProvider = (Supplier<TypeInformation<Row>> & Serializable) simpleGroupDeserializer::getProducedType;
         return parquetFileRecordFormatBuilder
@@ -32,15 +32,17 @@ public class ParquetFileRecordFormat implements FileRecordFormat<Row> {
 
     @Override
     public Reader<Row> createReader(Configuration config, Path filePath, long splitOffset, long splitLength) {
-        return parquetFileReaderProvider.getReader(filePath.toString());
+        return parquetFileReaderProvider.getReader(filePath.toString(), splitOffset, splitLength);
     }
 
     @Override
     public Reader<Row> restoreReader(Configuration config, Path filePath, long restoredOffset, long splitOffset, long splitLength) {
-        UnsupportedOperationException ex = new UnsupportedOperationException("Error: ParquetReader do not have offsets and hence cannot be restored "
-                + "via this method.");
-        statsDErrorReporterSupplier.get().reportFatalException(ex);
-        throw ex;
+        try {
+            return parquetFileReaderProvider.getRestoredReader(filePath.toString(), restoredOffset, splitOffset, splitLength);
+        } catch (UnsupportedOperationException ex) {
+            statsDErrorReporterSupplier.get().reportFatalException(ex);
+            throw ex;
+        }
     }
 
     @Override
@@ -8,14 +8,16 @@ import lombok.Getter;
 import org.apache.flink.connector.file.src.FileSource;
 import org.apache.flink.connector.file.src.assigners.FileSplitAssigner;
 import org.apache.flink.connector.file.src.assigners.LocalityAwareSplitAssigner;
+import org.apache.flink.connector.file.src.enumerate.FileEnumerator;
 import org.apache.flink.connector.file.src.reader.FileRecordFormat;
 import org.apache.flink.core.fs.Path;
 import org.apache.flink.types.Row;
 
 import java.io.Serializable;
+import java.time.Duration;
 
 import static com.google.api.client.util.Preconditions.checkArgument;
-import static io.odpf.dagger.core.source.config.models.SourceType.BOUNDED;
+import static io.odpf.dagger.core.source.config.models.SourceType.UNBOUNDED;
 
 public class ParquetFileSource implements Serializable {
     @Getter
@@ -28,23 +30,37 @@ public class ParquetFileSource implements Serializable {
     private final FileRecordFormat<Row> fileRecordFormat;
     @Getter
     private final FileSplitAssigner.Provider fileSplitAssigner;
+    @Getter
+    private final FileEnumerator.Provider fileEnumerator;
+    @Getter
+    private final Duration discoveryInterval;
 
     private ParquetFileSource(SourceType sourceType,
                               Configuration configuration,
                               FileRecordFormat<Row> fileRecordFormat,
                               Path[] filePaths,
-                              FileSplitAssigner.Provider fileSplitAssigner) {
+                              FileSplitAssigner.Provider fileSplitAssigner,
+                              FileEnumerator.Provider fileEnumerator,
+                              Duration discoveryInterval) {
         this.sourceType = sourceType;
         this.configuration = configuration;
         this.filePaths = filePaths;
         this.fileRecordFormat = fileRecordFormat;
         this.fileSplitAssigner = fileSplitAssigner;
+        this.fileEnumerator = fileEnumerator;
+        this.discoveryInterval = discoveryInterval;
     }
 
     public FileSource<Row> buildFileSource() {
-        return FileSource.forRecordFileFormat(fileRecordFormat, filePaths)
-                .setSplitAssigner(fileSplitAssigner)
-                .build();
+        FileSource.FileSourceBuilder<Row> fileSourceBuilder = FileSource.forRecordFileFormat(fileRecordFormat, filePaths)
+                .setSplitAssigner(fileSplitAssigner);
+        if (fileEnumerator != null) {
+            fileSourceBuilder.setFileEnumerator(fileEnumerator);
+        }
+        if (sourceType == UNBOUNDED) {
+            fileSourceBuilder.monitorContinuously(discoveryInterval);
+        }
+        return fileSourceBuilder.build();
     }
 
     public static class Builder {
@@ -53,6 +69,8 @@ public class ParquetFileSource implements Serializable {
         private FileRecordFormat<Row> fileRecordFormat;
         private Configuration configuration;
         private FileSplitAssigner.Provider fileSplitAssigner;
+        private FileEnumerator.Provider fileEnumerator;
+        private Duration discoveryInterval;
         private SerializedStatsDReporterSupplier statsDReporterSupplier;
 
         public static Builder getInstance() {
@@ -65,6 +83,8 @@ public class ParquetFileSource implements Serializable {
             this.fileRecordFormat = null;
             this.filePaths = new Path[0];
             this.fileSplitAssigner = LocalityAwareSplitAssigner::new;
+            this.fileEnumerator = null;
+            this.discoveryInterval = null;
         }
 
         public Builder setSourceType(SourceType sourceType) {
@@ -82,6 +102,18 @@ public class ParquetFileSource implements Serializable {
             return this;
         }
 
+        /* leaving the file enumerator unset keeps the default of the file source, a split per file */
+        public Builder setFileEnumerator(FileEnumerator.Provider fileEnumerator) {
+            this.fileEnumerator = fileEnumerator;
+            return this;
+        }
+
+        /* only used in UNBOUNDED mode, where the source paths are enumerated again after every interval */
+        public Builder setDiscoveryInterval(Duration discoveryInterval) {
+            this.discoveryInterval = discoveryInterval;
+            return this;
+        }
+
         public Builder setFilePaths(Path[] filePaths) {
             this.filePaths = filePaths;
             return this;
@@ -104,7 +136,8 @@ public class ParquetFileSource implements Serializable {
                 checkArgument(statsDReporterSupplier != null, "SerializedStatsDReporterSupplier is required but is set as null");
                 checkArgument(fileRecordFormat != null, "FileRecordFormat is required but is set as null");
                 checkArgument(filePaths.length != 0, "At least one file path is required but none are provided");
-                checkArgument(sourceType == BOUNDED, "Running Parquet FileSource in UNBOUNDED mode is not supported yet");
+                checkArgument(sourceType != UNBOUNDED || (discoveryInterval != null && !discoveryInterval.isNegative() && !discoveryInterval.isZero()),
+                        "A positive discovery interval is required for running Parquet FileSource in UNBOUNDED mode");
             } catch (IllegalArgumentException exception) {
                 if (statsDReporterSupplier != null) {
                     new StatsDErrorReporter(statsDReporterSupplier).reportFatalException(exception);
@@ -119,7 +152,9 @@ public class ParquetFileSource implements Serializable {
                     configuration,
                     fileRecordFormat,
                     filePaths,
-                    fileSplitAssigner);
+                    fileSplitAssigner,
+                    fileEnumerator,
+                    discoveryInterval);
         }
     }
 }
@@ -0,0 +1,59 @@
+package io.odpf.dagger.core.source.parquet;
+
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.enumerate.NonSplittingRecursiveEnumerator;
+import org.apache.flink.core.fs.FileStatus;
+import org.apache.flink.core.fs.FileSystem;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Enumerates the parquet files under the source paths into splits of consecutive row groups, read from the file
+ * footers. Row groups are added to a split until their compressed size reaches the target split size, so a target
+ * of one byte yields a split per row group. The splits of a file cover it without gaps, and every row group is read
+ * by the split holding its midpoint, the same way parquet assigns row groups to a read range.
+ */
+public class ParquetRowGroupFileEnumerator extends NonSplittingRecursiveEnumerator {
+    private final long targetSplitSize;
+
+    /**
+     * Instantiates a new Parquet row group file enumerator.
+     *
+     * @param targetSplitSize the target compressed size of the row groups of a split, in bytes
+     */
+    public ParquetRowGroupFileEnumerator(long targetSplitSize) {
+        this.targetSplitSize = targetSplitSize;
+    }
+
+    @Override
+    protected void convertToSourceSplits(FileStatus file, FileSystem fileSystem, List<FileSourceSplit> target) throws IOException {
+        List<BlockMetaData> rowGroups = readRowGroups(file);
+        long splitStart = 0;
+        long splitSize = 0;
+        for (int index = 0; index < rowGroups.size(); index++) {
+            splitSize += rowGroups.get(index).getCompressedSize();
+            boolean isLastRowGroup = index == rowGroups.size() - 1;
+            if (splitSize >= targetSplitSize || isLastRowGroup) {
+                long splitEnd = isLastRowGroup ? file.getLen() : rowGroups.get(index + 1).getStartingPos();
+                target.add(new FileSourceSplit(getNextId(), file.getPath(), splitStart, splitEnd - splitStart));
+                splitStart = splitEnd;
+                splitSize = 0;
+            }
+        }
+        if (rowGroups.isEmpty()) {
+            target.add(new FileSourceSplit(getNextId(), file.getPath(), 0, file.getLen()));
+        }
+    }
+
+    private List<BlockMetaData> readRowGroups(FileStatus file) throws IOException {
+        org.apache.hadoop.conf.Configuration conf = new org.apache.hadoop.conf.Configuration();
+        org.apache.hadoop.fs.Path hadoopFilePath = new org.apache.hadoop.fs.Path(file.getPath().toUri());
+        try (ParquetFileReader parquetFileReader = ParquetFileReader.open(HadoopInputFile.fromPath(hadoopFilePath, conf))) {
+            return parquetFileReader.getFooter().getBlocks();
+        }
+    }
+}
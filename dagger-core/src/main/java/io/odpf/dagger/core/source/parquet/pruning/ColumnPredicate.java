@@ -0,0 +1,102 @@
+package io.odpf.dagger.core.source.parquet.pruning;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * A comparison of a source column with a literal, taken from the WHERE clause of the SQL query.
+ * The literal is either a {@link Long} or a {@link String}.
+ */
+public class ColumnPredicate implements Serializable {
+    private final String columnName;
+    private final Operator operator;
+    private final Comparable<?> literal;
+
+    /**
+     * Instantiates a new Column predicate.
+     *
+     * @param columnName the column name
+     * @param operator   the comparison operator
+     * @param literal    the literal, a Long or a String
+     */
+    public ColumnPredicate(String columnName, Operator operator, Comparable<?> literal) {
+        this.columnName = columnName;
+        this.operator = operator;
+        this.literal = literal;
+    }
+
+    public String getColumnName() {
+        return columnName;
+    }
+
+    public Operator getOperator() {
+        return operator;
+    }
+
+    public Comparable<?> getLiteral() {
+        return literal;
+    }
+
+    @Override
+    public String toString() {
+        return columnName + " " + operator.getSymbol() + " " + literal;
+    }
+
+    /**
+     * The comparison operators supported for pruning.
+     */
+    public enum Operator {
+        EQ("="),
+        LT("<"),
+        LT_EQ("<="),
+        GT(">"),
+        GT_EQ(">=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+
+        /**
+         * Gets the operator for the SQL symbol.
+         *
+         * @param symbol the symbol
+         * @return the operator, or null if the symbol is not supported
+         */
+        public static Operator fromSymbol(String symbol) {
+            return Arrays.stream(values())
+                    .filter(operator -> operator.symbol.equals(symbol))
+                    .findFirst()
+                    .orElse(null);
+        }
+
+        /**
+         * Check if a value satisfies the comparison with the literal.
+         *
+         * @param value   the value
+         * @param literal the literal
+         * @param <T>     the type of the compared values
+         * @return true if the comparison holds
+         */
+        public <T extends Comparable<T>> boolean test(T value, T literal) {
+            int comparison = value.compareTo(literal);
+            switch (this) {
+                case EQ:
+                    return comparison == 0;
+                case LT:
+                    return comparison < 0;
+                case LT_EQ:
+                    return comparison <= 0;
+                case GT:
+                    return comparison > 0;
+                default:
+                    return comparison >= 0;
+            }
+        }
+    }
+}
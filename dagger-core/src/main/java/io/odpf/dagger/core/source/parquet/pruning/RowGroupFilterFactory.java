@@ -0,0 +1,150 @@
+package io.odpf.dagger.core.source.parquet.pruning;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.core.source.config.models.TimeRange;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Creates the parquet filter used to skip row groups which can not hold rows of the configured time ranges or rows
+ * matching the SQL predicates. The filter is only ever used with statistics, dictionaries and column indexes, rows
+ * within the pages which are read are not filtered.
+ * <p>
+ * A missing parquet value is decoded into the default value of its field, so whenever the default value itself
+ * satisfies a comparison, null values are kept as well. The event timestamp can be stored either as INT64 millis
+ * or as a group of seconds and nanos, both layouts are covered since a column missing from a file only holds nulls.
+ */
+public class RowGroupFilterFactory implements Serializable {
+    private static final long SECOND_TO_MS_FACTOR = 1000L;
+    private final TimeRangePool timeRangePool;
+    private final List<ColumnPredicate> columnPredicates;
+
+    /**
+     * Instantiates a new Row group filter factory.
+     *
+     * @param timeRangePool    the time ranges of the rows to read, null to read all times
+     * @param columnPredicates the column predicates the rows have to satisfy
+     */
+    public RowGroupFilterFactory(TimeRangePool timeRangePool, List<ColumnPredicate> columnPredicates) {
+        this.timeRangePool = timeRangePool;
+        this.columnPredicates = columnPredicates == null ? Collections.emptyList() : new ArrayList<>(columnPredicates);
+    }
+
+    /**
+     * Create the filter for files of the message the timestamp field belongs to.
+     *
+     * @param timestampField the event timestamp field
+     * @return the filter, {@link FilterCompat#NOOP} if nothing can be pruned
+     */
+    public FilterCompat.Filter createFilter(Descriptors.FieldDescriptor timestampField) {
+        if (timestampField == null) {
+            return FilterCompat.NOOP;
+        }
+        List<FilterPredicate> predicates = new ArrayList<>();
+        FilterPredicate timeRangePredicate = createTimeRangePredicate(timestampField.getName());
+        if (timeRangePredicate != null) {
+            predicates.add(timeRangePredicate);
+        }
+        Descriptors.Descriptor descriptor = timestampField.getContainingType();
+        for (ColumnPredicate columnPredicate : columnPredicates) {
+            FilterPredicate predicate = createColumnPredicate(descriptor.findFieldByName(columnPredicate.getColumnName()), columnPredicate);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        return predicates.stream()
+                .reduce(FilterApi::and)
+                .map(FilterCompat::get)
+                .orElse(FilterCompat.NOOP);
+    }
+
+    private FilterPredicate createTimeRangePredicate(String timestampFieldName) {
+        if (timeRangePool == null || timeRangePool.getTimeRanges().isEmpty()) {
+            return null;
+        }
+        Operators.LongColumn millisColumn = FilterApi.longColumn(timestampFieldName);
+        Operators.LongColumn secondsColumn = FilterApi.longColumn(timestampFieldName + ".seconds");
+        FilterPredicate timeRangePredicate = null;
+        for (TimeRange timeRange : timeRangePool.getTimeRanges()) {
+            long startSeconds = timeRange.getStartInstant().getEpochSecond();
+            long endSeconds = timeRange.getEndInstant().getEpochSecond();
+            FilterPredicate millisPredicate = FilterApi.and(
+                    FilterApi.gtEq(millisColumn, startSeconds * SECOND_TO_MS_FACTOR),
+                    FilterApi.ltEq(millisColumn, endSeconds * SECOND_TO_MS_FACTOR + SECOND_TO_MS_FACTOR - 1));
+            FilterPredicate secondsPredicate = FilterApi.and(
+                    FilterApi.gtEq(secondsColumn, startSeconds),
+                    FilterApi.ltEq(secondsColumn, endSeconds));
+            FilterPredicate predicate = FilterApi.or(millisPredicate, secondsPredicate);
+            timeRangePredicate = timeRangePredicate == null ? predicate : FilterApi.or(timeRangePredicate, predicate);
+        }
+        if (timeRangePool.contains(Instant.EPOCH)) {
+            timeRangePredicate = FilterApi.or(timeRangePredicate,
+                    FilterApi.or(FilterApi.eq(millisColumn, null), FilterApi.eq(secondsColumn, null)));
+        }
+        return timeRangePredicate;
+    }
+
+    private FilterPredicate createColumnPredicate(Descriptors.FieldDescriptor fieldDescriptor, ColumnPredicate columnPredicate) {
+        if (fieldDescriptor == null || fieldDescriptor.isRepeated()) {
+            return null;
+        }
+        String columnName = fieldDescriptor.getName();
+        ColumnPredicate.Operator operator = columnPredicate.getOperator();
+        Object literal = columnPredicate.getLiteral();
+        switch (fieldDescriptor.getJavaType()) {
+            case INT:
+                if (!(literal instanceof Long) || (Long) literal != ((Long) literal).intValue()) {
+                    return null;
+                }
+                return compare(FilterApi.intColumn(columnName), operator, ((Long) literal).intValue(), 0);
+            case LONG:
+                if (!(literal instanceof Long)) {
+                    return null;
+                }
+                return compare(FilterApi.longColumn(columnName), operator, (Long) literal, 0L);
+            case STRING:
+                if (!(literal instanceof String)) {
+                    return null;
+                }
+                return compare(FilterApi.binaryColumn(columnName), operator, Binary.fromString((String) literal), Binary.fromString(""));
+            default:
+                return null;
+        }
+    }
+
+    private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt> FilterPredicate compare(
+            C column, ColumnPredicate.Operator operator, T literal, T defaultValue) {
+        FilterPredicate predicate;
+        switch (operator) {
+            case EQ:
+                predicate = FilterApi.eq(column, literal);
+                break;
+            case LT:
+                predicate = FilterApi.lt(column, literal);
+                break;
+            case LT_EQ:
+                predicate = FilterApi.ltEq(column, literal);
+                break;
+            case GT:
+                predicate = FilterApi.gt(column, literal);
+                break;
+            default:
+                predicate = FilterApi.gtEq(column, literal);
+                break;
+        }
+        if (operator.test(defaultValue, literal)) {
+            return FilterApi.or(predicate, FilterApi.eq(column, null));
+        }
+        return predicate;
+    }
+}
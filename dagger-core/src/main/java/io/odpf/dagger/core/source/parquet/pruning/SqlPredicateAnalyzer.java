@@ -0,0 +1,109 @@
+package io.odpf.dagger.core.source.parquet.pruning;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.core.processors.PreProcessorConfig;
+import io.odpf.dagger.core.processors.transformers.TableTransformConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_KEY;
+
+/**
+ * Extracts the column comparisons of the SQL query which every output row has to satisfy, so that parquet
+ * row groups which can not contain such rows are skipped. Only single table queries whose WHERE clause is a
+ * conjunction are analysed, and only the conjuncts of the form {@code column op literal} are kept. Dropping the
+ * other conjuncts can only make pruning less selective, never wrong. Queries with {@code OR}, joins, unions or
+ * subqueries, and tables with preprocessor transformers, yield no predicates.
+ */
+public class SqlPredicateAnalyzer {
+    private static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("'[^']*'");
+    private static final Pattern UNSUPPORTED_KEYWORD_PATTERN = Pattern.compile("(?i)\\b(or|join|union|intersect|except|exists|in)\\b");
+    private static final Pattern KEYWORD_PATTERN = Pattern.compile("(?i)\\b(select|from|where)\\b");
+    private static final Pattern QUERY_PATTERN = Pattern.compile(
+            "(?is)^\\s*select\\s+.+?\\s+from\\s+`?([A-Za-z_][A-Za-z0-9_]*)`?\\s+where\\s+(.+?)(\\s+(group|order|having|limit)\\s+.*)?\\s*;?\\s*$");
+    private static final Pattern CONJUNCTION_PATTERN = Pattern.compile("(?i)\\s+and\\s+");
+    private static final Pattern COMPARISON_PATTERN = Pattern.compile(
+            "^\\s*`?([A-Za-z_][A-Za-z0-9_]*)`?\\s*(<=|>=|=|<|>)\\s*(-?\\d+|'[^']*')\\s*$");
+
+    private final String sqlQuery;
+    private final PreProcessorConfig preProcessorConfig;
+
+    /**
+     * Instantiates a new Sql predicate analyzer.
+     *
+     * @param configuration      the configuration
+     * @param preProcessorConfig the preprocessor config, null if preprocessors are disabled
+     */
+    public SqlPredicateAnalyzer(Configuration configuration, PreProcessorConfig preProcessorConfig) {
+        this.sqlQuery = configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT);
+        this.preProcessorConfig = preProcessorConfig;
+    }
+
+    /**
+     * Gets the column comparisons every row of the table selected by the query satisfies.
+     *
+     * @param tableName the table name
+     * @return the column predicates, empty if the query can not be analysed
+     */
+    public List<ColumnPredicate> getPredicates(String tableName) {
+        if (sqlQuery == null || hasTransformers(tableName)) {
+            return Collections.emptyList();
+        }
+        String queryWithoutLiterals = STRING_LITERAL_PATTERN.matcher(sqlQuery).replaceAll("''");
+        if (UNSUPPORTED_KEYWORD_PATTERN.matcher(queryWithoutLiterals).find() || countKeywords(queryWithoutLiterals) != 3) {
+            return Collections.emptyList();
+        }
+        Matcher queryMatcher = QUERY_PATTERN.matcher(sqlQuery);
+        if (!queryMatcher.matches() || !queryMatcher.group(1).equals(tableName)) {
+            return Collections.emptyList();
+        }
+        List<ColumnPredicate> predicates = new ArrayList<>();
+        for (String conjunct : CONJUNCTION_PATTERN.split(queryMatcher.group(2))) {
+            Matcher comparisonMatcher = COMPARISON_PATTERN.matcher(conjunct);
+            if (!comparisonMatcher.matches()) {
+                continue;
+            }
+            Comparable<?> literal = parseLiteral(comparisonMatcher.group(3));
+            if (literal != null) {
+                predicates.add(new ColumnPredicate(comparisonMatcher.group(1),
+                        ColumnPredicate.Operator.fromSymbol(comparisonMatcher.group(2)), literal));
+            }
+        }
+        return predicates;
+    }
+
+    private static Comparable<?> parseLiteral(String literal) {
+        if (literal.startsWith("'")) {
+            return literal.substring(1, literal.length() - 1);
+        }
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static int countKeywords(String query) {
+        int count = 0;
+        Matcher matcher = KEYWORD_PATTERN.matcher(query);
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+
+    private boolean hasTransformers(String tableName) {
+        if (preProcessorConfig == null || !preProcessorConfig.hasTransformConfigs()) {
+            return false;
+        }
+        return preProcessorConfig.getTableTransformers()
+                .stream()
+                .map(TableTransformConfig::getTableName)
+                .anyMatch(tableName::equals);
+    }
+}
@@ -0,0 +1,124 @@
+package io.odpf.dagger.core.source.parquet.reader;
+
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnPath;
+import org.apache.parquet.internal.column.columnindex.ColumnIndex;
+import org.apache.parquet.internal.column.columnindex.OffsetIndex;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexFilter;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.RowRanges;
+import org.apache.parquet.io.ParquetDecodingException;
+import org.apache.parquet.schema.MessageType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the row groups of a parquet file one by one, leaving out the pages the column indexes of the filter rule out.
+ * Parquet file readers silently move on to the next row group when the column indexes rule out every row of a row group,
+ * which would hide from the caller which row group it is reading. Such row groups are skipped here instead and read as a
+ * row group without rows, so that callers keep counting the row groups of the file in order.
+ */
+class ColumnIndexRowGroupReader {
+    private static final PageReadStore EMPTY_ROW_GROUP = new EmptyRowGroup();
+    private final ParquetFileReader parquetFileReader;
+    private final FilterCompat.Filter filter;
+    private final Set<ColumnPath> requestedColumns;
+
+    /**
+     * Instantiates a new Column index row group reader.
+     *
+     * @param parquetFileReader the parquet file reader, opened with the filter
+     * @param filter            the filter of the rows
+     * @param requestedSchema   the schema requested from the file
+     */
+    ColumnIndexRowGroupReader(ParquetFileReader parquetFileReader, FilterCompat.Filter filter, MessageType requestedSchema) {
+        this.parquetFileReader = parquetFileReader;
+        this.filter = filter;
+        this.requestedColumns = requestedSchema.getColumns()
+                .stream()
+                .map(column -> ColumnPath.get(column.getPath()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Read the next row group of the parquet file reader.
+     *
+     * @param rowGroup the next row group of the parquet file reader
+     * @return the pages of the row group, without rows if the column indexes rule them all out
+     * @throws IOException if the row group could not be read
+     */
+    PageReadStore readNextRowGroup(BlockMetaData rowGroup) throws IOException {
+        if (!FilterCompat.isFilteringRequired(filter)) {
+            return parquetFileReader.readNextRowGroup();
+        }
+        RowRanges rowRanges;
+        try {
+            rowRanges = ColumnIndexFilter.calculateRowRanges(filter, new RowGroupColumnIndexes(rowGroup), requestedColumns, rowGroup.getRowCount());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (rowRanges.rowCount() == 0) {
+            parquetFileReader.skipNextRowGroup();
+            return EMPTY_ROW_GROUP;
+        }
+        return parquetFileReader.readNextFilteredRowGroup();
+    }
+
+    private final class RowGroupColumnIndexes implements ColumnIndexStore {
+        private final Map<ColumnPath, ColumnChunkMetaData> columnChunks = new HashMap<>();
+
+        private RowGroupColumnIndexes(BlockMetaData rowGroup) {
+            for (ColumnChunkMetaData columnChunk : rowGroup.getColumns()) {
+                columnChunks.put(columnChunk.getPath(), columnChunk);
+            }
+        }
+
+        @Override
+        public ColumnIndex getColumnIndex(ColumnPath column) {
+            ColumnChunkMetaData columnChunk = columnChunks.get(column);
+            try {
+                return columnChunk == null ? null : parquetFileReader.readColumnIndex(columnChunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public OffsetIndex getOffsetIndex(ColumnPath column) {
+            ColumnChunkMetaData columnChunk = columnChunks.get(column);
+            OffsetIndex offsetIndex;
+            try {
+                offsetIndex = columnChunk == null ? null : parquetFileReader.readOffsetIndex(columnChunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (offsetIndex == null) {
+                throw new MissingOffsetIndexException(column);
+            }
+            return offsetIndex;
+        }
+    }
+
+    private static final class EmptyRowGroup implements PageReadStore {
+        @Override
+        public PageReader getPageReader(ColumnDescriptor descriptor) {
+            throw new ParquetDecodingException("Row group has no rows to read");
+        }
+
+        @Override
+        public long getRowCount() {
+            return 0;
+        }
+    }
+}
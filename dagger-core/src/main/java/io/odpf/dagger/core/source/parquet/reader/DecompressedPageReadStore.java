@@ -0,0 +1,155 @@
+package io.odpf.dagger.core.source.parquet.reader;
+
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.DataPageV1;
+import org.apache.parquet.column.page.DataPageV2;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.io.ParquetDecodingException;
+import org.apache.parquet.schema.MessageType;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+/**
+ * The pages of a row group decompressed into memory. Parquet file readers only decompress a page when it is read from
+ * its page reader, and then lazily as its bytes are consumed, so the row group prefetcher reads every page of the
+ * requested columns through this store to move the decompression off the thread emitting the rows.
+ * Row groups read with column index filtering keep the indexes of their rows left after filtering, which the column
+ * readers use to skip the rows of the pages outside of them.
+ */
+class DecompressedPageReadStore implements PageReadStore {
+    private final long rowCount;
+    private final Map<ColumnDescriptor, DecompressedPageReader> pageReaders;
+    private final long[] rowIndexes;
+
+    private DecompressedPageReadStore(long rowCount, Map<ColumnDescriptor, DecompressedPageReader> pageReaders, long[] rowIndexes) {
+        this.rowCount = rowCount;
+        this.pageReaders = pageReaders;
+        this.rowIndexes = rowIndexes;
+    }
+
+    /**
+     * Read and decompress every page of the requested columns of a row group.
+     *
+     * @param pages           the pages of the row group, as read from the file
+     * @param requestedSchema the schema requested from the file
+     * @return the decompressed pages of the row group
+     * @throws IOException if a page could not be decompressed
+     */
+    static DecompressedPageReadStore decompress(PageReadStore pages, MessageType requestedSchema) throws IOException {
+        Map<ColumnDescriptor, DecompressedPageReader> pageReaders = new HashMap<>();
+        for (ColumnDescriptor column : requestedSchema.getColumns()) {
+            pageReaders.put(column, DecompressedPageReader.decompress(pages.getPageReader(column)));
+        }
+        long[] rowIndexes = pages.getRowIndexes().map(DecompressedPageReadStore::toArray).orElse(null);
+        return new DecompressedPageReadStore(pages.getRowCount(), pageReaders, rowIndexes);
+    }
+
+    private static long[] toArray(PrimitiveIterator.OfLong rowIndexes) {
+        LongStream.Builder rowIndexArray = LongStream.builder();
+        rowIndexes.forEachRemaining((LongConsumer) rowIndexArray::add);
+        return rowIndexArray.build().toArray();
+    }
+
+    @Override
+    public PageReader getPageReader(ColumnDescriptor descriptor) {
+        DecompressedPageReader pageReader = pageReaders.get(descriptor);
+        if (pageReader == null) {
+            throw new ParquetDecodingException("Column " + descriptor + " was not read ahead");
+        }
+        return pageReader;
+    }
+
+    @Override
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public Optional<PrimitiveIterator.OfLong> getRowIndexes() {
+        return rowIndexes == null ? Optional.empty() : Optional.of(Arrays.stream(rowIndexes).iterator());
+    }
+
+    private static final class DecompressedPageReader implements PageReader {
+        private final DictionaryPage dictionaryPage;
+        private final long totalValueCount;
+        private final ArrayDeque<DataPage> dataPages;
+
+        private DecompressedPageReader(DictionaryPage dictionaryPage, long totalValueCount, ArrayDeque<DataPage> dataPages) {
+            this.dictionaryPage = dictionaryPage;
+            this.totalValueCount = totalValueCount;
+            this.dataPages = dataPages;
+        }
+
+        private static DecompressedPageReader decompress(PageReader pageReader) throws IOException {
+            DictionaryPage dictionaryPage = pageReader.readDictionaryPage();
+            ArrayDeque<DataPage> dataPages = new ArrayDeque<>();
+            DataPage dataPage = pageReader.readPage();
+            while (dataPage != null) {
+                dataPages.add(copy(dataPage));
+                dataPage = pageReader.readPage();
+            }
+            return new DecompressedPageReader(dictionaryPage == null ? null : dictionaryPage.copy(),
+                    pageReader.getTotalValueCount(), dataPages);
+        }
+
+        /* the page bytes are a stream over the compressed bytes until they are copied */
+        private static DataPage copy(DataPage dataPage) throws IOException {
+            if (dataPage instanceof DataPageV1) {
+                return copy((DataPageV1) dataPage);
+            }
+            if (dataPage instanceof DataPageV2) {
+                return copy((DataPageV2) dataPage);
+            }
+            throw new ParquetDecodingException("Unsupported page type " + dataPage.getClass().getName());
+        }
+
+        private static DataPage copy(DataPageV1 page) throws IOException {
+            BytesInput bytes = BytesInput.copy(page.getBytes());
+            if (page.getFirstRowIndex().isPresent() && page.getIndexRowCount().isPresent()) {
+                return new DataPageV1(bytes, page.getValueCount(), page.getUncompressedSize(), page.getFirstRowIndex().get(),
+                        page.getIndexRowCount().get(), page.getStatistics(), page.getRlEncoding(), page.getDlEncoding(), page.getValueEncoding());
+            }
+            return new DataPageV1(bytes, page.getValueCount(), page.getUncompressedSize(), page.getStatistics(),
+                    page.getRlEncoding(), page.getDlEncoding(), page.getValueEncoding());
+        }
+
+        private static DataPage copy(DataPageV2 page) throws IOException {
+            BytesInput repetitionLevels = BytesInput.copy(page.getRepetitionLevels());
+            BytesInput definitionLevels = BytesInput.copy(page.getDefinitionLevels());
+            BytesInput data = BytesInput.copy(page.getData());
+            if (page.getFirstRowIndex().isPresent()) {
+                return DataPageV2.uncompressed(page.getRowCount(), page.getNullCount(), page.getValueCount(), page.getFirstRowIndex().get(),
+                        repetitionLevels, definitionLevels, page.getDataEncoding(), data, page.getStatistics());
+            }
+            return DataPageV2.uncompressed(page.getRowCount(), page.getNullCount(), page.getValueCount(),
+                    repetitionLevels, definitionLevels, page.getDataEncoding(), data, page.getStatistics());
+        }
+
+        @Override
+        public DictionaryPage readDictionaryPage() {
+            return dictionaryPage;
+        }
+
+        @Override
+        public long getTotalValueCount() {
+            return totalValueCount;
+        }
+
+        @Override
+        public DataPage readPage() {
+            return dataPages.poll();
+        }
+    }
+}
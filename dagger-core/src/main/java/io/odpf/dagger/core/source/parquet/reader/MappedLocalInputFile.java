@@ -0,0 +1,277 @@
+package io.odpf.dagger.core.source.parquet.reader;
+
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A parquet {@link InputFile} for files on the local file system, read through memory mapped segments of the file
+ * instead of the Hadoop file system streams. Bytes are copied straight from the page cache into the buffers of the
+ * parquet reader, without read system calls, intermediate heap buffers or checksum files.
+ * The open streams of the file share one mapping of the file, which is unmapped as soon as the last of them is closed.
+ */
+public class MappedLocalInputFile implements InputFile {
+    private static final long SEGMENT_SIZE = 1L << 30;
+    private final File file;
+    private MappedByteBuffer[] segments;
+    private long mappedLength;
+    private int openStreams;
+
+    /**
+     * Instantiates a new Mapped local input file.
+     *
+     * @param file the local file
+     */
+    public MappedLocalInputFile(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public long getLength() {
+        return file.length();
+    }
+
+    @Override
+    public synchronized SeekableInputStream newStream() throws IOException {
+        if (openStreams == 0) {
+            map();
+        }
+        openStreams++;
+        return new MappedSeekableInputStream(segments, mappedLength);
+    }
+
+    /**
+     * Check if the file is mapped into memory, which it is while any of its streams is open.
+     *
+     * @return true if the file is mapped
+     */
+    synchronized boolean isMapped() {
+        return segments != null;
+    }
+
+    @Override
+    public String toString() {
+        return file.toString();
+    }
+
+    private void map() throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            long length = channel.size();
+            MappedByteBuffer[] fileSegments = new MappedByteBuffer[(int) ((length + SEGMENT_SIZE - 1) / SEGMENT_SIZE)];
+            for (int index = 0; index < fileSegments.length; index++) {
+                long segmentStart = index * SEGMENT_SIZE;
+                fileSegments[index] = channel.map(FileChannel.MapMode.READ_ONLY, segmentStart, Math.min(SEGMENT_SIZE, length - segmentStart));
+            }
+            segments = fileSegments;
+            mappedLength = length;
+        }
+    }
+
+    private synchronized void release() {
+        openStreams--;
+        if (openStreams == 0) {
+            for (MappedByteBuffer segment : segments) {
+                Unmapper.unmap(segment);
+            }
+            segments = null;
+        }
+    }
+
+    /* unmaps buffers right away through the cleaner of the JDK, leaving them to the garbage collector where it is not accessible */
+    private static final class Unmapper {
+        private static final Object UNSAFE;
+        private static final Method INVOKE_CLEANER;
+
+        static {
+            Object unsafe = null;
+            Method invokeCleaner = null;
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+                theUnsafe.setAccessible(true);
+                unsafe = theUnsafe.get(null);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                invokeCleaner = null;
+            }
+            UNSAFE = unsafe;
+            INVOKE_CLEANER = invokeCleaner;
+        }
+
+        private static void unmap(MappedByteBuffer buffer) {
+            try {
+                if (INVOKE_CLEANER != null) {
+                    INVOKE_CLEANER.invoke(UNSAFE, buffer);
+                    return;
+                }
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    Method cleanMethod = cleaner.getClass().getMethod("clean");
+                    cleanMethod.setAccessible(true);
+                    cleanMethod.invoke(cleaner);
+                }
+            } catch (ReflectiveOperationException | RuntimeException ignored) {
+                // the buffer is unmapped once it is garbage collected
+            }
+        }
+    }
+
+    private final class MappedSeekableInputStream extends SeekableInputStream {
+        private final long length;
+        private MappedByteBuffer[] segments;
+        private long position;
+
+        private MappedSeekableInputStream(MappedByteBuffer[] segments, long length) {
+            this.segments = segments;
+            this.length = length;
+            this.position = 0;
+        }
+
+        @Override
+        public long getPos() {
+            return position;
+        }
+
+        @Override
+        public void seek(long newPosition) throws IOException {
+            ensureOpen();
+            if (newPosition < 0 || newPosition > length) {
+                throw new EOFException("Cannot seek to " + newPosition + " in a file of " + length + " bytes");
+            }
+            position = newPosition;
+        }
+
+        @Override
+        public int read() throws IOException {
+            ensureOpen();
+            if (position >= length) {
+                return -1;
+            }
+            byte value = segments[(int) (position / SEGMENT_SIZE)].get((int) (position % SEGMENT_SIZE));
+            position++;
+            return value & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int count) throws IOException {
+            ensureOpen();
+            if (count == 0) {
+                return 0;
+            }
+            if (position >= length) {
+                return -1;
+            }
+            int readCount = (int) Math.min(count, length - position);
+            copyTo(bytes, offset, readCount);
+            return readCount;
+        }
+
+        @Override
+        public void readFully(byte[] bytes) throws IOException {
+            readFully(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void readFully(byte[] bytes, int offset, int count) throws IOException {
+            ensureOpen();
+            checkRemaining(count);
+            copyTo(bytes, offset, count);
+        }
+
+        @Override
+        public int read(ByteBuffer buffer) throws IOException {
+            ensureOpen();
+            if (!buffer.hasRemaining()) {
+                return 0;
+            }
+            if (position >= length) {
+                return -1;
+            }
+            int readCount = (int) Math.min(buffer.remaining(), length - position);
+            copyTo(buffer, readCount);
+            return readCount;
+        }
+
+        @Override
+        public void readFully(ByteBuffer buffer) throws IOException {
+            ensureOpen();
+            int count = buffer.remaining();
+            checkRemaining(count);
+            copyTo(buffer, count);
+        }
+
+        @Override
+        public long skip(long count) throws IOException {
+            ensureOpen();
+            long skipCount = Math.max(0, Math.min(count, length - position));
+            position += skipCount;
+            return skipCount;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(Integer.MAX_VALUE, length - position);
+        }
+
+        @Override
+        public void close() {
+            if (segments != null) {
+                segments = null;
+                release();
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (segments == null) {
+                throw new IOException("Stream is closed");
+            }
+        }
+
+        private void checkRemaining(int count) throws EOFException {
+            if (length - position < count) {
+                throw new EOFException("Reached the end of file with " + (length - position) + " of " + count + " bytes left to read");
+            }
+        }
+
+        private void copyTo(byte[] bytes, int offset, int count) {
+            int copiedCount = 0;
+            while (copiedCount < count) {
+                ByteBuffer segment = currentSegment();
+                int chunkSize = Math.min(count - copiedCount, segment.remaining());
+                segment.get(bytes, offset + copiedCount, chunkSize);
+                copiedCount += chunkSize;
+                position += chunkSize;
+            }
+        }
+
+        private void copyTo(ByteBuffer buffer, int count) {
+            int copiedCount = 0;
+            while (copiedCount < count) {
+                ByteBuffer segment = currentSegment();
+                int chunkSize = Math.min(count - copiedCount, segment.remaining());
+                segment.limit(segment.position() + chunkSize);
+                buffer.put(segment);
+                copiedCount += chunkSize;
+                position += chunkSize;
+            }
+        }
+
+        /* a view of the mapped segment holding the current position, so that concurrent streams do not share positions */
+        private ByteBuffer currentSegment() {
+            ByteBuffer segment = segments[(int) (position / SEGMENT_SIZE)].duplicate();
+            segment.position((int) (position % SEGMENT_SIZE));
+            return segment;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.odpf.dagger.core.source.parquet.reader;
 
+import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
+import io.odpf.dagger.common.serde.parquet.deserialization.ColumnarRowBatchDecoder;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.core.metrics.reporters.statsd.StatsDErrorReporter;
 import io.odpf.dagger.core.metrics.reporters.statsd.manager.DaggerCounterManager;
@@ -9,18 +11,24 @@ import io.odpf.dagger.core.metrics.reporters.statsd.tags.StatsDTag;
 import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
 import io.odpf.dagger.core.exception.ParquetFileSourceReaderInitializationException;
 import io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects;
+import io.odpf.dagger.core.source.parquet.pruning.RowGroupFilterFactory;
 import org.apache.flink.connector.file.src.reader.FileRecordFormat;
 import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.types.Row;
-import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.Path;
+import org.apache.parquet.HadoopReadOptions;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.example.data.Group;
 import org.apache.parquet.example.data.simple.SimpleGroup;
 import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.hadoop.util.HadoopInputFile;
 import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.InputFile;
 import org.apache.parquet.io.MessageColumnIO;
 import org.apache.parquet.io.RecordReader;
 import org.apache.parquet.schema.MessageType;
@@ -28,10 +36,21 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
+import java.io.File;
 import java.io.IOException;
+import java.net.URI;
 import java.time.Instant;
+import java.util.List;
 
 import static io.odpf.dagger.core.metrics.reporters.statsd.tags.ComponentTags.getParquetReaderTags;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_COLUMNAR_READ_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_COLUMNAR_READ_ENABLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_PREFETCH_MAX_BYTES_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_PREFETCH_MAX_BYTES_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_PREFETCH_ROW_GROUPS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_PREFETCH_ROW_GROUPS_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_READ_BATCH_SIZE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_READ_BATCH_SIZE_KEY;
 
 public class ParquetReader implements FileRecordFormat.Reader<Row> {
     private final Path hadoopFilePath;
@@ -41,24 +60,53 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
     private long rowCount;
     private boolean isRecordReaderInitialized;
     private RecordReader<Group> recordReader;
-    private final MessageType schema;
-    private long totalEmittedRowCount;
+    private MessageType schema;
+    private long currentRowGroupOffset;
+    private int nextRowGroupIndex;
     private DaggerCounterManager daggerCounterManager;
     private DaggerHistogramManager daggerHistogramManager;
     private final StatsDErrorReporter statsDErrorReporter;
+    private final boolean columnarReadEnabled;
+    private final int readBatchSize;
+    private final int prefetchRowGroups;
+    private final long prefetchMaxBytes;
+    private final FilterCompat.Filter rowGroupFilter;
+    private ColumnIndexRowGroupReader rowGroupReader;
+    private RowGroupPrefetcher rowGroupPrefetcher;
+    private ColumnarRowBatchDecoder columnarRowBatchDecoder;
+    private Row[] rowBatch;
+    private int rowBatchPosition;
+    private int rowBatchLength;
     private static final Logger LOGGER = LoggerFactory.getLogger(ParquetReader.class.getName());
 
-    private ParquetReader(Path hadoopFilePath, SimpleGroupDeserializer simpleGroupDeserializer, ParquetFileReader
-            parquetFileReader, SerializedStatsDReporterSupplier statsDReporterSupplier) throws IOException {
+    private ParquetReader(Path hadoopFilePath, SimpleGroupDeserializer simpleGroupDeserializer, ParquetFileReader parquetFileReader,
+                          SerializedStatsDReporterSupplier statsDReporterSupplier, boolean columnarReadEnabled, int readBatchSize,
+                          int prefetchRowGroups, long prefetchMaxBytes, FilterCompat.Filter rowGroupFilter, long restoredRowGroupOffset) throws IOException {
         this.hadoopFilePath = hadoopFilePath;
+        this.rowGroupFilter = rowGroupFilter;
+        this.columnarReadEnabled = columnarReadEnabled;
+        this.readBatchSize = readBatchSize;
+        this.prefetchRowGroups = prefetchRowGroups;
+        this.prefetchMaxBytes = prefetchMaxBytes;
         this.simpleGroupDeserializer = simpleGroupDeserializer;
         this.parquetFileReader = parquetFileReader;
         this.schema = this.parquetFileReader.getFileMetaData().getSchema();
         this.isRecordReaderInitialized = false;
-        this.totalEmittedRowCount = 0L;
+        this.currentRowGroupOffset = restoredRowGroupOffset;
+        this.nextRowGroupIndex = 0;
         this.registerTagsWithMeasurementManagers(statsDReporterSupplier);
         this.statsDErrorReporter = new StatsDErrorReporter(statsDReporterSupplier);
         daggerCounterManager.increment(ParquetReaderAspects.READER_CREATED);
+        reportPrunedRowGroups();
+    }
+
+    private void reportPrunedRowGroups() {
+        long prunedRowGroupCount = parquetFileReader.getFooter().getBlocks().size() - parquetFileReader.getRowGroups().size();
+        if (prunedRowGroupCount > 0) {
+            daggerCounterManager.increment(ParquetReaderAspects.READER_ROW_GROUPS_PRUNED, prunedRowGroupCount);
+            String logMessage = String.format("Skipping %d row groups of Parquet file %s outside the time range or the query predicates", prunedRowGroupCount, hadoopFilePath.getName());
+            LOGGER.info(logMessage);
+        }
     }
 
     private void registerTagsWithMeasurementManagers(SerializedStatsDReporterSupplier statsDReporterSupplier) {
@@ -79,30 +127,116 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
     }
 
     private void changeReaderPosition(PageReadStore pages) {
+        List<BlockMetaData> footerRowGroups = parquetFileReader.getFooter().getBlocks();
+        currentRowGroupOffset = footerRowGroups.indexOf(parquetFileReader.getRowGroups().get(nextRowGroupIndex++));
         rowCount = pages.getRowCount();
         currentRecordIndex = 0;
+        if (rowCount == 0) {
+            daggerCounterManager.increment(ParquetReaderAspects.READER_ROW_GROUPS_PRUNED);
+            return;
+        }
+        if (columnarRowBatchDecoder != null) {
+            columnarRowBatchDecoder.startRowGroup(pages, parquetFileReader.getFileMetaData().getCreatedBy());
+            rowBatchPosition = 0;
+            rowBatchLength = 0;
+            return;
+        }
         MessageColumnIO columnIO = new ColumnIOFactory().getColumnIO(schema);
         recordReader = columnIO.getRecordReader(pages, new GroupRecordConverter(schema));
     }
 
     private void initializeRecordReader() throws IOException {
-        PageReadStore nextPage = parquetFileReader.readNextRowGroup();
-        changeReaderPosition(nextPage);
+        simpleGroupDeserializer.open();
+        requestProjectedSchema();
+        rowGroupReader = new ColumnIndexRowGroupReader(parquetFileReader, rowGroupFilter, schema);
+        seekToRestoredRowGroup();
+        if (columnarReadEnabled) {
+            initializeColumnarDecoder();
+        }
+        if (prefetchRowGroups > 0) {
+            startRowGroupPrefetcher();
+        }
+        rowCount = 0;
+        currentRecordIndex = 0;
         this.isRecordReaderInitialized = true;
         String logMessage = String.format("Successfully created the ParquetFileReader and RecordReader for file %s", hadoopFilePath.getName());
         LOGGER.info(logMessage);
     }
 
+    /* row groups are identified by their index in the file footer, those pruned by the row group filter are never read */
+    private void seekToRestoredRowGroup() throws IOException {
+        if (currentRowGroupOffset == CheckpointedPosition.NO_OFFSET) {
+            return;
+        }
+        List<BlockMetaData> footerRowGroups = parquetFileReader.getFooter().getBlocks();
+        List<BlockMetaData> rowGroups = parquetFileReader.getRowGroups();
+        while (nextRowGroupIndex < rowGroups.size() && footerRowGroups.indexOf(rowGroups.get(nextRowGroupIndex)) < currentRowGroupOffset) {
+            parquetFileReader.skipNextRowGroup();
+            nextRowGroupIndex++;
+        }
+        String logMessage = String.format("Restored the reader of Parquet file %s at row group %d, skipped %d row groups",
+                hadoopFilePath.getName(), currentRowGroupOffset, nextRowGroupIndex);
+        LOGGER.info(logMessage);
+    }
+
+    private void startRowGroupPrefetcher() {
+        List<BlockMetaData> rowGroups = parquetFileReader.getRowGroups();
+        rowGroupPrefetcher = new RowGroupPrefetcher(rowGroupReader, rowGroups.subList(nextRowGroupIndex, rowGroups.size()), schema,
+                prefetchRowGroups, prefetchMaxBytes, hadoopFilePath.getName());
+        rowGroupPrefetcher.start();
+    }
+
+    private PageReadStore readNextRowGroup() throws IOException {
+        if (rowGroupPrefetcher == null) {
+            List<BlockMetaData> rowGroups = parquetFileReader.getRowGroups();
+            return nextRowGroupIndex < rowGroups.size() ? rowGroupReader.readNextRowGroup(rowGroups.get(nextRowGroupIndex)) : null;
+        }
+        if (rowGroupPrefetcher.isNextRowGroupReady()) {
+            daggerCounterManager.increment(ParquetReaderAspects.READER_PREFETCH_HITS);
+            return rowGroupPrefetcher.readNextRowGroup();
+        }
+        long startStallTime = Instant.now().toEpochMilli();
+        PageReadStore pages = rowGroupPrefetcher.readNextRowGroup();
+        long endStallTime = Instant.now().toEpochMilli();
+        daggerHistogramManager.recordValue(ParquetReaderAspects.READER_PREFETCH_STALL_TIME, endStallTime - startStallTime);
+        return pages;
+    }
+
+    private void requestProjectedSchema() {
+        MessageType requestedSchema = simpleGroupDeserializer.getRequestedSchema(schema);
+        if (requestedSchema == null || requestedSchema == schema) {
+            return;
+        }
+        String logMessage = String.format("Reading %d of %d columns from Parquet file %s", requestedSchema.getColumns().size(),
+                schema.getColumns().size(), hadoopFilePath.getName());
+        LOGGER.info(logMessage);
+        schema = requestedSchema;
+        parquetFileReader.setRequestedSchema(requestedSchema);
+    }
+
+    private void initializeColumnarDecoder() {
+        columnarRowBatchDecoder = simpleGroupDeserializer.createColumnarDecoder(schema);
+        if (columnarRowBatchDecoder == null) {
+            String logMessage = String.format("Schema of Parquet file %s can not be decoded column by column, reading it record by record", hadoopFilePath.getName());
+            LOGGER.info(logMessage);
+            return;
+        }
+        rowBatch = new Row[readBatchSize];
+    }
+
     private Row readRecords() throws IOException {
         long startReadTime = Instant.now().toEpochMilli();
 
-        if (currentRecordIndex >= rowCount) {
-            PageReadStore nextPage = parquetFileReader.readNextRowGroup();
+        while (currentRecordIndex >= rowCount) {
+            PageReadStore nextPage = readNextRowGroup();
             if (checkIfNullPage(nextPage)) {
                 return null;
             }
             changeReaderPosition(nextPage);
         }
+        if (columnarRowBatchDecoder != null) {
+            return readBatchedRecord(startReadTime);
+        }
         SimpleGroup simpleGroup = (SimpleGroup) recordReader.read();
         long endReadTime = Instant.now().toEpochMilli();
 
@@ -112,13 +246,39 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
         Row row = deserialize(simpleGroup);
 
         long endDeserializationTime = Instant.now().toEpochMilli();
-        totalEmittedRowCount++;
 
         daggerHistogramManager.recordValue(ParquetReaderAspects.READER_ROW_READ_TIME, endReadTime - startReadTime);
         daggerHistogramManager.recordValue(ParquetReaderAspects.READER_ROW_DESERIALIZATION_TIME, endDeserializationTime - startDeserializationTime);
         return row;
     }
 
+    private Row readBatchedRecord(long startReadTime) {
+        if (rowBatchPosition >= rowBatchLength) {
+            decodeNextBatch();
+        }
+        Row row = rowBatch[rowBatchPosition];
+        rowBatch[rowBatchPosition++] = null;
+        long endReadTime = Instant.now().toEpochMilli();
+
+        currentRecordIndex++;
+        daggerHistogramManager.recordValue(ParquetReaderAspects.READER_ROW_READ_TIME, endReadTime - startReadTime);
+        return row;
+    }
+
+    private void decodeNextBatch() {
+        long startDecodeTime = Instant.now().toEpochMilli();
+        try {
+            rowBatchLength = columnarRowBatchDecoder.readBatch(rowBatch);
+            rowBatchPosition = 0;
+        } catch (RuntimeException e) {
+            DaggerDeserializationException exception = new DaggerDeserializationException(e);
+            statsDErrorReporter.reportFatalException(exception);
+            throw exception;
+        }
+        long endDecodeTime = Instant.now().toEpochMilli();
+        daggerHistogramManager.recordValue(ParquetReaderAspects.READER_BATCH_DECODE_TIME, endDecodeTime - startDecodeTime);
+    }
+
     private Row deserialize(SimpleGroup simpleGroup) {
         try {
             return simpleGroupDeserializer.deserialize(simpleGroup);
@@ -141,6 +301,10 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
 
     @Override
     public void close() throws IOException {
+        if (rowGroupPrefetcher != null) {
+            rowGroupPrefetcher.close();
+            rowGroupPrefetcher = null;
+        }
         parquetFileReader.close();
         closeRecordReader();
         String logMessage = String.format("Closed the ParquetFileReader and de-referenced the RecordReader for file %s", hadoopFilePath.getName());
@@ -153,29 +317,116 @@ public class ParquetReader implements FileRecordFormat.Reader<Row> {
             this.isRecordReaderInitialized = false;
         }
         recordReader = null;
+        rowGroupReader = null;
+        columnarRowBatchDecoder = null;
+        rowBatch = null;
     }
 
+    /**
+     * Gets the position of the next row, as the index of its row group in the file footer and the count of rows
+     * of that row group emitted before it. Restoring from it seeks straight to the row group, only the rows
+     * within the group have to be read again.
+     *
+     * @return the checkpointed position
+     */
     @Override
     public CheckpointedPosition getCheckpointedPosition() {
-        return new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, totalEmittedRowCount);
+        if (currentRowGroupOffset != CheckpointedPosition.NO_OFFSET && rowCount > 0 && currentRecordIndex >= rowCount) {
+            return new CheckpointedPosition(currentRowGroupOffset + 1, 0);
+        }
+        return new CheckpointedPosition(currentRowGroupOffset, currentRecordIndex);
     }
 
     public static class ParquetReaderProvider implements ReaderProvider {
         private final SimpleGroupDeserializer simpleGroupDeserializer;
         private final SerializedStatsDReporterSupplier statsDReporterSupplier;
+        private final boolean columnarReadEnabled;
+        private final int readBatchSize;
+        private final int prefetchRowGroups;
+        private final long prefetchMaxBytes;
+        private final RowGroupFilterFactory rowGroupFilterFactory;
+        private transient FilterCompat.Filter rowGroupFilter;
 
         public ParquetReaderProvider(SimpleGroupDeserializer simpleGroupDeserializer, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+            this(simpleGroupDeserializer, statsDReporterSupplier, SOURCE_PARQUET_COLUMNAR_READ_ENABLE_DEFAULT, SOURCE_PARQUET_READ_BATCH_SIZE_DEFAULT,
+                    SOURCE_PARQUET_PREFETCH_ROW_GROUPS_DEFAULT, SOURCE_PARQUET_PREFETCH_MAX_BYTES_DEFAULT, null);
+        }
+
+        public ParquetReaderProvider(SimpleGroupDeserializer simpleGroupDeserializer, SerializedStatsDReporterSupplier statsDReporterSupplier, Configuration configuration) {
+            this(simpleGroupDeserializer, statsDReporterSupplier, configuration, null);
+        }
+
+        public ParquetReaderProvider(SimpleGroupDeserializer simpleGroupDeserializer, SerializedStatsDReporterSupplier statsDReporterSupplier, Configuration configuration,
+                                     RowGroupFilterFactory rowGroupFilterFactory) {
+            this(simpleGroupDeserializer, statsDReporterSupplier,
+                    configuration.getBoolean(SOURCE_PARQUET_COLUMNAR_READ_ENABLE_KEY, SOURCE_PARQUET_COLUMNAR_READ_ENABLE_DEFAULT),
+                    configuration.getInteger(SOURCE_PARQUET_READ_BATCH_SIZE_KEY, SOURCE_PARQUET_READ_BATCH_SIZE_DEFAULT),
+                    configuration.getInteger(SOURCE_PARQUET_PREFETCH_ROW_GROUPS_KEY, SOURCE_PARQUET_PREFETCH_ROW_GROUPS_DEFAULT),
+                    configuration.getLong(SOURCE_PARQUET_PREFETCH_MAX_BYTES_KEY, SOURCE_PARQUET_PREFETCH_MAX_BYTES_DEFAULT),
+                    rowGroupFilterFactory);
+        }
+
+        private ParquetReaderProvider(SimpleGroupDeserializer simpleGroupDeserializer, SerializedStatsDReporterSupplier statsDReporterSupplier,
+                                      boolean columnarReadEnabled, int readBatchSize, int prefetchRowGroups, long prefetchMaxBytes,
+                                      RowGroupFilterFactory rowGroupFilterFactory) {
             this.simpleGroupDeserializer = simpleGroupDeserializer;
             this.statsDReporterSupplier = statsDReporterSupplier;
+            this.columnarReadEnabled = columnarReadEnabled;
+            this.readBatchSize = Math.max(1, readBatchSize);
+            this.prefetchRowGroups = Math.max(0, prefetchRowGroups);
+            this.prefetchMaxBytes = prefetchMaxBytes;
+            this.rowGroupFilterFactory = rowGroupFilterFactory;
+        }
+
+        private FilterCompat.Filter getRowGroupFilter() {
+            if (rowGroupFilter == null) {
+                rowGroupFilter = rowGroupFilterFactory == null
+                        ? FilterCompat.NOOP
+                        : rowGroupFilterFactory.createFilter(simpleGroupDeserializer.getTimestampFieldDescriptor());
+            }
+            return rowGroupFilter;
         }
 
         @Override
         public ParquetReader getReader(String filePath) {
+            return createReader(filePath, CheckpointedPosition.NO_OFFSET, 0, Long.MAX_VALUE);
+        }
+
+        /**
+         * Gets a reader of the row groups whose midpoint falls into the split.
+         * Row group indexes of the checkpointed positions are relative to the split.
+         */
+        @Override
+        public ParquetReader getReader(String filePath, long splitOffset, long splitLength) {
+            return createReader(filePath, CheckpointedPosition.NO_OFFSET, splitOffset, splitLength);
+        }
+
+        @Override
+        public ParquetReader getRestoredReader(String filePath, long restoredOffset, long splitOffset, long splitLength) {
+            return createReader(filePath, restoredOffset, splitOffset, splitLength);
+        }
+
+        /* files on the local file system are memory mapped, the others are read through their Hadoop file system */
+        private InputFile getInputFile(Path hadoopFilePath, org.apache.hadoop.conf.Configuration conf) throws IOException {
+            URI fileUri = hadoopFilePath.toUri();
+            String scheme = fileUri.getScheme() == null ? FileSystem.getDefaultUri(conf).getScheme() : fileUri.getScheme();
+            if ("file".equals(scheme)) {
+                return new MappedLocalInputFile(new File(fileUri.getPath()));
+            }
+            return HadoopInputFile.fromPath(hadoopFilePath, conf);
+        }
+
+        private ParquetReader createReader(String filePath, long restoredRowGroupOffset, long splitOffset, long splitLength) {
             try {
-                Configuration conf = new Configuration();
+                org.apache.hadoop.conf.Configuration conf = new org.apache.hadoop.conf.Configuration();
                 Path hadoopFilePath = new Path(filePath);
-                ParquetFileReader parquetFileReader = ParquetFileReader.open(HadoopInputFile.fromPath(hadoopFilePath, conf));
-                return new ParquetReader(hadoopFilePath, simpleGroupDeserializer, parquetFileReader, statsDReporterSupplier);
+                ParquetReadOptions readOptions = HadoopReadOptions.builder(conf)
+                        .withRange(splitOffset, splitOffset + splitLength)
+                        .withRecordFilter(getRowGroupFilter())
+                        .build();
+                ParquetFileReader parquetFileReader = ParquetFileReader.open(getInputFile(hadoopFilePath, conf), readOptions);
+                return new ParquetReader(hadoopFilePath, simpleGroupDeserializer, parquetFileReader, statsDReporterSupplier,
+                        columnarReadEnabled, readBatchSize, prefetchRowGroups, prefetchMaxBytes, getRowGroupFilter(), restoredRowGroupOffset);
             } catch (IOException | RuntimeException ex) {
                 ParquetFileSourceReaderInitializationException exception = new ParquetFileSourceReaderInitializationException(ex);
                 new StatsDErrorReporter(statsDReporterSupplier).reportFatalException(exception);
@@ -8,4 +8,12 @@ import java.io.Serializable;
 @FunctionalInterface
 public interface ReaderProvider extends Serializable {
     FileRecordFormat.Reader<Row> getReader(String filePath);
+
+    default FileRecordFormat.Reader<Row> getReader(String filePath, long splitOffset, long splitLength) {
+        return getReader(filePath);
+    }
+
+    default FileRecordFormat.Reader<Row> getRestoredReader(String filePath, long restoredOffset, long splitOffset, long splitLength) {
+        throw new UnsupportedOperationException("Error: the reader provider has no offsets and hence cannot restore readers from offset " + restoredOffset);
+    }
 }
@@ -0,0 +1,188 @@
+package io.odpf.dagger.core.source.parquet.reader;
+
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ColumnChunkMetaData;
+import org.apache.parquet.schema.MessageType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Reads and decompresses the next row groups of a parquet file on a background thread, while the rows of the current
+ * row group are being emitted. At most {@code maxRowGroups} row groups are held ahead of the reader, and no more than
+ * {@code maxBytes} of their decompressed column chunks unless a single row group is larger than that on its own.
+ * Once started, the row group reader and its parquet file reader must only be used by the prefetcher.
+ */
+class RowGroupPrefetcher implements Closeable {
+    private final ColumnIndexRowGroupReader rowGroupReader;
+    private final MessageType requestedSchema;
+    private final List<BlockMetaData> rowGroups;
+    private final long[] rowGroupSizes;
+    private final int maxRowGroups;
+    private final long maxBytes;
+    private final ArrayDeque<PrefetchedRowGroup> prefetchedRowGroups;
+    private final Object lock;
+    private final Thread prefetchThread;
+    private long prefetchedBytes;
+    private boolean finished;
+    private boolean closed;
+    private Exception failure;
+
+    /**
+     * Instantiates a new Row group prefetcher.
+     *
+     * @param rowGroupReader    the row group reader, positioned at the first row group to prefetch
+     * @param rowGroups         the row groups left to read, in read order
+     * @param requestedSchema   the schema requested from the file
+     * @param maxRowGroups      the maximum number of row groups to hold ahead of the reader
+     * @param maxBytes          the maximum size of the decompressed column chunks to hold ahead of the reader
+     * @param fileName          the name of the parquet file
+     */
+    RowGroupPrefetcher(ColumnIndexRowGroupReader rowGroupReader, List<BlockMetaData> rowGroups, MessageType requestedSchema,
+                       int maxRowGroups, long maxBytes, String fileName) {
+        this.rowGroupReader = rowGroupReader;
+        this.requestedSchema = requestedSchema;
+        this.rowGroups = rowGroups;
+        this.rowGroupSizes = rowGroups.stream().mapToLong(rowGroup -> getRequestedSize(rowGroup, requestedSchema)).toArray();
+        this.maxRowGroups = maxRowGroups;
+        this.maxBytes = maxBytes;
+        this.prefetchedRowGroups = new ArrayDeque<>();
+        this.lock = new Object();
+        this.prefetchThread = new Thread(this::prefetch, "parquet-row-group-prefetcher-" + fileName);
+        this.prefetchThread.setDaemon(true);
+    }
+
+    private static long getRequestedSize(BlockMetaData rowGroup, MessageType requestedSchema) {
+        return rowGroup.getColumns()
+                .stream()
+                .filter(column -> requestedSchema.containsPath(column.getPath().toArray()))
+                .mapToLong(ColumnChunkMetaData::getTotalUncompressedSize)
+                .sum();
+    }
+
+    /**
+     * Start prefetching row groups.
+     */
+    void start() {
+        prefetchThread.start();
+    }
+
+    /**
+     * Check if the next row group has already been read.
+     *
+     * @return true if {@link #readNextRowGroup()} returns without waiting
+     */
+    boolean isNextRowGroupReady() {
+        synchronized (lock) {
+            return !prefetchedRowGroups.isEmpty() || finished;
+        }
+    }
+
+    /**
+     * Read the next row group, waiting for the background thread if it has not been read yet.
+     *
+     * @return the pages of the next row group, or null if there are no more row groups
+     * @throws IOException if the row group could not be read
+     */
+    PageReadStore readNextRowGroup() throws IOException {
+        synchronized (lock) {
+            try {
+                while (prefetchedRowGroups.isEmpty() && !finished) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the next row group");
+            }
+            PrefetchedRowGroup prefetchedRowGroup = prefetchedRowGroups.poll();
+            if (prefetchedRowGroup != null) {
+                prefetchedBytes -= prefetchedRowGroup.size;
+                lock.notifyAll();
+                return prefetchedRowGroup.pages;
+            }
+            if (failure != null) {
+                throw new IOException("Failed to prefetch the next row group", failure);
+            }
+            return null;
+        }
+    }
+
+    private void prefetch() {
+        try {
+            for (int index = 0; index < rowGroupSizes.length; index++) {
+                long rowGroupSize = rowGroupSizes[index];
+                if (!awaitCapacity(rowGroupSize)) {
+                    return;
+                }
+                PageReadStore pages = rowGroupReader.readNextRowGroup(rowGroups.get(index));
+                if (pages == null) {
+                    return;
+                }
+                PageReadStore decompressedPages = pages.getRowCount() == 0 ? pages : DecompressedPageReadStore.decompress(pages, requestedSchema);
+                synchronized (lock) {
+                    prefetchedRowGroups.add(new PrefetchedRowGroup(decompressedPages, rowGroupSize));
+                    prefetchedBytes += rowGroupSize;
+                    lock.notifyAll();
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            synchronized (lock) {
+                failure = e;
+            }
+        } finally {
+            synchronized (lock) {
+                finished = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    private boolean awaitCapacity(long rowGroupSize) {
+        synchronized (lock) {
+            try {
+                while (!closed && (prefetchedRowGroups.size() >= maxRowGroups
+                        || (!prefetchedRowGroups.isEmpty() && prefetchedBytes + rowGroupSize > maxBytes))) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                return false;
+            }
+            return !closed;
+        }
+    }
+
+    /**
+     * Stop prefetching and release the prefetched row groups. The parquet file reader can be closed afterwards.
+     *
+     * @throws IOException if interrupted while waiting for the background thread
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (lock) {
+            closed = true;
+            prefetchedRowGroups.clear();
+            lock.notifyAll();
+        }
+        prefetchThread.interrupt();
+        try {
+            prefetchThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while stopping the row group prefetcher");
+        }
+    }
+
+    private static final class PrefetchedRowGroup {
+        private final PageReadStore pages;
+        private final long size;
+
+        private PrefetchedRowGroup(PageReadStore pages, long size) {
+            this.pages = pages;
+            this.size = size;
+        }
+    }
+}
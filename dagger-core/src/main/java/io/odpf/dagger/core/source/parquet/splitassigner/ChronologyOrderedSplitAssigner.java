@@ -65,6 +65,15 @@ public class ChronologyOrderedSplitAssigner implements FileSplitAssigner {
         return Optional.of(instantEnrichedSplit.getFileSourceSplit());
     }
 
+    /**
+     * Gets the instant of the split which gets returned next.
+     *
+     * @return the instant of the next split, empty if there are no splits left
+     */
+    public Optional<Instant> getNextSplitInstant() {
+        return Optional.ofNullable(unassignedSplits.peek()).map(InstantEnrichedSplit::getInstant);
+    }
+
     @Override
     public void addSplits(Collection<FileSourceSplit> splits) {
         for (FileSourceSplit split : splits) {
@@ -93,6 +102,7 @@ public class ChronologyOrderedSplitAssigner implements FileSplitAssigner {
         }
     }
 
+    /* splits of the same instant are ordered by path, so that the splits of a file split by row groups are handed out in file order */
     private Comparator<InstantEnrichedSplit> getFileSourceSplitComparator() {
         return (instantEnrichedSplit1, instantEnrichedSplit2) -> {
             Instant instant1 = instantEnrichedSplit1.getInstant();
@@ -101,9 +111,14 @@ public class ChronologyOrderedSplitAssigner implements FileSplitAssigner {
                 return -1;
             } else if (instant1.isAfter(instant2)) {
                 return 1;
-            } else {
-                return 0;
             }
+            FileSourceSplit split1 = instantEnrichedSplit1.getFileSourceSplit();
+            FileSourceSplit split2 = instantEnrichedSplit2.getFileSourceSplit();
+            int pathComparison = split1.path().toString().compareTo(split2.path().toString());
+            if (pathComparison != 0) {
+                return pathComparison;
+            }
+            return Long.compare(split1.offset(), split2.offset());
         };
     }
 
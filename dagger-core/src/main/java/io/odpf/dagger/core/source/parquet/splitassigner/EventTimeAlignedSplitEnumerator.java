@@ -0,0 +1,153 @@
+package io.odpf.dagger.core.source.parquet.splitassigner;
+
+import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
+import io.odpf.dagger.core.metrics.reporters.statsd.manager.DaggerGaugeManager;
+import org.apache.flink.api.connector.source.SplitEnumerator;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.PendingSplitsCheckpoint;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.odpf.dagger.core.metrics.aspects.ChronologyOrderedSplitAssignerAspects.READERS_AWAITING_ALIGNMENT;
+import static io.odpf.dagger.core.metrics.reporters.statsd.tags.ComponentTags.getSplitAssignerTags;
+
+/**
+ * A split enumerator for bounded file sources which hands out splits in chronological order, like the
+ * {@link ChronologyOrderedSplitAssigner} it wraps, but holds back the next split from a reader while the split is more
+ * than the maximum lag ahead of the slowest split still being read by another reader. The reader gets the split once
+ * the slower splits are finished, so that readers stay within the lag of each other and watermarks keep advancing.
+ * <p>
+ * Every reader of a file source reads one split at a time and requests the next one once it is done, so the split
+ * last assigned to a reader is in progress until the reader requests another one. Readers keep their splits in progress
+ * across restores, so the instants of these splits are checkpointed along with the splits not assigned yet.
+ */
+public class EventTimeAlignedSplitEnumerator implements SplitEnumerator<FileSourceSplit, EventTimeAlignedSplitsCheckpoint> {
+    private final SplitEnumeratorContext<FileSourceSplit> context;
+    private final ChronologyOrderedSplitAssigner splitAssigner;
+    private final Duration maxLag;
+    private final Map<Integer, Instant> inProgressSplitInstants;
+    private final LinkedHashMap<Integer, String> readersAwaitingSplit;
+    private final DaggerGaugeManager daggerGaugeManager;
+
+    /**
+     * Instantiates a new Event time aligned split enumerator.
+     *
+     * @param context                the split enumerator context
+     * @param splitAssigner          the assigner holding the splits to read
+     * @param maxLag                 the maximum lag between the splits being read
+     * @param statsDReporterSupplier the statsD reporter supplier
+     */
+    public EventTimeAlignedSplitEnumerator(SplitEnumeratorContext<FileSourceSplit> context, ChronologyOrderedSplitAssigner splitAssigner,
+                                           Duration maxLag, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+        this(context, splitAssigner, maxLag, statsDReporterSupplier, Collections.emptyMap());
+    }
+
+    /**
+     * Instantiates a new Event time aligned split enumerator restored from a checkpoint.
+     *
+     * @param context                 the split enumerator context
+     * @param splitAssigner           the assigner holding the splits to read
+     * @param maxLag                  the maximum lag between the splits being read
+     * @param statsDReporterSupplier  the statsD reporter supplier
+     * @param inProgressSplitInstants the checkpointed instants of the splits in progress, by the subtask reading them
+     */
+    public EventTimeAlignedSplitEnumerator(SplitEnumeratorContext<FileSourceSplit> context, ChronologyOrderedSplitAssigner splitAssigner,
+                                           Duration maxLag, SerializedStatsDReporterSupplier statsDReporterSupplier,
+                                           Map<Integer, Instant> inProgressSplitInstants) {
+        this.context = context;
+        this.splitAssigner = splitAssigner;
+        this.maxLag = maxLag;
+        this.inProgressSplitInstants = new HashMap<>();
+        /* subtasks beyond the restored parallelism do not exist anymore and never request a split to finish theirs */
+        inProgressSplitInstants.forEach((subtaskId, splitInstant) -> {
+            if (subtaskId < context.currentParallelism()) {
+                this.inProgressSplitInstants.put(subtaskId, splitInstant);
+            }
+        });
+        this.readersAwaitingSplit = new LinkedHashMap<>();
+        this.daggerGaugeManager = new DaggerGaugeManager(statsDReporterSupplier);
+        this.daggerGaugeManager.register(getSplitAssignerTags());
+    }
+
+    @Override
+    public void start() {
+    }
+
+    @Override
+    public void handleSplitRequest(int subtaskId, @Nullable String requesterHostname) {
+        inProgressSplitInstants.remove(subtaskId);
+        readersAwaitingSplit.put(subtaskId, requesterHostname);
+        assignSplits();
+    }
+
+    @Override
+    public void addSplitsBack(List<FileSourceSplit> splits, int subtaskId) {
+        inProgressSplitInstants.remove(subtaskId);
+        splitAssigner.addSplits(splits);
+        assignSplits();
+    }
+
+    @Override
+    public void addReader(int subtaskId) {
+        /* readers request splits when they need one */
+    }
+
+    @Override
+    public EventTimeAlignedSplitsCheckpoint snapshotState(long checkpointId) {
+        return new EventTimeAlignedSplitsCheckpoint(PendingSplitsCheckpoint.fromCollectionSnapshot(splitAssigner.remainingSplits()),
+                new HashMap<>(inProgressSplitInstants));
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private void assignSplits() {
+        Iterator<Map.Entry<Integer, String>> awaitingReaders = readersAwaitingSplit.entrySet().iterator();
+        while (awaitingReaders.hasNext()) {
+            Map.Entry<Integer, String> awaitingReader = awaitingReaders.next();
+            int subtaskId = awaitingReader.getKey();
+            if (!context.registeredReaders().containsKey(subtaskId)) {
+                awaitingReaders.remove();
+                continue;
+            }
+            Optional<Instant> nextSplitInstant = splitAssigner.getNextSplitInstant();
+            if (!nextSplitInstant.isPresent()) {
+                context.signalNoMoreSplits(subtaskId);
+                awaitingReaders.remove();
+                continue;
+            }
+            /* splits are handed out in chronological order, every later split is at least as far ahead */
+            if (isTooFarAhead(nextSplitInstant.get())) {
+                break;
+            }
+            Optional<FileSourceSplit> nextSplit = splitAssigner.getNext(awaitingReader.getValue());
+            if (!nextSplit.isPresent()) {
+                break;
+            }
+            context.assignSplit(nextSplit.get(), subtaskId);
+            inProgressSplitInstants.put(subtaskId, nextSplitInstant.get());
+            awaitingReaders.remove();
+        }
+        daggerGaugeManager.markValue(READERS_AWAITING_ALIGNMENT, readersAwaitingSplit.size());
+    }
+
+    private boolean isTooFarAhead(Instant splitInstant) {
+        return inProgressSplitInstants.values()
+                .stream()
+                .min(Comparator.naturalOrder())
+                .map(slowestSplitInstant -> Duration.between(slowestSplitInstant, splitInstant).compareTo(maxLag) > 0)
+                .orElse(false);
+    }
+}
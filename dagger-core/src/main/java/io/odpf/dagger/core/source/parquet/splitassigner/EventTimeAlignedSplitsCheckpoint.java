@@ -0,0 +1,30 @@
+package io.odpf.dagger.core.source.parquet.splitassigner;
+
+import lombok.Getter;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.PendingSplitsCheckpoint;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * The checkpoint of an {@link EventTimeAlignedSplitEnumerator}: the splits not assigned yet, and the instants of the
+ * splits the readers were reading, which a restored enumerator keeps the readers aligned to until they finish them.
+ */
+public class EventTimeAlignedSplitsCheckpoint {
+    @Getter
+    private final PendingSplitsCheckpoint<FileSourceSplit> pendingSplits;
+    @Getter
+    private final Map<Integer, Instant> inProgressSplitInstants;
+
+    /**
+     * Instantiates a new Event time aligned splits checkpoint.
+     *
+     * @param pendingSplits           the splits not assigned yet
+     * @param inProgressSplitInstants the instants of the splits in progress, by the subtask reading them
+     */
+    public EventTimeAlignedSplitsCheckpoint(PendingSplitsCheckpoint<FileSourceSplit> pendingSplits, Map<Integer, Instant> inProgressSplitInstants) {
+        this.pendingSplits = pendingSplits;
+        this.inProgressSplitInstants = inProgressSplitInstants;
+    }
+}
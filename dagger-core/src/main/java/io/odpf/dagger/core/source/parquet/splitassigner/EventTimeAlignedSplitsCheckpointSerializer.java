@@ -0,0 +1,71 @@
+package io.odpf.dagger.core.source.parquet.splitassigner;
+
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.PendingSplitsCheckpoint;
+import org.apache.flink.core.io.SimpleVersionedSerializer;
+import org.apache.flink.core.memory.DataInputDeserializer;
+import org.apache.flink.core.memory.DataOutputSerializer;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serializes {@link EventTimeAlignedSplitsCheckpoint}s, writing the pending splits with the checkpoint serializer of the
+ * file source followed by the instants of the splits in progress.
+ */
+public class EventTimeAlignedSplitsCheckpointSerializer implements SimpleVersionedSerializer<EventTimeAlignedSplitsCheckpoint> {
+    private static final int VERSION = 1;
+    private static final int INITIAL_BUFFER_SIZE = 256;
+    private final SimpleVersionedSerializer<PendingSplitsCheckpoint<FileSourceSplit>> pendingSplitsSerializer;
+
+    /**
+     * Instantiates a new Event time aligned splits checkpoint serializer.
+     *
+     * @param pendingSplitsSerializer the checkpoint serializer of the file source
+     */
+    public EventTimeAlignedSplitsCheckpointSerializer(SimpleVersionedSerializer<PendingSplitsCheckpoint<FileSourceSplit>> pendingSplitsSerializer) {
+        this.pendingSplitsSerializer = pendingSplitsSerializer;
+    }
+
+    @Override
+    public int getVersion() {
+        return VERSION;
+    }
+
+    @Override
+    public byte[] serialize(EventTimeAlignedSplitsCheckpoint checkpoint) throws IOException {
+        DataOutputSerializer output = new DataOutputSerializer(INITIAL_BUFFER_SIZE);
+        byte[] pendingSplits = pendingSplitsSerializer.serialize(checkpoint.getPendingSplits());
+        output.writeInt(pendingSplitsSerializer.getVersion());
+        output.writeInt(pendingSplits.length);
+        output.write(pendingSplits);
+        output.writeInt(checkpoint.getInProgressSplitInstants().size());
+        for (Map.Entry<Integer, Instant> inProgressSplitInstant : checkpoint.getInProgressSplitInstants().entrySet()) {
+            output.writeInt(inProgressSplitInstant.getKey());
+            output.writeLong(inProgressSplitInstant.getValue().getEpochSecond());
+            output.writeInt(inProgressSplitInstant.getValue().getNano());
+        }
+        return output.getCopyOfBuffer();
+    }
+
+    @Override
+    public EventTimeAlignedSplitsCheckpoint deserialize(int version, byte[] serialized) throws IOException {
+        if (version != VERSION) {
+            throw new IOException("Unrecognized version of event time aligned splits checkpoint: " + version);
+        }
+        DataInputDeserializer input = new DataInputDeserializer(serialized);
+        int pendingSplitsVersion = input.readInt();
+        byte[] pendingSplits = new byte[input.readInt()];
+        input.readFully(pendingSplits);
+        int inProgressSplitCount = input.readInt();
+        Map<Integer, Instant> inProgressSplitInstants = new HashMap<>();
+        for (int index = 0; index < inProgressSplitCount; index++) {
+            int subtaskId = input.readInt();
+            long epochSecond = input.readLong();
+            inProgressSplitInstants.put(subtaskId, Instant.ofEpochSecond(epochSecond, input.readInt()));
+        }
+        return new EventTimeAlignedSplitsCheckpoint(pendingSplitsSerializer.deserialize(pendingSplitsVersion, pendingSplits), inProgressSplitInstants);
+    }
+}
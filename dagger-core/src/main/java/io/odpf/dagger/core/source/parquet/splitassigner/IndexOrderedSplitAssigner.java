@@ -1,30 +1,153 @@
 package io.odpf.dagger.core.source.parquet.splitassigner;
 
+import io.odpf.dagger.core.exception.PathParserNotProvidedException;
+import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
+import io.odpf.dagger.core.metrics.reporters.statsd.StatsDErrorReporter;
+import io.odpf.dagger.core.metrics.reporters.statsd.manager.DaggerGaugeManager;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import io.odpf.dagger.core.source.parquet.path.PathParser;
 import org.apache.flink.connector.file.src.FileSourceSplit;
 import org.apache.flink.connector.file.src.assigners.FileSplitAssigner;
 
 import javax.annotation.Nullable;
+import java.io.Serializable;
+import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.concurrent.PriorityBlockingQueue;
 
-/* TODO */
+import static com.google.api.client.util.Preconditions.checkArgument;
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.LAST_ASSIGNED_SPLIT_MEGABYTES;
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.MEGABYTES_AWAITING_ASSIGNMENT;
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.SPLITS_AWAITING_ASSIGNMENT;
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.TOTAL_SPLITS_DISCOVERED;
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.TOTAL_SPLITS_RECORDED;
+import static io.odpf.dagger.core.metrics.reporters.statsd.tags.ComponentTags.getSplitAssignerTags;
+
+/**
+ * Assigns splits without regard to the time they hold, largest split first. Readers ask for a split whenever they are
+ * idle, so handing out the largest remaining split every time is the longest processing time first schedule, which
+ * keeps readers from sitting idle while one of them finishes a large file at the end of the job. Splits of the same
+ * size are handed out in path and offset order. If time ranges are configured, splits of files outside the ranges
+ * are skipped, the time of a file being parsed from its path.
+ */
 public class IndexOrderedSplitAssigner implements FileSplitAssigner {
+    private static final int INITIAL_DEFAULT_CAPACITY = 11;
+    private static final long BYTES_PER_MEGABYTE = 1024L * 1024L;
+    private final PriorityBlockingQueue<FileSourceSplit> unassignedSplits;
+    private final PathParser pathParser;
+    private final TimeRangePool timeRangePool;
+    private final DaggerGaugeManager daggerGaugeManager;
+    private final StatsDErrorReporter statsDErrorReporter;
+    private long unassignedBytes;
 
-    public IndexOrderedSplitAssigner(Collection<FileSourceSplit> fileSourceSplits) {
+    private IndexOrderedSplitAssigner(Collection<FileSourceSplit> fileSourceSplits, PathParser pathParser,
+                                      TimeRangePool timeRangePool, SerializedStatsDReporterSupplier statsDReporterSupplier) {
+        this.pathParser = pathParser;
+        this.timeRangePool = timeRangePool;
+        this.statsDErrorReporter = new StatsDErrorReporter(statsDReporterSupplier);
+        this.unassignedSplits = new PriorityBlockingQueue<>(INITIAL_DEFAULT_CAPACITY, getFileSourceSplitComparator());
+        this.daggerGaugeManager = new DaggerGaugeManager(statsDReporterSupplier);
+        initAndValidate(fileSourceSplits);
     }
 
-    @Override
-    public Optional<FileSourceSplit> getNext(@Nullable String hostname) {
-        return Optional.empty();
+    private void initAndValidate(Collection<FileSourceSplit> fileSourceSplits) {
+        daggerGaugeManager.register(getSplitAssignerTags());
+        daggerGaugeManager.markValue(TOTAL_SPLITS_DISCOVERED, fileSourceSplits.size());
+        for (FileSourceSplit split : fileSourceSplits) {
+            validateAndAddSplits(split);
+        }
+        daggerGaugeManager.markValue(TOTAL_SPLITS_RECORDED, unassignedSplits.size());
+        markAwaitingAssignment();
     }
 
     @Override
-    public void addSplits(Collection<FileSourceSplit> splits) {
+    public synchronized Optional<FileSourceSplit> getNext(@Nullable String hostname) {
+        FileSourceSplit split = unassignedSplits.poll();
+        if (split == null) {
+            return Optional.empty();
+        }
+        unassignedBytes -= split.length();
+        daggerGaugeManager.markValue(LAST_ASSIGNED_SPLIT_MEGABYTES, toMegabytes(split.length()));
+        markAwaitingAssignment();
+        return Optional.of(split);
+    }
 
+    @Override
+    public synchronized void addSplits(Collection<FileSourceSplit> splits) {
+        for (FileSourceSplit split : splits) {
+            validateAndAddSplits(split);
+        }
+        markAwaitingAssignment();
     }
 
     @Override
     public Collection<FileSourceSplit> remainingSplits() {
-        return null;
+        return new ArrayList<>(unassignedSplits);
+    }
+
+    private void validateAndAddSplits(FileSourceSplit split) {
+        if (timeRangePool != null) {
+            try {
+                if (!timeRangePool.contains(pathParser.instantFromFilePath(split.path()))) {
+                    return;
+                }
+            } catch (ParseException ex) {
+                IllegalArgumentException exception = new IllegalArgumentException(ex);
+                statsDErrorReporter.reportFatalException(exception);
+                throw exception;
+            }
+        }
+        unassignedSplits.add(split);
+        unassignedBytes += split.length();
+    }
+
+    private void markAwaitingAssignment() {
+        daggerGaugeManager.markValue(SPLITS_AWAITING_ASSIGNMENT, unassignedSplits.size());
+        daggerGaugeManager.markValue(MEGABYTES_AWAITING_ASSIGNMENT, toMegabytes(unassignedBytes));
+    }
+
+    private static int toMegabytes(long bytes) {
+        return (int) Math.min(Integer.MAX_VALUE, bytes / BYTES_PER_MEGABYTE);
+    }
+
+    private Comparator<FileSourceSplit> getFileSourceSplitComparator() {
+        return Comparator.comparingLong(FileSourceSplit::length)
+                .reversed()
+                .thenComparing(split -> split.path().toString())
+                .thenComparingLong(FileSourceSplit::offset);
+    }
+
+    public static class IndexOrderedSplitAssignerBuilder implements Serializable {
+        private PathParser pathParser;
+        private TimeRangePool parquetFileDateRange;
+        private SerializedStatsDReporterSupplier statsDReporterSupplier;
+
+        public IndexOrderedSplitAssignerBuilder addPathParser(PathParser parser) {
+            this.pathParser = parser;
+            return this;
+        }
+
+        public IndexOrderedSplitAssignerBuilder addTimeRanges(TimeRangePool timeRangePool) {
+            this.parquetFileDateRange = timeRangePool;
+            return this;
+        }
+
+        public IndexOrderedSplitAssignerBuilder addStatsDReporterSupplier(SerializedStatsDReporterSupplier supplier) {
+            this.statsDReporterSupplier = supplier;
+            return this;
+        }
+
+        public IndexOrderedSplitAssigner build(Collection<FileSourceSplit> fileSourceSplits) {
+            checkArgument(statsDReporterSupplier != null, "SerializedStatsDReporterSupplier is required but is set as null");
+            if (parquetFileDateRange != null && pathParser == null) {
+                PathParserNotProvidedException exception = new PathParserNotProvidedException("Path parser is null");
+                new StatsDErrorReporter(statsDReporterSupplier).reportFatalException(exception);
+                throw exception;
+            }
+            return new IndexOrderedSplitAssigner(fileSourceSplits, pathParser, parquetFileDateRange, statsDReporterSupplier);
+        }
     }
 }
@@ -0,0 +1,81 @@
+package io.odpf.dagger.core.source.projection;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.serde.FieldProjection;
+import io.odpf.dagger.core.processors.PreProcessorConfig;
+import io.odpf.dagger.core.processors.transformers.TableTransformConfig;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_FIELD_PROJECTION_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_FIELD_PROJECTION_ENABLE_KEY;
+
+/**
+ * Works out which source fields the Flink SQL query can reference, so that deserializers can skip the rest.
+ * The analysis is deliberately conservative: every identifier-like token of the query, including the ones
+ * in string literals, is treated as a referenced field. Queries selecting {@code *} and tables with
+ * preprocessor transformers, which can read arbitrary columns, decode every field.
+ */
+public class SqlFieldProjectionAnalyzer {
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("`([^`]+)`|([A-Za-z_][A-Za-z0-9_$]*)");
+    private static final Pattern SELECT_ALL_PATTERN = Pattern.compile("(?i)(\\bselect\\s+((distinct|all)\\s+)?|,\\s*|\\.)\\*");
+
+    private final PreProcessorConfig preProcessorConfig;
+    private final Set<String> referencedIdentifiers;
+    private final boolean projectsAllFields;
+
+    /**
+     * Instantiates a new Sql field projection analyzer.
+     *
+     * @param configuration      the configuration
+     * @param preProcessorConfig the preprocessor config, null if preprocessors are disabled
+     */
+    public SqlFieldProjectionAnalyzer(Configuration configuration, PreProcessorConfig preProcessorConfig) {
+        this.preProcessorConfig = preProcessorConfig;
+        if (configuration.getBoolean(SOURCE_FIELD_PROJECTION_ENABLE_KEY, SOURCE_FIELD_PROJECTION_ENABLE_DEFAULT)) {
+            String sqlQuery = configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT);
+            this.referencedIdentifiers = extractIdentifiers(sqlQuery);
+            this.projectsAllFields = SELECT_ALL_PATTERN.matcher(sqlQuery).find();
+        } else {
+            this.referencedIdentifiers = new HashSet<>();
+            this.projectsAllFields = true;
+        }
+    }
+
+    /**
+     * Gets the fields of the table which need to be decoded.
+     *
+     * @param tableName the table name
+     * @return the field projection
+     */
+    public FieldProjection getFieldProjection(String tableName) {
+        if (projectsAllFields || hasTransformers(tableName)) {
+            return FieldProjection.all();
+        }
+        return FieldProjection.of(referencedIdentifiers);
+    }
+
+    private boolean hasTransformers(String tableName) {
+        if (preProcessorConfig == null || !preProcessorConfig.hasTransformConfigs()) {
+            return false;
+        }
+        return preProcessorConfig.getTableTransformers()
+                .stream()
+                .map(TableTransformConfig::getTableName)
+                .anyMatch(tableName::equals);
+    }
+
+    private static Set<String> extractIdentifiers(String sqlQuery) {
+        Set<String> identifiers = new HashSet<>();
+        Matcher matcher = IDENTIFIER_PATTERN.matcher(sqlQuery);
+        while (matcher.find()) {
+            identifiers.add(matcher.group(1) != null ? matcher.group(1) : matcher.group(2));
+        }
+        return identifiers;
+    }
+}
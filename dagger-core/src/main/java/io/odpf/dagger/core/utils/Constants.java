@@ -28,6 +28,10 @@ public class Constants {
     public static final String PROCESSOR_LONGBOW_ASYNC_TIMEOUT_KEY = "PROCESSOR_LONGBOW_ASYNC_TIMEOUT";
     public static final Integer PROCESSOR_LONGBOW_THREAD_CAPACITY_DEFAULT = 30;
     public static final String PROCESSOR_LONGBOW_THREAD_CAPACITY_KEY = "PROCESSOR_LONGBOW_THREAD_CAPACITY";
+    public static final Integer PROCESSOR_LONGBOW_PARALLELISM_DEFAULT = 0;
+    public static final String PROCESSOR_LONGBOW_PARALLELISM_KEY = "PROCESSOR_LONGBOW_PARALLELISM";
+    public static final String PROCESSOR_LONGBOW_SLOT_SHARING_GROUP_DEFAULT = "";
+    public static final String PROCESSOR_LONGBOW_SLOT_SHARING_GROUP_KEY = "PROCESSOR_LONGBOW_SLOT_SHARING_GROUP";
     public static final String DAGGER_NAME_KEY = "FLINK_JOB_ID";
     public static final String DAGGER_NAME_DEFAULT = "SQL Flink Job";
     public static final String EVENT_TIMESTAMP = "event_timestamp";
@@ -51,6 +55,24 @@ public class Constants {
     public static final String FLINK_CHECKPOINT_MIN_PAUSE_MS_KEY = "FLINK_CHECKPOINT_MIN_PAUSE_MS";
     public static final int FLINK_CHECKPOINT_MAX_CONCURRENT_DEFAULT = 1;
     public static final String FLINK_CHECKPOINT_MAX_CONCURRENT_KEY = "FLINK_CHECKPOINT_MAX_CONCURRENT";
+    public static final String FLINK_CHECKPOINT_MODE_DEFAULT = "EXACTLY_ONCE";
+    public static final String FLINK_CHECKPOINT_MODE_KEY = "FLINK_CHECKPOINT_MODE";
+    public static final boolean FLINK_CHECKPOINT_UNALIGNED_ENABLE_DEFAULT = false;
+    public static final String FLINK_CHECKPOINT_UNALIGNED_ENABLE_KEY = "FLINK_CHECKPOINT_UNALIGNED_ENABLE";
+    public static final long FLINK_CHECKPOINT_ALIGNMENT_TIMEOUT_MS_DEFAULT = 30000;
+    public static final String FLINK_CHECKPOINT_ALIGNMENT_TIMEOUT_MS_KEY = "FLINK_CHECKPOINT_ALIGNMENT_TIMEOUT_MS";
+    public static final boolean FLINK_CHECKPOINT_INCREMENTAL_ENABLE_DEFAULT = false;
+    public static final String FLINK_CHECKPOINT_INCREMENTAL_ENABLE_KEY = "FLINK_CHECKPOINT_INCREMENTAL_ENABLE";
+    public static final String FLINK_STATE_BACKEND_DEFAULT = "";
+    public static final String FLINK_STATE_BACKEND_KEY = "FLINK_STATE_BACKEND";
+    public static final String FLINK_STATE_BACKEND_HASHMAP = "HASHMAP";
+    public static final String FLINK_STATE_BACKEND_ROCKSDB = "ROCKSDB";
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_DEFAULT = "DEFAULT";
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS_KEY = "FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS";
+    public static final double FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_RATIO_DEFAULT = 0.5;
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_RATIO_KEY = "FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_RATIO";
+    public static final double FLINK_STATE_BACKEND_ROCKSDB_HIGH_PRIORITY_POOL_RATIO_DEFAULT = 0.1;
+    public static final String FLINK_STATE_BACKEND_ROCKSDB_HIGH_PRIORITY_POOL_RATIO_KEY = "FLINK_STATE_BACKEND_ROCKSDB_HIGH_PRIORITY_POOL_RATIO";
     public static final int FLINK_RETENTION_IDLE_STATE_MINUTE_DEFAULT = 10;
     public static final String FLINK_RETENTION_IDLE_STATE_MINUTE_KEY = "FLINK_RETENTION_IDLE_STATE_MINUTE";
     public static final long FLINK_WATERMARK_DELAY_MS_DEFAULT = 10000;
@@ -61,11 +83,17 @@ public class Constants {
     public static final String FLINK_WATERMARK_PER_PARTITION_ENABLE_KEY = "FLINK_WATERMARK_PER_PARTITION_ENABLE";
     public static final String FLINK_JOB_ID_DEFAULT = "SQL Flink job";
     public static final String FLINK_JOB_ID_KEY = "FLINK_JOB_ID";
+    public static final boolean FLINK_GENERIC_TYPES_DISABLE_DEFAULT = false;
+    public static final String FLINK_GENERIC_TYPES_DISABLE_KEY = "FLINK_GENERIC_TYPES_DISABLE";
 
     public static final String SYNCHRONIZER_BIGTABLE_TABLE_ID_KEY = "bigtable_table_id";
     public static final String SYNCHRONIZER_INPUT_CLASSNAME_KEY = "input_class_name";
     public static final String SYNCHRONIZER_LONGBOW_READ_KEY = "longbow_read_key";
 
+    public static final Integer SINK_PARALLELISM_DEFAULT = 0;
+    public static final String SINK_PARALLELISM_KEY = "SINK_PARALLELISM";
+    public static final String SINK_SLOT_SHARING_GROUP_DEFAULT = "";
+    public static final String SINK_SLOT_SHARING_GROUP_KEY = "SINK_SLOT_SHARING_GROUP";
     public static final String SINK_KAFKA_TOPIC_KEY = "SINK_KAFKA_TOPIC";
     public static final String SINK_KAFKA_BROKERS_KEY = "SINK_KAFKA_BROKERS";
     public static final String SINK_KAFKA_PROTO_KEY = "SINK_KAFKA_PROTO_KEY";
@@ -75,6 +103,8 @@ public class Constants {
     public static final String SINK_KAFKA_DATA_TYPE = "SINK_KAFKA_DATA_TYPE";
     public static final String SINK_KAFKA_PRODUCE_LARGE_MESSAGE_ENABLE_KEY = "SINK_KAFKA_PRODUCE_LARGE_MESSAGE_ENABLE";
     public static final boolean SINK_KAFKA_PRODUCE_LARGE_MESSAGE_ENABLE_DEFAULT = false;
+    public static final String SINK_KAFKA_PROTO_DIRECT_SERIALIZATION_ENABLE_KEY = "SINK_KAFKA_PROTO_DIRECT_SERIALIZATION_ENABLE";
+    public static final boolean SINK_KAFKA_PROTO_DIRECT_SERIALIZATION_ENABLE_DEFAULT = false;
     public static final String SINK_KAFKA_COMPRESSION_TYPE_KEY = "compression.type";
     public static final String SINK_KAFKA_COMPRESSION_TYPE_DEFAULT = "snappy";
     public static final String SINK_KAFKA_MAX_REQUEST_SIZE_KEY = "max.request.size";
@@ -109,6 +139,8 @@ public class Constants {
     public static final String STREAM_SOURCE_PARQUET_READ_ORDER_STRATEGY_EARLIEST_INDEX_FIRST = "EARLIEST_INDEX_FIRST";
     public static final String STREAM_SOURCE_PARQUET_SCHEMA_MATCH_STRATEGY_KEY = "SOURCE_PARQUET_SCHEMA_MATCH_STRATEGY";
     public static final String STREAM_SOURCE_PARQUET_FILE_DATE_RANGE_KEY = "SOURCE_PARQUET_FILE_DATE_RANGE";
+    public static final String STREAM_SOURCE_HYBRID_SWITCH_TIME_KEY = "SOURCE_HYBRID_SWITCH_TIME";
+    public static final String STREAM_SOURCE_PARALLELISM_KEY = "SOURCE_PARALLELISM";
     public static final String STREAM_SOURCE_PARQUET_SAME_SCHEMA_MATCH_STRATEGY = "SAME_SCHEMA_WITH_FAIL_ON_MISMATCH";
     public static final String STREAM_SOURCE_PARQUET_BACKWARD_COMPATIBLE_SCHEMA_MATCH_STRATEGY = "BACKWARD_COMPATIBLE_SCHEMA_WITH_FAIL_ON_TYPE_MISMATCH";
 
@@ -157,6 +189,32 @@ public class Constants {
     public static final boolean SOURCE_KAFKA_CONSUME_LARGE_MESSAGE_ENABLE_DEFAULT = false;
     public static final String SOURCE_KAFKA_MAX_PARTITION_FETCH_BYTES_KEY = "max.partition.fetch.bytes";
     public static final String SOURCE_KAFKA_MAX_PARTITION_FETCH_BYTES_DEFAULT = "5242880";
+    public static final String SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_KEY = "SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE";
+    public static final boolean SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_DEFAULT = false;
+    public static final String SOURCE_KAFKA_ROW_DATA_ENABLE_KEY = "SOURCE_KAFKA_ROW_DATA_ENABLE";
+    public static final boolean SOURCE_KAFKA_ROW_DATA_ENABLE_DEFAULT = false;
+    public static final String SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_KEY = "SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE";
+    public static final boolean SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_DEFAULT = false;
+    public static final String SOURCE_FIELD_PROJECTION_ENABLE_KEY = "SOURCE_FIELD_PROJECTION_ENABLE";
+    public static final boolean SOURCE_FIELD_PROJECTION_ENABLE_DEFAULT = false;
+    public static final String SOURCE_PARQUET_COLUMNAR_READ_ENABLE_KEY = "SOURCE_PARQUET_COLUMNAR_READ_ENABLE";
+    public static final boolean SOURCE_PARQUET_COLUMNAR_READ_ENABLE_DEFAULT = false;
+    public static final String SOURCE_PARQUET_READ_BATCH_SIZE_KEY = "SOURCE_PARQUET_READ_BATCH_SIZE";
+    public static final int SOURCE_PARQUET_READ_BATCH_SIZE_DEFAULT = 1024;
+    public static final String SOURCE_PARQUET_ROW_GROUP_PRUNING_ENABLE_KEY = "SOURCE_PARQUET_ROW_GROUP_PRUNING_ENABLE";
+    public static final boolean SOURCE_PARQUET_ROW_GROUP_PRUNING_ENABLE_DEFAULT = false;
+    public static final String SOURCE_PARQUET_PREFETCH_ROW_GROUPS_KEY = "SOURCE_PARQUET_PREFETCH_ROW_GROUPS";
+    public static final int SOURCE_PARQUET_PREFETCH_ROW_GROUPS_DEFAULT = 0;
+    public static final String SOURCE_PARQUET_PREFETCH_MAX_BYTES_KEY = "SOURCE_PARQUET_PREFETCH_MAX_BYTES";
+    public static final long SOURCE_PARQUET_PREFETCH_MAX_BYTES_DEFAULT = 268435456L;
+    public static final String SOURCE_PARQUET_SPLIT_TARGET_SIZE_KEY = "SOURCE_PARQUET_SPLIT_TARGET_SIZE";
+    public static final long SOURCE_PARQUET_SPLIT_TARGET_SIZE_DEFAULT = 0L;
+    public static final String SOURCE_PARQUET_SPLIT_ALIGNMENT_MAX_LAG_SECONDS_KEY = "SOURCE_PARQUET_SPLIT_ALIGNMENT_MAX_LAG_SECONDS";
+    public static final long SOURCE_PARQUET_SPLIT_ALIGNMENT_MAX_LAG_SECONDS_DEFAULT = 0L;
+    public static final String SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_KEY = "SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS";
+    public static final long SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_DEFAULT = 60L;
+    public static final String SOURCE_PARQUET_DISCOVERY_GRACE_PERIOD_SECONDS_KEY = "SOURCE_PARQUET_DISCOVERY_GRACE_PERIOD_SECONDS";
+    public static final long SOURCE_PARQUET_DISCOVERY_GRACE_PERIOD_SECONDS_DEFAULT = 86400L;
 
     public static final int CLIENT_ERROR_MIN_STATUS_CODE = 400;
     public static final int CLIENT_ERROR_MAX_STATUS_CODE = 499;
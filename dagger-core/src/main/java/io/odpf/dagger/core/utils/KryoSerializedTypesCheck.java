@@ -0,0 +1,73 @@
+package io.odpf.dagger.core.utils;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeutils.CompositeType;
+import org.apache.flink.api.dag.Transformation;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
+import org.apache.flink.api.java.typeutils.ListTypeInfo;
+import org.apache.flink.api.java.typeutils.MapTypeInfo;
+import org.apache.flink.api.java.typeutils.ObjectArrayTypeInfo;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the operators of a stream whose records, or a part of them, are serialized by Kryo.
+ * Flink falls back to Kryo for generic types, which is several times slower than its own serializers
+ * for every network exchange, state access and copy between chained operators.
+ */
+public class KryoSerializedTypesCheck {
+    private static final Logger LOGGER = LoggerFactory.getLogger(KryoSerializedTypesCheck.class);
+
+    /**
+     * Logs a warning for every operator up to the given stream which produces Kryo serialized records.
+     *
+     * @param stream the stream
+     * @return the names of the operators producing Kryo serialized records
+     */
+    public static List<String> warnKryoSerializedOperators(DataStream<?> stream) {
+        List<String> operatorNames = stream.getTransformation().getTransitivePredecessors()
+                .stream()
+                .filter(transformation -> isKryoSerialized(transformation.getOutputType()))
+                .map(Transformation::getName)
+                .distinct()
+                .collect(Collectors.toList());
+        operatorNames.forEach(operatorName -> LOGGER.warn("Operator " + operatorName + " produces records serialized by Kryo"));
+        return operatorNames;
+    }
+
+    /**
+     * Checks if the values of a type, or any of their nested values, are serialized by Kryo.
+     *
+     * @param typeInformation the type information
+     * @return true if Kryo serializes the type or a part of it
+     */
+    public static boolean isKryoSerialized(TypeInformation<?> typeInformation) {
+        if (typeInformation instanceof GenericTypeInfo) {
+            return true;
+        }
+        if (typeInformation instanceof CompositeType) {
+            CompositeType<?> compositeType = (CompositeType<?>) typeInformation;
+            for (int index = 0; index < compositeType.getArity(); index++) {
+                if (isKryoSerialized(compositeType.getTypeAt(index))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (typeInformation instanceof ObjectArrayTypeInfo) {
+            return isKryoSerialized(((ObjectArrayTypeInfo<?, ?>) typeInformation).getComponentInfo());
+        }
+        if (typeInformation instanceof MapTypeInfo) {
+            MapTypeInfo<?, ?> mapTypeInfo = (MapTypeInfo<?, ?>) typeInformation;
+            return isKryoSerialized(mapTypeInfo.getKeyTypeInfo()) || isKryoSerialized(mapTypeInfo.getValueTypeInfo());
+        }
+        if (typeInformation instanceof ListTypeInfo) {
+            return isKryoSerialized(((ListTypeInfo<?>) typeInformation).getElementTypeInfo());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,82 @@
+package io.odpf.dagger.core.utils;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.DataStreamSink;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
+import org.apache.flink.streaming.api.graph.StreamGraphGenerator;
+
+/**
+ * Applies the parallelism and slot sharing group configured for a single stage of the job.
+ * Stages without settings keep the job parallelism and the default slot sharing group.
+ * Flink puts an operator without a slot sharing group in the group of its inputs, so the operators following a stage
+ * of another group are put back into the default group with {@link #endSlotSharingGroup(DataStream, String)}.
+ */
+public class OperatorResources {
+
+    /**
+     * Configure an operator.
+     *
+     * @param operator         the operator
+     * @param parallelism      the parallelism, null or non-positive to keep the job parallelism
+     * @param slotSharingGroup the slot sharing group, null or empty to keep the default group
+     * @param <T>              the type of the records
+     * @return the operator
+     */
+    public static <T> SingleOutputStreamOperator<T> configure(SingleOutputStreamOperator<T> operator, Integer parallelism, String slotSharingGroup) {
+        if (isSet(parallelism)) {
+            operator.setParallelism(parallelism);
+        }
+        if (isSet(slotSharingGroup)) {
+            operator.slotSharingGroup(slotSharingGroup);
+        }
+        return operator;
+    }
+
+    /**
+     * Configure a sink.
+     *
+     * @param sink             the sink
+     * @param parallelism      the parallelism, null or non-positive to keep the job parallelism
+     * @param slotSharingGroup the slot sharing group, null or empty to keep the default group
+     * @param <T>              the type of the records
+     * @return the sink
+     */
+    public static <T> DataStreamSink<T> configure(DataStreamSink<T> sink, Integer parallelism, String slotSharingGroup) {
+        if (isSet(parallelism)) {
+            sink.setParallelism(parallelism);
+        }
+        if (isSet(slotSharingGroup)) {
+            sink.slotSharingGroup(slotSharingGroup);
+        }
+        return sink;
+    }
+
+    /**
+     * End the slot sharing group of a stage, so that the operators added to the stream afterwards run in the
+     * default group instead of inheriting it. The records pass through an operator of the default group,
+     * which is chained to the operators following it.
+     *
+     * @param stream           the output stream of the stage
+     * @param slotSharingGroup the slot sharing group of the last operator of the stage
+     * @param <T>              the type of the records
+     * @return the stream to add the following operators to
+     */
+    public static <T> DataStream<T> endSlotSharingGroup(DataStream<T> stream, String slotSharingGroup) {
+        if (!isSet(slotSharingGroup)) {
+            return stream;
+        }
+        SingleOutputStreamOperator<T> operator = stream.map((MapFunction<T, T>) value -> value);
+        operator.returns(stream.getType());
+        operator.slotSharingGroup(StreamGraphGenerator.DEFAULT_SLOT_SHARING_GROUP);
+        return operator;
+    }
+
+    private static boolean isSet(Integer parallelism) {
+        return parallelism != null && parallelism > 0;
+    }
+
+    private static boolean isSet(String slotSharingGroup) {
+        return slotSharingGroup != null && !slotSharingGroup.isEmpty();
+    }
+}
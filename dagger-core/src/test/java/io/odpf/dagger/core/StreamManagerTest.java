@@ -1,27 +1,46 @@
 package io.odpf.dagger.core;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.RowSamplingTap;
 import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.core.sink.log.LogSink;
 import io.odpf.dagger.core.source.Stream;
 import org.apache.flink.api.common.ExecutionConfig;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.api.common.functions.FilterFunction;
 import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.dag.Transformation;
 import org.apache.flink.connector.kafka.source.KafkaSource;
+import org.apache.flink.contrib.streaming.state.EmbeddedRocksDBStateBackend;
+import org.apache.flink.contrib.streaming.state.PredefinedOptions;
+import org.apache.flink.runtime.state.StateBackend;
+import org.apache.flink.runtime.state.hashmap.HashMapStateBackend;
 import org.apache.flink.streaming.api.CheckpointingMode;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.DataStreamSink;
 import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.environment.CheckpointConfig;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.table.api.ApiExpression;
+import org.apache.flink.table.api.Schema;
 import org.apache.flink.table.api.Table;
 import org.apache.flink.table.api.TableConfig;
 import org.apache.flink.table.api.TableSchema;
 import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.InternalTypeInfo;
+import org.apache.flink.table.types.logical.BooleanType;
+import org.apache.flink.table.types.logical.LogicalType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.TimestampType;
+import org.apache.flink.table.types.logical.VarCharType;
 import org.apache.flink.types.Row;
+import org.apache.flink.util.OutputTag;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
@@ -29,9 +48,13 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -75,9 +98,18 @@ public class StreamManagerTest {
     @Mock
     private DataStream<Row> dataStream;
 
+    @Mock
+    private Transformation<Row> transformation;
+
     @Mock
     private SingleOutputStreamOperator<Row> singleOutputStream;
 
+    @Mock
+    private SingleOutputStreamOperator<RowData> rowDataStream;
+
+    @Mock
+    private Table table;
+
     @Mock
     private DataStreamSource<Row> source;
 
@@ -103,6 +135,8 @@ public class StreamManagerTest {
         when(configuration.getLong("FLINK_CHECKPOINT_TIMEOUT_MS", 900000L)).thenReturn(900000L);
         when(configuration.getLong("FLINK_CHECKPOINT_MIN_PAUSE_MS", 5000L)).thenReturn(5000L);
         when(configuration.getInteger("FLINK_CHECKPOINT_MAX_CONCURRENT", 1)).thenReturn(1);
+        when(configuration.getString("FLINK_CHECKPOINT_MODE", "EXACTLY_ONCE")).thenReturn("EXACTLY_ONCE");
+        when(configuration.getString("FLINK_STATE_BACKEND", "")).thenReturn("");
         when(configuration.getString("FLINK_ROWTIME_ATTRIBUTE_NAME", "")).thenReturn("");
         when(configuration.getBoolean("FLINK_WATERMARK_PER_PARTITION_ENABLE", false)).thenReturn(false);
         when(configuration.getLong("FLINK_WATERMARK_DELAY_MS", 10000L)).thenReturn(10000L);
@@ -114,6 +148,8 @@ public class StreamManagerTest {
         when(configuration.getString("FLINK_SQL_QUERY", "")).thenReturn("");
         when(configuration.getInteger("FLINK_RETENTION_IDLE_STATE_MINUTE", 10)).thenReturn(10);
         when(env.getConfig()).thenReturn(executionConfig);
+        when(dataStream.getTransformation()).thenReturn(transformation);
+        when(transformation.getTransitivePredecessors()).thenReturn(Collections.emptyList());
         when(env.getCheckpointConfig()).thenReturn(checkpointConfig);
         when(tableEnvironment.getConfig()).thenReturn(tableConfig);
         when(env.fromSource(any(KafkaSource.class), any(WatermarkStrategy.class), any(String.class))).thenReturn(source);
@@ -140,6 +176,112 @@ public class StreamManagerTest {
         verify(tableConfig, Mockito.times(1)).setIdleStateRetention(Duration.ofMinutes(10));
     }
 
+    @Test
+    public void shouldRegisterConfiguredCheckpointingMode() {
+        when(configuration.getString("FLINK_CHECKPOINT_MODE", "EXACTLY_ONCE")).thenReturn("AT_LEAST_ONCE");
+
+        streamManager.registerConfigs();
+
+        verify(checkpointConfig, Mockito.times(1)).setCheckpointingMode(CheckpointingMode.AT_LEAST_ONCE);
+    }
+
+    @Test
+    public void shouldEnableUnalignedCheckpointsWithAlignmentTimeoutIfConfigured() {
+        when(configuration.getBoolean("FLINK_CHECKPOINT_UNALIGNED_ENABLE", false)).thenReturn(true);
+        when(configuration.getLong("FLINK_CHECKPOINT_ALIGNMENT_TIMEOUT_MS", 30000L)).thenReturn(60000L);
+
+        streamManager.registerConfigs();
+
+        verify(checkpointConfig, Mockito.times(1)).enableUnalignedCheckpoints();
+        verify(checkpointConfig, Mockito.times(1)).setAlignedCheckpointTimeout(Duration.ofMillis(60000L));
+    }
+
+    @Test
+    public void shouldNotEnableUnalignedCheckpointsByDefault() {
+        streamManager.registerConfigs();
+
+        verify(checkpointConfig, Mockito.never()).enableUnalignedCheckpoints();
+    }
+
+    @Test
+    public void shouldKeepTheClusterStateBackendByDefault() {
+        streamManager.registerConfigs();
+
+        verify(env, Mockito.never()).setStateBackend(any(StateBackend.class));
+    }
+
+    @Test
+    public void shouldRegisterHashMapStateBackendIfConfigured() {
+        when(configuration.getString("FLINK_STATE_BACKEND", "")).thenReturn("HASHMAP");
+
+        streamManager.registerConfigs();
+
+        verify(env, Mockito.times(1)).setStateBackend(any(HashMapStateBackend.class));
+    }
+
+    @Test
+    public void shouldRegisterRocksDBStateBackendWithConfiguredTuning() {
+        when(configuration.getString("FLINK_STATE_BACKEND", "")).thenReturn("ROCKSDB");
+        when(configuration.getBoolean("FLINK_CHECKPOINT_INCREMENTAL_ENABLE", false)).thenReturn(true);
+        when(configuration.getString("FLINK_STATE_BACKEND_ROCKSDB_PREDEFINED_OPTIONS", "DEFAULT")).thenReturn("SPINNING_DISK_OPTIMIZED_HIGH_MEM");
+        when(configuration.getDouble("FLINK_STATE_BACKEND_ROCKSDB_WRITE_BUFFER_RATIO", 0.5)).thenReturn(0.4);
+        when(configuration.getDouble("FLINK_STATE_BACKEND_ROCKSDB_HIGH_PRIORITY_POOL_RATIO", 0.1)).thenReturn(0.2);
+        ArgumentCaptor<StateBackend> stateBackendCaptor = ArgumentCaptor.forClass(StateBackend.class);
+
+        streamManager.registerConfigs();
+
+        verify(env, Mockito.times(1)).setStateBackend(stateBackendCaptor.capture());
+        EmbeddedRocksDBStateBackend rocksDBStateBackend = (EmbeddedRocksDBStateBackend) stateBackendCaptor.getValue();
+        assertTrue(rocksDBStateBackend.isIncrementalCheckpointsEnabled());
+        assertEquals(PredefinedOptions.SPINNING_DISK_OPTIMIZED_HIGH_MEM, rocksDBStateBackend.getPredefinedOptions());
+        assertEquals(0.4, rocksDBStateBackend.getMemoryConfiguration().getWriteBufferRatio(), 0);
+        assertEquals(0.2, rocksDBStateBackend.getMemoryConfiguration().getHighPriorityPoolRatio(), 0);
+    }
+
+    @Test
+    public void shouldThrowExceptionForUnknownStateBackend() {
+        when(configuration.getString("FLINK_STATE_BACKEND", "")).thenReturn("FILESYSTEM");
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> streamManager.registerConfigs());
+
+        assertEquals("Invalid state backend FILESYSTEM, supported values are HASHMAP and ROCKSDB", exception.getMessage());
+    }
+
+    @Test
+    public void shouldDisableGenericTypesIfConfigured() {
+        when(configuration.getBoolean("FLINK_GENERIC_TYPES_DISABLE", false)).thenReturn(true);
+
+        streamManager.registerConfigs();
+
+        verify(executionConfig, Mockito.times(1)).disableGenericTypes();
+    }
+
+    @Test
+    public void shouldNotDisableGenericTypesByDefault() {
+        streamManager.registerConfigs();
+
+        verify(executionConfig, Mockito.never()).disableGenericTypes();
+    }
+
+    @Test
+    public void shouldEnableObjectReuseIfRowDataIsDecodedLazily() {
+        when(configuration.getBoolean("SOURCE_KAFKA_ROW_DATA_ENABLE", false)).thenReturn(true);
+        when(configuration.getBoolean("SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE", false)).thenReturn(true);
+
+        streamManager.registerConfigs();
+
+        verify(executionConfig, Mockito.times(1)).enableObjectReuse();
+    }
+
+    @Test
+    public void shouldNotEnableObjectReuseIfRowDataIsNotProduced() {
+        when(configuration.getBoolean("SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE", false)).thenReturn(true);
+
+        streamManager.registerConfigs();
+
+        verify(executionConfig, Mockito.never()).enableObjectReuse();
+    }
+
     @Test
     public void shouldRegisterSourceWithPreprocessorsWithWaterMarks() {
         when(singleOutputStream.assignTimestampsAndWatermarks(any(WatermarkStrategy.class))).thenReturn(singleOutputStream);
@@ -168,6 +310,79 @@ public class StreamManagerTest {
         verify(stream, Mockito.times(1)).registerSource(any(StreamExecutionEnvironment.class), any(WatermarkStrategy.class));
     }
 
+    @Test
+    public void shouldRegisterRowDataSourceAsTableIfSupported() {
+        InternalTypeInfo<RowData> rowDataType = InternalTypeInfo.of(RowType.of(
+                new LogicalType[]{new VarCharType(VarCharType.MAX_LENGTH), new BooleanType(), new TimestampType(3)},
+                new String[]{"order_number", "__internal_validation_field__", "rowtime"}));
+        when(stream.getStreamName()).thenReturn("data_stream");
+        when(stream.canRegisterRowDataSource()).thenReturn(true);
+        when(stream.registerRowDataSource(any(StreamExecutionEnvironment.class), any(WatermarkStrategy.class))).thenReturn(rowDataStream);
+        when(rowDataStream.assignTimestampsAndWatermarks(any(WatermarkStrategy.class))).thenReturn(rowDataStream);
+        when(rowDataStream.filter(any(FilterFunction.class))).thenReturn(rowDataStream);
+        when(rowDataStream.returns(any(TypeInformation.class))).thenReturn(rowDataStream);
+        when(rowDataStream.getType()).thenReturn(rowDataType);
+        when(tableEnvironment.fromDataStream(any(DataStream.class), any(Schema.class))).thenReturn(table);
+
+        StreamManagerStub streamManagerStub = new StreamManagerStub(configuration, env, tableEnvironment, new StreamInfo(dataStream, new String[]{}));
+        streamManagerStub.registerConfigs();
+        streamManagerStub.registerSourceWithPreProcessors();
+
+        verify(stream, Mockito.never()).registerSource(any(StreamExecutionEnvironment.class), any(WatermarkStrategy.class));
+        verify(rowDataStream, Mockito.times(1)).assignTimestampsAndWatermarks(any(WatermarkStrategy.class));
+        verify(rowDataStream, Mockito.times(1)).filter(any(FilterFunction.class));
+        verify(tableEnvironment, Mockito.times(1)).createTemporaryView("data_stream", table);
+    }
+
+    @Test
+    public void shouldRenameTheLastColumnOfRowDataSourceToTheRowtimeAttributeName() {
+        InternalTypeInfo<RowData> rowDataType = InternalTypeInfo.of(RowType.of(
+                new LogicalType[]{new VarCharType(VarCharType.MAX_LENGTH), new BooleanType(), new TimestampType(3)},
+                new String[]{"order_number", "__internal_validation_field__", "rowtime"}));
+        when(configuration.getString("FLINK_ROWTIME_ATTRIBUTE_NAME", "")).thenReturn("event_rowtime");
+        when(stream.getStreamName()).thenReturn("data_stream");
+        when(stream.canRegisterRowDataSource()).thenReturn(true);
+        when(stream.registerRowDataSource(any(StreamExecutionEnvironment.class), any(WatermarkStrategy.class))).thenReturn(rowDataStream);
+        when(rowDataStream.assignTimestampsAndWatermarks(any(WatermarkStrategy.class))).thenReturn(rowDataStream);
+        when(rowDataStream.filter(any(FilterFunction.class))).thenReturn(rowDataStream);
+        when(rowDataStream.returns(any(TypeInformation.class))).thenReturn(rowDataStream);
+        when(rowDataStream.getType()).thenReturn(rowDataType);
+        ArgumentCaptor<TypeInformation> typeCaptor = ArgumentCaptor.forClass(TypeInformation.class);
+        ArgumentCaptor<Schema> schemaCaptor = ArgumentCaptor.forClass(Schema.class);
+
+        StreamManagerStub streamManagerStub = new StreamManagerStub(configuration, env, tableEnvironment, new StreamInfo(dataStream, new String[]{}));
+        streamManagerStub.registerConfigs();
+        streamManagerStub.registerSourceWithPreProcessors();
+
+        verify(rowDataStream, Mockito.times(1)).returns(typeCaptor.capture());
+        verify(tableEnvironment, Mockito.times(1)).fromDataStream(any(DataStream.class), schemaCaptor.capture());
+        RowType renamedRowType = ((InternalTypeInfo<RowData>) typeCaptor.getValue()).toRowType();
+        assertEquals(Arrays.asList("order_number", "__internal_validation_field__", "event_rowtime"), renamedRowType.getFieldNames());
+        assertEquals(new TimestampType(3), renamedRowType.getTypeAt(2));
+        assertEquals("event_rowtime", schemaCaptor.getValue().getWatermarkSpecs().get(0).getColumnName());
+    }
+
+    @Test
+    public void shouldNotAssignWatermarksAfterRowDataSourceIfPerPartitionWatermarkEnabled() {
+        InternalTypeInfo<RowData> rowDataType = InternalTypeInfo.of(RowType.of(
+                new LogicalType[]{new BooleanType(), new TimestampType(3)},
+                new String[]{"__internal_validation_field__", "rowtime"}));
+        when(configuration.getBoolean("FLINK_WATERMARK_PER_PARTITION_ENABLE", false)).thenReturn(true);
+        when(stream.getStreamName()).thenReturn("data_stream");
+        when(stream.canRegisterRowDataSource()).thenReturn(true);
+        when(stream.registerRowDataSource(any(StreamExecutionEnvironment.class), any(WatermarkStrategy.class))).thenReturn(rowDataStream);
+        when(rowDataStream.filter(any(FilterFunction.class))).thenReturn(rowDataStream);
+        when(rowDataStream.returns(any(TypeInformation.class))).thenReturn(rowDataStream);
+        when(rowDataStream.getType()).thenReturn(rowDataType);
+
+        StreamManagerStub streamManagerStub = new StreamManagerStub(configuration, env, tableEnvironment, new StreamInfo(dataStream, new String[]{}));
+        streamManagerStub.registerConfigs();
+        streamManagerStub.registerSourceWithPreProcessors();
+
+        verify(rowDataStream, Mockito.never()).assignTimestampsAndWatermarks(any(WatermarkStrategy.class));
+        verify(tableEnvironment, Mockito.times(1)).fromDataStream(any(DataStream.class), any(Schema.class));
+    }
+
     @Test
     public void shouldCreateOutputStream() {
         StreamManagerStub streamManagerStub = new StreamManagerStub(configuration, env, tableEnvironment, new StreamInfo(dataStream, new String[]{}));
@@ -175,6 +390,52 @@ public class StreamManagerTest {
         verify(tableEnvironment, Mockito.times(1)).sqlQuery("");
     }
 
+    @Test
+    public void shouldSetConfiguredParallelismAndSlotSharingGroupOfSink() {
+        DataStreamSink<Row> dataStreamSink = Mockito.mock(DataStreamSink.class);
+        when(configuration.getInteger("SINK_PARALLELISM", 0)).thenReturn(2);
+        when(configuration.getString("SINK_SLOT_SHARING_GROUP", "")).thenReturn("sink");
+        when(dataStream.sinkTo(any())).thenReturn(dataStreamSink);
+
+        StreamManagerStub streamManagerStub = new StreamManagerStub(configuration, env, tableEnvironment, new StreamInfo(dataStream, new String[]{}));
+        streamManagerStub.registerOutputStream();
+
+        verify(dataStreamSink, Mockito.times(1)).setParallelism(2);
+        verify(dataStreamSink, Mockito.times(1)).slotSharingGroup("sink");
+    }
+
+    @Test
+    public void shouldSendSampledRowsToALogSinkBeforeTheSinkIfRowSamplingSideOutputEnabled() {
+        DataStream<Row> sampledRows = Mockito.mock(DataStream.class);
+        DataStreamSink<Row> sampledRowsSink = Mockito.mock(DataStreamSink.class);
+        when(configuration.getBoolean("ROW_SAMPLING_SIDE_OUTPUT_ENABLE", false)).thenReturn(true);
+        when(dataStream.getType()).thenReturn(typeInformation);
+        when(dataStream.process(any(RowSamplingTap.class))).thenReturn(singleOutputStream);
+        when(singleOutputStream.returns(typeInformation)).thenReturn(singleOutputStream);
+        when(singleOutputStream.getTransformation()).thenReturn(transformation);
+        when(singleOutputStream.getSideOutput(any(OutputTag.class))).thenReturn(sampledRows);
+        when(sampledRows.sinkTo(any(LogSink.class))).thenReturn(sampledRowsSink);
+
+        StreamManagerStub streamManagerStub = new StreamManagerStub(configuration, env, tableEnvironment, new StreamInfo(dataStream, new String[]{}));
+        streamManagerStub.registerOutputStream();
+
+        ArgumentCaptor<OutputTag> sampledRowsTagCaptor = ArgumentCaptor.forClass(OutputTag.class);
+        verify(singleOutputStream, Mockito.times(1)).getSideOutput(sampledRowsTagCaptor.capture());
+        assertEquals(RowSamplingTap.SAMPLED_ROWS_OUTPUT_NAME, sampledRowsTagCaptor.getValue().getId());
+        verify(sampledRowsSink, Mockito.times(1)).name(RowSamplingTap.SAMPLED_ROWS_OUTPUT_NAME);
+        verify(singleOutputStream, Mockito.times(1)).sinkTo(any());
+        verify(dataStream, Mockito.never()).sinkTo(any());
+    }
+
+    @Test
+    public void shouldNotSampleRowsBeforeTheSinkByDefault() {
+        StreamManagerStub streamManagerStub = new StreamManagerStub(configuration, env, tableEnvironment, new StreamInfo(dataStream, new String[]{}));
+        streamManagerStub.registerOutputStream();
+
+        verify(dataStream, Mockito.never()).process(any(RowSamplingTap.class));
+        verify(dataStream, Mockito.times(1)).sinkTo(any());
+    }
+
     @Test
     public void shouldExecuteJob() throws Exception {
         streamManager.execute();
@@ -0,0 +1,104 @@
+package io.odpf.dagger.core.deserializer;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
+import io.odpf.dagger.common.serde.proto.deserialization.ProtoDeserializer;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.core.source.config.StreamConfig;
+import io.odpf.dagger.core.source.config.models.SourceDetails;
+import io.odpf.dagger.core.source.config.models.SourceName;
+import io.odpf.dagger.core.source.config.models.SourceType;
+import io.odpf.stencil.client.StencilClient;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class HybridDeserializerProviderTest {
+
+    @Mock
+    private StreamConfig streamConfig;
+
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private StencilClientOrchestrator stencilClientOrchestrator;
+
+    @Mock
+    private StencilClient stencilClient;
+
+    @Before
+    public void setUp() throws Exception {
+        initMocks(this);
+    }
+
+    @Test
+    public void shouldBeAbleToProvideHybridDeserializerWhenSourcesAreParquetThenKafkaAndSchemaTypeIsPROTO() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED),
+                new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("PROTO");
+
+        HybridDeserializerProvider provider = new HybridDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator);
+
+        assertTrue(provider.canProvide());
+    }
+
+    @Test
+    public void shouldNotProvideHybridDeserializerWhenSourcesAreInDifferentOrder() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED),
+                new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("PROTO");
+
+        HybridDeserializerProvider provider = new HybridDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator);
+
+        assertFalse(provider.canProvide());
+    }
+
+    @Test
+    public void shouldNotProvideHybridDeserializerWhenThereIsASingleSource() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("PROTO");
+
+        HybridDeserializerProvider provider = new HybridDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator);
+
+        assertFalse(provider.canProvide());
+    }
+
+    @Test
+    public void shouldNotProvideHybridDeserializerWhenSchemaTypeIsUnsupported() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED),
+                new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("JSON");
+
+        HybridDeserializerProvider provider = new HybridDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator);
+
+        assertFalse(provider.canProvide());
+    }
+
+    @Test
+    public void shouldReturnHybridDeserializerOfParquetAndKafkaDeserializersWithTheSameRowType() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED),
+                new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("PROTO");
+        when(streamConfig.getEventTimestampFieldIndex()).thenReturn("5");
+        when(streamConfig.getProtoClass()).thenReturn("com.tests.TestMessage");
+        when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
+        when(stencilClient.get("com.tests.TestMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
+
+        HybridDeserializerProvider provider = new HybridDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator);
+        DaggerDeserializer<Row> daggerDeserializer = provider.getDaggerDeserializer();
+
+        assertTrue(daggerDeserializer instanceof HybridDeserializer);
+        HybridDeserializer hybridDeserializer = (HybridDeserializer) daggerDeserializer;
+        assertTrue(hybridDeserializer.getParquetDeserializer() instanceof SimpleGroupDeserializer);
+        assertTrue(hybridDeserializer.getKafkaDeserializer() instanceof ProtoDeserializer);
+        assertEquals(hybridDeserializer.getParquetDeserializer().getProducedType(), hybridDeserializer.getProducedType());
+    }
+}
@@ -4,17 +4,24 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.proto.deserialization.ProtoDeserializer;
+import io.odpf.dagger.common.serde.proto.deserialization.StreamingProtoDeserializer;
 import io.odpf.dagger.consumer.TestBookingLogMessage;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
 import io.odpf.dagger.core.source.config.StreamConfig;
+import com.google.protobuf.Timestamp;
 import io.odpf.stencil.client.StencilClient;
+import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.types.Row;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_KEY;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -91,4 +98,41 @@ public class ProtoDeserializerProviderTest {
 
         assertTrue(daggerDeserializer instanceof ProtoDeserializer);
     }
+
+    @Test
+    public void shouldReturnStreamingProtoDeserializerWhenStreamingDeserializationIsEnabled() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_CONSUMER, SourceType.UNBOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("PROTO");
+        when(streamConfig.getEventTimestampFieldIndex()).thenReturn("5");
+        when(streamConfig.getProtoClass()).thenReturn("com.tests.TestMessage");
+        when(configuration.getBoolean(SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_KEY, SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_DEFAULT)).thenReturn(true);
+        when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
+        when(stencilClient.get("com.tests.TestMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
+
+        ProtoDeserializerProvider provider = new ProtoDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator);
+        DaggerDeserializer<Row> daggerDeserializer = provider.getDaggerDeserializer();
+
+        assertTrue(daggerDeserializer instanceof StreamingProtoDeserializer);
+    }
+
+    @Test
+    public void shouldReturnStreamingProtoDeserializerDecodingRowDataLazilyWhenEnabled() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        when(streamConfig.getDataType()).thenReturn("PROTO");
+        when(streamConfig.getEventTimestampFieldIndex()).thenReturn("5");
+        when(streamConfig.getProtoClass()).thenReturn("com.tests.TestMessage");
+        when(configuration.getBoolean(SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_KEY, SOURCE_KAFKA_PROTO_STREAMING_DESERIALIZATION_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getBoolean(SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_KEY, SOURCE_KAFKA_ROW_DATA_LAZY_DECODE_ENABLE_DEFAULT)).thenReturn(true);
+        when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
+        when(stencilClient.get("com.tests.TestMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
+        byte[] protoBytes = TestBookingLogMessage.newBuilder()
+                .setOrderNumber("EXAMPLE_ORDER_1")
+                .setEventTimestamp(Timestamp.newBuilder().setSeconds(1595548800L).build())
+                .build().toByteArray();
+
+        ProtoDeserializerProvider provider = new ProtoDeserializerProvider(streamConfig, configuration, stencilClientOrchestrator);
+        StreamingProtoDeserializer deserializer = (StreamingProtoDeserializer) provider.getDaggerDeserializer();
+
+        assertFalse(deserializer.deserializeRowData(protoBytes) instanceof GenericRowData);
+    }
 }
@@ -0,0 +1,162 @@
+package io.odpf.dagger.core.processors;
+
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.core.exception.InvalidConfigurationException;
+import io.odpf.dagger.core.processors.common.SchemaConfig;
+import io.odpf.stencil.client.StencilClient;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class OutputColumnTypesTest {
+
+    @Mock
+    private SchemaConfig schemaConfig;
+
+    @Mock
+    private StencilClientOrchestrator stencilClientOrchestrator;
+
+    @Mock
+    private StencilClient stencilClient;
+
+    private String[] inputColumnNames;
+    private RowTypeInfo inputRowType;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        inputColumnNames = new String[]{"order_number", "cancel_reason_id"};
+        inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.INT}, inputColumnNames);
+        when(schemaConfig.getOutputProtoClassName()).thenReturn("TestBookingLogMessage");
+        when(schemaConfig.getStencilClientOrchestrator()).thenReturn(stencilClientOrchestrator);
+        when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
+        when(stencilClient.get("TestBookingLogMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
+    }
+
+    private TypeInformation<?>[] resolve(String configuration) {
+        PostProcessorConfig postProcessorConfig = PostProcessorConfig.parse(configuration);
+        when(schemaConfig.getColumnNameManager()).thenReturn(new ColumnNameManager(inputColumnNames, postProcessorConfig.getOutputColumnNames()));
+        return new OutputColumnTypes(postProcessorConfig, schemaConfig).resolve(inputRowType);
+    }
+
+    @Test
+    public void shouldTypeExternalSourceColumnsOfPrimitiveAndEnumFieldsOfTheOutputProto() {
+        String configuration = "{\"external_source\": {\"http\": [{\"endpoint\": \"http://localhost:8000\", \"verb\": \"get\", \"stream_timeout\": \"5000\", \"connect_timeout\": \"5000\", "
+                + "\"output_mapping\": {\"order_number\": {\"path\": \"$.order_number\"}, \"service_type\": {\"path\": \"$.service_type\"}, "
+                + "\"amount_paid_by_cash\": {\"path\": \"$.amount\"}}}]}}";
+
+        TypeInformation<?>[] outputColumnTypes = resolve(configuration);
+
+        TypeInformation<?>[] expectedTypes = new TypeInformation[]{Types.STRING, Types.STRING, Types.FLOAT};
+        assertArrayEquals(expectedTypes, sortedByName(configuration, outputColumnTypes, "order_number", "service_type", "amount_paid_by_cash"));
+    }
+
+    @Test
+    public void shouldRejectExternalSourceColumnsOfMessageFieldsOfTheOutputProto() {
+        String configuration = "{\"external_source\": {\"http\": [{\"endpoint\": \"http://localhost:8000\", \"verb\": \"get\", \"stream_timeout\": \"5000\", \"connect_timeout\": \"5000\", "
+                + "\"output_mapping\": {\"order_number\": {\"path\": \"$.order_number\"}, \"driver_pickup_location\": {\"path\": \"$.location\"}}}]}}";
+
+        InvalidConfigurationException exception = assertThrows(InvalidConfigurationException.class, () -> resolve(configuration));
+
+        assertTrue(exception.getMessage().startsWith("Could not resolve the types of the post processor output columns [driver_pickup_location]."));
+    }
+
+    @Test
+    public void shouldTypeExternalSourceColumnsFromTheirOwnTypeIfGiven() {
+        when(schemaConfig.getOutputProtoClassName()).thenReturn(null);
+        when(stencilClient.get("TestLogMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
+        String configuration = "{\"external_source\": {\"http\": [{\"endpoint\": \"http://localhost:8000\", \"verb\": \"get\", \"stream_timeout\": \"5000\", \"connect_timeout\": \"5000\", "
+                + "\"type\": \"TestLogMessage\", \"output_mapping\": {\"order_number\": {\"path\": \"$.order_number\"}}}]}}";
+
+        TypeInformation<?>[] outputColumnTypes = resolve(configuration);
+
+        assertArrayEquals(new TypeInformation[]{Types.STRING}, outputColumnTypes);
+    }
+
+    @Test
+    public void shouldRejectExternalSourceColumnsIfResponseTypeIsRetainedWithoutADeclaredType() {
+        String configuration = "{\"external_source\": {\"http\": [{\"endpoint\": \"http://localhost:8000\", \"verb\": \"get\", \"stream_timeout\": \"5000\", \"connect_timeout\": \"5000\", "
+                + "\"retain_response_type\": true, \"output_mapping\": {\"order_number\": {\"path\": \"$.order_number\"}}}]}}";
+
+        InvalidConfigurationException exception = assertThrows(InvalidConfigurationException.class, () -> resolve(configuration));
+
+        assertTrue(exception.getMessage().startsWith("Could not resolve the types of the post processor output columns [order_number]."));
+    }
+
+    @Test
+    public void shouldRejectExternalSourceColumnsIfOutputProtoIsNotFound() {
+        when(stencilClient.get("TestBookingLogMessage")).thenReturn(null);
+        String configuration = "{\"external_source\": {\"http\": [{\"endpoint\": \"http://localhost:8000\", \"verb\": \"get\", \"stream_timeout\": \"5000\", \"connect_timeout\": \"5000\", "
+                + "\"output_mapping\": {\"order_number\": {\"path\": \"$.order_number\"}}}]}}";
+
+        InvalidConfigurationException exception = assertThrows(InvalidConfigurationException.class, () -> resolve(configuration));
+
+        assertTrue(exception.getMessage().startsWith("Could not resolve the types of the post processor output columns [order_number]."));
+    }
+
+    @Test
+    public void shouldTypeInternalSourceColumnsFromTheValuesTheySet() {
+        String configuration = "{\"internal_source\": ["
+                + "{\"output_field\": \"cancel_reason_id\", \"value\": \"cancel_reason_id\", \"type\": \"sql\"}, "
+                + "{\"output_field\": \"customer_id\", \"value\": \"7\", \"type\": \"constant\"}, "
+                + "{\"output_field\": \"event_timestamp\", \"value\": \"CURRENT_TIMESTAMP\", \"type\": \"function\"}, "
+                + "{\"output_field\": \"json_payload\", \"value\": \"JSON_PAYLOAD\", \"type\": \"function\"}, "
+                + "{\"output_field\": \"input\", \"value\": \"*\", \"type\": \"sql\"}]}";
+
+        TypeInformation<?>[] outputColumnTypes = resolve(configuration);
+
+        TypeInformation<?>[] expectedTypes = new TypeInformation[]{Types.INT, Types.STRING, Types.SQL_TIMESTAMP, Types.STRING, inputRowType};
+        assertArrayEquals(expectedTypes, outputColumnTypes);
+    }
+
+    @Test
+    public void shouldTypeAllInputColumnsSelectedByInternalSource() {
+        String configuration = "{\"internal_source\": [{\"output_field\": \"*\", \"value\": \"*\", \"type\": \"sql\"}]}";
+
+        TypeInformation<?>[] outputColumnTypes = resolve(configuration);
+
+        assertArrayEquals(new TypeInformation[]{Types.STRING, Types.INT}, outputColumnTypes);
+    }
+
+    @Test
+    public void shouldRejectInternalSourceColumnsIfInputRowIsNotTyped() {
+        String configuration = "{\"internal_source\": [{\"output_field\": \"order_number\", \"value\": \"order_number\", \"type\": \"sql\"}]}";
+        PostProcessorConfig postProcessorConfig = PostProcessorConfig.parse(configuration);
+        when(schemaConfig.getColumnNameManager()).thenReturn(new ColumnNameManager(inputColumnNames, postProcessorConfig.getOutputColumnNames()));
+
+        OutputColumnTypes outputColumnTypes = new OutputColumnTypes(postProcessorConfig, schemaConfig);
+
+        InvalidConfigurationException exception = assertThrows(InvalidConfigurationException.class, () -> outputColumnTypes.resolve(Types.GENERIC(Object.class)));
+        assertTrue(exception.getMessage().startsWith("Could not resolve the types of the post processor output columns [order_number]."));
+    }
+
+    @Test
+    public void shouldRejectColumnsSetWithValuesOfDifferentTypes() {
+        String configuration = "{\"external_source\": {\"http\": [{\"endpoint\": \"http://localhost:8000\", \"verb\": \"get\", \"stream_timeout\": \"5000\", \"connect_timeout\": \"5000\", "
+                + "\"output_mapping\": {\"cancel_reason_id\": {\"path\": \"$.reason\"}, \"order_number\": {\"path\": \"$.order_number\"}}}]}, "
+                + "\"internal_source\": [{\"output_field\": \"order_number\", \"value\": \"cancel_reason_id\", \"type\": \"sql\"}]}";
+
+        InvalidConfigurationException exception = assertThrows(InvalidConfigurationException.class, () -> resolve(configuration));
+
+        assertTrue(exception.getMessage().startsWith("Could not resolve the types of the post processor output columns [order_number]."));
+    }
+
+    private TypeInformation<?>[] sortedByName(String configuration, TypeInformation<?>[] outputColumnTypes, String... columnNames) {
+        ColumnNameManager columnNameManager = new ColumnNameManager(inputColumnNames, PostProcessorConfig.parse(configuration).getOutputColumnNames());
+        TypeInformation<?>[] types = new TypeInformation[columnNames.length];
+        for (int index = 0; index < columnNames.length; index++) {
+            types[index] = outputColumnTypes[columnNameManager.getOutputIndex(columnNames[index])];
+        }
+        return types;
+    }
+}
@@ -95,6 +95,25 @@ public class FetchOutputDecoratorTest {
         verify(outputDataStream, times(0)).returns(rowTypeInfo);
     }
 
+    @Test
+    public void shouldDecorateStreamAndReturnUnnamedObjectTypesIfSqlProcessorNotEnabled() {
+        when(inputDataStream.map(any(MapFunction.class))).thenReturn(outputDataStream);
+        FetchOutputDecorator fetchOutputDecorator = new FetchOutputDecorator(schemaConfig, false);
+        fetchOutputDecorator.decorate(inputDataStream);
+        RowTypeInfo rowTypeInfo = new RowTypeInfo(TypeInformation.of(Object.class), TypeInformation.of(Object.class));
+        verify(outputDataStream, times(1)).returns(rowTypeInfo);
+    }
+
+    @Test
+    public void shouldDecorateStreamAndReturnUnnamedOutputColumnTypesOfInputIfSqlProcessorNotEnabled() {
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING}, new String[]{"order_number"});
+        when(inputDataStream.getType()).thenReturn(RowManager.getTypeInformation(inputRowType, new TypeInformation[]{Types.STRING, Types.INT}));
+        when(inputDataStream.map(any(MapFunction.class))).thenReturn(outputDataStream);
+        FetchOutputDecorator fetchOutputDecorator = new FetchOutputDecorator(schemaConfig, false);
+        fetchOutputDecorator.decorate(inputDataStream);
+        verify(outputDataStream, times(1)).returns(new RowTypeInfo(Types.STRING, Types.INT));
+    }
+
     @Test
     public void shouldDecorateStreamAndReturnTypesIfAllFieldsInOutputProtoIfSqlProcessorEnabled() {
         when(inputDataStream.map(any(MapFunction.class))).thenReturn(outputDataStream);
@@ -1,6 +1,12 @@
 package io.odpf.dagger.core.processors.common;
 
 import io.odpf.dagger.core.processors.ColumnNameManager;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 import org.junit.Test;
 
@@ -9,6 +15,10 @@ import java.util.Arrays;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class InitializationDecoratorTest {
 
@@ -29,4 +39,35 @@ public class InitializationDecoratorTest {
         Row outputRow = ((Row) actualRow.getField(1));
         assertEquals(3, outputRow.getArity());
     }
+
+    @Test
+    public void shouldDecorateStreamWithInputAndOutputRowTypes() {
+        InitializationDecorator initializationDecorator = new InitializationDecorator(new ColumnNameManager(new String[]{"order_number"}, Arrays.asList("one", "two")));
+        DataStream<Row> inputStream = mock(DataStream.class);
+        SingleOutputStreamOperator<Row> outputStream = mock(SingleOutputStreamOperator.class);
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING}, new String[]{"order_number"});
+        when(inputStream.getType()).thenReturn(inputRowType);
+        when(inputStream.map(any(MapFunction.class))).thenReturn(outputStream);
+
+        initializationDecorator.decorate(inputStream);
+
+        verify(inputStream).map(initializationDecorator);
+        verify(outputStream).returns(new RowTypeInfo(inputRowType, new RowTypeInfo(TypeInformation.of(Object.class), TypeInformation.of(Object.class))));
+    }
+
+    @Test
+    public void shouldDecorateStreamWithTheGivenOutputColumnTypes() {
+        TypeInformation<?>[] outputColumnTypes = new TypeInformation[]{Types.STRING, Types.SQL_TIMESTAMP};
+        InitializationDecorator initializationDecorator = new InitializationDecorator(new ColumnNameManager(new String[]{"order_number"}, Arrays.asList("one", "two")), outputColumnTypes);
+        DataStream<Row> inputStream = mock(DataStream.class);
+        SingleOutputStreamOperator<Row> outputStream = mock(SingleOutputStreamOperator.class);
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING}, new String[]{"order_number"});
+        when(inputStream.getType()).thenReturn(inputRowType);
+        when(inputStream.map(any(MapFunction.class))).thenReturn(outputStream);
+
+        initializationDecorator.decorate(inputStream);
+
+        verify(inputStream).map(initializationDecorator);
+        verify(outputStream).returns(new RowTypeInfo(inputRowType, new RowTypeInfo(Types.STRING, Types.SQL_TIMESTAMP)));
+    }
 }
@@ -1,6 +1,9 @@
 package io.odpf.dagger.core.processors.common;
 
 import io.odpf.dagger.core.exception.InputOutputMappingException;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 import org.junit.Test;
 
@@ -71,4 +74,17 @@ public class RowManagerTest {
         RowManager rowManager = new RowManager(new Row(3));
         assertThrows(InputOutputMappingException.class, () -> rowManager.getOutputData());
     }
+
+    @Test
+    public void shouldGetOutputRowTypeOfInputOutputRowType() {
+        RowTypeInfo outputRowType = new RowTypeInfo(Types.STRING, Types.INT);
+        TypeInformation<Row> inputOutputRowType = RowManager.getTypeInformation(new RowTypeInfo(Types.STRING), new TypeInformation[]{Types.STRING, Types.INT});
+
+        assertEquals(outputRowType, RowManager.getOutputRowType(inputOutputRowType));
+    }
+
+    @Test
+    public void shouldGetGenericOutputRowTypeIfInputOutputRowIsNotTyped() {
+        assertEquals(Types.GENERIC(Row.class), RowManager.getOutputRowType(Types.GENERIC(Row.class)));
+    }
 }
@@ -0,0 +1,74 @@
+package io.odpf.dagger.core.processors.common;
+
+import org.apache.flink.table.data.RowData;
+
+import com.google.protobuf.Descriptors;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
+import io.odpf.dagger.common.serde.proto.deserialization.StreamingProtoDeserializer;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static io.odpf.dagger.common.core.Constants.*;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ValidRowDataRecordsFilterTest {
+
+    @Mock
+    private ErrorReporter errorReporter;
+
+    @Mock
+    private Configuration configuration;
+
+    private StreamingProtoDeserializer deserializer;
+
+    @Before
+    public void setUp() {
+        initMocks(this);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        deserializer = new StreamingProtoDeserializer(TestBookingLogMessage.class.getName(), 5, "rowtime", new StencilClientOrchestrator(configuration));
+    }
+
+    private String[] getColumns() {
+        List<String> fields = TestBookingLogMessage.getDescriptor()
+                .getFields()
+                .stream()
+                .map(Descriptors.FieldDescriptor::getName).collect(Collectors.toList());
+        fields.add(INTERNAL_VALIDATION_FIELD_KEY);
+        fields.add("rowtime");
+        return fields.toArray(new String[0]);
+    }
+
+    @Test
+    public void shouldThrowExceptionWithBadRecord() throws Exception {
+        RowData invalidRow = deserializer.deserializeRowData("test".getBytes());
+        ValidRowDataRecordsFilter filter = new ValidRowDataRecordsFilter("test", getColumns(), configuration);
+        filter.errorReporter = this.errorReporter;
+
+        InvalidProtocolBufferException exception = assertThrows(InvalidProtocolBufferException.class, () -> filter.filter(invalidRow));
+
+        assertEquals("Bad Record Encountered for table `test`", exception.getMessage());
+        verify(errorReporter).reportFatalException(exception);
+    }
+
+    @Test
+    public void shouldReturnTrueForCorrectRecord() throws Exception {
+        RowData validRow = deserializer.deserializeRowData(TestBookingLogMessage.newBuilder().build().toByteArray());
+        ValidRowDataRecordsFilter filter = new ValidRowDataRecordsFilter("test", getColumns(), configuration);
+
+        assertTrue(filter.filter(validRow));
+    }
+}
@@ -1,7 +1,10 @@
 package io.odpf.dagger.core.processors.external;
 
 import io.odpf.dagger.core.processors.common.SchemaConfig;
+import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
+import org.apache.flink.types.Row;
 
 import io.odpf.stencil.client.StencilClient;
 import io.odpf.dagger.common.configuration.Configuration;
@@ -31,9 +34,13 @@ import static io.odpf.dagger.core.utils.Constants.METRIC_TELEMETRY_ENABLE_VALUE_
 import static io.odpf.dagger.core.utils.Constants.METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS_DEFAULT;
 import static io.odpf.dagger.core.utils.Constants.METRIC_TELEMETRY_SHUTDOWN_PERIOD_MS_KEY;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -153,6 +160,47 @@ public class ExternalPostProcessorTest {
         externalPostProcessorMock.process(streamInfoMock);
     }
 
+    @Test
+    public void shouldPutTheSourceFollowingASourceOfAnotherSlotSharingGroupBackIntoTheDefaultGroup() {
+        HttpSourceConfig httpSourceConfig = mock(HttpSourceConfig.class);
+        EsSourceConfig esSourceConfig = mock(EsSourceConfig.class);
+        when(httpSourceConfig.getSlotSharingGroup()).thenReturn("external");
+        ExternalSourceConfig externalSourceConfig = new ExternalSourceConfig(Arrays.asList(httpSourceConfig), Arrays.asList(esSourceConfig), new ArrayList<>(), new ArrayList<>());
+        HttpStreamDecorator httpDecoratorMock = mock(HttpStreamDecorator.class);
+        EsStreamDecorator esDecoratorMock = mock(EsStreamDecorator.class);
+        SingleOutputStreamOperator<Row> httpOperator = mock(SingleOutputStreamOperator.class);
+        SingleOutputStreamOperator<Row> passThroughOperator = mock(SingleOutputStreamOperator.class);
+        SingleOutputStreamOperator<Row> esOperator = mock(SingleOutputStreamOperator.class);
+        when(httpDecoratorMock.decorate(dataStream)).thenReturn(httpOperator);
+        when(httpOperator.map(any(MapFunction.class))).thenReturn(passThroughOperator);
+        when(esDecoratorMock.decorate(passThroughOperator)).thenReturn(esOperator);
+        ExternalPostProcessorMock externalPostProcessorMock = new ExternalPostProcessorMock(schemaConfig, externalSourceConfig, externalMetricConfig, httpDecoratorMock, esDecoratorMock);
+
+        StreamInfo streamInfo = externalPostProcessorMock.process(new StreamInfo(dataStream, new String[]{}));
+
+        verify(passThroughOperator).slotSharingGroup("default");
+        verify(esOperator, never()).map(any(MapFunction.class));
+        assertEquals(esOperator, streamInfo.getDataStream());
+    }
+
+    @Test
+    public void shouldPutTheOperatorsFollowingTheLastSourceOfAnotherSlotSharingGroupBackIntoTheDefaultGroup() {
+        HttpSourceConfig httpSourceConfig = mock(HttpSourceConfig.class);
+        when(httpSourceConfig.getSlotSharingGroup()).thenReturn("external");
+        ExternalSourceConfig externalSourceConfig = new ExternalSourceConfig(Arrays.asList(httpSourceConfig), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        HttpStreamDecorator httpDecoratorMock = mock(HttpStreamDecorator.class);
+        SingleOutputStreamOperator<Row> httpOperator = mock(SingleOutputStreamOperator.class);
+        SingleOutputStreamOperator<Row> passThroughOperator = mock(SingleOutputStreamOperator.class);
+        when(httpDecoratorMock.decorate(dataStream)).thenReturn(httpOperator);
+        when(httpOperator.map(any(MapFunction.class))).thenReturn(passThroughOperator);
+        ExternalPostProcessorMock externalPostProcessorMock = new ExternalPostProcessorMock(schemaConfig, externalSourceConfig, externalMetricConfig, httpDecoratorMock, mock(EsStreamDecorator.class));
+
+        StreamInfo streamInfo = externalPostProcessorMock.process(new StreamInfo(dataStream, new String[]{}));
+
+        verify(passThroughOperator).slotSharingGroup("default");
+        assertEquals(passThroughOperator, streamInfo.getDataStream());
+    }
+
     @Ignore("Need to fix this test")
     @Test
     public void shouldPassExistingColumnNamesIfNoColumnNameSpecifiedInConfig() {
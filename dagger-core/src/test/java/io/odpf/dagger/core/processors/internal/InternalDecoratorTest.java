@@ -3,14 +3,22 @@ package io.odpf.dagger.core.processors.internal;
 import io.odpf.dagger.core.processors.ColumnNameManager;
 import io.odpf.dagger.core.processors.common.RowManager;
 import io.odpf.dagger.core.processors.internal.processor.InternalConfigProcessor;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 import org.junit.Test;
 
 import java.util.Arrays;
 
 import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class InternalDecoratorTest {
 
@@ -58,4 +66,37 @@ public class InternalDecoratorTest {
         assertEquals(2, outputRow.getArity());
         verify(processorMock).process(new RowManager(dataStreamRow));
     }
+
+    @Test
+    public void shouldDecorateStreamKeepingTheInputRowTypeAndTheOutputSize() {
+        columnNameManager = new ColumnNameManager(new String[]{"order_number"}, Arrays.asList("output1", "output2"));
+        InternalDecorator internalDecorator = new InternalDecorator(null, mock(InternalConfigProcessor.class), columnNameManager);
+        DataStream<Row> inputStream = mock(DataStream.class);
+        SingleOutputStreamOperator<Row> outputStream = mock(SingleOutputStreamOperator.class);
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING}, new String[]{"order_number"});
+        when(inputStream.getType()).thenReturn(new RowTypeInfo(inputRowType, new RowTypeInfo(TypeInformation.of(Object.class))));
+        when(inputStream.map(any(MapFunction.class))).thenReturn(outputStream);
+
+        internalDecorator.decorate(inputStream);
+
+        verify(inputStream).map(internalDecorator);
+        verify(outputStream).returns(new RowTypeInfo(inputRowType, new RowTypeInfo(TypeInformation.of(Object.class), TypeInformation.of(Object.class))));
+    }
+
+    @Test
+    public void shouldDecorateStreamKeepingTheDeclaredOutputColumnTypes() {
+        columnNameManager = new ColumnNameManager(new String[]{"order_number"}, Arrays.asList("output1", "output2"));
+        InternalDecorator internalDecorator = new InternalDecorator(null, mock(InternalConfigProcessor.class), columnNameManager);
+        DataStream<Row> inputStream = mock(DataStream.class);
+        SingleOutputStreamOperator<Row> outputStream = mock(SingleOutputStreamOperator.class);
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING}, new String[]{"order_number"});
+        RowTypeInfo inputOutputRowType = new RowTypeInfo(inputRowType, new RowTypeInfo(Types.STRING, Types.SQL_TIMESTAMP));
+        when(inputStream.getType()).thenReturn(inputOutputRowType);
+        when(inputStream.map(any(MapFunction.class))).thenReturn(outputStream);
+
+        internalDecorator.decorate(inputStream);
+
+        verify(inputStream).map(internalDecorator);
+        verify(outputStream).returns(inputOutputRowType);
+    }
 }
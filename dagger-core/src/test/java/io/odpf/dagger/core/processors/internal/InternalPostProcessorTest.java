@@ -4,7 +4,9 @@ import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.core.processors.PostProcessorConfig;
 import io.odpf.dagger.core.processors.external.ExternalSourceConfig;
 import io.odpf.dagger.core.processors.transformers.TransformConfig;
+import org.apache.flink.api.common.functions.MapFunction;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -66,6 +68,7 @@ public class InternalPostProcessorTest {
         DataStream resultStream = mock(DataStream.class);
         when(streamInfoMock.getColumnNames()).thenReturn(new String[] {"order_id", "customer_id"});
         when(streamInfoMock.getDataStream()).thenReturn(resultStream);
+        when(resultStream.map(any(MapFunction.class))).thenReturn(mock(SingleOutputStreamOperator.class));
 
         StreamInfo process = internalPostProcessor.process(streamInfoMock);
         verify(resultStream, times(1)).map(any(InternalDecorator.class));
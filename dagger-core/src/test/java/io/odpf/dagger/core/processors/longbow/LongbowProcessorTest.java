@@ -1,12 +1,19 @@
 package io.odpf.dagger.core.processors.longbow;
 
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.functions.async.RichAsyncFunction;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.core.processors.longbow.columnmodifier.ColumnModifier;
+import io.odpf.dagger.core.processors.longbow.processor.LongbowReader;
+import io.odpf.dagger.core.processors.longbow.processor.LongbowWriter;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -59,4 +66,81 @@ public class LongbowProcessorTest {
                 .orderedWait(any(), functionCaptor.capture(), anyLong(), any(TimeUnit.class), anyInt());
         assertEquals(Arrays.asList(asyncFunction1, asyncFunction2), functionCaptor.getAllValues());
     }
+
+    @Test
+    public void shouldSetConfiguredParallelismAndSlotSharingGroupOnEveryAsyncOperator() {
+        String[] columnNames = {"rowtime", "longbow_key", "event_timestamp"};
+        SingleOutputStreamOperator<Row> asyncOperator = mock(SingleOutputStreamOperator.class);
+        ArrayList<RichAsyncFunction<Row, Row>> richAsyncFunctions = new ArrayList<>();
+        richAsyncFunctions.add(mock(RichAsyncFunction.class));
+        richAsyncFunctions.add(mock(RichAsyncFunction.class));
+        when(configuration.getInteger("PROCESSOR_LONGBOW_PARALLELISM", 0)).thenReturn(8);
+        when(configuration.getString("PROCESSOR_LONGBOW_SLOT_SHARING_GROUP", "")).thenReturn("longbow");
+        SingleOutputStreamOperator<Row> passThroughOperator = mock(SingleOutputStreamOperator.class);
+        when(asyncProcessor.orderedWait(any(), any(), anyLong(), any(TimeUnit.class), any())).thenReturn(asyncOperator);
+        when(asyncOperator.map(any(MapFunction.class))).thenReturn(passThroughOperator);
+        LongbowProcessor longbowProcessor = new LongbowProcessor(asyncProcessor, configuration, richAsyncFunctions, columnModifier);
+
+        StreamInfo streamInfo = longbowProcessor.process(new StreamInfo(dataStream, columnNames));
+
+        verify(asyncOperator, times(2)).setParallelism(8);
+        verify(asyncOperator, times(2)).slotSharingGroup("longbow");
+        verify(asyncOperator, times(1)).map(any(MapFunction.class));
+        verify(passThroughOperator).slotSharingGroup("default");
+        assertEquals(passThroughOperator, streamInfo.getDataStream());
+    }
+
+    @Test
+    public void shouldNotAddAnOperatorIfNoSlotSharingGroupIsConfigured() {
+        String[] columnNames = {"rowtime", "longbow_key", "event_timestamp"};
+        SingleOutputStreamOperator<Row> asyncOperator = mock(SingleOutputStreamOperator.class);
+        ArrayList<RichAsyncFunction<Row, Row>> richAsyncFunctions = new ArrayList<>();
+        richAsyncFunctions.add(mock(RichAsyncFunction.class));
+        when(configuration.getString("PROCESSOR_LONGBOW_SLOT_SHARING_GROUP", "")).thenReturn("");
+        when(asyncProcessor.orderedWait(any(), any(), anyLong(), any(TimeUnit.class), any())).thenReturn(asyncOperator);
+        LongbowProcessor longbowProcessor = new LongbowProcessor(asyncProcessor, configuration, richAsyncFunctions, columnModifier);
+
+        StreamInfo streamInfo = longbowProcessor.process(new StreamInfo(dataStream, columnNames));
+
+        assertEquals(asyncOperator, streamInfo.getDataStream());
+        verify(asyncOperator, never()).slotSharingGroup(anyString());
+        verify(asyncOperator, never()).map(any(MapFunction.class));
+    }
+
+    @Test
+    public void shouldDeclareTheOutputRowTypeOfEveryAsyncOperator() {
+        String[] columnNames = {"longbow_write_key", "event_timestamp"};
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.SQL_TIMESTAMP}, columnNames);
+        RowTypeInfo writerOutputRowType = new RowTypeInfo(Types.STRING, Types.SQL_TIMESTAMP, Types.STRING);
+        RowTypeInfo readerOutputRowType = new RowTypeInfo(Types.STRING, Types.SQL_TIMESTAMP, Types.LIST(Types.STRING));
+        LongbowWriter longbowWriter = mock(LongbowWriter.class);
+        LongbowReader longbowReader = mock(LongbowReader.class);
+        SingleOutputStreamOperator<Row> asyncOperator = mock(SingleOutputStreamOperator.class);
+        when(dataStream.getType()).thenReturn(inputRowType);
+        when(asyncOperator.getType()).thenReturn(writerOutputRowType);
+        when(longbowWriter.getOutputRowType(inputRowType)).thenReturn(writerOutputRowType);
+        when(longbowReader.getOutputRowType(writerOutputRowType)).thenReturn(readerOutputRowType);
+        when(asyncProcessor.orderedWait(any(), any(), anyLong(), any(TimeUnit.class), any())).thenReturn(asyncOperator);
+        LongbowProcessor longbowProcessor = new LongbowProcessor(asyncProcessor, configuration, new ArrayList<>(Arrays.asList(longbowWriter, longbowReader)), columnModifier);
+
+        longbowProcessor.process(new StreamInfo(dataStream, columnNames));
+
+        verify(asyncOperator).returns(writerOutputRowType);
+        verify(asyncOperator).returns(readerOutputRowType);
+    }
+
+    @Test
+    public void shouldNotDeclareTheOutputRowTypeIfInputRowsAreNotTyped() {
+        String[] columnNames = {"longbow_write_key", "event_timestamp"};
+        LongbowWriter longbowWriter = mock(LongbowWriter.class);
+        SingleOutputStreamOperator<Row> asyncOperator = mock(SingleOutputStreamOperator.class);
+        when(dataStream.getType()).thenReturn(Types.GENERIC(Row.class));
+        when(asyncProcessor.orderedWait(any(), any(), anyLong(), any(TimeUnit.class), any())).thenReturn(asyncOperator);
+        LongbowProcessor longbowProcessor = new LongbowProcessor(asyncProcessor, configuration, new ArrayList<>(Arrays.asList(longbowWriter)), columnModifier);
+
+        longbowProcessor.process(new StreamInfo(dataStream, columnNames));
+
+        verify(longbowWriter, never()).getOutputRowType(any());
+        verify(asyncOperator, never()).returns(any(TypeInformation.class));
+    }
 }
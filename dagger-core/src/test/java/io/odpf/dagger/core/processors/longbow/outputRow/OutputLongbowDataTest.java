@@ -1,6 +1,9 @@
 package io.odpf.dagger.core.processors.longbow.outputRow;
 
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 
 import org.junit.Before;
@@ -77,4 +80,23 @@ public class OutputLongbowDataTest {
         assertEquals(expectedRow, output);
 
     }
+
+    @Test
+    public void shouldTypeLongbowDataAsListsOfStrings() {
+        ReaderOutputLongbowData outputLongbowData = new ReaderOutputLongbowData(defaultLongbowSchema);
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.STRING}, new String[]{"longbow_data1", "longbow_key"});
+
+        TypeInformation<Row> outputRowType = outputLongbowData.getOutputRowType(inputRowType);
+
+        RowTypeInfo expectedRowType = new RowTypeInfo(new TypeInformation[]{Types.LIST(Types.STRING), Types.STRING}, new String[]{"longbow_data1", "longbow_key"});
+        assertEquals(expectedRowType, outputRowType);
+    }
+
+    @Test
+    public void shouldReturnGenericRowTypeIfInputArityIsDifferentFromLongbowSchema() {
+        ReaderOutputLongbowData outputLongbowData = new ReaderOutputLongbowData(defaultLongbowSchema);
+        RowTypeInfo inputRowType = new RowTypeInfo(Types.STRING);
+
+        assertEquals(Types.GENERIC(Row.class), outputLongbowData.getOutputRowType(inputRowType));
+    }
 }
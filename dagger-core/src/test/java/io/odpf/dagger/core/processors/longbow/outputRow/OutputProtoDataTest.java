@@ -1,6 +1,9 @@
 package io.odpf.dagger.core.processors.longbow.outputRow;
 
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 import org.apache.hadoop.hbase.util.Bytes;
 import org.junit.Before;
@@ -43,5 +46,23 @@ public class OutputProtoDataTest {
         Row expectedRow = Row.of("driver#123", returnedProto);
         assertEquals(expectedRow, row);
     }
-}
 
+    @Test
+    public void shouldAppendProtoDataTypeToRowType() {
+        ReaderOutputProtoData outputProtoData = new ReaderOutputProtoData(longbowSchema);
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING}, new String[]{"longbow_read_key"});
+
+        TypeInformation<Row> outputRowType = outputProtoData.getOutputRowType(inputRowType);
+
+        RowTypeInfo expectedRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.LIST(Types.PRIMITIVE_ARRAY(Types.BYTE))}, new String[]{"longbow_read_key", "proto_data"});
+        assertEquals(expectedRowType, outputRowType);
+    }
+
+    @Test
+    public void shouldReturnGenericRowTypeIfInputArityIsDifferentFromLongbowSchema() {
+        ReaderOutputProtoData outputProtoData = new ReaderOutputProtoData(longbowSchema);
+        RowTypeInfo inputRowType = new RowTypeInfo(Types.STRING, Types.STRING);
+
+        assertEquals(Types.GENERIC(Row.class), outputProtoData.getOutputRowType(inputRowType));
+    }
+}
@@ -1,6 +1,9 @@
 package io.odpf.dagger.core.processors.longbow.outputRow;
 
 import io.odpf.dagger.core.processors.longbow.LongbowSchema;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.types.Row;
 
 import org.junit.Before;
@@ -9,6 +12,9 @@ import org.mockito.Mock;
 
 import java.util.Map;
 
+import static io.odpf.dagger.core.utils.Constants.SYNCHRONIZER_BIGTABLE_TABLE_ID_KEY;
+import static io.odpf.dagger.core.utils.Constants.SYNCHRONIZER_INPUT_CLASSNAME_KEY;
+import static io.odpf.dagger.core.utils.Constants.SYNCHRONIZER_LONGBOW_READ_KEY;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -44,4 +50,16 @@ public class OutputSynchronizerTest {
         assertEquals(expectedRow, synchronizer);
 
     }
+
+    @Test
+    public void shouldAppendStaticMetadataTypesToRowType() {
+        OutputSynchronizer outputSynchronizer = new OutputSynchronizer(longbowSchema, "tableId", "Test");
+        RowTypeInfo inputRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.INT}, new String[]{"longbow_write_key", "random-selected"});
+
+        TypeInformation<Row> outputRowType = outputSynchronizer.getOutputRowType(inputRowType);
+
+        RowTypeInfo expectedRowType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.INT, Types.STRING, Types.STRING, Types.STRING},
+                new String[]{"longbow_write_key", "random-selected", SYNCHRONIZER_BIGTABLE_TABLE_ID_KEY, SYNCHRONIZER_INPUT_CLASSNAME_KEY, SYNCHRONIZER_LONGBOW_READ_KEY});
+        assertEquals(expectedRowType, outputRowType);
+    }
 }
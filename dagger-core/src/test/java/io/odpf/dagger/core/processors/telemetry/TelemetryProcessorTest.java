@@ -3,7 +3,9 @@ package io.odpf.dagger.core.processors.telemetry;
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.core.processors.PostProcessorConfig;
 import io.odpf.dagger.core.processors.telemetry.processor.MetricsTelemetryExporter;
+import org.apache.flink.api.common.typeinfo.Types;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 import org.junit.Before;
 import org.junit.Test;
@@ -12,6 +14,7 @@ import org.mockito.Mock;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class TelemetryProcessorTest {
@@ -26,6 +29,9 @@ public class TelemetryProcessorTest {
     @Mock
     private DataStream<Row> dataStream;
 
+    @Mock
+    private SingleOutputStreamOperator<Row> mappedDataStream;
+
     @Mock
     private PostProcessorConfig postProcessorConfig;
 
@@ -33,6 +39,7 @@ public class TelemetryProcessorTest {
     public void setup() {
         initMocks(this);
         telemetryProcessor = new TelemetryProcessor(metricsTelemetryExporter);
+        when(dataStream.map(metricsTelemetryExporter)).thenReturn(mappedDataStream);
 
     }
 
@@ -44,6 +51,14 @@ public class TelemetryProcessorTest {
         verify(streamInfo.getDataStream(), times(1)).map(metricsTelemetryExporter);
     }
 
+    @Test
+    public void shouldKeepTheTypeOfTheInputStream() {
+        when(dataStream.getType()).thenReturn(Types.ROW(Types.STRING, Types.LONG));
+        telemetryProcessor.process(new StreamInfo(dataStream, columnNames));
+
+        verify(mappedDataStream, times(1)).returns(Types.ROW(Types.STRING, Types.LONG));
+    }
+
     @Test
     public void shouldReturnTrueOnCanProcess() {
         assertTrue(telemetryProcessor.canProcess(postProcessorConfig));
@@ -7,6 +7,7 @@ import org.apache.flink.metrics.groups.SinkWriterMetricGroup;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.RowSamplers;
 import io.odpf.dagger.core.exception.InfluxWriteException;
 import io.odpf.dagger.core.metrics.reporters.ErrorReporter;
 import io.odpf.dagger.core.utils.Constants;
@@ -18,6 +19,7 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.slf4j.Logger;
 
 import java.sql.Timestamp;
 import java.time.Instant;
@@ -30,8 +32,10 @@ import static io.odpf.dagger.core.utils.Constants.*;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -63,6 +67,9 @@ public class InfluxDBWriterTest {
     @Mock
     private InitContext initContext;
 
+    @Mock
+    private Logger logger;
+
     private ErrorHandler errorHandler = new ErrorHandler();
 
     @Before
@@ -116,6 +123,43 @@ public class InfluxDBWriterTest {
         verify(influxDb).write(eq("dagger_test"), eq("two_day_policy"), any());
     }
 
+    @Test
+    public void shouldLogTheRowsPickedByTheRowSampler() throws Exception {
+        Row row = new Row(1);
+        row.setField(0, "some field");
+        InfluxDBWriter influxDBWriter = new InfluxDBWriter(configuration, influxDb, new String[]{"some_field_name"}, errorHandler, errorReporter, RowSamplers.loggingTo(logger, 1D, 0L));
+
+        influxDBWriter.write(row, context);
+        influxDBWriter.write(row, context);
+
+        verify(logger, times(2)).info("row to influx: " + row);
+    }
+
+    @Test
+    public void shouldLimitTheRowsLoggedPerSecond() throws Exception {
+        Row row = new Row(1);
+        row.setField(0, "some field");
+        InfluxDBWriter influxDBWriter = new InfluxDBWriter(configuration, influxDb, new String[]{"some_field_name"}, errorHandler, errorReporter, RowSamplers.loggingTo(logger, 1D, 1L));
+
+        influxDBWriter.write(row, context);
+        influxDBWriter.write(row, context);
+        influxDBWriter.write(row, context);
+
+        verify(logger, times(1)).info("row to influx: " + row);
+        verify(influxDb, times(3)).write(eq("dagger_test"), eq("two_day_policy"), any());
+    }
+
+    @Test
+    public void shouldNotLogRowsByDefault() throws Exception {
+        Row row = new Row(1);
+        row.setField(0, "some field");
+        InfluxDBWriter influxDBWriter = new InfluxDBWriter(configuration, influxDb, new String[]{"some_field_name"}, errorHandler, errorReporter, RowSamplers.loggingTo(logger, 0D, 0L));
+
+        influxDBWriter.write(row, context);
+
+        verify(logger, never()).info(anyString());
+    }
+
     @Test
     public void shouldWriteRowToInfluxAsfields() throws Exception {
         final int numberOfRows = 3;
@@ -14,7 +14,9 @@ import io.odpf.dagger.core.source.parquet.ParquetDaggerSource;
 import io.odpf.depot.metrics.StatsDReporter;
 import io.odpf.stencil.client.StencilClient;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.streaming.api.datastream.DataStreamSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.data.RowData;
 import org.apache.flink.types.Row;
 import org.junit.Before;
 import org.junit.Test;
@@ -27,6 +29,7 @@ import java.util.regex.Pattern;
 
 import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -154,4 +157,46 @@ public class StreamTest {
         verify(mockDaggerSource, times(1)).register(streamExecutionEnvironment, watermarkStrategy);
 
     }
+
+    @Test
+    public void shouldNotRegisterRowDataSourceIfTheDaggerSourceCannotProduceRowData() {
+        Stream stream = new Stream(mockDaggerSource, "some-stream");
+
+        assertFalse(stream.canRegisterRowDataSource());
+    }
+
+    @Test
+    public void shouldInvokeTheDaggerSourceRowDataRegistrationMethodWhenRegisterRowDataSourceIsCalled() {
+        KafkaDaggerSource kafkaDaggerSource = mock(KafkaDaggerSource.class);
+        WatermarkStrategy<RowData> rowDataWatermarkStrategy = mock(WatermarkStrategy.class);
+        when(kafkaDaggerSource.canBuildRowData()).thenReturn(true);
+        Stream stream = new Stream(kafkaDaggerSource, "some-stream");
+
+        assertTrue(stream.canRegisterRowDataSource());
+        stream.registerRowDataSource(streamExecutionEnvironment, rowDataWatermarkStrategy);
+
+        verify(kafkaDaggerSource, times(1)).registerRowData(streamExecutionEnvironment, rowDataWatermarkStrategy);
+    }
+
+    @Test
+    public void shouldSetTheConfiguredSourceParallelismWhenRegisterSourceIsCalled() {
+        DataStreamSource<Row> dataStreamSource = mock(DataStreamSource.class);
+        when(mockDaggerSource.register(streamExecutionEnvironment, watermarkStrategy)).thenReturn(dataStreamSource);
+        Stream stream = new Stream(mockDaggerSource, "some-stream", 3);
+
+        assertEquals(dataStreamSource, stream.registerSource(streamExecutionEnvironment, watermarkStrategy));
+
+        verify(dataStreamSource, times(1)).setParallelism(3);
+    }
+
+    @Test
+    public void shouldKeepTheJobParallelismForSourcesWithoutConfiguredParallelism() {
+        DataStreamSource<Row> dataStreamSource = mock(DataStreamSource.class);
+        when(mockDaggerSource.register(streamExecutionEnvironment, watermarkStrategy)).thenReturn(dataStreamSource);
+        Stream stream = new Stream(mockDaggerSource, "some-stream");
+
+        stream.registerSource(streamExecutionEnvironment, watermarkStrategy);
+
+        verify(dataStreamSource, times(0)).setParallelism(anyInt());
+    }
 }
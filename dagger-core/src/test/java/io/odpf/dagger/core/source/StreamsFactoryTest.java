@@ -3,6 +3,7 @@ package io.odpf.dagger.core.source;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.core.source.flinkkafkaconsumer.FlinkKafkaConsumerDaggerSource;
 import io.odpf.dagger.core.source.kafka.KafkaDaggerSource;
+import io.odpf.dagger.core.source.projection.SqlFieldProjectionAnalyzer;
 import io.odpf.depot.metrics.StatsDReporter;
 import io.odpf.stencil.client.StencilClient;
 import com.google.gson.JsonSyntaxException;
@@ -70,7 +71,7 @@ public class StreamsFactoryTest {
         when(stencilClientOrchestrator.getStencilClient()).thenReturn(stencilClient);
         when(stencilClient.get("com.tests.TestMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
 
-        List<Stream> streams = StreamsFactory.getStreams(configuration, stencilClientOrchestrator, statsDReporterSupplierMock);
+        List<Stream> streams = StreamsFactory.getStreams(configuration, stencilClientOrchestrator, statsDReporterSupplierMock, new SqlFieldProjectionAnalyzer(configuration, null));
 
         assertEquals(2, streams.size());
         assertTrue(streams.get(0).getDaggerSource() instanceof FlinkKafkaConsumerDaggerSource);
@@ -93,7 +94,7 @@ public class StreamsFactoryTest {
         when(stencilClient.get("com.tests.TestMessage")).thenReturn(TestBookingLogMessage.getDescriptor());
 
         assertThrows(JsonSyntaxException.class,
-                () -> StreamsFactory.getStreams(configuration, stencilClientOrchestrator, statsDReporterSupplierMock));
+                () -> StreamsFactory.getStreams(configuration, stencilClientOrchestrator, statsDReporterSupplierMock, new SqlFieldProjectionAnalyzer(configuration, null)));
     }
 
     @Test
@@ -101,6 +102,6 @@ public class StreamsFactoryTest {
         when(configuration.getString(INPUT_STREAMS, "")).thenReturn("");
 
         assertThrows(NullPointerException.class,
-                () -> StreamsFactory.getStreams(configuration, stencilClientOrchestrator, statsDReporterSupplierMock));
+                () -> StreamsFactory.getStreams(configuration, stencilClientOrchestrator, statsDReporterSupplierMock, new SqlFieldProjectionAnalyzer(configuration, null)));
     }
 }
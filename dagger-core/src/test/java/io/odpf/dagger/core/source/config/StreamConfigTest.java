@@ -180,6 +180,7 @@ public class StreamConfigTest {
                         + "\"SOURCE_DETAILS\": "
                         + "[{\"SOURCE_TYPE\": \"BOUNDED\", \"SOURCE_NAME\": \"PARQUET_SOURCE\"},"
                         + "{\"SOURCE_TYPE\": \"UNBOUNDED\", \"SOURCE_NAME\": \"KAFKA_SOURCE\"}],"
+                        + "\"SOURCE_HYBRID_SWITCH_TIME\": \"2022-02-13T14:00:00Z\","
                         + "\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\", \"gs://another-parquet-path\"]"
                         + "}]");
         StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
@@ -387,6 +388,7 @@ public class StreamConfigTest {
                 .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"   gs://some-parquet-path\", \"   gs://another-parquet-path   \"],"
                         + "\"SOURCE_PARQUET_READ_ORDER_STRATEGY\": \"EARLIEST_TIME_URL_FIRST\","
                         + "\"SOURCE_PARQUET_SCHEMA_MATCH_STRATEGY\": \"BACKWARD_COMPATIBLE_SCHEMA_WITH_FAIL_ON_TYPE_MISMATCH\","
+                        + "\"SOURCE_HYBRID_SWITCH_TIME\": \"2022-02-13T14:00:00Z\","
                         + "\"SOURCE_DETAILS\": "
                         + "[{\"SOURCE_TYPE\": \"BOUNDED\", \"SOURCE_NAME\": \"PARQUET_SOURCE\"},"
                         + "{\"SOURCE_TYPE\": \"UNBOUNDED\", \"SOURCE_NAME\": \"KAFKA_SOURCE\"}]"
@@ -395,4 +397,79 @@ public class StreamConfigTest {
 
         Assert.assertArrayEquals(new String[]{"gs://some-parquet-path", "gs://another-parquet-path"}, streamConfigs[0].getParquetFilePaths());
     }
+    @Test
+    public void shouldParseHybridSwitchTime() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_KAFKA_TOPIC_NAMES\": \"test-topic\","
+                        + "\"SOURCE_HYBRID_SWITCH_TIME\": \"2022-02-13T14:00:00Z\","
+                        + "\"SOURCE_DETAILS\": "
+                        + "[{\"SOURCE_TYPE\": \"BOUNDED\", \"SOURCE_NAME\": \"PARQUET_SOURCE\"}, {\"SOURCE_TYPE\": \"UNBOUNDED\", \"SOURCE_NAME\": \"KAFKA_SOURCE\"}]"
+                        + "}]");
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(1644760800L, streamConfigs[0].getHybridSwitchTime().getEpochSecond());
+    }
+
+    @Test
+    public void shouldThrowRuntimeExceptionIfHybridSwitchTimeIsNotGivenForHybridSource() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_KAFKA_TOPIC_NAMES\": \"test-topic\","
+                        + "\"SOURCE_DETAILS\": "
+                        + "[{\"SOURCE_TYPE\": \"BOUNDED\", \"SOURCE_NAME\": \"PARQUET_SOURCE\"}, {\"SOURCE_TYPE\": \"UNBOUNDED\", \"SOURCE_NAME\": \"KAFKA_SOURCE\"}]"
+                        + "}]");
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> StreamConfig.parse(configuration));
+        assertEquals("SOURCE_HYBRID_SWITCH_TIME is required for configuring a Hybrid Parquet and Kafka Data Source Stream, but is set to null.", exception.getMessage());
+    }
+
+    @Test
+    public void shouldThrowRuntimeExceptionIfHybridSwitchTimeIsNotAValidTimestamp() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_KAFKA_TOPIC_NAMES\": \"test-topic\","
+                        + "\"SOURCE_HYBRID_SWITCH_TIME\": \"2022-02-13\","
+                        + "\"SOURCE_DETAILS\": "
+                        + "[{\"SOURCE_TYPE\": \"BOUNDED\", \"SOURCE_NAME\": \"PARQUET_SOURCE\"}, {\"SOURCE_TYPE\": \"UNBOUNDED\", \"SOURCE_NAME\": \"KAFKA_SOURCE\"}]"
+                        + "}]");
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> StreamConfig.parse(configuration));
+        assertEquals("SOURCE_HYBRID_SWITCH_TIME is not a valid ISO format timestamp.", exception.getMessage());
+    }
+
+    @Test
+    public void shouldThrowRuntimeExceptionIfHybridSwitchTimeIsNotAtTheStartOfAnHour() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_PARQUET_FILE_PATHS\": [\"gs://some-parquet-path\"],"
+                        + "\"SOURCE_KAFKA_TOPIC_NAMES\": \"test-topic\","
+                        + "\"SOURCE_HYBRID_SWITCH_TIME\": \"2022-02-13T14:30:00Z\","
+                        + "\"SOURCE_DETAILS\": "
+                        + "[{\"SOURCE_TYPE\": \"BOUNDED\", \"SOURCE_NAME\": \"PARQUET_SOURCE\"}, {\"SOURCE_TYPE\": \"UNBOUNDED\", \"SOURCE_NAME\": \"KAFKA_SOURCE\"}]"
+                        + "}]");
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> StreamConfig.parse(configuration));
+        assertEquals("SOURCE_HYBRID_SWITCH_TIME is set to 2022-02-13T14:30:00Z, but has to be at the start of an hour, "
+                + "as the Parquet files are read by their hour partitions.", exception.getMessage());
+    }
+
+    @Test
+    public void shouldParseSourceParallelism() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_KAFKA_TOPIC_NAMES\": \"test-topic\","
+                        + "\"INPUT_SCHEMA_TABLE\": \"data_stream\","
+                        + "\"SOURCE_PARALLELISM\": \"4\""
+                        + "}]");
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertEquals(Integer.valueOf(4), streamConfigs[0].getSourceParallelism());
+    }
+
+    @Test
+    public void shouldNotSetSourceParallelismByDefault() {
+        when(configuration.getString(INPUT_STREAMS, ""))
+                .thenReturn("[{\"SOURCE_KAFKA_TOPIC_NAMES\": \"test-topic\","
+                        + "\"INPUT_SCHEMA_TABLE\": \"data_stream\""
+                        + "}]");
+        StreamConfig[] streamConfigs = StreamConfig.parse(configuration);
+
+        assertNull(streamConfigs[0].getSourceParallelism());
+    }
 }
@@ -0,0 +1,117 @@
+package io.odpf.dagger.core.source.hybrid;
+
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.serde.DaggerDeserializer;
+import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
+import io.odpf.dagger.common.serde.proto.deserialization.ProtoDeserializer;
+import io.odpf.dagger.core.deserializer.HybridDeserializer;
+import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
+import io.odpf.dagger.core.source.config.StreamConfig;
+import io.odpf.dagger.core.source.config.models.SourceDetails;
+import io.odpf.dagger.core.source.config.models.SourceName;
+import io.odpf.dagger.core.source.config.models.SourceType;
+import io.odpf.depot.metrics.StatsDReporter;
+import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.connector.base.source.hybrid.HybridSource;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class HybridDaggerSourceTest {
+    @Mock
+    private Configuration configuration;
+
+    @Mock
+    private StreamConfig streamConfig;
+
+    @Mock
+    private HybridSource<Row> hybridSource;
+
+    @Mock
+    private WatermarkStrategy<Row> strategy;
+
+    @Mock
+    private StreamExecutionEnvironment streamExecutionEnvironment;
+
+    @Mock
+    private StatsDReporter statsDReporter;
+
+    private final SerializedStatsDReporterSupplier statsDReporterSupplierMock = () -> statsDReporter;
+
+    private DaggerDeserializer<Row> daggerDeserializer;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        daggerDeserializer = new HybridDeserializer(Mockito.mock(SimpleGroupDeserializer.class), Mockito.mock(ProtoDeserializer.class));
+    }
+
+    @Test
+    public void shouldBeAbleToBuildSourceIfSourceDetailsAreBoundedParquetThenUnboundedKafkaAndDaggerDeserializerIsHybridDeserializer() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED),
+                new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        HybridDaggerSource daggerSource = new HybridDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
+
+        assertTrue(daggerSource.canBuild());
+    }
+
+    @Test
+    public void shouldNotBeAbleToBuildSourceIfSourceDetailsContainsASingleSource() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
+        HybridDaggerSource daggerSource = new HybridDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
+
+        assertFalse(daggerSource.canBuild());
+    }
+
+    @Test
+    public void shouldNotBeAbleToBuildSourceIfKafkaSourceComesFirst() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED),
+                new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
+        HybridDaggerSource daggerSource = new HybridDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
+
+        assertFalse(daggerSource.canBuild());
+    }
+
+    @Test
+    public void shouldNotBeAbleToBuildSourceIfParquetSourceIsUnbounded() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.UNBOUNDED),
+                new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        HybridDaggerSource daggerSource = new HybridDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
+
+        assertFalse(daggerSource.canBuild());
+    }
+
+    @Test
+    public void shouldNotBeAbleToBuildSourceIfDeserializerTypeIsUnsupported() {
+        DaggerDeserializer<Row> unsupportedDeserializer = Mockito.mock(ProtoDeserializer.class);
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED),
+                new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        HybridDaggerSource daggerSource = new HybridDaggerSource(streamConfig, configuration, unsupportedDeserializer, statsDReporterSupplierMock);
+
+        assertFalse(daggerSource.canBuild());
+    }
+
+    @Test
+    public void shouldBeAbleToRegisterSourceWithExecutionEnvironmentForCorrectConfiguration() {
+        when(streamConfig.getSchemaTable()).thenReturn("data_stream_0");
+
+        HybridDaggerSource hybridDaggerSource = new HybridDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
+        HybridDaggerSource hybridDaggerSourceSpy = Mockito.spy(hybridDaggerSource);
+        doReturn(hybridSource).when(hybridDaggerSourceSpy).buildSource();
+
+        hybridDaggerSourceSpy.register(streamExecutionEnvironment, strategy);
+
+        verify(streamExecutionEnvironment, times(1)).fromSource(hybridSource, strategy, "data_stream_0");
+    }
+}
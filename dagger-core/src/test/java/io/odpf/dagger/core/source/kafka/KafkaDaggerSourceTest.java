@@ -4,6 +4,8 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
 import io.odpf.dagger.common.serde.proto.deserialization.ProtoDeserializer;
+import io.odpf.dagger.common.serde.json.deserialization.JsonDeserializer;
+import io.odpf.dagger.common.serde.proto.deserialization.StreamingProtoDeserializer;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
@@ -11,6 +13,7 @@ import io.odpf.dagger.core.source.config.StreamConfig;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.connector.kafka.source.KafkaSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
+import org.apache.flink.table.data.RowData;
 import org.apache.flink.types.Row;
 import org.junit.Before;
 import org.junit.Test;
@@ -105,4 +108,71 @@ public class KafkaDaggerSourceTest {
 
         verify(streamExecutionEnvironment, times(1)).fromSource(kafkaSource, strategy, "data_stream_0");
     }
+
+    @Test
+    public void shouldBeAbleToBuildRowDataSourceIfEnabledForStreamingProtoDeserializerSupportingRowData() {
+        StreamingProtoDeserializer streamingProtoDeserializer = Mockito.mock(StreamingProtoDeserializer.class);
+        when(streamingProtoDeserializer.canDeserializeRowData()).thenReturn(true);
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        when(configuration.getBoolean("SOURCE_KAFKA_ROW_DATA_ENABLE", false)).thenReturn(true);
+        KafkaDaggerSource daggerSource = new KafkaDaggerSource(streamConfig, configuration, streamingProtoDeserializer);
+
+        assertTrue(daggerSource.canBuildRowData());
+    }
+
+    @Test
+    public void shouldBeAbleToBuildRowDataSourceIfEnabledForJsonDeserializerSupportingRowData() {
+        JsonDeserializer jsonDeserializer = Mockito.mock(JsonDeserializer.class);
+        when(jsonDeserializer.canDeserializeRowData()).thenReturn(true);
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        when(configuration.getBoolean("SOURCE_KAFKA_ROW_DATA_ENABLE", false)).thenReturn(true);
+        KafkaDaggerSource daggerSource = new KafkaDaggerSource(streamConfig, configuration, jsonDeserializer);
+
+        assertTrue(daggerSource.canBuildRowData());
+    }
+
+    @Test
+    public void shouldNotBeAbleToBuildRowDataSourceIfNotEnabled() {
+        StreamingProtoDeserializer streamingProtoDeserializer = Mockito.mock(StreamingProtoDeserializer.class);
+        when(streamingProtoDeserializer.canDeserializeRowData()).thenReturn(true);
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        KafkaDaggerSource daggerSource = new KafkaDaggerSource(streamConfig, configuration, streamingProtoDeserializer);
+
+        assertFalse(daggerSource.canBuildRowData());
+    }
+
+    @Test
+    public void shouldNotBeAbleToBuildRowDataSourceIfRowDataIsUnsupportedByTheSchema() {
+        StreamingProtoDeserializer streamingProtoDeserializer = Mockito.mock(StreamingProtoDeserializer.class);
+        when(streamingProtoDeserializer.canDeserializeRowData()).thenReturn(false);
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        when(configuration.getBoolean("SOURCE_KAFKA_ROW_DATA_ENABLE", false)).thenReturn(true);
+        KafkaDaggerSource daggerSource = new KafkaDaggerSource(streamConfig, configuration, streamingProtoDeserializer);
+
+        assertFalse(daggerSource.canBuildRowData());
+    }
+
+    @Test
+    public void shouldNotBeAbleToBuildRowDataSourceForOtherDeserializers() {
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.KAFKA_SOURCE, SourceType.UNBOUNDED)});
+        when(configuration.getBoolean("SOURCE_KAFKA_ROW_DATA_ENABLE", false)).thenReturn(true);
+        KafkaDaggerSource daggerSource = new KafkaDaggerSource(streamConfig, configuration, daggerDeserializer);
+
+        assertFalse(daggerSource.canBuildRowData());
+    }
+
+    @Test
+    public void shouldBeAbleToRegisterRowDataSourceWithExecutionEnvironment() {
+        KafkaSource<RowData> rowDataKafkaSource = Mockito.mock(KafkaSource.class);
+        WatermarkStrategy<RowData> rowDataStrategy = Mockito.mock(WatermarkStrategy.class);
+        when(streamConfig.getSchemaTable()).thenReturn("data_stream_0");
+
+        KafkaDaggerSource kafkaDaggerSource = new KafkaDaggerSource(streamConfig, configuration, daggerDeserializer);
+        KafkaDaggerSource kafkaDaggerSourceSpy = Mockito.spy(kafkaDaggerSource);
+        doReturn(rowDataKafkaSource).when(kafkaDaggerSourceSpy).buildRowDataSource();
+
+        kafkaDaggerSourceSpy.registerRowData(streamExecutionEnvironment, rowDataStrategy);
+
+        verify(streamExecutionEnvironment, times(1)).fromSource(rowDataKafkaSource, rowDataStrategy, "data_stream_0");
+    }
 }
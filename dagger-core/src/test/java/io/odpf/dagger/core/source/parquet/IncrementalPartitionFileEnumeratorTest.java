@@ -0,0 +1,136 @@
+package io.odpf.dagger.core.source.parquet;
+
+import io.odpf.dagger.core.source.parquet.path.HourDatePathParser;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.core.fs.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IncrementalPartitionFileEnumeratorTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private IncrementalPartitionFileEnumerator fileEnumerator;
+
+    private Path[] sourcePaths;
+
+    @Before
+    public void setup() {
+        fileEnumerator = new IncrementalPartitionFileEnumerator(new HourDatePathParser(), Duration.ZERO);
+        sourcePaths = new Path[]{new Path(temporaryFolder.getRoot().toURI())};
+    }
+
+    @Test
+    public void shouldEnumerateASplitPerFileUnderTheSourcePaths() throws IOException {
+        createFile("booking-log/dt=2022-02-05/hr=00/file1.parquet");
+        createFile("booking-log/dt=2022-02-05/hr=01/file2.parquet");
+
+        Collection<FileSourceSplit> splits = fileEnumerator.enumerateSplits(sourcePaths, 1);
+
+        assertEquals(new HashSet<>(Arrays.asList("file1.parquet", "file2.parquet")), getFileNames(splits));
+        splits.forEach(split -> assertEquals(0, split.offset()));
+    }
+
+    @Test
+    public void shouldOnlyEnumerateTheFilesWhichWereNotEnumeratedBefore() throws IOException {
+        createFile("booking-log/dt=2022-02-05/hr=00/file1.parquet");
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        createFile("booking-log/dt=2022-02-05/hr=01/file2.parquet");
+
+        Collection<FileSourceSplit> splits = fileEnumerator.enumerateSplits(sourcePaths, 1);
+
+        assertEquals(new HashSet<>(Arrays.asList("file2.parquet")), getFileNames(splits));
+        assertTrue(fileEnumerator.enumerateSplits(sourcePaths, 1).isEmpty());
+    }
+
+    @Test
+    public void shouldKeepEnumeratingNewFilesInTheLatestPartition() throws IOException {
+        createFile("booking-log/dt=2022-02-05/hr=00/file1.parquet");
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        createFile("booking-log/dt=2022-02-05/hr=00/file2.parquet");
+
+        Collection<FileSourceSplit> splits = fileEnumerator.enumerateSplits(sourcePaths, 1);
+
+        assertEquals(new HashSet<>(Arrays.asList("file2.parquet")), getFileNames(splits));
+    }
+
+    @Test
+    public void shouldNotListPartitionsAgainOnceALaterPartitionWasSeenBeforeTheirLastListing() throws IOException {
+        createFile("booking-log/dt=2022-02-05/hr=00/file1.parquet");
+        createFile("booking-log/dt=2022-02-05/hr=01/file2.parquet");
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        createFile("booking-log/dt=2022-02-05/hr=00/file3.parquet");
+        createFile("booking-log/dt=2022-02-05/hr=01/file4.parquet");
+
+        Collection<FileSourceSplit> splits = fileEnumerator.enumerateSplits(sourcePaths, 1);
+
+        assertEquals(new HashSet<>(Arrays.asList("file4.parquet")), getFileNames(splits));
+    }
+
+    @Test
+    public void shouldKeepListingCompletedPartitionsForTheGracePeriod() throws IOException {
+        fileEnumerator = new IncrementalPartitionFileEnumerator(new HourDatePathParser(), Duration.ofHours(1));
+        createFile("booking-log/dt=2022-02-05/hr=00/file1.parquet");
+        createFile("booking-log/dt=2022-02-05/hr=01/file2.parquet");
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        createFile("booking-log/dt=2022-02-05/hr=00/file3.parquet");
+
+        Collection<FileSourceSplit> splits = fileEnumerator.enumerateSplits(sourcePaths, 1);
+
+        assertEquals(new HashSet<>(Arrays.asList("file3.parquet")), getFileNames(splits));
+    }
+
+    @Test
+    public void shouldNotListPartitionsAgainOnceTheGracePeriodAfterTheirEndHasPassed() throws IOException {
+        fileEnumerator = new IncrementalPartitionFileEnumerator(new HourDatePathParser(), Duration.ofHours(1));
+        createFile("booking-log/dt=2022-02-05/hr=00/file1.parquet");
+        createFile("booking-log/dt=2022-02-05/hr=02/file2.parquet");
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        createFile("booking-log/dt=2022-02-05/hr=00/file3.parquet");
+
+        Collection<FileSourceSplit> splits = fileEnumerator.enumerateSplits(sourcePaths, 1);
+
+        assertTrue(splits.isEmpty());
+    }
+
+    @Test
+    public void shouldListFilesInDirectoriesWhichAreNotPartitionsOnEveryCall() throws IOException {
+        createFile("booking-log/file1.parquet");
+        fileEnumerator.enumerateSplits(sourcePaths, 1);
+        createFile("booking-log/file2.parquet");
+
+        Collection<FileSourceSplit> splits = fileEnumerator.enumerateSplits(sourcePaths, 1);
+
+        assertEquals(new HashSet<>(Arrays.asList("file2.parquet")), getFileNames(splits));
+    }
+
+    private void createFile(String relativePath) throws IOException {
+        File file = new File(temporaryFolder.getRoot(), relativePath);
+        assertTrue(file.getParentFile().mkdirs() || file.getParentFile().isDirectory());
+        assertTrue(file.createNewFile());
+    }
+
+    private Set<String> getFileNames(Collection<FileSourceSplit> splits) {
+        return splits.stream()
+                .map(split -> split.path().getName())
+                .collect(Collectors.toSet());
+    }
+}
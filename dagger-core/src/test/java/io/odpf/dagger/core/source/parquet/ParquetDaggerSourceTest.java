@@ -5,27 +5,33 @@ import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupp
 import io.odpf.dagger.common.serde.DaggerDeserializer;
 import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
 import io.odpf.dagger.common.serde.proto.deserialization.ProtoDeserializer;
-import io.odpf.dagger.core.exception.DaggerConfigurationException;
 import io.odpf.dagger.core.source.config.StreamConfig;
 import io.odpf.dagger.core.source.config.models.SourceDetails;
 import io.odpf.dagger.core.source.config.models.SourceName;
 import io.odpf.dagger.core.source.config.models.SourceType;
+import io.odpf.dagger.core.source.parquet.splitassigner.IndexOrderedSplitAssigner;
 import io.odpf.depot.metrics.StatsDReporter;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
+import org.apache.flink.api.connector.source.Source;
 import org.apache.flink.connector.file.src.FileSource;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.types.Row;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 
+import java.util.Collections;
+
 import static io.odpf.dagger.core.source.parquet.SourceParquetReadOrderStrategy.EARLIEST_INDEX_FIRST;
 import static io.odpf.dagger.core.source.parquet.SourceParquetReadOrderStrategy.EARLIEST_TIME_URL_FIRST;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_KEY;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -89,11 +95,11 @@ public class ParquetDaggerSourceTest {
     }
 
     @Test
-    public void shouldNotBeAbleToBuildSourceIfSourceTypeIsUnsupported() {
+    public void shouldBeAbleToBuildSourceIfSourceTypeIsUnbounded() {
         when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.UNBOUNDED)});
         ParquetDaggerSource daggerSource = new ParquetDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
 
-        assertFalse(daggerSource.canBuild());
+        assertTrue(daggerSource.canBuild());
     }
 
     @Test
@@ -121,6 +127,7 @@ public class ParquetDaggerSourceTest {
     public void shouldUseStreamConfigurationToBuildTheFileSource() {
         /* the below call mocks ensure that the function calls are indeed made to build the source and the code compiles */
         when(streamConfig.getSchemaTable()).thenReturn("data_stream_0");
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
         when(streamConfig.getParquetFilesReadOrderStrategy()).thenReturn(EARLIEST_TIME_URL_FIRST);
         when(streamConfig.getParquetFilePaths()).thenReturn(new String[]{"gs://sshsh", "gs://shadd"});
 
@@ -130,14 +137,32 @@ public class ParquetDaggerSourceTest {
     }
 
     @Test
-    public void shouldThrowRuntimeExceptionAndReportErrorIfReadOrderStrategyIsNotSupported() {
+    public void shouldUseStreamConfigurationToBuildTheFileSourceWithEarliestIndexFirstReadOrderStrategy() {
+        when(streamConfig.getSchemaTable()).thenReturn("data_stream_0");
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.BOUNDED)});
         when(streamConfig.getParquetFilesReadOrderStrategy()).thenReturn(EARLIEST_INDEX_FIRST);
         when(streamConfig.getParquetFilePaths()).thenReturn(new String[]{"gs://sshsh", "gs://shadd"});
+        ArgumentCaptor<Source> sourceCaptor = ArgumentCaptor.forClass(Source.class);
 
         ParquetDaggerSource daggerSource = new ParquetDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
 
-        assertThrows(DaggerConfigurationException.class, () -> daggerSource.register(streamExecutionEnvironment, strategy));
-        verify(statsDReporter, times(1))
-                .captureCount("fatal.exception", 1L, "fatal_exception_type=" + DaggerConfigurationException.class.getName());
+        daggerSource.register(streamExecutionEnvironment, strategy);
+
+        verify(streamExecutionEnvironment, times(1)).fromSource(sourceCaptor.capture(), eq(strategy), eq("data_stream_0"));
+        FileSource<Row> builtSource = (FileSource<Row>) sourceCaptor.getValue();
+        assertTrue(builtSource.getAssignerFactory().create(Collections.emptyList()) instanceof IndexOrderedSplitAssigner);
+    }
+
+    @Test
+    public void shouldUseStreamConfigurationToBuildTheFileSourceInUnboundedMode() {
+        when(streamConfig.getSchemaTable()).thenReturn("data_stream_0");
+        when(streamConfig.getSourceDetails()).thenReturn(new SourceDetails[]{new SourceDetails(SourceName.PARQUET_SOURCE, SourceType.UNBOUNDED)});
+        when(streamConfig.getParquetFilesReadOrderStrategy()).thenReturn(EARLIEST_TIME_URL_FIRST);
+        when(streamConfig.getParquetFilePaths()).thenReturn(new String[]{"gs://sshsh", "gs://shadd"});
+        when(configuration.getLong(SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_KEY, SOURCE_PARQUET_DISCOVERY_INTERVAL_SECONDS_DEFAULT)).thenReturn(60L);
+
+        ParquetDaggerSource daggerSource = new ParquetDaggerSource(streamConfig, configuration, daggerDeserializer, statsDReporterSupplierMock);
+
+        daggerSource.register(streamExecutionEnvironment, strategy);
     }
 }
@@ -112,7 +112,29 @@ public class ParquetFileRecordFormatTest {
     }
 
     @Test
-    public void shouldThrowUnsupportedOperationExceptionAndReportErrorWhenRestoreReaderIsCalled() {
+    public void shouldRestoreReaderFromTheOffsetThroughTheReaderProvider() {
+        ReaderProvider restorableReaderProvider = new ReaderProvider() {
+            @Override
+            public FileRecordFormat.Reader<Row> getReader(String filePath) {
+                return null;
+            }
+
+            @Override
+            public FileRecordFormat.Reader<Row> getRestoredReader(String filePath, long restoredOffset, long splitOffset, long splitLength) {
+                return restoredOffset == 12 && splitOffset == 0 && splitLength == 1024 ? parquetReader : null;
+            }
+        };
+        ParquetFileRecordFormat parquetFileRecordFormat = ParquetFileRecordFormat.Builder.getInstance()
+                .setTypeInformationProvider(typeInformationProviderMock)
+                .setParquetFileReaderProvider(restorableReaderProvider)
+                .setStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build();
+
+        assertEquals(parquetReader, parquetFileRecordFormat.restoreReader(configuration, new Path("gs://some-path"), 12, 0, 1024));
+    }
+
+    @Test
+    public void shouldThrowUnsupportedOperationExceptionAndReportErrorWhenReaderProviderCanNotRestoreReaders() {
         ParquetFileRecordFormat.Builder builder = ParquetFileRecordFormat.Builder.getInstance();
         ParquetFileRecordFormat parquetFileRecordFormat = builder.setTypeInformationProvider(typeInformationProviderMock)
                 .setParquetFileReaderProvider(readerProviderMock)
@@ -122,7 +144,7 @@ public class ParquetFileRecordFormatTest {
         UnsupportedOperationException ex = assertThrows(UnsupportedOperationException.class,
                 () -> parquetFileRecordFormat.restoreReader(configuration, new Path("gs://some-path"), 12, 0, 1024));
 
-        assertEquals("Error: ParquetReader do not have offsets and hence cannot be restored via this method.", ex.getMessage());
+        assertEquals("Error: the reader provider has no offsets and hence cannot restore readers from offset 12", ex.getMessage());
         verify(statsDReporter, times(1))
                 .captureCount("fatal.exception", 1L, "fatal_exception_type=" + UnsupportedOperationException.class.getName());
     }
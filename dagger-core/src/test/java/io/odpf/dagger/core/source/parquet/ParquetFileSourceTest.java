@@ -15,6 +15,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 
+import java.time.Duration;
+
 import static java.util.Collections.emptyList;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.times;
@@ -62,7 +64,7 @@ public class ParquetFileSourceTest {
     }
 
     @Test
-    public void shouldThrowExceptionAndReportErrorIfSourceTypeConfiguredAsUnbounded() {
+    public void shouldThrowExceptionAndReportErrorIfSourceTypeConfiguredAsUnboundedWithoutDiscoveryInterval() {
         Builder builder = Builder.getInstance();
         Path[] filePaths = new Path[]{new Path("gs://aadadc"), new Path("gs://sjsjhd")};
 
@@ -75,11 +77,29 @@ public class ParquetFileSourceTest {
                         .setFilePaths(filePaths)
                         .build());
 
-        assertEquals("Running Parquet FileSource in UNBOUNDED mode is not supported yet", ex.getMessage());
+        assertEquals("A positive discovery interval is required for running Parquet FileSource in UNBOUNDED mode", ex.getMessage());
         verify(statsDReporter, times(1))
                 .captureCount("fatal.exception", 1L, "fatal_exception_type=" + IllegalArgumentException.class.getName());
     }
 
+    @Test
+    public void shouldBuildParquetFileSourceInUnboundedModeWithDiscoveryInterval() {
+        Builder builder = Builder.getInstance();
+        Path[] filePaths = new Path[]{new Path("gs://aadadc"), new Path("gs://sjsjhd")};
+        ParquetFileSource parquetFileSource = builder.setConfiguration(configuration)
+                .setFileRecordFormat(fileRecordFormat)
+                .setSourceType(SourceType.UNBOUNDED)
+                .setDiscoveryInterval(Duration.ofMinutes(1))
+                .setFileEnumerator(() -> new IncrementalPartitionFileEnumerator(new HourDatePathParser()))
+                .setStatsDReporterSupplier(statsDReporterSupplierMock)
+                .setFilePaths(filePaths)
+                .build();
+
+        assertEquals(SourceType.UNBOUNDED, parquetFileSource.getSourceType());
+        assertEquals(Duration.ofMinutes(1), parquetFileSource.getDiscoveryInterval());
+        parquetFileSource.buildFileSource();
+    }
+
     @Test
     public void shouldThrowExceptionAndReportErrorIfFileRecordFormatIsNotSet() {
         Builder builder = Builder.getInstance();
@@ -142,6 +162,7 @@ public class ParquetFileSourceTest {
                 .build();
 
         assertTrue(parquetFileSource.getFileSplitAssigner().create(emptyList()) instanceof LocalityAwareSplitAssigner);
+        assertNull(parquetFileSource.getFileEnumerator());
         assertEquals(SourceType.BOUNDED, parquetFileSource.getSourceType());
     }
 
@@ -162,4 +183,20 @@ public class ParquetFileSourceTest {
 
         parquetFileSource.buildFileSource();
     }
+
+    @Test
+    public void shouldReturnAFileSourceEnumeratingFilesWithTheConfiguredFileEnumerator() {
+        Builder builder = Builder.getInstance();
+        Path[] filePaths = new Path[]{new Path("gs://aadadc"), new Path("gs://sjsjhd")};
+        ParquetFileSource parquetFileSource = builder.setConfiguration(configuration)
+                .setFileRecordFormat(fileRecordFormat)
+                .setSourceType(SourceType.BOUNDED)
+                .setFileEnumerator(() -> new ParquetRowGroupFileEnumerator(1024))
+                .setStatsDReporterSupplier(statsDReporterSupplierMock)
+                .setFilePaths(filePaths)
+                .build();
+
+        assertTrue(parquetFileSource.getFileEnumerator().create() instanceof ParquetRowGroupFileEnumerator);
+        parquetFileSource.buildFileSource();
+    }
 }
@@ -0,0 +1,126 @@
+package io.odpf.dagger.core.source.parquet;
+
+import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
+import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
+import io.odpf.dagger.core.source.parquet.reader.ParquetReader;
+import io.odpf.depot.metrics.StatsDReporter;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.types.Row;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.apache.parquet.schema.Types.buildMessage;
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class ParquetRowGroupFileEnumeratorTest {
+    @Rule
+    public TemporaryFolder tempFolder = TemporaryFolder.builder().assureDeletion().build();
+
+    @Mock
+    private SimpleGroupDeserializer deserializer;
+
+    @Mock
+    private StatsDReporter statsDReporter;
+
+    private final SerializedStatsDReporterSupplier statsDReporterSupplierMock = () -> statsDReporter;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(deserializer.deserialize(any(SimpleGroup.class))).thenReturn(Row.of("some value"));
+    }
+
+    @Test
+    public void shouldCreateASplitPerRowGroupCoveringTheWholeFile() throws IOException {
+        File file = writeOrderNumbersFile(1000);
+
+        List<FileSourceSplit> splits = new ArrayList<>(new ParquetRowGroupFileEnumerator(1)
+                .enumerateSplits(new Path[]{new Path(file.toURI())}, 1));
+
+        assertEquals(countRowGroups(file), splits.size());
+        assertTrue(splits.size() > 1);
+        assertEquals(0, splits.get(0).offset());
+        for (int i = 1; i < splits.size(); i++) {
+            assertEquals(splits.get(i - 1).offset() + splits.get(i - 1).length(), splits.get(i).offset());
+        }
+        FileSourceSplit lastSplit = splits.get(splits.size() - 1);
+        assertEquals(file.length(), lastSplit.offset() + lastSplit.length());
+    }
+
+    @Test
+    public void shouldCreateASingleSplitWhenTheFileIsSmallerThanTheTargetSize() throws IOException {
+        File file = writeOrderNumbersFile(1000);
+
+        List<FileSourceSplit> splits = new ArrayList<>(new ParquetRowGroupFileEnumerator(Long.MAX_VALUE)
+                .enumerateSplits(new Path[]{new Path(file.toURI())}, 1));
+
+        assertEquals(1, splits.size());
+        assertEquals(0, splits.get(0).offset());
+        assertEquals(file.length(), splits.get(0).length());
+    }
+
+    @Test
+    public void shouldReadEveryRowExactlyOnceAcrossTheSplits() throws IOException {
+        File file = writeOrderNumbersFile(1000);
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(deserializer, statsDReporterSupplierMock);
+
+        int rowCount = 0;
+        for (FileSourceSplit split : new ParquetRowGroupFileEnumerator(1).enumerateSplits(new Path[]{new Path(file.toURI())}, 1)) {
+            ParquetReader reader = provider.getReader(file.getPath(), split.offset(), split.length());
+            while (reader.read() != null) {
+                rowCount++;
+            }
+            reader.close();
+        }
+
+        assertEquals(1000, rowCount);
+    }
+
+    private int countRowGroups(File file) throws IOException {
+        org.apache.hadoop.conf.Configuration conf = new org.apache.hadoop.conf.Configuration();
+        try (ParquetFileReader parquetFileReader = ParquetFileReader.open(HadoopInputFile.fromPath(new org.apache.hadoop.fs.Path(file.getPath()), conf))) {
+            return parquetFileReader.getFooter().getBlocks().size();
+        }
+    }
+
+    private File writeOrderNumbersFile(int rowCount) throws IOException {
+        MessageType schema = buildMessage()
+                .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("order_number")
+                .named("TestBookingLogKey");
+
+        File file = new File(tempFolder.getRoot(), "order_numbers.parquet");
+        try (ParquetWriter<Group> writer = ExampleParquetWriter
+                .builder(new org.apache.hadoop.fs.Path(file.getPath()))
+                .withType(schema)
+                .withRowGroupSize(1)
+                .build()) {
+            for (int i = 0; i < rowCount; i++) {
+                SimpleGroup group = new SimpleGroup(schema);
+                group.add("order_number", "order-" + i);
+                writer.write(group);
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,79 @@
+package io.odpf.dagger.core.source.parquet.pruning;
+
+import com.google.protobuf.Descriptors;
+import io.odpf.dagger.consumer.TestBookingLogMessage;
+import io.odpf.dagger.core.source.config.models.TimeRange;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RowGroupFilterFactoryTest {
+    private final Descriptors.FieldDescriptor timestampField = TestBookingLogMessage.getDescriptor().findFieldByName("event_timestamp");
+
+    @Test
+    public void shouldNotFilterWithoutTimeRangesAndPredicates() {
+        RowGroupFilterFactory rowGroupFilterFactory = new RowGroupFilterFactory(null, Collections.emptyList());
+
+        assertEquals(FilterCompat.NOOP, rowGroupFilterFactory.createFilter(timestampField));
+        assertEquals(FilterCompat.NOOP, rowGroupFilterFactory.createFilter(null));
+    }
+
+    @Test
+    public void shouldFilterOnMillisAndSecondsLayoutOfTheTimestamp() {
+        TimeRangePool timeRangePool = new TimeRangePool();
+        timeRangePool.add(new TimeRange(Instant.parse("2022-02-05T00:00:00Z"), Instant.parse("2022-02-05T10:59:59Z")));
+
+        FilterPredicate predicate = getPredicate(new RowGroupFilterFactory(timeRangePool, Collections.emptyList()));
+
+        assertEquals("or(and(gteq(event_timestamp, 1644019200000), lteq(event_timestamp, 1644058799999)), "
+                + "and(gteq(event_timestamp.seconds, 1644019200), lteq(event_timestamp.seconds, 1644058799)))", predicate.toString());
+    }
+
+    @Test
+    public void shouldKeepNullsWhenTheDefaultValueSatisfiesThePredicate() {
+        RowGroupFilterFactory rowGroupFilterFactory = new RowGroupFilterFactory(null, Arrays.asList(
+                new ColumnPredicate("cancel_reason_id", ColumnPredicate.Operator.LT, 5L),
+                new ColumnPredicate("customer_total_fare_without_surge", ColumnPredicate.Operator.GT, 100L)));
+
+        FilterPredicate predicate = getPredicate(rowGroupFilterFactory);
+
+        assertEquals("and(or(lt(cancel_reason_id, 5), eq(cancel_reason_id, null)), gt(customer_total_fare_without_surge, 100))", predicate.toString());
+    }
+
+    @Test
+    public void shouldSkipPredicatesOnUnknownColumnsOrWithMismatchingLiterals() {
+        RowGroupFilterFactory rowGroupFilterFactory = new RowGroupFilterFactory(null, Arrays.asList(
+                new ColumnPredicate("unknown_column", ColumnPredicate.Operator.EQ, 1L),
+                new ColumnPredicate("order_number", ColumnPredicate.Operator.EQ, 1L),
+                new ColumnPredicate("cancel_reason_id", ColumnPredicate.Operator.EQ, "1"),
+                new ColumnPredicate("service_type", ColumnPredicate.Operator.EQ, "GO_RIDE")));
+
+        assertEquals(FilterCompat.NOOP, rowGroupFilterFactory.createFilter(timestampField));
+    }
+
+    @Test
+    public void shouldFilterOnStringColumns() {
+        RowGroupFilterFactory rowGroupFilterFactory = new RowGroupFilterFactory(null,
+                Collections.singletonList(new ColumnPredicate("order_number", ColumnPredicate.Operator.EQ, "order-1")));
+
+        FilterPredicate predicate = getPredicate(rowGroupFilterFactory);
+
+        assertTrue(predicate.toString().startsWith("eq(order_number, "));
+        assertFalse(predicate.toString().contains("null"));
+    }
+
+    private FilterPredicate getPredicate(RowGroupFilterFactory rowGroupFilterFactory) {
+        FilterCompat.Filter filter = rowGroupFilterFactory.createFilter(timestampField);
+        assertTrue(filter instanceof FilterCompat.FilterPredicateCompat);
+        return ((FilterCompat.FilterPredicateCompat) filter).getFilterPredicate();
+    }
+}
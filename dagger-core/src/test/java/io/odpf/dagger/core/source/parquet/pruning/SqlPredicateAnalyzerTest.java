@@ -0,0 +1,81 @@
+package io.odpf.dagger.core.source.parquet.pruning;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.GsonBuilder;
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.core.processors.PreProcessorConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_KEY;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class SqlPredicateAnalyzerTest {
+    @Mock
+    private Configuration configuration;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+    }
+
+    @Test
+    public void shouldExtractColumnComparisonsOfTheWhereClause() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT))
+                .thenReturn("SELECT order_number, COUNT(1) AS cnt FROM `data_stream` WHERE `service_type` = 'GO_RIDE' AND cancel_reason_id >= -5 "
+                        + "AND UPPER(customer_id) = 'X' AND amount_paid_by_cash > 1.5 GROUP BY order_number, TUMBLE(rowtime, INTERVAL '60' SECOND)");
+
+        List<ColumnPredicate> predicates = new SqlPredicateAnalyzer(configuration, null).getPredicates("data_stream");
+
+        assertEquals(2, predicates.size());
+        assertEquals("service_type", predicates.get(0).getColumnName());
+        assertEquals(ColumnPredicate.Operator.EQ, predicates.get(0).getOperator());
+        assertEquals("GO_RIDE", predicates.get(0).getLiteral());
+        assertEquals("cancel_reason_id", predicates.get(1).getColumnName());
+        assertEquals(ColumnPredicate.Operator.GT_EQ, predicates.get(1).getOperator());
+        assertEquals(-5L, predicates.get(1).getLiteral());
+    }
+
+    @Test
+    public void shouldNotExtractPredicatesFromQueriesWhichAreNotSimpleConjunctions() {
+        String[] queries = {
+                "SELECT order_number FROM data_stream WHERE service_type = 'GO_RIDE' AND cancel_reason_id = 1 OR cancel_reason_id = 2",
+                "SELECT order_number FROM data_stream d JOIN other_stream o ON d.id = o.id WHERE cancel_reason_id = 1",
+                "SELECT order_number FROM data_stream WHERE cancel_reason_id = (SELECT MAX(id) FROM other_stream)",
+                "SELECT order_number FROM data_stream d WHERE cancel_reason_id = 1",
+                "SELECT order_number FROM other_stream WHERE cancel_reason_id = 1",
+                "SELECT order_number FROM data_stream"
+        };
+
+        for (String query : queries) {
+            when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn(query);
+            assertTrue(query, new SqlPredicateAnalyzer(configuration, null).getPredicates("data_stream").isEmpty());
+        }
+    }
+
+    @Test
+    public void shouldIgnoreKeywordsInsideStringLiterals() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT order_number FROM data_stream WHERE order_url = 'select or from'");
+
+        List<ColumnPredicate> predicates = new SqlPredicateAnalyzer(configuration, null).getPredicates("data_stream");
+
+        assertEquals(1, predicates.size());
+        assertEquals("select or from", predicates.get(0).getLiteral());
+    }
+
+    @Test
+    public void shouldNotExtractPredicatesForTablesWithTransformers() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT order_number FROM data_stream WHERE cancel_reason_id = 1");
+        PreProcessorConfig preProcessorConfig = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES).create().fromJson("{\"table_transformers\": [{\"table_name\": \"data_stream\", "
+                + "\"transformers\": [{\"transformation_class\": \"io.odpf.dagger.functions.transformers.InvalidRecordFilterTransformer\"}]}]}", PreProcessorConfig.class);
+
+        assertTrue(new SqlPredicateAnalyzer(configuration, preProcessorConfig).getPredicates("data_stream").isEmpty());
+    }
+}
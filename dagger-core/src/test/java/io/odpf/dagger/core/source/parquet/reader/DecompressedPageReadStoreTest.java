@@ -0,0 +1,133 @@
+package io.odpf.dagger.core.source.parquet.reader;
+
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DataPage;
+import org.apache.parquet.column.page.DataPageV1;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.io.ParquetDecodingException;
+import org.apache.parquet.schema.MessageType;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class DecompressedPageReadStoreTest {
+    @Mock
+    private PageReadStore pageReadStore;
+
+    @Mock
+    private PageReader pageReader;
+
+    private MessageType requestedSchema;
+    private ColumnDescriptor column;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        requestedSchema = org.apache.parquet.schema.Types.buildMessage()
+                .required(INT32).named("cancel_reason_id")
+                .named("TestBookingLogMessage");
+        column = requestedSchema.getColumns().get(0);
+        when(pageReadStore.getPageReader(column)).thenReturn(pageReader);
+        when(pageReadStore.getRowCount()).thenReturn(2L);
+        when(pageReader.getTotalValueCount()).thenReturn(2L);
+    }
+
+    @Test
+    public void shouldReadTheBytesOfEveryPageOfTheRequestedColumns() throws IOException {
+        ByteArrayInputStream firstPageStream = new ByteArrayInputStream(new byte[]{1, 2});
+        ByteArrayInputStream secondPageStream = new ByteArrayInputStream(new byte[]{3, 4});
+        when(pageReader.readPage()).thenReturn(dataPage(firstPageStream), dataPage(secondPageStream), null);
+
+        DecompressedPageReadStore decompressedPages = DecompressedPageReadStore.decompress(pageReadStore, requestedSchema);
+
+        assertEquals(0, firstPageStream.available());
+        assertEquals(0, secondPageStream.available());
+        PageReader decompressedPageReader = decompressedPages.getPageReader(column);
+        assertArrayEquals(new byte[]{1, 2}, ((DataPageV1) decompressedPageReader.readPage()).getBytes().toByteArray());
+        assertArrayEquals(new byte[]{3, 4}, ((DataPageV1) decompressedPageReader.readPage()).getBytes().toByteArray());
+        assertNull(decompressedPageReader.readPage());
+    }
+
+    @Test
+    public void shouldReadTheDictionaryPageOfTheRequestedColumns() throws IOException {
+        ByteArrayInputStream dictionaryPageStream = new ByteArrayInputStream(new byte[]{5, 6});
+        when(pageReader.readDictionaryPage()).thenReturn(new DictionaryPage(BytesInput.from(dictionaryPageStream, 2), 1, Encoding.PLAIN));
+
+        DecompressedPageReadStore decompressedPages = DecompressedPageReadStore.decompress(pageReadStore, requestedSchema);
+
+        assertEquals(0, dictionaryPageStream.available());
+        DictionaryPage dictionaryPage = decompressedPages.getPageReader(column).readDictionaryPage();
+        assertArrayEquals(new byte[]{5, 6}, dictionaryPage.getBytes().toByteArray());
+        assertEquals(1, dictionaryPage.getDictionarySize());
+    }
+
+    @Test
+    public void shouldKeepTheRowAndValueCounts() throws IOException {
+        DecompressedPageReadStore decompressedPages = DecompressedPageReadStore.decompress(pageReadStore, requestedSchema);
+
+        assertEquals(2L, decompressedPages.getRowCount());
+        assertEquals(2L, decompressedPages.getPageReader(column).getTotalValueCount());
+    }
+
+    @Test
+    public void shouldKeepTheIndexesOfTheRowsLeftByColumnIndexFiltering() throws IOException {
+        when(pageReadStore.getRowIndexes()).thenAnswer(invocation -> Optional.of(LongStream.of(3L, 4L).iterator()));
+
+        DecompressedPageReadStore decompressedPages = DecompressedPageReadStore.decompress(pageReadStore, requestedSchema);
+
+        assertArrayEquals(new long[]{3L, 4L}, toArray(decompressedPages.getRowIndexes().get()));
+        assertArrayEquals(new long[]{3L, 4L}, toArray(decompressedPages.getRowIndexes().get()));
+    }
+
+    @Test
+    public void shouldNotHaveRowIndexesIfTheRowGroupWasNotFiltered() throws IOException {
+        when(pageReadStore.getRowIndexes()).thenReturn(Optional.empty());
+
+        DecompressedPageReadStore decompressedPages = DecompressedPageReadStore.decompress(pageReadStore, requestedSchema);
+
+        assertFalse(decompressedPages.getRowIndexes().isPresent());
+    }
+
+    @Test
+    public void shouldThrowIfAColumnWhichWasNotRequestedIsRead() throws IOException {
+        ColumnDescriptor otherColumn = org.apache.parquet.schema.Types.buildMessage()
+                .required(INT64).named("customer_id")
+                .named("TestBookingLogMessage")
+                .getColumns().get(0);
+
+        DecompressedPageReadStore decompressedPages = DecompressedPageReadStore.decompress(pageReadStore, requestedSchema);
+
+        assertThrows(ParquetDecodingException.class, () -> decompressedPages.getPageReader(otherColumn));
+    }
+
+    private long[] toArray(PrimitiveIterator.OfLong rowIndexes) {
+        LongStream.Builder rowIndexArray = LongStream.builder();
+        rowIndexes.forEachRemaining((LongConsumer) rowIndexArray::add);
+        return rowIndexArray.build().toArray();
+    }
+
+    private DataPage dataPage(ByteArrayInputStream stream) {
+        return new DataPageV1(BytesInput.from(stream, 2), 1, 2, null, Encoding.PLAIN, Encoding.PLAIN, Encoding.PLAIN);
+    }
+}
@@ -0,0 +1,124 @@
+package io.odpf.dagger.core.source.parquet.reader;
+
+import org.apache.parquet.io.SeekableInputStream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class MappedLocalInputFileTest {
+    @Rule
+    public TemporaryFolder tempFolder = TemporaryFolder.builder().assureDeletion().build();
+
+    private File writeFile(byte[] content) throws IOException {
+        File file = tempFolder.newFile("mapped_file");
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    @Test
+    public void shouldReturnTheLengthOfTheFile() throws IOException {
+        MappedLocalInputFile inputFile = new MappedLocalInputFile(writeFile(new byte[]{1, 2, 3, 4, 5}));
+
+        assertEquals(5, inputFile.getLength());
+    }
+
+    @Test
+    public void shouldReadBytesFromTheSeekedPosition() throws IOException {
+        MappedLocalInputFile inputFile = new MappedLocalInputFile(writeFile(new byte[]{1, 2, 3, 4, 5}));
+        byte[] bytes = new byte[2];
+
+        try (SeekableInputStream stream = inputFile.newStream()) {
+            stream.seek(2);
+            stream.readFully(bytes);
+
+            assertArrayEquals(new byte[]{3, 4}, bytes);
+            assertEquals(4, stream.getPos());
+            assertEquals(5, stream.read());
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void shouldReadIntoByteBuffersUpToTheEndOfTheFile() throws IOException {
+        MappedLocalInputFile inputFile = new MappedLocalInputFile(writeFile(new byte[]{1, 2, 3, 4, 5}));
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        try (SeekableInputStream stream = inputFile.newStream()) {
+            stream.seek(1);
+
+            assertEquals(4, stream.read(buffer));
+            assertEquals(-1, stream.read(buffer));
+        }
+        buffer.flip();
+        assertEquals(ByteBuffer.wrap(new byte[]{2, 3, 4, 5}), buffer);
+    }
+
+    @Test
+    public void shouldThrowEOFExceptionWhenReadingFullyPastTheEndOfTheFile() throws IOException {
+        MappedLocalInputFile inputFile = new MappedLocalInputFile(writeFile(new byte[]{1, 2, 3, 4, 5}));
+
+        try (SeekableInputStream stream = inputFile.newStream()) {
+            stream.seek(3);
+
+            assertThrows(EOFException.class, () -> stream.readFully(ByteBuffer.allocate(3)));
+            assertThrows(EOFException.class, () -> stream.seek(6));
+        }
+    }
+
+    @Test
+    public void shouldThrowIOExceptionWhenReadingAClosedStream() throws IOException {
+        SeekableInputStream stream = new MappedLocalInputFile(writeFile(new byte[]{1, 2, 3})).newStream();
+
+        stream.close();
+
+        assertThrows(IOException.class, stream::read);
+    }
+
+    @Test
+    public void shouldShareTheMappingOfTheFileBetweenItsOpenStreams() throws IOException {
+        MappedLocalInputFile inputFile = new MappedLocalInputFile(writeFile(new byte[]{1, 2, 3}));
+        SeekableInputStream firstStream = inputFile.newStream();
+        SeekableInputStream secondStream = inputFile.newStream();
+
+        firstStream.close();
+
+        assertTrue(inputFile.isMapped());
+        secondStream.seek(2);
+        assertEquals(3, secondStream.read());
+        secondStream.close();
+    }
+
+    @Test
+    public void shouldUnmapTheFileWhenItsLastStreamIsClosed() throws IOException {
+        MappedLocalInputFile inputFile = new MappedLocalInputFile(writeFile(new byte[]{1, 2, 3}));
+        SeekableInputStream firstStream = inputFile.newStream();
+        SeekableInputStream secondStream = inputFile.newStream();
+
+        firstStream.close();
+        firstStream.close();
+        assertTrue(inputFile.isMapped());
+        secondStream.close();
+
+        assertFalse(inputFile.isMapped());
+    }
+
+    @Test
+    public void shouldMapTheFileAgainForStreamsOpenedAfterItWasUnmapped() throws IOException {
+        MappedLocalInputFile inputFile = new MappedLocalInputFile(writeFile(new byte[]{1, 2, 3}));
+        inputFile.newStream().close();
+
+        try (SeekableInputStream stream = inputFile.newStream()) {
+            assertTrue(inputFile.isMapped());
+            assertEquals(1, stream.read());
+        }
+        assertFalse(inputFile.isMapped());
+    }
+}
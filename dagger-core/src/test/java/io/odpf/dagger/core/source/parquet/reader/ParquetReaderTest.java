@@ -1,17 +1,28 @@
 package io.odpf.dagger.core.source.parquet.reader;
 
 
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.StencilClientOrchestrator;
 import io.odpf.dagger.common.exceptions.serde.DaggerDeserializationException;
+import io.odpf.dagger.common.serde.FieldProjection;
+import io.odpf.dagger.consumer.TestBookingLogKey;
 import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
 import io.odpf.dagger.common.serde.parquet.deserialization.SimpleGroupDeserializer;
 import io.odpf.dagger.core.exception.ParquetFileSourceReaderInitializationException;
+import io.odpf.dagger.core.source.config.models.TimeRange;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import io.odpf.dagger.core.source.parquet.pruning.ColumnPredicate;
+import io.odpf.dagger.core.source.parquet.pruning.RowGroupFilterFactory;
 import io.odpf.depot.metrics.StatsDReporter;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.flink.connector.file.src.util.CheckpointedPosition;
 import org.apache.flink.types.Row;
 import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
 import org.apache.parquet.schema.GroupType;
 import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -22,14 +33,30 @@ import org.mockito.Mockito;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import static io.odpf.dagger.common.core.Constants.*;
+
+import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_BATCH_DECODE_TIME;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_CLOSED;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_CREATED;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROWS_EMITTED;
+import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROW_GROUPS_PRUNED;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROW_DESERIALIZATION_TIME;
 import static io.odpf.dagger.core.metrics.aspects.ParquetReaderAspects.READER_ROW_READ_TIME;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_COLUMNAR_READ_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_COLUMNAR_READ_ENABLE_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_PREFETCH_MAX_BYTES_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_PREFETCH_MAX_BYTES_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_PREFETCH_ROW_GROUPS_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_PREFETCH_ROW_GROUPS_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_READ_BATCH_SIZE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_PARQUET_READ_BATCH_SIZE_KEY;
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.BINARY;
+import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT32;
 import static org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName.INT64;
 import static org.apache.parquet.schema.Types.*;
 import static org.junit.Assert.*;
@@ -49,11 +76,18 @@ public class ParquetReaderTest {
     @Mock
     private StatsDReporter statsDReporter;
 
+    @Mock
+    private Configuration configuration;
+
     private final SerializedStatsDReporterSupplier statsDReporterSupplierMock = () -> statsDReporter;
 
     @Before
     public void setup() {
         initMocks(this);
+        when(configuration.getBoolean(SCHEMA_REGISTRY_STENCIL_ENABLE_KEY, SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_ENABLE_DEFAULT);
+        when(configuration.getString(SCHEMA_REGISTRY_STENCIL_URLS_KEY, SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT)).thenReturn(SCHEMA_REGISTRY_STENCIL_URLS_DEFAULT);
+        when(configuration.getBoolean(SOURCE_PARQUET_COLUMNAR_READ_ENABLE_KEY, SOURCE_PARQUET_COLUMNAR_READ_ENABLE_DEFAULT)).thenReturn(true);
+        when(configuration.getInteger(SOURCE_PARQUET_READ_BATCH_SIZE_KEY, SOURCE_PARQUET_READ_BATCH_SIZE_DEFAULT)).thenReturn(2);
     }
 
     @Test
@@ -229,20 +263,20 @@ public class ParquetReaderTest {
     }
 
     @Test
-    public void shouldUpdateCheckPointedPositionWithNoOffsetAndCountOfTotalRecordsReadYet() throws IOException {
+    public void shouldUpdateCheckPointedPositionWithRowGroupIndexAndCountOfRecordsReadFromTheRowGroup() throws IOException {
         ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(deserializer, statsDReporterSupplierMock);
         ClassLoader classLoader = getClass().getClassLoader();
         ParquetReader reader = provider.getReader(classLoader.getResource("test_file.parquet").getPath());
 
         reader.read();
-        assertEquals(new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, 1), reader.getCheckpointedPosition());
+        assertEquals(new CheckpointedPosition(0, 1), reader.getCheckpointedPosition());
 
         reader.read();
-        assertEquals(new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, 2), reader.getCheckpointedPosition());
+        assertEquals(new CheckpointedPosition(0, 2), reader.getCheckpointedPosition());
     }
 
     @Test
-    public void shouldNotUpdateCheckPointedPositionWhenNoMoreRecordsToRead() throws IOException {
+    public void shouldCheckpointStartOfNextRowGroupWhenRowGroupIsFullyRead() throws IOException {
         ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(deserializer, statsDReporterSupplierMock);
         ClassLoader classLoader = getClass().getClassLoader();
         ParquetReader reader = provider.getReader(classLoader.getResource("test_file.parquet").getPath());
@@ -253,11 +287,261 @@ public class ParquetReaderTest {
         /* This 4th call to read will return null as there are only 3 rows in test_file.parquet */
         reader.read();
 
-        CheckpointedPosition expectedCheckpointedPosition = new CheckpointedPosition(CheckpointedPosition.NO_OFFSET, 3);
+        CheckpointedPosition expectedCheckpointedPosition = new CheckpointedPosition(1, 0);
 
         assertEquals(expectedCheckpointedPosition, reader.getCheckpointedPosition());
     }
 
+    @Test
+    public void shouldSeekToTheCheckpointedRowGroupWhenRestored() throws IOException {
+        String filePath = writeOrderNumbersFile(1000);
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getName(), 5, "rowtime", new StencilClientOrchestrator(configuration));
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration);
+
+        ParquetReader reader = provider.getReader(filePath);
+        for (int i = 0; i < 750; i++) {
+            reader.read();
+        }
+        CheckpointedPosition checkpointedPosition = reader.getCheckpointedPosition();
+        List<Row> expectedRows = readAllRows(reader);
+
+        ParquetReader restoredReader = provider.getRestoredReader(filePath, checkpointedPosition.getOffset(), 0, new File(filePath).length());
+        assertEquals(new CheckpointedPosition(checkpointedPosition.getOffset(), 0), restoredReader.getCheckpointedPosition());
+        for (long i = 0; i < checkpointedPosition.getRecordsAfterOffset(); i++) {
+            restoredReader.read();
+        }
+
+        assertTrue(checkpointedPosition.getOffset() > 0);
+        assertEquals(250, expectedRows.size());
+        assertEquals(expectedRows, readAllRows(restoredReader));
+    }
+
+    @Test
+    public void shouldDecodeSameRowsColumnByColumnAsRecordByRecord() throws IOException {
+        String filePath = writeBookingLogKeyFile();
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getName(), 5, "rowtime", new StencilClientOrchestrator(configuration));
+
+        List<Row> expectedRows = readAllRows(new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock).getReader(filePath));
+        List<Row> actualRows = readAllRows(new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration).getReader(filePath));
+
+        assertEquals(3, actualRows.size());
+        assertEquals(expectedRows, actualRows);
+        assertEquals("GO_RIDE", actualRows.get(0).getField(0));
+        assertEquals("UNKNOWN", actualRows.get(1).getField(0));
+        assertEquals("", actualRows.get(1).getField(2));
+        assertEquals(Row.of(0L, 0), actualRows.get(2).getField(4));
+        verify(statsDReporter, Mockito.times(2)).captureHistogram(Mockito.eq(READER_BATCH_DECODE_TIME.getValue()), Mockito.anyLong(), Mockito.eq("component=parquet_reader"));
+    }
+
+    @Test
+    public void shouldOnlyReadColumnsOfProjectedFieldsAndTimestampField() throws IOException {
+        String filePath = writeBookingLogKeyFile();
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getName(), 5, "rowtime",
+                new StencilClientOrchestrator(configuration), FieldProjection.of(Collections.singletonList("order_number")));
+
+        List<Row> recordByRecordRows = readAllRows(new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock).getReader(filePath));
+        List<Row> columnarRows = readAllRows(new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration).getReader(filePath));
+
+        assertEquals(3, columnarRows.size());
+        assertEquals(recordByRecordRows, columnarRows);
+        assertNull(columnarRows.get(0).getField(0));
+        assertEquals("order-1", columnarRows.get(0).getField(1));
+        assertNull(columnarRows.get(0).getField(2));
+        assertEquals(Row.of(1650000000L, 5), columnarRows.get(0).getField(4));
+    }
+
+    @Test
+    public void shouldReadRecordByRecordWhenDeserializerCanNotDecodeColumns() throws IOException {
+        when(deserializer.deserialize(any(SimpleGroup.class))).thenReturn(Row.of("some value"));
+        ParquetReader.ParquetReaderProvider provider = new ParquetReader.ParquetReaderProvider(deserializer, statsDReporterSupplierMock, configuration);
+        ClassLoader classLoader = getClass().getClassLoader();
+        ParquetReader reader = provider.getReader(classLoader.getResource("test_file.parquet").getPath());
+
+        assertEquals(Row.of("some value"), reader.read());
+        verify(deserializer, times(1)).deserialize(any(SimpleGroup.class));
+    }
+
+    @Test
+    public void shouldSkipRowGroupsOutsideTheTimeRange() throws IOException {
+        String filePath = writeBookingLogKeyFile();
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getName(), 5, "rowtime", new StencilClientOrchestrator(configuration));
+        TimeRangePool laterTimeRange = new TimeRangePool();
+        laterTimeRange.add(new TimeRange(Instant.parse("2022-04-16T00:00:00Z"), Instant.parse("2022-04-16T23:59:59Z")));
+        TimeRangePool matchingTimeRange = new TimeRangePool();
+        matchingTimeRange.add(new TimeRange(Instant.parse("2022-04-15T00:00:00Z"), Instant.parse("2022-04-15T23:59:59Z")));
+
+        ParquetReader prunedReader = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration,
+                new RowGroupFilterFactory(laterTimeRange, Collections.emptyList())).getReader(filePath);
+        ParquetReader matchingReader = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration,
+                new RowGroupFilterFactory(matchingTimeRange, Collections.emptyList())).getReader(filePath);
+
+        assertNull(prunedReader.read());
+        verify(statsDReporter, Mockito.times(1)).captureCount(READER_ROW_GROUPS_PRUNED.getValue(), 1L, "component=parquet_reader");
+        assertEquals(3, readAllRows(matchingReader).size());
+    }
+
+    @Test
+    public void shouldSkipRowGroupsWhichCanNotMatchTheQueryPredicates() throws IOException {
+        String filePath = writeBookingLogKeyFile();
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getName(), 5, "rowtime", new StencilClientOrchestrator(configuration));
+
+        ParquetReader prunedReader = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration,
+                new RowGroupFilterFactory(null, Collections.singletonList(new ColumnPredicate("order_number", ColumnPredicate.Operator.GT, "order-3"))))
+                .getReader(filePath);
+        ParquetReader matchingReader = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration,
+                new RowGroupFilterFactory(null, Collections.singletonList(new ColumnPredicate("order_number", ColumnPredicate.Operator.EQ, "order-2"))))
+                .getReader(filePath);
+
+        assertNull(prunedReader.read());
+        assertEquals(3, readAllRows(matchingReader).size());
+    }
+
+    @Test
+    public void shouldSkipPagesWhichCanNotMatchTheQueryPredicates() throws IOException {
+        String filePath = writeSortedOrderNumbersFile(1000);
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getName(), 5, "rowtime", new StencilClientOrchestrator(configuration));
+        RowGroupFilterFactory rowGroupFilterFactory = new RowGroupFilterFactory(null,
+                Collections.singletonList(new ColumnPredicate("order_number", ColumnPredicate.Operator.EQ, "order-00500")));
+
+        List<Row> rows = readAllRows(new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration,
+                rowGroupFilterFactory).getReader(filePath));
+        when(configuration.getInteger(SOURCE_PARQUET_PREFETCH_ROW_GROUPS_KEY, SOURCE_PARQUET_PREFETCH_ROW_GROUPS_DEFAULT)).thenReturn(2);
+        List<Row> prefetchedRows = readAllRows(new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration,
+                rowGroupFilterFactory).getReader(filePath));
+
+        assertEquals(100, rows.size());
+        assertEquals("order-00500", rows.get(0).getField(1));
+        assertEquals("order-00599", rows.get(99).getField(1));
+        assertEquals(rows, prefetchedRows);
+    }
+
+    @Test
+    public void shouldSkipRowGroupsWhosePagesCanNotMatchTheQueryPredicates() throws IOException {
+        String filePath = writeSortedOrderNumbersFile(1000);
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getName(), 5, "rowtime", new StencilClientOrchestrator(configuration));
+        /* falls between the last value of a page and the first value of the next one, within the statistics of the row group */
+        RowGroupFilterFactory rowGroupFilterFactory = new RowGroupFilterFactory(null,
+                Collections.singletonList(new ColumnPredicate("order_number", ColumnPredicate.Operator.EQ, "order-00499z")));
+        ParquetReader reader = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration,
+                rowGroupFilterFactory).getReader(filePath);
+
+        assertNull(reader.read());
+        verify(statsDReporter, Mockito.times(1)).captureCount(READER_ROW_GROUPS_PRUNED.getValue(), 1L, "component=parquet_reader");
+    }
+
+    @Test
+    public void shouldReadSameRowsWhenRowGroupsArePrefetched() throws IOException {
+        String filePath = writeOrderNumbersFile(1000);
+        SimpleGroupDeserializer simpleGroupDeserializer = new SimpleGroupDeserializer(TestBookingLogKey.class.getName(), 5, "rowtime", new StencilClientOrchestrator(configuration));
+        List<Row> expectedRows = readAllRows(new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration).getReader(filePath));
+        when(configuration.getInteger(SOURCE_PARQUET_PREFETCH_ROW_GROUPS_KEY, SOURCE_PARQUET_PREFETCH_ROW_GROUPS_DEFAULT)).thenReturn(2);
+        when(configuration.getLong(SOURCE_PARQUET_PREFETCH_MAX_BYTES_KEY, SOURCE_PARQUET_PREFETCH_MAX_BYTES_DEFAULT)).thenReturn(1L);
+        ParquetReader.ParquetReaderProvider prefetchingProvider = new ParquetReader.ParquetReaderProvider(simpleGroupDeserializer, statsDReporterSupplierMock, configuration);
+
+        ParquetReader reader = prefetchingProvider.getReader(filePath);
+        for (int i = 0; i < 750; i++) {
+            reader.read();
+        }
+        CheckpointedPosition checkpointedPosition = reader.getCheckpointedPosition();
+        reader.close();
+        ParquetReader restoredReader = prefetchingProvider.getRestoredReader(filePath, checkpointedPosition.getOffset(), 0, new File(filePath).length());
+        for (long i = 0; i < checkpointedPosition.getRecordsAfterOffset(); i++) {
+            restoredReader.read();
+        }
+
+        assertEquals(expectedRows, readAllRows(prefetchingProvider.getReader(filePath)));
+        assertEquals(expectedRows.subList(750, 1000), readAllRows(restoredReader));
+    }
+
+    private List<Row> readAllRows(ParquetReader reader) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        for (Row row = reader.read(); row != null; row = reader.read()) {
+            rows.add(row);
+        }
+        reader.close();
+        return rows;
+    }
+
+    private String writeBookingLogKeyFile() throws IOException {
+        MessageType schema = buildMessage()
+                .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("service_type")
+                .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("order_number")
+                .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("order_url")
+                .optionalGroup()
+                .optional(INT64).named("seconds")
+                .optional(INT32).named("nanos")
+                .named("event_timestamp")
+                .named("TestBookingLogKey");
+
+        SimpleGroup group1 = new SimpleGroup(schema);
+        group1.add("service_type", "GO_RIDE");
+        group1.add("order_number", "order-1");
+        group1.add("order_url", "url-1");
+        group1.addGroup("event_timestamp").append("seconds", 1650000000L).append("nanos", 5);
+
+        SimpleGroup group2 = new SimpleGroup(schema);
+        group2.add("service_type", "NOT_A_SERVICE_TYPE");
+        group2.add("order_number", "order-2");
+        group2.addGroup("event_timestamp").append("seconds", 1650000060L);
+
+        SimpleGroup group3 = new SimpleGroup(schema);
+        group3.add("order_number", "order-3");
+
+        File file = new File(tempFolder.getRoot(), "booking_log_key.parquet");
+        try (ParquetWriter<org.apache.parquet.example.data.Group> writer = ExampleParquetWriter
+                .builder(new org.apache.hadoop.fs.Path(file.getPath()))
+                .withType(schema)
+                .build()) {
+            writer.write(group1);
+            writer.write(group2);
+            writer.write(group3);
+        }
+        return file.getPath();
+    }
+
+    private String writeOrderNumbersFile(int rowCount) throws IOException {
+        MessageType schema = buildMessage()
+                .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("order_number")
+                .named("TestBookingLogKey");
+
+        File file = new File(tempFolder.getRoot(), "order_numbers.parquet");
+        /* the smallest row group size flushes a row group at every memory check, which happens every 100 rows at first */
+        try (ParquetWriter<org.apache.parquet.example.data.Group> writer = ExampleParquetWriter
+                .builder(new org.apache.hadoop.fs.Path(file.getPath()))
+                .withType(schema)
+                .withRowGroupSize(1)
+                .build()) {
+            for (int i = 0; i < rowCount; i++) {
+                SimpleGroup group = new SimpleGroup(schema);
+                group.add("order_number", "order-" + i);
+                writer.write(group);
+            }
+        }
+        return file.getPath();
+    }
+
+    private String writeSortedOrderNumbersFile(int rowCount) throws IOException {
+        MessageType schema = buildMessage()
+                .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("order_number")
+                .named("TestBookingLogKey");
+
+        File file = new File(tempFolder.getRoot(), "sorted_order_numbers.parquet");
+        /* a single row group of pages of 100 rows, without a dictionary which would rule out missing values on its own */
+        try (ParquetWriter<org.apache.parquet.example.data.Group> writer = ExampleParquetWriter
+                .builder(new org.apache.hadoop.fs.Path(file.getPath()))
+                .withType(schema)
+                .withDictionaryEncoding(false)
+                .withPageRowCountLimit(100)
+                .build()) {
+            for (int i = 0; i < rowCount; i++) {
+                SimpleGroup group = new SimpleGroup(schema);
+                group.add("order_number", String.format("order-%05d", i));
+                writer.write(group);
+            }
+        }
+        return file.getPath();
+    }
+
     private SimpleGroup[] getSimpleGroups() {
         GroupType expectedSchema = buildMessage()
                 .optional(BINARY).as(LogicalTypeAnnotation.stringType()).named("name")
@@ -312,6 +312,28 @@ public class ChronologyOrderedSplitAssignerTest {
         verify(statsDReporter, times(1)).gauge(SPLITS_AWAITING_ASSIGNMENT.getValue(), 1, "component=split_assigner");
     }
 
+    @Test
+    public void shouldReturnSplitsOfTheSameFileInFileOrder() {
+        Path filePath = new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=00/hd6a7gad");
+        FileSourceSplit firstSplit = new FileSourceSplit("1", filePath, 0, 1024);
+        FileSourceSplit secondSplit = new FileSourceSplit("2", filePath, 1024, 1024);
+        FileSourceSplit thirdSplit = new FileSourceSplit("3", filePath, 2048, 512);
+        FileSourceSplit laterSplit = new FileSourceSplit("4", new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=01/sa6advgad7"), 0, 1024);
+        List<FileSourceSplit> inputSplits = Arrays.asList(laterSplit, thirdSplit, firstSplit, secondSplit);
+        FileSourceSplit[] expectedOrdering = new FileSourceSplit[]{firstSplit, secondSplit, thirdSplit, laterSplit};
+
+        ChronologyOrderedSplitAssigner splitAssigner = new ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder()
+                .addPathParser(new HourDatePathParser())
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(inputSplits);
+
+        for (int i = 0; i < 4; i++) {
+            Optional<FileSourceSplit> split = splitAssigner.getNext(null);
+            assertTrue(split.isPresent());
+            assertEquals("AssertionError when testing for file split number " + (i + 1), expectedOrdering[i], split.get());
+        }
+    }
+
     @Test
     public void shouldRaiseErrorMetricsWhenFilePathValidationFailed() {
         FileSourceSplit split = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/dt=2019-130-12/shs6s5sdg"), 0, 1024);
@@ -0,0 +1,184 @@
+package io.odpf.dagger.core.source.parquet.splitassigner;
+
+import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
+import io.odpf.dagger.core.source.parquet.path.HourDatePathParser;
+import io.odpf.depot.metrics.StatsDReporter;
+import org.apache.flink.api.connector.source.ReaderInfo;
+import org.apache.flink.api.connector.source.SplitEnumeratorContext;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.PendingSplitsCheckpoint;
+import org.apache.flink.core.fs.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class EventTimeAlignedSplitEnumeratorTest {
+
+    @Mock
+    private StatsDReporter statsDReporter;
+
+    @Mock
+    private SplitEnumeratorContext<FileSourceSplit> context;
+
+    private final SerializedStatsDReporterSupplier statsDReporterSupplierMock = () -> statsDReporter;
+
+    private final FileSourceSplit firstHourSplit = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/dt=2022-02-05/hr=00/hd6a7gad"), 0, 1024);
+    private final FileSourceSplit secondHourSplit = new FileSourceSplit("2", new Path("gs://my-bucket/bid-log/dt=2022-02-05/hr=01/sa6advgad7"), 0, 1024);
+    private final FileSourceSplit fourthHourSplit = new FileSourceSplit("3", new Path("gs://my-bucket/bid-log/dt=2022-02-05/hr=03/aga6adgad"), 0, 1024);
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        Map<Integer, ReaderInfo> registeredReaders = new HashMap<>();
+        registeredReaders.put(0, new ReaderInfo(0, "host-0"));
+        registeredReaders.put(1, new ReaderInfo(1, "host-1"));
+        when(context.registeredReaders()).thenReturn(registeredReaders);
+        when(context.currentParallelism()).thenReturn(2);
+    }
+
+    @Test
+    public void shouldAssignSplitsWithinTheMaximumLagOfTheSplitsInProgress() {
+        EventTimeAlignedSplitEnumerator enumerator = createEnumerator(Duration.ofHours(1), firstHourSplit, secondHourSplit, fourthHourSplit);
+
+        enumerator.handleSplitRequest(0, "host-0");
+        enumerator.handleSplitRequest(1, "host-1");
+
+        verify(context).assignSplit(firstHourSplit, 0);
+        verify(context).assignSplit(secondHourSplit, 1);
+    }
+
+    @Test
+    public void shouldHoldBackSplitFromReaderTooFarAheadUntilTheSlowestSplitIsFinished() {
+        EventTimeAlignedSplitEnumerator enumerator = createEnumerator(Duration.ofHours(1), firstHourSplit, secondHourSplit, fourthHourSplit);
+
+        enumerator.handleSplitRequest(0, "host-0");
+        enumerator.handleSplitRequest(1, "host-1");
+        enumerator.handleSplitRequest(1, "host-1");
+
+        verify(context, never()).assignSplit(fourthHourSplit, 1);
+
+        enumerator.handleSplitRequest(0, "host-0");
+
+        verify(context).assignSplit(fourthHourSplit, 1);
+        verify(context, never()).signalNoMoreSplits(1);
+    }
+
+    @Test
+    public void shouldSignalNoMoreSplitsToReadersOnceAllSplitsAreAssigned() {
+        EventTimeAlignedSplitEnumerator enumerator = createEnumerator(Duration.ofHours(1), firstHourSplit);
+
+        enumerator.handleSplitRequest(0, "host-0");
+        enumerator.handleSplitRequest(1, "host-1");
+
+        verify(context).assignSplit(firstHourSplit, 0);
+        verify(context).signalNoMoreSplits(1);
+    }
+
+    @Test
+    public void shouldNotAssignSplitsToReadersWhichAreNotRegistered() {
+        EventTimeAlignedSplitEnumerator enumerator = createEnumerator(Duration.ofHours(1), firstHourSplit);
+
+        enumerator.handleSplitRequest(2, "host-2");
+
+        verify(context, never()).assignSplit(any(FileSourceSplit.class), anyInt());
+        verify(context, never()).signalNoMoreSplits(anyInt());
+    }
+
+    @Test
+    public void shouldReassignSplitsAddedBack() {
+        EventTimeAlignedSplitEnumerator enumerator = createEnumerator(Duration.ofHours(4), firstHourSplit, fourthHourSplit);
+
+        enumerator.handleSplitRequest(0, "host-0");
+        enumerator.handleSplitRequest(1, "host-1");
+        enumerator.addSplitsBack(Collections.singletonList(firstHourSplit), 0);
+        enumerator.handleSplitRequest(0, "host-0");
+
+        verify(context).assignSplit(fourthHourSplit, 1);
+        verify(context).assignSplit(firstHourSplit, 0);
+    }
+
+    @Test
+    public void shouldSnapshotTheSplitsNotAssignedYet() {
+        EventTimeAlignedSplitEnumerator enumerator = createEnumerator(Duration.ofHours(1), firstHourSplit, secondHourSplit, fourthHourSplit);
+
+        enumerator.handleSplitRequest(0, "host-0");
+        EventTimeAlignedSplitsCheckpoint checkpoint = enumerator.snapshotState(1L);
+
+        assertEquals(2, checkpoint.getPendingSplits().getSplits().size());
+        assertTrue(checkpoint.getPendingSplits().getSplits().containsAll(Arrays.asList(secondHourSplit, fourthHourSplit)));
+    }
+
+    @Test
+    public void shouldSnapshotTheInstantsOfTheSplitsInProgress() {
+        EventTimeAlignedSplitEnumerator enumerator = createEnumerator(Duration.ofHours(1), firstHourSplit, secondHourSplit, fourthHourSplit);
+
+        enumerator.handleSplitRequest(0, "host-0");
+        enumerator.handleSplitRequest(1, "host-1");
+        enumerator.handleSplitRequest(1, "host-1");
+        EventTimeAlignedSplitsCheckpoint checkpoint = enumerator.snapshotState(1L);
+
+        assertEquals(Collections.singletonMap(0, Instant.parse("2022-02-05T00:00:00Z")), checkpoint.getInProgressSplitInstants());
+    }
+
+    @Test
+    public void shouldKeepReadersAlignedToTheSplitsInProgressWhenRestored() {
+        EventTimeAlignedSplitEnumerator enumerator = createEnumerator(Duration.ofHours(1), firstHourSplit, secondHourSplit, fourthHourSplit);
+        enumerator.handleSplitRequest(0, "host-0");
+        enumerator.handleSplitRequest(1, "host-1");
+        EventTimeAlignedSplitsCheckpoint checkpoint = enumerator.snapshotState(1L);
+
+        EventTimeAlignedSplitEnumerator restoredEnumerator = restoreEnumerator(Duration.ofHours(1), checkpoint);
+        restoredEnumerator.handleSplitRequest(1, "host-1");
+
+        verify(context, never()).assignSplit(fourthHourSplit, 1);
+
+        restoredEnumerator.handleSplitRequest(0, "host-0");
+
+        verify(context).assignSplit(fourthHourSplit, 1);
+    }
+
+    @Test
+    public void shouldDropTheSplitsInProgressOfSubtasksBeyondTheRestoredParallelism() {
+        Map<Integer, Instant> inProgressSplitInstants = Collections.singletonMap(2, Instant.parse("2022-02-05T00:00:00Z"));
+        EventTimeAlignedSplitsCheckpoint checkpoint = new EventTimeAlignedSplitsCheckpoint(
+                PendingSplitsCheckpoint.fromCollectionSnapshot(Collections.singletonList(fourthHourSplit)), inProgressSplitInstants);
+
+        EventTimeAlignedSplitEnumerator restoredEnumerator = restoreEnumerator(Duration.ofHours(1), checkpoint);
+        restoredEnumerator.handleSplitRequest(1, "host-1");
+
+        verify(context).assignSplit(fourthHourSplit, 1);
+    }
+
+    private EventTimeAlignedSplitEnumerator createEnumerator(Duration maxLag, FileSourceSplit... splits) {
+        return new EventTimeAlignedSplitEnumerator(context, buildSplitAssigner(Arrays.asList(splits)), maxLag, statsDReporterSupplierMock);
+    }
+
+    private EventTimeAlignedSplitEnumerator restoreEnumerator(Duration maxLag, EventTimeAlignedSplitsCheckpoint checkpoint) {
+        return new EventTimeAlignedSplitEnumerator(context, buildSplitAssigner(checkpoint.getPendingSplits().getSplits()), maxLag,
+                statsDReporterSupplierMock, checkpoint.getInProgressSplitInstants());
+    }
+
+    private ChronologyOrderedSplitAssigner buildSplitAssigner(Collection<FileSourceSplit> splits) {
+        return new ChronologyOrderedSplitAssigner.ChronologyOrderedSplitAssignerBuilder()
+                .addPathParser(new HourDatePathParser())
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(splits);
+    }
+}
@@ -0,0 +1,50 @@
+package io.odpf.dagger.core.source.parquet.splitassigner;
+
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.connector.file.src.FileSourceSplitSerializer;
+import org.apache.flink.connector.file.src.PendingSplitsCheckpoint;
+import org.apache.flink.connector.file.src.PendingSplitsCheckpointSerializer;
+import org.apache.flink.core.fs.Path;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+public class EventTimeAlignedSplitsCheckpointSerializerTest {
+
+    private final EventTimeAlignedSplitsCheckpointSerializer serializer =
+            new EventTimeAlignedSplitsCheckpointSerializer(new PendingSplitsCheckpointSerializer<>(FileSourceSplitSerializer.INSTANCE));
+
+    @Test
+    public void shouldSerializeThePendingSplitsAndTheInstantsOfTheSplitsInProgress() throws IOException {
+        FileSourceSplit split = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/dt=2022-02-05/hr=03/aga6adgad"), 0, 1024);
+        Map<Integer, Instant> inProgressSplitInstants = new HashMap<>();
+        inProgressSplitInstants.put(0, Instant.parse("2022-02-05T00:00:00Z"));
+        inProgressSplitInstants.put(1, Instant.parse("2022-02-05T01:00:00.5Z"));
+        EventTimeAlignedSplitsCheckpoint checkpoint = new EventTimeAlignedSplitsCheckpoint(
+                PendingSplitsCheckpoint.fromCollectionSnapshot(Collections.singletonList(split)), inProgressSplitInstants);
+
+        EventTimeAlignedSplitsCheckpoint deserializedCheckpoint = serializer.deserialize(serializer.getVersion(), serializer.serialize(checkpoint));
+
+        assertEquals(Collections.singletonList(split.path()), pathsOf(deserializedCheckpoint));
+        assertEquals(inProgressSplitInstants, deserializedCheckpoint.getInProgressSplitInstants());
+    }
+
+    @Test
+    public void shouldThrowIfTheVersionIsNotRecognized() {
+        assertThrows(IOException.class, () -> serializer.deserialize(serializer.getVersion() + 1, new byte[0]));
+    }
+
+    private ArrayList<Path> pathsOf(EventTimeAlignedSplitsCheckpoint checkpoint) {
+        ArrayList<Path> paths = new ArrayList<>();
+        checkpoint.getPendingSplits().getSplits().forEach(split -> paths.add(split.path()));
+        return paths;
+    }
+}
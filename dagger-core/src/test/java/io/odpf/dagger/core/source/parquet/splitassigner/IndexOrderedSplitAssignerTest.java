@@ -0,0 +1,160 @@
+package io.odpf.dagger.core.source.parquet.splitassigner;
+
+import io.odpf.dagger.core.exception.PathParserNotProvidedException;
+import io.odpf.dagger.core.metrics.reporters.statsd.SerializedStatsDReporterSupplier;
+import io.odpf.dagger.core.source.config.models.TimeRange;
+import io.odpf.dagger.core.source.config.models.TimeRangePool;
+import io.odpf.dagger.core.source.parquet.path.HourDatePathParser;
+import io.odpf.depot.metrics.StatsDReporter;
+import org.apache.flink.connector.file.src.FileSourceSplit;
+import org.apache.flink.core.fs.Path;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.MEGABYTES_AWAITING_ASSIGNMENT;
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.SPLITS_AWAITING_ASSIGNMENT;
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.TOTAL_SPLITS_DISCOVERED;
+import static io.odpf.dagger.core.metrics.aspects.IndexOrderedSplitAssignerAspects.TOTAL_SPLITS_RECORDED;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class IndexOrderedSplitAssignerTest {
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    @Mock
+    private StatsDReporter statsDReporter;
+
+    private final SerializedStatsDReporterSupplier statsDReporterSupplierMock = () -> statsDReporter;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+    }
+
+    @Test
+    public void shouldReturnLargestSplitsFirst() {
+        FileSourceSplit smallSplit = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/dt=2019-10-12/asdghsdhasd"), 0, 1024);
+        FileSourceSplit largeSplit = new FileSourceSplit("2", new Path("gs://my-bucket/bid-log/dt=2020-02-29/ga6agad6ad"), 0, 8192);
+        FileSourceSplit mediumSplit = new FileSourceSplit("3", new Path("gs://my-bucket/bid-log/dt=2020-11-30/hd7ahadh7agd"), 0, 4096);
+        FileSourceSplit[] expectedOrdering = new FileSourceSplit[]{largeSplit, mediumSplit, smallSplit};
+
+        IndexOrderedSplitAssigner splitAssigner = new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(Arrays.asList(smallSplit, largeSplit, mediumSplit));
+
+        for (int i = 0; i < 3; i++) {
+            Optional<FileSourceSplit> split = splitAssigner.getNext(null);
+            assertTrue(split.isPresent());
+            assertEquals("AssertionError when testing for file split number " + (i + 1), expectedOrdering[i], split.get());
+        }
+        assertFalse(splitAssigner.getNext(null).isPresent());
+    }
+
+    @Test
+    public void shouldReturnSplitsOfTheSameSizeInPathAndOffsetOrder() {
+        FileSourceSplit firstSplit = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/a"), 0, 1024);
+        FileSourceSplit secondSplit = new FileSourceSplit("2", new Path("gs://my-bucket/bid-log/a"), 1024, 1024);
+        FileSourceSplit thirdSplit = new FileSourceSplit("3", new Path("gs://my-bucket/bid-log/b"), 0, 1024);
+
+        IndexOrderedSplitAssigner splitAssigner = new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(Arrays.asList(thirdSplit, secondSplit, firstSplit));
+
+        assertEquals(firstSplit, splitAssigner.getNext(null).get());
+        assertEquals(secondSplit, splitAssigner.getNext(null).get());
+        assertEquals(thirdSplit, splitAssigner.getNext(null).get());
+    }
+
+    @Test
+    public void shouldNotParseFilePathsWhenTimeRangesAreNotConfigured() {
+        FileSourceSplit split = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/part-0000.parquet"), 0, 1024);
+
+        IndexOrderedSplitAssigner splitAssigner = new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                .addPathParser(new HourDatePathParser())
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(Collections.singletonList(split));
+
+        assertEquals(split, splitAssigner.getNext(null).get());
+    }
+
+    @Test
+    public void shouldSkipSplitsOfFilesOutsideTheTimeRanges() {
+        FileSourceSplit firstSplit = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=00/hd6a7gad"), 0, 1024);
+        FileSourceSplit secondSplit = new FileSourceSplit("2", new Path("gs://my-bucket/bid-log/dt=2019-10-12/hr=08/sa6advgad7"), 0, 2048);
+        TimeRangePool timeRangePool = new TimeRangePool();
+        timeRangePool.add(new TimeRange(Instant.parse("2019-10-12T00:00:00Z"), Instant.parse("2019-10-12T04:00:00Z")));
+
+        IndexOrderedSplitAssigner splitAssigner = new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                .addPathParser(new HourDatePathParser())
+                .addTimeRanges(timeRangePool)
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(Arrays.asList(firstSplit, secondSplit));
+
+        assertEquals(Collections.singletonList(firstSplit), splitAssigner.remainingSplits());
+    }
+
+    @Test
+    public void shouldThrowIllegalArgumentExceptionWhenFilePathCannotBeParsedForTimeRanges() {
+        FileSourceSplit split = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/part-0000.parquet"), 0, 1024);
+        TimeRangePool timeRangePool = new TimeRangePool();
+        timeRangePool.add(new TimeRange(Instant.parse("2019-10-12T00:00:00Z"), Instant.parse("2019-10-12T04:00:00Z")));
+        IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder splitAssignerBuilder = new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                .addPathParser(new HourDatePathParser())
+                .addTimeRanges(timeRangePool)
+                .addStatsDReporterSupplier(statsDReporterSupplierMock);
+
+        assertThrows(IllegalArgumentException.class, () -> splitAssignerBuilder.build(Collections.singletonList(split)));
+    }
+
+    @Test
+    public void shouldThrowExceptionWhenTimeRangesAreConfiguredWithoutPathParser() {
+        TimeRangePool timeRangePool = new TimeRangePool();
+        timeRangePool.add(new TimeRange(Instant.parse("2019-10-12T00:00:00Z"), Instant.parse("2019-10-12T04:00:00Z")));
+        IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder splitAssignerBuilder = new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                .addTimeRanges(timeRangePool)
+                .addStatsDReporterSupplier(statsDReporterSupplierMock);
+
+        assertThrows(PathParserNotProvidedException.class, () -> splitAssignerBuilder.build(Collections.emptyList()));
+    }
+
+    @Test
+    public void shouldReassignSplitsAddedBack() {
+        FileSourceSplit smallSplit = new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/a"), 0, 1024);
+        FileSourceSplit largeSplit = new FileSourceSplit("2", new Path("gs://my-bucket/bid-log/b"), 0, 8192);
+        IndexOrderedSplitAssigner splitAssigner = new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(Arrays.asList(smallSplit, largeSplit));
+
+        assertEquals(largeSplit, splitAssigner.getNext(null).get());
+        splitAssigner.addSplits(Collections.singletonList(largeSplit));
+
+        assertEquals(largeSplit, splitAssigner.getNext(null).get());
+        assertEquals(smallSplit, splitAssigner.getNext(null).get());
+    }
+
+    @Test
+    public void shouldReportSplitAndSizeMetrics() {
+        List<FileSourceSplit> splits = Arrays.asList(
+                new FileSourceSplit("1", new Path("gs://my-bucket/bid-log/a"), 0, 3 * MEGABYTE),
+                new FileSourceSplit("2", new Path("gs://my-bucket/bid-log/b"), 0, 5 * MEGABYTE));
+
+        IndexOrderedSplitAssigner splitAssigner = new IndexOrderedSplitAssigner.IndexOrderedSplitAssignerBuilder()
+                .addStatsDReporterSupplier(statsDReporterSupplierMock)
+                .build(splits);
+        splitAssigner.getNext(null);
+
+        verify(statsDReporter).gauge(TOTAL_SPLITS_DISCOVERED.getValue(), 2, "component=split_assigner");
+        verify(statsDReporter).gauge(TOTAL_SPLITS_RECORDED.getValue(), 2, "component=split_assigner");
+        verify(statsDReporter).gauge(SPLITS_AWAITING_ASSIGNMENT.getValue(), 1, "component=split_assigner");
+        verify(statsDReporter).gauge(MEGABYTES_AWAITING_ASSIGNMENT.getValue(), 8, "component=split_assigner");
+        verify(statsDReporter).gauge(MEGABYTES_AWAITING_ASSIGNMENT.getValue(), 3, "component=split_assigner");
+    }
+}
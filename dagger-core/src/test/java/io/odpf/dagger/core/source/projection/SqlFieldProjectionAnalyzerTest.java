@@ -0,0 +1,76 @@
+package io.odpf.dagger.core.source.projection;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.GsonBuilder;
+import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.serde.FieldProjection;
+import io.odpf.dagger.core.processors.PreProcessorConfig;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.FLINK_SQL_QUERY_KEY;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_FIELD_PROJECTION_ENABLE_DEFAULT;
+import static io.odpf.dagger.core.utils.Constants.SOURCE_FIELD_PROJECTION_ENABLE_KEY;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class SqlFieldProjectionAnalyzerTest {
+    @Mock
+    private Configuration configuration;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(configuration.getBoolean(SOURCE_FIELD_PROJECTION_ENABLE_KEY, SOURCE_FIELD_PROJECTION_ENABLE_DEFAULT)).thenReturn(true);
+    }
+
+    @Test
+    public void shouldProjectAllFieldsWhenDisabled() {
+        when(configuration.getBoolean(SOURCE_FIELD_PROJECTION_ENABLE_KEY, SOURCE_FIELD_PROJECTION_ENABLE_DEFAULT)).thenReturn(false);
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT order_number FROM data_stream");
+
+        FieldProjection fieldProjection = new SqlFieldProjectionAnalyzer(configuration, null).getFieldProjection("data_stream");
+
+        assertTrue(fieldProjection.isAllFields());
+    }
+
+    @Test
+    public void shouldProjectIdentifiersReferencedInTheQuery() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT))
+                .thenReturn("SELECT order_number, COUNT(*) AS cnt FROM `data_stream` WHERE `Service_Type` = 'GO_RIDE' "
+                        + "GROUP BY order_number, TUMBLE(rowtime, INTERVAL '60' SECOND)");
+
+        FieldProjection fieldProjection = new SqlFieldProjectionAnalyzer(configuration, null).getFieldProjection("data_stream");
+
+        assertFalse(fieldProjection.isAllFields());
+        assertTrue(fieldProjection.contains("order_number"));
+        assertTrue(fieldProjection.contains("service_type"));
+        assertTrue(fieldProjection.contains("GO_RIDE"));
+        assertFalse(fieldProjection.contains("customer_id"));
+    }
+
+    @Test
+    public void shouldProjectAllFieldsWhenQuerySelectsStar() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT * FROM data_stream");
+        assertTrue(new SqlFieldProjectionAnalyzer(configuration, null).getFieldProjection("data_stream").isAllFields());
+
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT d.order_number, s.* FROM data_stream d JOIN other_stream s ON d.id = s.id");
+        assertTrue(new SqlFieldProjectionAnalyzer(configuration, null).getFieldProjection("data_stream").isAllFields());
+    }
+
+    @Test
+    public void shouldProjectAllFieldsOfTablesWithTransformers() {
+        when(configuration.getString(FLINK_SQL_QUERY_KEY, FLINK_SQL_QUERY_DEFAULT)).thenReturn("SELECT order_number FROM data_stream");
+        PreProcessorConfig preProcessorConfig = new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES).create().fromJson("{\"table_transformers\": [{\"table_name\": \"data_stream\", "
+                + "\"transformers\": [{\"transformation_class\": \"io.odpf.dagger.functions.transformers.InvalidRecordFilterTransformer\"}]}]}", PreProcessorConfig.class);
+
+        SqlFieldProjectionAnalyzer analyzer = new SqlFieldProjectionAnalyzer(configuration, preProcessorConfig);
+
+        assertTrue(analyzer.getFieldProjection("data_stream").isAllFields());
+        assertFalse(analyzer.getFieldProjection("other_stream").isAllFields());
+    }
+}
@@ -0,0 +1,77 @@
+package io.odpf.dagger.core.utils;
+
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.dag.Transformation;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class KryoSerializedTypesCheckTest {
+
+    @Mock
+    private DataStream<Row> dataStream;
+
+    @Mock
+    private Transformation<Row> sourceTransformation;
+
+    @Mock
+    private Transformation<Row> mapTransformation;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+        when(dataStream.getTransformation()).thenReturn(mapTransformation);
+        when(mapTransformation.getTransitivePredecessors()).thenReturn(Arrays.asList(mapTransformation, sourceTransformation));
+        when(sourceTransformation.getName()).thenReturn("source");
+        when(mapTransformation.getName()).thenReturn("map");
+    }
+
+    @Test
+    public void shouldNotFlagTypesWithFlinkSerializers() {
+        TypeInformation<Row> rowType = Types.ROW_NAMED(new String[]{"order_number", "prices", "tags", "address"},
+                Types.STRING, Types.OBJECT_ARRAY(Types.DOUBLE), Types.MAP(Types.STRING, Types.LONG), Types.ROW(Types.STRING));
+
+        assertFalse(KryoSerializedTypesCheck.isKryoSerialized(rowType));
+    }
+
+    @Test
+    public void shouldFlagGenericTypes() {
+        assertTrue(KryoSerializedTypesCheck.isKryoSerialized(Types.GENERIC(Row.class)));
+    }
+
+    @Test
+    public void shouldFlagTypesWithNestedGenericTypes() {
+        assertTrue(KryoSerializedTypesCheck.isKryoSerialized(Types.ROW(Types.STRING, Types.ROW(TypeInformation.of(Object.class)))));
+        assertTrue(KryoSerializedTypesCheck.isKryoSerialized(Types.OBJECT_ARRAY(Types.GENERIC(Row.class))));
+        assertTrue(KryoSerializedTypesCheck.isKryoSerialized(Types.MAP(Types.STRING, TypeInformation.of(Object.class))));
+        assertTrue(KryoSerializedTypesCheck.isKryoSerialized(Types.LIST(TypeInformation.of(Object.class))));
+    }
+
+    @Test
+    public void shouldReturnTheOperatorsProducingKryoSerializedRecords() {
+        when(sourceTransformation.getOutputType()).thenReturn(Types.ROW(Types.STRING));
+        when(mapTransformation.getOutputType()).thenReturn(Types.GENERIC(Row.class));
+
+        assertEquals(Collections.singletonList("map"), KryoSerializedTypesCheck.warnKryoSerializedOperators(dataStream));
+    }
+
+    @Test
+    public void shouldReturnNoOperatorsIfAllRecordsUseFlinkSerializers() {
+        when(sourceTransformation.getOutputType()).thenReturn(Types.ROW(Types.STRING));
+        when(mapTransformation.getOutputType()).thenReturn(Types.ROW(Types.STRING, Types.LONG));
+
+        assertTrue(KryoSerializedTypesCheck.warnKryoSerializedOperators(dataStream).isEmpty());
+    }
+}
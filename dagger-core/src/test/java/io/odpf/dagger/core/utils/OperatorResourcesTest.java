@@ -0,0 +1,91 @@
+package io.odpf.dagger.core.utils;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.DataStreamSink;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
+import org.apache.flink.types.Row;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+public class OperatorResourcesTest {
+
+    @Mock
+    private SingleOutputStreamOperator<Row> operator;
+
+    @Mock
+    private DataStreamSink<Row> sink;
+
+    @Before
+    public void setup() {
+        initMocks(this);
+    }
+
+    @Test
+    public void shouldSetParallelismAndSlotSharingGroupOfOperator() {
+        assertEquals(operator, OperatorResources.configure(operator, 4, "external"));
+
+        verify(operator).setParallelism(4);
+        verify(operator).slotSharingGroup("external");
+    }
+
+    @Test
+    public void shouldKeepJobParallelismAndDefaultGroupOfOperatorIfNotConfigured() {
+        OperatorResources.configure(operator, null, null);
+        OperatorResources.configure(operator, 0, "");
+
+        verify(operator, never()).setParallelism(anyInt());
+        verify(operator, never()).slotSharingGroup(anyString());
+    }
+
+    @Test
+    public void shouldSetParallelismAndSlotSharingGroupOfSink() {
+        assertEquals(sink, OperatorResources.configure(sink, 2, "sink"));
+
+        verify(sink).setParallelism(2);
+        verify(sink).slotSharingGroup("sink");
+    }
+
+    @Test
+    public void shouldKeepJobParallelismAndDefaultGroupOfSinkIfNotConfigured() {
+        OperatorResources.configure(sink, null, null);
+
+        verify(sink, never()).setParallelism(anyInt());
+        verify(sink, never()).slotSharingGroup(anyString());
+    }
+
+    @Test
+    public void shouldPutTheOperatorsFollowingAStageOfAnotherGroupBackIntoTheDefaultGroup() {
+        RowTypeInfo rowType = new RowTypeInfo(Types.STRING);
+        SingleOutputStreamOperator<Row> passThroughOperator = mock(SingleOutputStreamOperator.class);
+        when(operator.getType()).thenReturn(rowType);
+        when(operator.map(any(MapFunction.class))).thenReturn(passThroughOperator);
+
+        DataStream<Row> stream = OperatorResources.endSlotSharingGroup(operator, "external");
+
+        assertEquals(passThroughOperator, stream);
+        verify(passThroughOperator).returns(rowType);
+        verify(passThroughOperator).slotSharingGroup("default");
+    }
+
+    @Test
+    public void shouldNotAddAnOperatorIfTheStageIsInTheDefaultGroup() {
+        assertEquals(operator, OperatorResources.endSlotSharingGroup(operator, null));
+        assertEquals(operator, OperatorResources.endSlotSharingGroup(operator, ""));
+
+        verify(operator, never()).map(any(MapFunction.class));
+    }
+}
@@ -2,6 +2,9 @@ package io.odpf.dagger.functions.transformers;
 
 
 import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
@@ -51,8 +54,20 @@ public class ClearColumnTransformer implements MapFunction<Row, Row>, Transforme
     public StreamInfo transform(StreamInfo inputStreamInfo) {
         DataStream<Row> inputStream = inputStreamInfo.getDataStream();
         SingleOutputStreamOperator<Row> outputStream = inputStream.map(this);
+        if (inputStream.getType() instanceof RowTypeInfo) {
+            outputStream = outputStream.returns(getOutputType((RowTypeInfo) inputStream.getType()));
+        }
         return new StreamInfo(outputStream, inputStreamInfo.getColumnNames());
     }
 
+    private RowTypeInfo getOutputType(RowTypeInfo inputType) {
+        TypeInformation<?>[] fieldTypes = inputType.getFieldTypes().clone();
+        int targetFieldIndex = Arrays.asList(columnNames).indexOf(targetColumnName);
+        if (targetFieldIndex >= 0 && targetFieldIndex < fieldTypes.length) {
+            fieldTypes[targetFieldIndex] = Types.STRING;
+        }
+        return new RowTypeInfo(fieldTypes, inputType.getFieldNames());
+    }
+
 }
 
@@ -1,6 +1,8 @@
 package io.odpf.dagger.functions.transformers;
 
 import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
@@ -63,7 +65,19 @@ public class FeatureTransformer implements MapFunction<Row, Row>, Transformer {
     public StreamInfo transform(StreamInfo inputStreamInfo) {
         DataStream<Row> inputStream = inputStreamInfo.getDataStream();
         SingleOutputStreamOperator<Row> outputStream = inputStream.map(this);
+        if (inputStream.getType() instanceof RowTypeInfo) {
+            outputStream = outputStream.returns(getOutputType((RowTypeInfo) inputStream.getType()));
+        }
         return new StreamInfo(outputStream, inputStreamInfo.getColumnNames());
     }
 
+    private RowTypeInfo getOutputType(RowTypeInfo inputType) {
+        TypeInformation<?>[] fieldTypes = inputType.getFieldTypes().clone();
+        int featureRowsIndex = Arrays.asList(columnNames).indexOf(valueColumn);
+        if (featureRowsIndex >= 0 && featureRowsIndex < fieldTypes.length) {
+            fieldTypes[featureRowsIndex] = FeatureUtils.FEATURE_ROWS_TYPE;
+        }
+        return new RowTypeInfo(fieldTypes, inputType.getFieldNames());
+    }
+
 }
@@ -1,6 +1,8 @@
 package io.odpf.dagger.functions.transformers;
 
 import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
@@ -9,6 +11,7 @@ import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.common.core.Transformer;
 import io.odpf.dagger.functions.transformers.feature.FeatureWithTypeHandler;
+import io.odpf.dagger.functions.udfs.aggregate.feast.FeatureUtils;
 
 import java.util.ArrayList;
 import java.util.Map;
@@ -48,7 +51,19 @@ public class FeatureWithTypeTransformer implements MapFunction<Row, Row>, Transf
     public StreamInfo transform(StreamInfo inputStreamInfo) {
         DataStream<Row> inputStream = inputStreamInfo.getDataStream();
         SingleOutputStreamOperator<Row> outputStream = inputStream.map(this);
+        if (inputStream.getType() instanceof RowTypeInfo) {
+            outputStream = outputStream.returns(getOutputType((RowTypeInfo) inputStream.getType()));
+        }
         return new StreamInfo(outputStream, inputStreamInfo.getColumnNames());
     }
 
+    private RowTypeInfo getOutputType(RowTypeInfo inputType) {
+        TypeInformation<?>[] fieldTypes = inputType.getFieldTypes().clone();
+        int featureRowsIndex = featureWithTypeHandler.getOutputColumnIndex();
+        if (featureRowsIndex < fieldTypes.length) {
+            fieldTypes[featureRowsIndex] = FeatureUtils.FEATURE_ROWS_TYPE;
+        }
+        return new RowTypeInfo(fieldTypes, inputType.getFieldNames());
+    }
+
 }
@@ -1,6 +1,7 @@
 package io.odpf.dagger.functions.transformers;
 
 import org.apache.flink.api.common.functions.RichMapFunction;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
@@ -62,6 +63,9 @@ public class HashTransformer extends RichMapFunction<Row, Row> implements Serial
     public StreamInfo transform(StreamInfo streamInfo) {
         DataStream<Row> inputStream = streamInfo.getDataStream();
         SingleOutputStreamOperator<Row> outputStream = inputStream.map(this);
+        if (inputStream.getType() instanceof RowTypeInfo) {
+            outputStream = outputStream.returns((RowTypeInfo) inputStream.getType());
+        }
         return new StreamInfo(outputStream, streamInfo.getColumnNames());
     }
 
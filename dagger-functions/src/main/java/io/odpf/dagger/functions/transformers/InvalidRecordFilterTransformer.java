@@ -5,6 +5,7 @@ import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.RowSampler;
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.common.core.Transformer;
 import io.odpf.dagger.common.metrics.managers.CounterStatsManager;
@@ -23,6 +24,8 @@ import static io.odpf.dagger.functions.transformers.filter.FilterAspects.FILTERE
 public class InvalidRecordFilterTransformer extends RichFilterFunction<Row> implements Transformer {
     private final String tableName;
     private final int validationIndex;
+    private final RowSampler rowSampler;
+    private final String filteredRecordLogMessage;
     private CounterStatsManager metricsManager = null;
     private static final Logger LOGGER = LoggerFactory.getLogger(InvalidRecordFilterTransformer.class.getName());
 
@@ -37,8 +40,21 @@ public class InvalidRecordFilterTransformer extends RichFilterFunction<Row> impl
      * @param configuration           the configuration
      */
     public InvalidRecordFilterTransformer(Map<String, Object> transformationArguments, String[] columnNames, Configuration configuration) {
+        this(transformationArguments, columnNames, RowSampler.create(configuration));
+    }
+
+    /**
+     * Instantiates a new Invalid record filter transformer which logs the filtered records picked by the row sampler.
+     *
+     * @param transformationArguments the transformation arguments
+     * @param columnNames             the column names
+     * @param rowSampler              the sampler of the filtered records to log
+     */
+    InvalidRecordFilterTransformer(Map<String, Object> transformationArguments, String[] columnNames, RowSampler rowSampler) {
         this.tableName = (String) transformationArguments.getOrDefault("table_name", "");
         validationIndex = Arrays.asList(columnNames).indexOf(INTERNAL_VALIDATION_FILED);
+        this.rowSampler = rowSampler;
+        this.filteredRecordLogMessage = "Filtering invalid record for table " + tableName + ": ";
     }
 
     @Override
@@ -52,9 +68,7 @@ public class InvalidRecordFilterTransformer extends RichFilterFunction<Row> impl
     public boolean filter(Row value) {
         if (!(boolean) value.getField(validationIndex)) {
             metricsManager.inc(FILTERED_INVALID_RECORDS);
-            LOGGER.info("Filtering invalid record for table "
-                    + this.tableName + "\n"
-                    + "Total = ", metricsManager.getCount(FILTERED_INVALID_RECORDS));
+            rowSampler.log(LOGGER, filteredRecordLogMessage, value);
             return false;
         }
         return true;
@@ -1,7 +1,6 @@
 package io.odpf.dagger.functions.transformers;
 
 import org.apache.flink.streaming.api.datastream.DataStream;
-import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.table.api.Table;
 import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
@@ -10,6 +9,7 @@ import org.apache.flink.types.Row;
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StreamInfo;
 import io.odpf.dagger.common.core.Transformer;
+import io.odpf.dagger.common.core.changelog.ChangelogStreamConverter;
 import io.odpf.dagger.common.watermark.RowtimeFieldWatermark;
 import io.odpf.dagger.common.watermark.StreamWatermarkAssigner;
 
@@ -26,6 +26,7 @@ public class SQLTransformer implements Serializable, Transformer {
     private final String sqlQuery;
     private final String tableName;
     private final long allowedLatenessInMs;
+    private final Configuration configuration;
     private static final String ROWTIME = "rowtime";
 
     /**
@@ -40,6 +41,7 @@ public class SQLTransformer implements Serializable, Transformer {
         this.sqlQuery = transformationArguments.get("sqlQuery");
         this.tableName = transformationArguments.getOrDefault("tableName", "data_stream");
         this.allowedLatenessInMs = Long.parseLong(transformationArguments.getOrDefault("allowedLatenessInMs", "0"));
+        this.configuration = configuration;
     }
 
     @Override
@@ -58,10 +60,7 @@ public class SQLTransformer implements Serializable, Transformer {
         streamTableEnvironment.registerDataStream(tableName, inputStream, schema);
 
         Table table = streamTableEnvironment.sqlQuery(sqlQuery);
-        SingleOutputStreamOperator<Row> outputStream = streamTableEnvironment
-                .toRetractStream(table, Row.class)
-                .filter(value -> value.f0)
-                .map(value -> value.f1);
+        DataStream<Row> outputStream = new ChangelogStreamConverter(streamTableEnvironment, configuration).toRowStream(table);
         return new StreamInfo(outputStream, table.getSchema().getFieldNames());
     }
 
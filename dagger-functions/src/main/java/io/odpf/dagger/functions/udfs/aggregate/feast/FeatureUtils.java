@@ -1,8 +1,11 @@
 package io.odpf.dagger.functions.udfs.aggregate.feast;
 
+import com.google.protobuf.ByteString;
 import io.odpf.dagger.functions.udfs.aggregate.feast.handler.ValueEnum;
 import io.odpf.dagger.functions.udfs.aggregate.feast.handler.ValueTransformer;
 import io.odpf.dagger.functions.udfs.aggregate.feast.handler.ValueTransformerFactory;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
 import org.apache.flink.types.Row;
 
 import java.util.ArrayList;
@@ -13,6 +16,15 @@ import java.util.Optional;
  * The utils for Feature udf.
  */
 public class FeatureUtils {
+    /**
+     * The type of the feature rows, holding the key, the value at the index of its value enum and the key again.
+     */
+    public static final TypeInformation<Row[]> FEATURE_ROWS_TYPE = Types.OBJECT_ARRAY(Types.ROW(
+            Types.STRING,
+            Types.ROW(TypeInformation.of(ByteString.class), Types.STRING, Types.INT, Types.LONG, Types.DOUBLE, Types.FLOAT,
+                    Types.BOOLEAN, Types.ROW(Types.LONG, Types.INT)),
+            Types.STRING));
+
     /**
      * Populate features.
      *
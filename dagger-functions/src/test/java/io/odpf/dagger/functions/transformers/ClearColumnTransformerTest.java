@@ -1,6 +1,11 @@
 package io.odpf.dagger.functions.transformers;
 
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
@@ -17,6 +22,7 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 
@@ -25,6 +31,9 @@ public class ClearColumnTransformerTest {
     @Mock
     private DataStream<Row> dataStream;
 
+    @Mock
+    private SingleOutputStreamOperator<Row> mappedDataStream;
+
     @Mock
     private Configuration configuration;
 
@@ -79,6 +88,22 @@ public class ClearColumnTransformerTest {
         verify(dataStream, times(1)).map(any(ClearColumnTransformer.class));
     }
 
+    @Test
+    public void shouldDeclareTheTargetColumnAsStringInTheOutputType() {
+        String[] columnNames = {"rule_id", "reason", "comms_data"};
+        Map<String, String> transformationArguments = new HashMap<>();
+        transformationArguments.put("targetColumnName", "reason");
+        TypeInformation<?>[] inputFieldTypes = {Types.STRING, Types.LONG, Types.MAP(Types.STRING, Types.STRING)};
+        when(dataStream.getType()).thenReturn(new RowTypeInfo(inputFieldTypes, columnNames));
+        when(dataStream.map(any(MapFunction.class))).thenReturn(mappedDataStream);
+        ClearColumnTransformer clearColumnTransformer = new ClearColumnTransformer(transformationArguments, columnNames, configuration);
+
+        clearColumnTransformer.transform(new StreamInfo(dataStream, columnNames));
+
+        TypeInformation<?>[] outputFieldTypes = {Types.STRING, Types.STRING, Types.MAP(Types.STRING, Types.STRING)};
+        verify(mappedDataStream, times(1)).returns(new RowTypeInfo(outputFieldTypes, columnNames));
+    }
+
     @Test
     public void shouldReturnSameColumnNames() {
         Row inputRow = new Row(3);
@@ -1,10 +1,16 @@
 package io.odpf.dagger.functions.transformers;
 
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.functions.udfs.aggregate.feast.FeatureUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -15,6 +21,7 @@ import java.util.HashMap;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class FeatureTransformerTest {
@@ -22,6 +29,9 @@ public class FeatureTransformerTest {
     @Mock
     private DataStream<Row> dataStream;
 
+    @Mock
+    private SingleOutputStreamOperator<Row> mappedDataStream;
+
     @Mock
     private Configuration configuration;
 
@@ -129,6 +139,23 @@ public class FeatureTransformerTest {
         verify(dataStream, times(1)).map(any(FeatureTransformer.class));
     }
 
+    @Test
+    public void shouldDeclareTheValueColumnAsFeatureRowsInTheOutputType() {
+        HashMap<String, String> transformationArguments = new HashMap<>();
+        transformationArguments.put("keyColumnName", "featuresKey");
+        transformationArguments.put("valueColumnName", "features");
+        String[] columnNames = {"entityKey", "featuresKey", "features"};
+        TypeInformation<?>[] inputFieldTypes = {Types.STRING, Types.LONG, Types.INT};
+        when(dataStream.getType()).thenReturn(new RowTypeInfo(inputFieldTypes, columnNames));
+        when(dataStream.map(any(MapFunction.class))).thenReturn(mappedDataStream);
+        FeatureTransformer featureTransformer = new FeatureTransformer(transformationArguments, columnNames, configuration);
+
+        featureTransformer.transform(new StreamInfo(dataStream, columnNames));
+
+        TypeInformation<?>[] outputFieldTypes = {Types.STRING, Types.LONG, FeatureUtils.FEATURE_ROWS_TYPE};
+        verify(mappedDataStream, times(1)).returns(new RowTypeInfo(outputFieldTypes, columnNames));
+    }
+
     @Test
     public void shouldReturnSameColumnNames() {
         HashMap<String, String> transformationArguments = new HashMap<>();
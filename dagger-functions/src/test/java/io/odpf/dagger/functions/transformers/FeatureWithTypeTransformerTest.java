@@ -1,10 +1,16 @@
 package io.odpf.dagger.functions.transformers;
 
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 
 import io.odpf.dagger.common.configuration.Configuration;
 import io.odpf.dagger.common.core.StreamInfo;
+import io.odpf.dagger.functions.udfs.aggregate.feast.FeatureUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -17,6 +23,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 public class FeatureWithTypeTransformerTest {
@@ -24,6 +31,9 @@ public class FeatureWithTypeTransformerTest {
     @Mock
     private DataStream<Row> dataStream;
 
+    @Mock
+    private SingleOutputStreamOperator<Row> mappedDataStream;
+
     @Mock
     private org.apache.flink.configuration.Configuration flinkInternalConfig;
 
@@ -192,6 +202,28 @@ public class FeatureWithTypeTransformerTest {
         verify(dataStream, times(1)).map(any(FeatureWithTypeTransformer.class));
     }
 
+    @Test
+    public void shouldDeclareTheOutputColumnAsFeatureRowsInTheOutputType() {
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+        transformationArguments.put("outputColumnName", "features");
+        HashMap<String, String> data = new HashMap<>();
+        data.put("keyColumnName", "customer_id");
+        data.put("valueColumnName", "order_number");
+        data.put("type", "FloatType");
+        List<HashMap<String, String>> hashMaps = Collections.singletonList(data);
+        transformationArguments.put("data", hashMaps);
+        String[] columnNames = {"customer_id", "order_number", "features"};
+        TypeInformation<?>[] inputFieldTypes = {Types.STRING, Types.STRING, Types.STRING};
+        when(dataStream.getType()).thenReturn(new RowTypeInfo(inputFieldTypes, columnNames));
+        when(dataStream.map(any(MapFunction.class))).thenReturn(mappedDataStream);
+        FeatureWithTypeTransformer featureWithTypeTransformer = new FeatureWithTypeTransformer(transformationArguments, columnNames, configuration);
+
+        featureWithTypeTransformer.transform(new StreamInfo(dataStream, columnNames));
+
+        TypeInformation<?>[] outputFieldTypes = {Types.STRING, Types.STRING, FeatureUtils.FEATURE_ROWS_TYPE};
+        verify(mappedDataStream, times(1)).returns(new RowTypeInfo(outputFieldTypes, columnNames));
+    }
+
     @Test
     public void shouldReturnSameColumnNames() {
         HashMap<String, Object> transformationArguments = new HashMap<>();
@@ -1,6 +1,11 @@
 package io.odpf.dagger.functions.transformers;
 
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.api.common.typeinfo.Types;
+import org.apache.flink.api.java.typeutils.RowTypeInfo;
 import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.types.Row;
 
 import com.google.protobuf.Timestamp;
@@ -19,6 +24,7 @@ import org.mockito.Mock;
 import java.util.ArrayList;
 import java.util.HashMap;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -31,6 +37,9 @@ public class HashTransformerTest {
     @Mock
     private DataStream<Row> inputStream;
 
+    @Mock
+    private SingleOutputStreamOperator<Row> mappedDataStream;
+
     @Mock
     private Configuration configuration;
 
@@ -254,4 +263,23 @@ public class HashTransformerTest {
         hashTransformer.transform(new StreamInfo(inputStream, columnNames));
         verify(inputStream, times(1)).map(hashTransformer);
     }
+
+    @Test
+    public void shouldDeclareTheInputTypeAsTheOutputType() {
+        HashMap<String, Object> transformationArguments = new HashMap<>();
+
+        ArrayList<String> fieldsToEncrypt = new ArrayList<>();
+        fieldsToEncrypt.add("order_number");
+
+        transformationArguments.put("maskColumns", fieldsToEncrypt);
+        String[] columnNames = {"order_number", "cancel_reason_id", "is_reblast"};
+        RowTypeInfo inputType = new RowTypeInfo(new TypeInformation[]{Types.STRING, Types.INT, Types.BOOLEAN}, columnNames);
+        when(inputStream.getType()).thenReturn(inputType);
+        when(inputStream.map(any(MapFunction.class))).thenReturn(mappedDataStream);
+
+        HashTransformer hashTransformer = new HashTransformer(transformationArguments, columnNames, configuration);
+
+        hashTransformer.transform(new StreamInfo(inputStream, columnNames));
+        verify(mappedDataStream, times(1)).returns(inputType);
+    }
 }
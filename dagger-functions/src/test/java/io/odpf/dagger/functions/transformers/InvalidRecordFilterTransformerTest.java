@@ -8,6 +8,7 @@ import org.apache.flink.types.Row;
 import com.google.protobuf.Descriptors;
 import com.google.protobuf.DynamicMessage;
 import io.odpf.dagger.common.configuration.Configuration;
+import io.odpf.dagger.common.core.RowSamplers;
 import io.odpf.dagger.consumer.TestBookingLogMessage;
 import org.junit.Assert;
 import org.junit.Before;
@@ -15,6 +16,7 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
+import org.slf4j.Logger;
 
 import java.sql.Timestamp;
 import java.util.HashMap;
@@ -23,6 +25,9 @@ import java.util.stream.Collectors;
 
 import static io.odpf.dagger.functions.transformers.filter.FilterAspects.FILTERED_INVALID_RECORDS;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.MockitoAnnotations.initMocks;
 
@@ -41,6 +46,9 @@ public class InvalidRecordFilterTransformerTest {
     @Mock
     private org.apache.flink.configuration.Configuration flinkInternalConfig;
 
+    @Mock
+    private Logger logger;
+
     @Before
     public void setUp() {
         initMocks(this);
@@ -118,4 +126,47 @@ public class InvalidRecordFilterTransformerTest {
         Assert.assertTrue(filter.filter(validRow));
         Assert.assertEquals(0, ct.ct);
     }
+
+    @Test
+    public void shouldLogTheFilteredRecordsPickedByTheRowSampler() throws Exception {
+        InvalidRecordFilterTransformer filter = new InvalidRecordFilterTransformer(new HashMap<String, Object>() {{
+            put("table_name", "test");
+        }}, getColumns(), RowSamplers.loggingTo(logger, 1D, 0L));
+        filter.setRuntimeContext(runtimeContext);
+        when(runtimeContext.getMetricGroup()).thenReturn(metricGroup);
+        when(metricGroup.addGroup("per_table", "test")).thenReturn(metricGroup);
+        when(metricGroup.counter(FILTERED_INVALID_RECORDS.getValue())).thenReturn(counter);
+        Row invalidRow = createDefaultInvalidRow(DynamicMessage.getDefaultInstance(TestBookingLogMessage.getDescriptor()));
+        Row validRow = createDefaultValidRow(DynamicMessage.getDefaultInstance(TestBookingLogMessage.getDescriptor()));
+        filter.open(flinkInternalConfig);
+
+        filter.filter(invalidRow);
+        filter.filter(validRow);
+        filter.filter(invalidRow);
+
+        verify(logger, times(2)).info("Filtering invalid record for table test: " + invalidRow);
+        verify(logger, never()).info("Filtering invalid record for table test: " + validRow);
+    }
+
+    @Test
+    public void shouldLimitTheFilteredRecordsLoggedPerSecond() throws Exception {
+        InvalidRecordFilterTransformer filter = new InvalidRecordFilterTransformer(new HashMap<String, Object>() {{
+            put("table_name", "test");
+        }}, getColumns(), RowSamplers.loggingTo(logger, 1D, 1L));
+        filter.setRuntimeContext(runtimeContext);
+        when(runtimeContext.getMetricGroup()).thenReturn(metricGroup);
+        when(metricGroup.addGroup("per_table", "test")).thenReturn(metricGroup);
+        when(metricGroup.counter(FILTERED_INVALID_RECORDS.getValue())).thenReturn(counter);
+        StubCounter ct = new StubCounter();
+        doAnswer(ct).when(counter).inc();
+        Row invalidRow = createDefaultInvalidRow(DynamicMessage.getDefaultInstance(TestBookingLogMessage.getDescriptor()));
+        filter.open(flinkInternalConfig);
+
+        filter.filter(invalidRow);
+        filter.filter(invalidRow);
+        filter.filter(invalidRow);
+
+        verify(logger, times(1)).info("Filtering invalid record for table test: " + invalidRow);
+        Assert.assertEquals(3, ct.ct);
+    }
 }
@@ -1,13 +1,16 @@
 package io.odpf.dagger.functions.transformers;
 
-import org.apache.flink.api.java.tuple.Tuple2;
 import org.apache.flink.streaming.api.datastream.DataStream;
 import org.apache.flink.streaming.api.datastream.SingleOutputStreamOperator;
 import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.flink.streaming.api.functions.timestamps.BoundedOutOfOrdernessTimestampExtractor;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.table.api.DataTypes;
 import org.apache.flink.table.api.Table;
 import org.apache.flink.table.api.TableSchema;
 import org.apache.flink.table.api.bridge.java.StreamTableEnvironment;
+import org.apache.flink.table.catalog.Column;
+import org.apache.flink.table.catalog.ResolvedSchema;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.types.Row;
 
@@ -23,6 +26,7 @@ import java.util.Map;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -45,12 +49,6 @@ public class SQLTransformerTest {
     @Mock
     private TableSchema tableSchema;
 
-    @Mock
-    private DataStream<Tuple2<Boolean, Row>> retractStream;
-
-    @Mock
-    private SingleOutputStreamOperator<Tuple2<Boolean, Row>> filteredRetractStream;
-
     @Mock
     private SingleOutputStreamOperator outputStream;
 
@@ -64,6 +62,7 @@ public class SQLTransformerTest {
     public void setup() {
         initMocks(this);
         when(inputStream.getExecutionEnvironment()).thenReturn(streamExecutionEnvironment);
+        when(table.getResolvedSchema()).thenReturn(ResolvedSchema.of(Column.physical("order_number", DataTypes.STRING())));
     }
 
     @Test
@@ -77,9 +76,7 @@ public class SQLTransformerTest {
         when(streamTableEnvironment.sqlQuery(sqlQuery)).thenReturn(table);
         when(table.getSchema()).thenReturn(tableSchema);
         when(tableSchema.getFieldNames()).thenReturn(columnNames);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
-        when(retractStream.filter(any())).thenReturn(filteredRetractStream);
-        when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(streamTableEnvironment.toAppendStream(eq(table), any(TypeInformation.class))).thenReturn(outputStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
         StreamInfo outputStreamInfo = sqlTransformer.transform(inputStreamInfo);
@@ -100,9 +97,7 @@ public class SQLTransformerTest {
         when(table.getSchema()).thenReturn(tableSchema);
         String[] outputColumns = {"order_number", "service_type"};
         when(tableSchema.getFieldNames()).thenReturn(outputColumns);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
-        when(retractStream.filter(any())).thenReturn(filteredRetractStream);
-        when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(streamTableEnvironment.toAppendStream(eq(table), any(TypeInformation.class))).thenReturn(outputStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
         StreamInfo outputStreamInfo = sqlTransformer.transform(inputStreamInfo);
@@ -121,9 +116,7 @@ public class SQLTransformerTest {
         when(streamTableEnvironment.sqlQuery(sqlQuery)).thenReturn(table);
         when(table.getSchema()).thenReturn(tableSchema);
         when(tableSchema.getFieldNames()).thenReturn(columnNames);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
-        when(retractStream.filter(any())).thenReturn(filteredRetractStream);
-        when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(streamTableEnvironment.toAppendStream(eq(table), any(TypeInformation.class))).thenReturn(outputStream);
         when(inputStream.assignTimestampsAndWatermarks(any(WatermarkStrategy.class))).thenReturn(watermarkedStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
@@ -146,9 +139,7 @@ public class SQLTransformerTest {
         when(streamTableEnvironment.sqlQuery(sqlQuery)).thenReturn(table);
         when(table.getSchema()).thenReturn(tableSchema);
         when(tableSchema.getFieldNames()).thenReturn(columnNames);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
-        when(retractStream.filter(any())).thenReturn(filteredRetractStream);
-        when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(streamTableEnvironment.toAppendStream(eq(table), any(TypeInformation.class))).thenReturn(outputStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
         StreamInfo outputStreamInfo = sqlTransformer.transform(inputStreamInfo);
@@ -171,9 +162,7 @@ public class SQLTransformerTest {
         when(streamTableEnvironment.sqlQuery(sqlQuery)).thenReturn(table);
         when(table.getSchema()).thenReturn(tableSchema);
         when(tableSchema.getFieldNames()).thenReturn(columnNames);
-        when(streamTableEnvironment.toRetractStream(table, Row.class)).thenReturn(retractStream);
-        when(retractStream.filter(any())).thenReturn(filteredRetractStream);
-        when(filteredRetractStream.map(any())).thenReturn(outputStream);
+        when(streamTableEnvironment.toAppendStream(eq(table), any(TypeInformation.class))).thenReturn(outputStream);
         SQLTransformer sqlTransformer = new SQLTransformerStub(transformationArguments, columnNames);
         StreamInfo inputStreamInfo = new StreamInfo(inputStream, columnNames);
         StreamInfo outputStreamInfo = sqlTransformer.transform(inputStreamInfo);